@@ -24,6 +24,7 @@
 import org.apache.isis.commons.functional.ThrowingRunnable;
 
 import lombok.NonNull;
+import lombok.val;
 
 /**
  * A low-level service to programmatically &quot;connect&quot; (or create a
@@ -140,6 +141,40 @@ InteractionLayer openInteraction(
      */
     void runAnonymous(@NonNull ThrowingRunnable runnable);
 
+    // -- CONTEXT PROPAGATION
+
+    /**
+     * Returns a {@link Callable} that, when called (typically on another thread, such as a task submitted to an
+     * {@link java.util.concurrent.ExecutorService}), runs the given callable within a new {@link InteractionLayer}
+     * using the {@link InteractionContext} that is current at the time of this method call.
+     *
+     * <p>
+     * The context is captured explicitly (rather than inherited from the thread), so this works the same way for
+     * pooled platform threads and virtual threads. If there is no current {@link InteractionContext}, the callable
+     * runs anonymously, as per {@link #callAnonymous(Callable)}.
+     * </p>
+     *
+     * @param callable (non-null)
+     */
+    default <R> Callable<R> callableWithCurrentContext(final @NonNull Callable<R> callable) {
+        val interactionContext = currentInteractionContext().orElse(null);
+        return interactionContext != null
+                ? ()->call(interactionContext, callable)
+                : ()->callAnonymous(callable);
+    }
+
+    /**
+     * As per {@link #callableWithCurrentContext(Callable)}, but for a runnable.
+     *
+     * @param runnable (non-null)
+     */
+    default ThrowingRunnable runnableWithCurrentContext(final @NonNull ThrowingRunnable runnable) {
+        val interactionContext = currentInteractionContext().orElse(null);
+        return interactionContext != null
+                ? ()->run(interactionContext, runnable)
+                : ()->runAnonymous(runnable);
+    }
+
     // -- RESULT SUPPORT
 
     /**
@@ -21,6 +21,8 @@
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -31,6 +33,7 @@
 
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.resources._Xml;
 
 import lombok.NonNull;
@@ -170,6 +173,15 @@ public final String toXml(
             val domainClass = domainObject.getClass();
             val jaxbContext = jaxbContextForObject(domainObject);
             try {
+                if(_NullSafe.isEmpty(marshallerProperties)) {
+                    // pooled marshaller, as its properties are not changed
+                    return withConfiguredMarshaller(jaxbContext, marshaller->{
+                        val writer = new StringWriter();
+                        marshaller.marshal(domainObject, writer);
+                        return writer.toString();
+                    });
+                }
+
                 val marshaller = jaxbContext.createMarshaller();
                 marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
@@ -228,6 +240,12 @@ protected Object internalFromXml(
                 return null;
             }
 
+            if(_NullSafe.isEmpty(unmarshallerProperties)) {
+                // pooled unmarshaller, as its properties are not changed
+                return withConfiguredUnmarshaller(jaxbContext, unmarshaller->
+                    unmarshaller.unmarshal(new StringReader(xml)));
+            }
+
             val unmarshaller = jaxbContext.createUnmarshaller();
 
             for (val entry : _NullSafe.entrySet(unmarshallerProperties)) {
@@ -254,5 +272,56 @@ public final Map<String, String> toXsd(
             return outputResolver.asMap();
         }
 
+        // -- POOLING
+
+        private static final int POOL_CAPACITY = 32;
+
+        /**
+         * Idle (un)marshallers per {@link _Xml#isCachedContext(JAXBContext) cached} {@link JAXBContext}, already
+         * {@link #configure(Marshaller) configured} by this service; hence not shared with any other user of the
+         * context, as their configuration would differ.
+         */
+        private final Map<JAXBContext, BlockingQueue<Marshaller>> marshallerPools = _Maps.newConcurrentHashMap();
+        private final Map<JAXBContext, BlockingQueue<Unmarshaller>> unmarshallerPools = _Maps.newConcurrentHashMap();
+
+        private <R> R withConfiguredMarshaller(
+                final JAXBContext jaxbContext,
+                final _Xml.JaxbFunction<Marshaller, R> function) throws JAXBException {
+
+            val pool = _Xml.isCachedContext(jaxbContext)
+                    ? marshallerPools.computeIfAbsent(jaxbContext, __->new ArrayBlockingQueue<>(POOL_CAPACITY))
+                    : null;
+            Marshaller marshaller = pool != null ? pool.poll() : null;
+            if(marshaller == null) {
+                marshaller = jaxbContext.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                configure(marshaller);
+            }
+            val result = function.apply(marshaller);
+            if(pool != null) {
+                pool.offer(marshaller); // discarded if the pool is full
+            }
+            return result;
+        }
+
+        private <R> R withConfiguredUnmarshaller(
+                final JAXBContext jaxbContext,
+                final _Xml.JaxbFunction<Unmarshaller, R> function) throws JAXBException {
+
+            val pool = _Xml.isCachedContext(jaxbContext)
+                    ? unmarshallerPools.computeIfAbsent(jaxbContext, __->new ArrayBlockingQueue<>(POOL_CAPACITY))
+                    : null;
+            Unmarshaller unmarshaller = pool != null ? pool.poll() : null;
+            if(unmarshaller == null) {
+                unmarshaller = jaxbContext.createUnmarshaller();
+                configure(unmarshaller);
+            }
+            val result = function.apply(unmarshaller);
+            if(pool != null) {
+                pool.offer(unmarshaller); // discarded if the pool is full
+            }
+            return result;
+        }
+
     }
 }
@@ -18,8 +18,10 @@
  */
 package org.apache.isis.applib.services.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.springframework.lang.Nullable;
@@ -174,6 +176,70 @@ default void persistAndFlush(final Object... domainObjects) {
      */
     <T> void removeAll(Class<T> cls);
 
+    // -- BULK OPERATIONS
+
+    /**
+     * Persists the specified objects (skipping those already persistent), flushing in chunks of
+     * <code>isis.core.runtime-services.repository-service.bulk.chunk-size</code> (allowing the persistence stack
+     * to batch the inserts). The objects remain attached.
+     *
+     * <p>
+     *     Lifecycle events are posted, unless opted-out of using
+     *     <code>isis.core.runtime-services.repository-service.bulk.publish-lifecycle-events</code>.
+     * </p>
+     *
+     * @return the number of objects persisted
+     * @since 2.0
+     */
+    <T> long persistAll(Collection<T> domainObjects);
+
+    /**
+     * Removes all entities matching the given {@link Query}, which are loaded and removed in chunks, as per
+     * {@link #persistAll(Collection)}, with each chunk released from the persistence context once flushed.
+     *
+     * <p>
+     *     Only if opted-in to using
+     *     <code>isis.core.runtime-services.repository-service.bulk.set-based-delete</code>, the entities are instead
+     *     removed using a single (set based) statement, where supported (currently for
+     *     {@link Query#allInstances(Class) all instances} queries), and provided the entity type has no removing
+     *     lifecycle event, <code>removing()</code> callback, entity change publishing, nor anything else (such as
+     *     cascading removal) that a per entity removal would take care of.
+     * </p>
+     *
+     * @return the number of entities removed
+     * @since 2.0
+     */
+    <T> long removeAll(Query<T> query);
+
+    /**
+     * Applies the given {@code updater} to all entities matching the given {@link Query}.
+     *
+     * <p>
+     *     The (bookmarks of the) matching entities are collected first, paging the query in chunks (using the
+     *     query's range), so the query should have a stable ordering. Only then is each entity (re-)loaded by its
+     *     bookmark and updated, chunk by chunk; each chunk is flushed, then released from the persistence context.
+     *     The {@code updater} may hence well change which entities match the query (eg. their status).
+     * </p>
+     *
+     * <p>
+     *     NOTE: the matched entities are no longer attached on return (JPA), so any further changes to instances
+     *     obtained previously must be applied to a re-fetched instance instead.
+     * </p>
+     *
+     * @return the number of entities updated
+     * @since 2.0
+     */
+    <T> long updateAll(Query<T> query, Consumer<? super T> updater);
+
+    /**
+     * Applies the given {@code updater} to each of the given (attached) entities, flushing in chunks, as
+     * per {@link #persistAll(Collection)}.
+     *
+     * @return the number of entities updated
+     * @since 2.0
+     */
+    <T> long updateAll(Collection<T> entities, Consumer<? super T> updater);
+
     /**
      * Returns all persisted instances of specified type (including subtypes).
      *
@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.viewmodel;
+
+import java.util.Optional;
+
+/**
+ * SPI to hold the state of view models server-side.
+ *
+ * <p>
+ *     By default, a view model's bookmark identifier <i>is</i> its (URL encoded) state, as provided by its
+ *     {@link org.apache.isis.applib.services.urlencoding.UrlEncodingService memento} or its Java serialized form.
+ *     For large view models this results in very long URLs, that need to be decoded again on every request.
+ * </p>
+ *
+ * <p>
+ *     If an implementation of this SPI is registered, the framework instead stores view model states (exceeding
+ *     a configurable length) in it, keyed by a short hash of their content, and uses that key as the bookmark
+ *     identifier. Because the key is derived from the content, storing the same state twice is harmless.
+ * </p>
+ *
+ * <p>
+ *     No implementation is registered by default; the framework provides an in-memory and a JDBC implementation
+ *     that can be <code>@Import</code>ed explicitly.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface ViewModelStateStore {
+
+    /**
+     * Stores the view model state under the given key (a hash of the state).
+     */
+    void put(String key, String state);
+
+    /**
+     * Returns the view model state previously {@link #put(String, String) stored} under the given key, if still
+     * available.
+     */
+    Optional<String> lookup(String key);
+
+}
@@ -18,11 +18,14 @@
  */
 package org.apache.isis.applib.services.wrapper;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.isis.applib.exceptions.recoverable.InteractionException;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.wrapper.control.AsyncControl;
+import org.apache.isis.applib.services.wrapper.control.FanOut;
 import org.apache.isis.applib.services.wrapper.control.SyncControl;
 import org.apache.isis.applib.services.wrapper.events.InteractionEvent;
 import org.apache.isis.applib.services.wrapper.listeners.InteractionListener;
@@ -184,7 +187,26 @@ <T,R> T asyncWrapMixin(
                    Class<T> mixinClass, Object mixee,
                    AsyncControl<R> asyncControl);
 
+    //
+    // -- FAN OUT
+    //
 
+    /**
+     * Returns a {@link FanOut} through which to run the provided (independent) {@code tasks}
+     * in parallel (in other threads), joining on their results with an optional timeout.
+     *
+     * <p>
+     *     The tasks typically each call a {@link #wrap(Object) wrapped} domain object or service.
+     *     Each runs in its own interaction, using the same user, clock, locale and time zone as
+     *     the calling thread; this is captured at the time of this call.
+     * </p>
+     *
+     * @param <R> - the (common) type of the tasks' return values
+     * @param tasks
+     *
+     * @since 2.0
+     */
+    <R> FanOut<R> fanOut(Collection<? extends Callable<? extends R>> tasks);
 
     //
     // -- INTERACTION EVENT HANDLING
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.wrapper.control;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.isis.commons.functional.Result;
+
+import lombok.NonNull;
+
+/**
+ * Runs a number of independent tasks in parallel, as initiated through
+ * {@link org.apache.isis.applib.services.wrapper.WrapperFactory#fanOut(java.util.Collection)},
+ * and joins on their results.
+ *
+ * <p>
+ *     A typical use case is a dashboard, whose tiles each call a separate
+ *     (wrapped) domain service to obtain their (read-only) data.
+ * </p>
+ *
+ * <p>
+ *     Each task is executed in its own {@link org.apache.isis.applib.services.iactn.Interaction}
+ *     (and transaction), using the same user, clock, locale and time zone as the
+ *     calling thread. Hence, as for {@link AsyncControl}, it isn't possible to pass
+ *     domain entity references between the calling thread and the tasks.
+ * </p>
+ *
+ * @param <R> - the (common) type of the tasks' return values
+ *
+ * @since 2.0 {@index}
+ */
+public interface FanOut<R> {
+
+    /**
+     * The maximum time to wait for all the tasks to complete; once exceeded
+     * any tasks not yet completed are cancelled and {@link #join()} fails with a
+     * {@link TimeoutException}.
+     *
+     * <p>
+     *     If not specified, waits until all tasks have completed.
+     * </p>
+     */
+    FanOut<R> withTimeout(@NonNull Duration timeout);
+
+    /**
+     * Specifies the {@link ExecutorService} to run the tasks.
+     *
+     * <p>
+     *     If not specified, the framework's bounded fan-out executor is used, as configured by
+     *     <code>isis.core.runtime-services.wrapper-factory.fan-out.max-parallelism</code>.
+     * </p>
+     */
+    FanOut<R> with(@NonNull ExecutorService executorService);
+
+    /**
+     * Whether to cancel the remaining (sibling) tasks, as soon as any one of the tasks fails.
+     *
+     * <p>
+     *     Defaults to <code>true</code>.
+     * </p>
+     */
+    FanOut<R> withCancelOnFailure(boolean cancelOnFailure);
+
+    /**
+     * Runs the tasks (in parallel) and waits for them to complete.
+     *
+     * <p>
+     *     If called from within a task of another fan-out (a nested fan-out), the tasks are instead run
+     *     one after the other on the calling thread, as waiting on a bounded executor whose threads are all
+     *     busy with the enclosing tasks could otherwise deadlock.
+     * </p>
+     *
+     * @return either the tasks' results, in the same order as the tasks were provided,
+     * or else the first failure (or a {@link TimeoutException} if the timeout was exceeded)
+     */
+    Result<List<R>> join();
+
+}
@@ -0,0 +1,554 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.util.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlIDREF;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Compact binary encoding of the JAXB DTOs generated from the XSD schemas (such as
+ * {@link org.apache.isis.schema.cmd.v2.CommandDto}, {@link org.apache.isis.schema.ixn.v2.InteractionDto} or
+ * {@link org.apache.isis.schema.chg.v2.ChangesDto}), as an alternative to their XML representation.
+ *
+ * <p>
+ *     The encoding is driven by the (generated) DTO classes: their fields are written in declaration order
+ *     (superclass first) without any names or tags, numbers as variable-length integers, and each nested DTO
+ *     preceded by its concrete class (written once per stream, thereafter referenced by index), so that the
+ *     type hierarchies of the schemas are supported. It round-trips losslessly through the DTO classes.
+ * </p>
+ *
+ * <p>
+ *     As the encoding follows the class layout, it is only suitable between systems using the same version of
+ *     the schemas; XML remains the interchange format otherwise. To detect a mismatch, each class is written
+ *     along with a fingerprint of its layout (field names and types, and enum constants); decoding fails
+ *     (rather than yielding corrupt DTOs) if the layout of any class has changed since. References by id
+ *     (<tt>xs:IDREF</tt>) are not supported.
+ * </p>
+ *
+ * @see DtoFormat
+ * @since 2.0 {@index}
+ */
+public final class BinaryDtoCodec {
+
+    private static final int MAGIC = 0x49534244; // "ISBD"
+    private static final int VERSION = 1;
+
+    private BinaryDtoCodec() {}
+
+    // -- ENCODE
+
+    public static byte[] toBytes(final @NonNull Object dto) {
+        val bytes = new ByteArrayOutputStream();
+        write(dto, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Base64 encoded form of {@link #toBytes(Object)}, for where a string is required (eg. a CLOB column).
+     */
+    public static String toBase64(final @NonNull Object dto) {
+        return Base64.getEncoder().encodeToString(toBytes(dto));
+    }
+
+    @SneakyThrows
+    public static void write(final @NonNull Object dto, final @NonNull OutputStream outputStream) {
+        val out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        new Encoder(out).writeObject(dto);
+        out.flush();
+    }
+
+    // -- DECODE
+
+    public static <T> T fromBytes(final @NonNull Class<T> dtoClass, final @NonNull byte[] bytes) {
+        return read(dtoClass, new ByteArrayInputStream(bytes));
+    }
+
+    public static <T> T fromBase64(final @NonNull Class<T> dtoClass, final @NonNull String base64) {
+        return fromBytes(dtoClass, Base64.getMimeDecoder().decode(base64));
+    }
+
+    @SneakyThrows
+    public static <T> T read(final @NonNull Class<T> dtoClass, final @NonNull InputStream inputStream) {
+        val in = new DataInputStream(new BufferedInputStream(inputStream));
+        if(in.readInt() != MAGIC) {
+            throw new IllegalArgumentException("not a binary encoded DTO");
+        }
+        val version = in.readUnsignedByte();
+        if(version != VERSION) {
+            throw new IllegalArgumentException(String.format(
+                    "unsupported version %d of binary encoded DTO", version));
+        }
+        return dtoClass.cast(new Decoder(in).readObject(dtoClass));
+    }
+
+    /**
+     * Whether the given encoded DTO is XML (rather than the {@link #toBase64(Object) Base64 encoded} binary form).
+     */
+    public static boolean isXml(final @NonNull String encoded) {
+        for (int i = 0; i < encoded.length(); i++) {
+            final char c = encoded.charAt(i);
+            if(!Character.isWhitespace(c)) {
+                return c == '<';
+            }
+        }
+        return false;
+    }
+
+    // -- SCHEMA (DERIVED FROM THE DTO CLASSES)
+
+    private static enum Kind {
+        BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, CHAR,
+        STRING, BIG_INTEGER, BIG_DECIMAL, CALENDAR, BYTES, ENUM, LIST, OBJECT
+    }
+
+    /**
+     * How a value of some declared type is encoded.
+     */
+    @RequiredArgsConstructor
+    private static final class Slot {
+        private final Kind kind;
+        private final boolean nullable;
+        private final Class<?> type;
+        private final Slot element; // for lists only
+
+        static Slot of(final Type genericType) {
+            final Class<?> type = rawTypeOf(genericType);
+            if(type.isPrimitive()) {
+                return new Slot(primitiveKindOf(type), false, type, null);
+            }
+            if(type == Boolean.class) return new Slot(Kind.BOOLEAN, true, type, null);
+            if(type == Byte.class) return new Slot(Kind.BYTE, true, type, null);
+            if(type == Short.class) return new Slot(Kind.SHORT, true, type, null);
+            if(type == Integer.class) return new Slot(Kind.INT, true, type, null);
+            if(type == Long.class) return new Slot(Kind.LONG, true, type, null);
+            if(type == Float.class) return new Slot(Kind.FLOAT, true, type, null);
+            if(type == Double.class) return new Slot(Kind.DOUBLE, true, type, null);
+            if(type == Character.class) return new Slot(Kind.CHAR, true, type, null);
+            if(type == String.class) return new Slot(Kind.STRING, true, type, null);
+            if(type == BigInteger.class) return new Slot(Kind.BIG_INTEGER, true, type, null);
+            if(type == BigDecimal.class) return new Slot(Kind.BIG_DECIMAL, true, type, null);
+            if(XMLGregorianCalendar.class.isAssignableFrom(type)) return new Slot(Kind.CALENDAR, true, type, null);
+            if(type == byte[].class) return new Slot(Kind.BYTES, true, type, null);
+            if(type.isEnum()) return new Slot(Kind.ENUM, true, type, null);
+            if(List.class.isAssignableFrom(type)) {
+                final Type elementType = genericType instanceof ParameterizedType
+                        ? ((ParameterizedType) genericType).getActualTypeArguments()[0]
+                        : Object.class;
+                return new Slot(Kind.LIST, true, type, Slot.of(elementType));
+            }
+            return new Slot(Kind.OBJECT, true, type, null);
+        }
+
+        private static Class<?> rawTypeOf(final Type genericType) {
+            if(genericType instanceof Class) {
+                return (Class<?>) genericType;
+            }
+            if(genericType instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) genericType).getRawType();
+            }
+            return Object.class; // wildcards, type variables
+        }
+
+        private static Kind primitiveKindOf(final Class<?> type) {
+            if(type == boolean.class) return Kind.BOOLEAN;
+            if(type == byte.class) return Kind.BYTE;
+            if(type == short.class) return Kind.SHORT;
+            if(type == int.class) return Kind.INT;
+            if(type == long.class) return Kind.LONG;
+            if(type == float.class) return Kind.FLOAT;
+            if(type == double.class) return Kind.DOUBLE;
+            return Kind.CHAR;
+        }
+    }
+
+    /**
+     * The fields of a DTO class, in encoding order.
+     */
+    private static final class DtoClass {
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+        private final Slot[] slots;
+        private final long fingerprint;
+
+        @SneakyThrows
+        DtoClass(final Class<?> cls) {
+            if(!cls.isAnnotationPresent(XmlType.class)) {
+                throw new IllegalArgumentException(String.format(
+                        "not a JAXB (schema) DTO class: %s", cls.getName()));
+            }
+            this.constructor = cls.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+
+            final List<Class<?>> hierarchy = _Lists.newArrayList();
+            for(Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+                hierarchy.add(0, c);
+            }
+            final List<Field> fields = _Lists.newArrayList();
+            for (final Class<?> c : hierarchy) {
+                for (final Field field : c.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if(Modifier.isStatic(modifiers)
+                            || Modifier.isTransient(modifiers)
+                            || field.isSynthetic()
+                            || field.isAnnotationPresent(XmlTransient.class)) {
+                        continue;
+                    }
+                    if(field.isAnnotationPresent(XmlIDREF.class)) {
+                        throw new IllegalArgumentException(String.format(
+                                "references by id are not supported: %s#%s", c.getName(), field.getName()));
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            this.fields = fields.toArray(new Field[0]);
+            this.slots = fields.stream()
+                    .map(Field::getGenericType)
+                    .map(Slot::of)
+                    .toArray(Slot[]::new);
+            this.fingerprint = fingerprintOf(this.fields, this.slots);
+        }
+
+        static DtoClass of(final Class<?> cls) {
+            return dtoClasses.computeIfAbsent(cls, DtoClass::new);
+        }
+
+        private static final Map<Class<?>, DtoClass> dtoClasses = _Maps.newConcurrentHashMap();
+
+        /**
+         * 64-bit FNV-1a hash over everything the encoding depends on: the fields (in encoding order),
+         * how each is encoded and, for enums, their constants (as encoded by ordinal).
+         */
+        private static long fingerprintOf(final Field[] fields, final Slot[] slots) {
+            final StringBuilder layout = new StringBuilder();
+            for (int i = 0; i < fields.length; i++) {
+                layout.append(fields[i].getName()).append(':');
+                appendLayout(layout, slots[i]);
+                layout.append(';');
+            }
+            long hash = 0xcbf29ce484222325L;
+            for (final byte b : layout.toString().getBytes(StandardCharsets.UTF_8)) {
+                hash ^= (b & 0xff);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        private static void appendLayout(final StringBuilder layout, final Slot slot) {
+            layout.append(slot.kind.name());
+            if(slot.nullable) {
+                layout.append('?');
+            }
+            switch (slot.kind) {
+            case ENUM:
+                layout.append('(');
+                for (final Object constant : slot.type.getEnumConstants()) {
+                    layout.append(((Enum<?>) constant).name()).append(',');
+                }
+                layout.append(')');
+                return;
+            case LIST:
+                layout.append('<');
+                appendLayout(layout, slot.element);
+                layout.append('>');
+                return;
+            case OBJECT:
+                layout.append('(').append(slot.type.getName()).append(')');
+                return;
+            default:
+                return;
+            }
+        }
+    }
+
+    // -- ENCODER
+
+    @RequiredArgsConstructor
+    private static final class Encoder {
+        private final DataOutputStream out;
+        private final Map<Class<?>, Integer> classIndex = new HashMap<>();
+
+        void writeObject(final Object dto) throws IOException, IllegalAccessException {
+            if(dto == null) {
+                writeUnsigned(0);
+                return;
+            }
+            final Class<?> cls = dto.getClass();
+            final Integer index = classIndex.get(cls);
+            if(index != null) {
+                writeUnsigned(index);
+            } else {
+                classIndex.put(cls, classIndex.size() + 1);
+                writeUnsigned(classIndex.size());
+                writeString(cls.getName());
+                out.writeLong(DtoClass.of(cls).fingerprint);
+            }
+            final DtoClass dtoClass = DtoClass.of(cls);
+            for (int i = 0; i < dtoClass.fields.length; i++) {
+                writeValue(dtoClass.fields[i].get(dto), dtoClass.slots[i]);
+            }
+        }
+
+        private void writeValue(final Object value, final Slot slot) throws IOException, IllegalAccessException {
+            if(slot.kind == Kind.OBJECT) {
+                writeObject(value); // handles null
+                return;
+            }
+            if(slot.nullable) {
+                if(value == null) {
+                    out.writeBoolean(false);
+                    return;
+                }
+                out.writeBoolean(true);
+            }
+            switch (slot.kind) {
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                return;
+            case BYTE:
+                out.writeByte((Byte) value);
+                return;
+            case SHORT:
+            case INT:
+            case LONG:
+                writeSigned(((Number) value).longValue());
+                return;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                return;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                return;
+            case CHAR:
+                out.writeChar((Character) value);
+                return;
+            case STRING:
+                writeString((String) value);
+                return;
+            case BIG_INTEGER:
+                writeBytes(((BigInteger) value).toByteArray());
+                return;
+            case BIG_DECIMAL:
+                writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+                writeSigned(((BigDecimal) value).scale());
+                return;
+            case CALENDAR:
+                writeString(((XMLGregorianCalendar) value).toXMLFormat());
+                return;
+            case BYTES:
+                writeBytes((byte[]) value);
+                return;
+            case ENUM:
+                writeUnsigned(((Enum<?>) value).ordinal());
+                return;
+            case LIST:
+                final List<?> list = (List<?>) value;
+                writeUnsigned(list.size());
+                for (final Object element : list) {
+                    writeValue(element, slot.element);
+                }
+                return;
+            default:
+                throw new IllegalStateException(slot.kind.name());
+            }
+        }
+
+        private void writeString(final String value) throws IOException {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBytes(final byte[] bytes) throws IOException {
+            writeUnsigned(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeSigned(final long value) throws IOException {
+            writeUnsigned((value << 1) ^ (value >> 63)); // zig-zag
+        }
+
+        private void writeUnsigned(long value) throws IOException {
+            while((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+    }
+
+    // -- DECODER
+
+    @RequiredArgsConstructor
+    private static final class Decoder {
+        private final DataInputStream in;
+        private final List<DtoClass> classes = _Lists.newArrayList();
+        private DatatypeFactory datatypeFactory;
+
+        Object readObject(final Class<?> declaredType) throws Exception {
+            final int index = (int) readUnsigned();
+            if(index == 0) {
+                return null;
+            }
+            final DtoClass dtoClass;
+            if(index <= classes.size()) {
+                dtoClass = classes.get(index - 1);
+            } else {
+                final String className = readString();
+                final Class<?> cls = Class.forName(className, false, BinaryDtoCodec.class.getClassLoader());
+                if(!declaredType.isAssignableFrom(cls)) {
+                    throw new IllegalArgumentException(String.format(
+                            "encoded class %s is not a %s", className, declaredType.getName()));
+                }
+                dtoClass = DtoClass.of(cls); // only JAXB DTO classes are accepted
+                if(in.readLong() != dtoClass.fingerprint) {
+                    throw new IllegalArgumentException(String.format(
+                            "the layout of class %s differs from the one it was encoded with "
+                            + "(encoded using another version of the schema), hence cannot be decoded",
+                            className));
+                }
+                classes.add(dtoClass);
+            }
+            final Object dto = dtoClass.constructor.newInstance();
+            for (int i = 0; i < dtoClass.fields.length; i++) {
+                dtoClass.fields[i].set(dto, readValue(dtoClass.slots[i]));
+            }
+            return dto;
+        }
+
+        private Object readValue(final Slot slot) throws Exception {
+            if(slot.kind == Kind.OBJECT) {
+                return readObject(slot.type);
+            }
+            if(slot.nullable
+                    && !in.readBoolean()) {
+                return null;
+            }
+            switch (slot.kind) {
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return (short) readSigned();
+            case INT:
+                return (int) readSigned();
+            case LONG:
+                return readSigned();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case CHAR:
+                return in.readChar();
+            case STRING:
+                return readString();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BIG_DECIMAL:
+                final BigInteger unscaled = new BigInteger(readBytes());
+                return new BigDecimal(unscaled, (int) readSigned());
+            case CALENDAR:
+                return datatypeFactory().newXMLGregorianCalendar(readString());
+            case BYTES:
+                return readBytes();
+            case ENUM:
+                return slot.type.getEnumConstants()[(int) readUnsigned()];
+            case LIST:
+                final int size = (int) readUnsigned();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(slot.element));
+                }
+                return list;
+            default:
+                throw new IllegalStateException(slot.kind.name());
+            }
+        }
+
+        private DatatypeFactory datatypeFactory() throws Exception {
+            if(datatypeFactory == null) {
+                datatypeFactory = DatatypeFactory.newInstance();
+            }
+            return datatypeFactory;
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            final byte[] bytes = new byte[(int) readUnsigned()];
+            in.readFully(bytes);
+            return bytes;
+        }
+
+        private long readSigned() throws IOException {
+            final long value = readUnsigned();
+            return (value >>> 1) ^ -(value & 1); // zig-zag
+        }
+
+        private long readUnsigned() throws IOException {
+            long value = 0;
+            for(int shift = 0; shift < 64; shift += 7) {
+                final int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("malformed variable-length integer");
+        }
+    }
+
+}
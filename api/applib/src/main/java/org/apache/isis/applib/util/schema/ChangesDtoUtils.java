@@ -28,11 +28,10 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.chg.v2.ChangesDto;
 
 /**
@@ -55,8 +54,7 @@ static JAXBContext getJaxbContext() {
 
     public static ChangesDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (ChangesDto) un.unmarshal(reader);
+            return _Xml.withUnmarshaller(getJaxbContext(), un->(ChangesDto) un.unmarshal(reader));
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -82,10 +80,65 @@ public static String toXml(final ChangesDto changesDto) {
     }
 
     public static void toXml(final ChangesDto changesDto, final Writer writer) {
+        toXml(changesDto, writer, true);
+    }
+
+    /**
+     * Non-indented XML, for machine-to-machine use (eg. persistence, messaging).
+     */
+    public static String toXmlCompact(final ChangesDto changesDto) {
+        final CharArrayWriter caw = new CharArrayWriter();
+        toXml(changesDto, caw, false);
+        return caw.toString();
+    }
+
+    /**
+     * Streams the given DTOs as children of a single <tt>&lt;changesDtos&gt;</tt> root element (non-indented).
+     */
+    public static void toXml(final Iterable<ChangesDto> changesDtos, final Writer writer) {
+        try {
+            _Xml.writeXmlBatch(ChangesDto.class, changesDtos, writer, "changesDtos");
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Compact binary form, as per {@link BinaryDtoCodec}.
+     */
+    public static byte[] toBinary(final ChangesDto changesDto) {
+        return BinaryDtoCodec.toBytes(changesDto);
+    }
+
+    public static ChangesDto fromBinary(final byte[] bytes) {
+        return BinaryDtoCodec.fromBytes(ChangesDto.class, bytes);
+    }
+
+    /**
+     * String form in the given format, for machine-to-machine use; binary is Base64 encoded.
+     * @see #fromEncodedString(String)
+     */
+    public static String toEncodedString(final ChangesDto changesDto, final DtoFormat format) {
+        return format.isBinary()
+                ? BinaryDtoCodec.toBase64(changesDto)
+                : toXmlCompact(changesDto);
+    }
+
+    /**
+     * Reads either format produced by {@link #toEncodedString(ChangesDto, DtoFormat)}.
+     */
+    public static ChangesDto fromEncodedString(final String encoded) {
+        return BinaryDtoCodec.isXml(encoded)
+                ? fromXml(encoded)
+                : BinaryDtoCodec.fromBase64(ChangesDto.class, encoded);
+    }
+
+    private static void toXml(final ChangesDto changesDto, final Writer writer, final boolean formattedOutput) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(changesDto, writer);
+            _Xml.withMarshaller(getJaxbContext(), formattedOutput, m->{
+                m.marshal(changesDto, writer);
+                return null;
+            });
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -27,13 +27,12 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.util.JaxbUtil;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.cmd.v2.ActionDto;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 import org.apache.isis.schema.cmd.v2.MapDto;
@@ -61,15 +60,14 @@ static JAXBContext getJaxbContext() {
 
     public static CommandDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (CommandDto) un.unmarshal(reader);
+            return _Xml.withUnmarshaller(getJaxbContext(), un->(CommandDto) un.unmarshal(reader));
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
     }
 
     public static CommandDto clone(final CommandDto commandDto) {
-        return fromXml(toXml(commandDto));
+        return fromXml(toXmlCompact(commandDto));
     }
 
     public static CommandDto fromXml(final String xml) {
@@ -92,10 +90,65 @@ public static String toXml(final CommandDto commandDto) {
     }
 
     public static void toXml(final CommandDto commandDto, final Writer writer) {
+        toXml(commandDto, writer, true);
+    }
+
+    /**
+     * Non-indented XML, for machine-to-machine use (eg. persistence, messaging).
+     */
+    public static String toXmlCompact(final CommandDto commandDto) {
+        final CharArrayWriter caw = new CharArrayWriter();
+        toXml(commandDto, caw, false);
+        return caw.toString();
+    }
+
+    /**
+     * Streams the given DTOs as children of a single <tt>&lt;commandDtos&gt;</tt> root element (non-indented).
+     */
+    public static void toXml(final Iterable<CommandDto> commandDtos, final Writer writer) {
+        try {
+            _Xml.writeXmlBatch(CommandDto.class, commandDtos, writer, "commandDtos");
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Compact binary form, as per {@link BinaryDtoCodec}.
+     */
+    public static byte[] toBinary(final CommandDto commandDto) {
+        return BinaryDtoCodec.toBytes(commandDto);
+    }
+
+    public static CommandDto fromBinary(final byte[] bytes) {
+        return BinaryDtoCodec.fromBytes(CommandDto.class, bytes);
+    }
+
+    /**
+     * String form in the given format, for machine-to-machine use; binary is Base64 encoded.
+     * @see #fromEncodedString(String)
+     */
+    public static String toEncodedString(final CommandDto commandDto, final DtoFormat format) {
+        return format.isBinary()
+                ? BinaryDtoCodec.toBase64(commandDto)
+                : toXmlCompact(commandDto);
+    }
+
+    /**
+     * Reads either format produced by {@link #toEncodedString(CommandDto, DtoFormat)}.
+     */
+    public static CommandDto fromEncodedString(final String encoded) {
+        return BinaryDtoCodec.isXml(encoded)
+                ? fromXml(encoded)
+                : BinaryDtoCodec.fromBase64(CommandDto.class, encoded);
+    }
+
+    private static void toXml(final CommandDto commandDto, final Writer writer, final boolean formattedOutput) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(commandDto, writer);
+            _Xml.withMarshaller(getJaxbContext(), formattedOutput, m->{
+                m.marshal(commandDto, writer);
+                return null;
+            });
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -16,39 +16,32 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-package org.apache.isis.persistence.jpa.integration.changetracking;
-
-import javax.annotation.Priority;
-import javax.inject.Named;
-
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Service;
-
-import org.apache.isis.applib.annotation.PriorityPrecedence;
-import org.apache.isis.applib.services.metrics.MetricsService;
+package org.apache.isis.applib.util.schema;
 
 /**
+ * The format in which schema DTOs (such as {@link org.apache.isis.schema.cmd.v2.CommandDto}) are serialized,
+ * eg. when persisted.
+ *
  * @since 2.0 {@index}
  */
-@Service
-@Named("isis.transaction.PersistenceMetricsServiceJpa")
-@Priority(PriorityPrecedence.EARLY)
-@Qualifier("jpa")
-//@Log4j2
-public class PersistenceMetricsServiceJpa
-implements
-    MetricsService {
+public enum DtoFormat {
+
+    /**
+     * As (non-indented) XML, per the XSD schemas.
+     */
+    XML,
 
-    // -- METRICS
+    /**
+     * As per {@link BinaryDtoCodec}, Base64 encoded wherever a string is required.
+     */
+    BINARY;
 
-    @Override
-    public int numberEntitiesLoaded() {
-        return -1; // n/a
+    public boolean isXml() {
+        return this == XML;
     }
 
-    @Override
-    public int numberEntitiesDirtied() {
-        return -1; // n/a
+    public boolean isBinary() {
+        return this == BINARY;
     }
 
 }
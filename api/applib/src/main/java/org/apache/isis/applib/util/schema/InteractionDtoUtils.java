@@ -31,8 +31,6 @@
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.iactn.Execution;
@@ -41,6 +39,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.resources._Resources;
+import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.cmd.v2.ParamDto;
 import org.apache.isis.schema.cmd.v2.ParamsDto;
 import org.apache.isis.schema.common.v2.InteractionType;
@@ -73,8 +72,7 @@ static JAXBContext getJaxbContext() {
 
     public static InteractionDto fromXml(final Reader reader) {
         try {
-            final Unmarshaller un = getJaxbContext().createUnmarshaller();
-            return (InteractionDto) un.unmarshal(reader);
+            return _Xml.withUnmarshaller(getJaxbContext(), un->(InteractionDto) un.unmarshal(reader));
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -100,10 +98,65 @@ public static String toXml(final InteractionDto interactionDto) {
     }
 
     public static void toXml(final InteractionDto interactionDto, final Writer writer) {
+        toXml(interactionDto, writer, true);
+    }
+
+    /**
+     * Non-indented XML, for machine-to-machine use (eg. persistence, messaging).
+     */
+    public static String toXmlCompact(final InteractionDto interactionDto) {
+        final CharArrayWriter caw = new CharArrayWriter();
+        toXml(interactionDto, caw, false);
+        return caw.toString();
+    }
+
+    /**
+     * Streams the given DTOs as children of a single <tt>&lt;interactionDtos&gt;</tt> root element (non-indented).
+     */
+    public static void toXml(final Iterable<InteractionDto> interactionDtos, final Writer writer) {
+        try {
+            _Xml.writeXmlBatch(InteractionDto.class, interactionDtos, writer, "interactionDtos");
+        } catch (JAXBException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Compact binary form, as per {@link BinaryDtoCodec}.
+     */
+    public static byte[] toBinary(final InteractionDto interactionDto) {
+        return BinaryDtoCodec.toBytes(interactionDto);
+    }
+
+    public static InteractionDto fromBinary(final byte[] bytes) {
+        return BinaryDtoCodec.fromBytes(InteractionDto.class, bytes);
+    }
+
+    /**
+     * String form in the given format, for machine-to-machine use; binary is Base64 encoded.
+     * @see #fromEncodedString(String)
+     */
+    public static String toEncodedString(final InteractionDto interactionDto, final DtoFormat format) {
+        return format.isBinary()
+                ? BinaryDtoCodec.toBase64(interactionDto)
+                : toXmlCompact(interactionDto);
+    }
+
+    /**
+     * Reads either format produced by {@link #toEncodedString(InteractionDto, DtoFormat)}.
+     */
+    public static InteractionDto fromEncodedString(final String encoded) {
+        return BinaryDtoCodec.isXml(encoded)
+                ? fromXml(encoded)
+                : BinaryDtoCodec.fromBase64(InteractionDto.class, encoded);
+    }
+
+    private static void toXml(final InteractionDto interactionDto, final Writer writer, final boolean formattedOutput) {
         try {
-            final Marshaller m = getJaxbContext().createMarshaller();
-            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-            m.marshal(interactionDto, writer);
+            _Xml.withMarshaller(getJaxbContext(), formattedOutput, m->{
+                m.marshal(interactionDto, writer);
+                return null;
+            });
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
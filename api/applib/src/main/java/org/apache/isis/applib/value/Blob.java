@@ -20,9 +20,12 @@
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.io.OutputStream;
+import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Objects;
@@ -35,6 +38,8 @@
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.isis.applib.IsisModuleApplib;
 import org.apache.isis.applib.annotation.Value;
 import org.apache.isis.applib.jaxb.PrimitiveJaxbAdapters;
@@ -46,6 +51,7 @@
 import org.apache.isis.commons.internal.image._Images;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
@@ -111,11 +117,46 @@ public static Blob of(final String name, final CommonMimeType mimeType, final by
         return new Blob(fileName, mimeType.getMimeType(), content);
     }
 
+    /**
+     * Returns a new {@link Blob} of given {@code name} and {@code mimeType}, whose bytes are only read from
+     * the given {@code file} on demand.
+     * <p>
+     * {@link #writeBytesTo(OutputStream)}, {@link #consume(Consumer)} and {@link #digest(Function)} stream
+     * the file's content without holding it in memory; {@link #getBytes()} (also used by
+     * {@link #equals(Object)}, {@link #hashCode()} and serialization) reads it once and then keeps it.
+     * <p>
+     * The file must neither change nor be deleted while the {@link Blob} is in use.
+     * @param name
+     * @param mimeType
+     * @param file - the content
+     * @return new {@link Blob}
+     */
+    public static Blob ofFile(final String name, final MimeType mimeType, final @NonNull File file) {
+        return ofDeferred(name, mimeType, LobContentSource.ofFile(file));
+    }
+
+    /**
+     * Returns a new {@link Blob} of given {@code name} and {@code mimeType}, whose bytes are only read from
+     * the given {@code source} on demand, as with {@link #ofFile(String, MimeType, File)}.
+     * <p>
+     * If the {@code source} is {@link Serializable}, then so long as its bytes have not been read, the
+     * {@link Blob} is serialized by reference to the {@code source} (not embedding the bytes).
+     * @param name
+     * @param mimeType
+     * @param source - the content
+     * @return new {@link Blob}
+     * @see #isContentByReference()
+     */
+    public static Blob ofDeferred(final String name, final MimeType mimeType, final @NonNull LobContentSource source) {
+        return new Blob(name, mimeType, null, source);
+    }
+
      // --
 
     private final MimeType mimeType;
-    private final byte[] bytes;
+    private volatile byte[] bytes; // if deferred, read on demand
     private final String name;
+    private final transient @Nullable LobContentSource source;
 
     public Blob(final String name, final String primaryType, final String subtype, final byte[] bytes) {
         this(name, CommonMimeType.newMimeType(primaryType, subtype), bytes);
@@ -126,6 +167,10 @@ public Blob(final String name, final String mimeTypeBase, final byte[] bytes) {
     }
 
     public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
+        this(name, mimeType, bytes, null);
+    }
+
+    private Blob(final String name, final MimeType mimeType, final byte[] bytes, final LobContentSource source) {
         if(name == null) {
             throw new IllegalArgumentException("Name cannot be null");
         }
@@ -135,12 +180,14 @@ public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
         if(name.contains(":")) {
             throw new IllegalArgumentException("Name cannot contain ':'");
         }
-        if(bytes == null) {
+        if(bytes == null
+                && source == null) {
             throw new IllegalArgumentException("Bytes cannot be null");
         }
         this.name = name;
         this.mimeType = mimeType;
         this.bytes = bytes;
+        this.source = source;
     }
 
     @Override
@@ -154,6 +201,18 @@ public MimeType getMimeType() {
     }
 
     public byte[] getBytes() {
+        if(bytes == null) {
+            synchronized (this) {
+                if(bytes == null) {
+                    try(val is = source.openStream()) {
+                        bytes = _Bytes.of(is);
+                    } catch (IOException e) {
+                        throw _Exceptions
+                            .unrecoverable(String.format("failed to read blob content from %s", source), e);
+                    }
+                }
+            }
+        }
         return bytes;
     }
 
@@ -172,6 +231,12 @@ public void writeBytesTo(final OutputStream os) throws IOException {
         if(os==null) {
             return;
         }
+        if(isContentPending()) {
+            try(val is = source.openStream()) {
+                is.transferTo(os);
+            }
+            return;
+        }
         if(bytes!=null) {
             os.write(bytes);
         }
@@ -183,11 +248,8 @@ public void writeBytesTo(final OutputStream os) throws IOException {
      * @throws IOException
      */
     public void consume(final Consumer<InputStream> consumer) throws IOException {
-     // null to empty
-        val bytes = Optional.ofNullable(getBytes())
-                .orElse(new byte[0]);
-        try(val bis = new ByteArrayInputStream(bytes)) {
-            consumer.accept(bis);
+        try(val is = openContent()) {
+            consumer.accept(is);
         }
     }
 
@@ -198,11 +260,8 @@ public void consume(final Consumer<InputStream> consumer) throws IOException {
      * @throws IOException
      */
     public <R> R digest(final @NonNull Function<InputStream, R> digester) throws IOException {
-        // null to empty
-        val bytes = Optional.ofNullable(getBytes())
-                .orElse(new byte[0]);
-        try(val bis = new ByteArrayInputStream(bytes)) {
-            return digester.apply(bis);
+        try(val is = openContent()) {
+            return digester.apply(is);
         }
     }
 
@@ -244,20 +303,78 @@ public boolean equals(final Object o) {
             return false;
         final Blob blob = (Blob) o;
         return Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
-                Arrays.equals(bytes, blob.bytes) &&
+                Arrays.equals(getBytes(), blob.getBytes()) &&
                 Objects.equals(name, blob.name);
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(mimeType.toString(), name);
-        result = 31 * result + Arrays.hashCode(bytes);
+        result = 31 * result + Arrays.hashCode(getBytes());
         return result;
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getBytes().length + " bytes";
+        val length = isContentPending()
+                ? source.getLength()
+                : getBytes().length;
+        return getName() + " [" + getMimeType().getBaseType() + "]: "
+                + (length < 0 ? "deferred" : length + " bytes");
+    }
+
+    /**
+     * Whether this {@link Blob}'s bytes have not been read yet from a {@link Serializable}
+     * {@link LobContentSource}, such that it is serialized by reference to that source, rather than with its bytes.
+     * @see #ofDeferred(String, MimeType, LobContentSource)
+     */
+    @Override
+    public boolean isContentByReference() {
+        return isContentPending()
+                && source instanceof Serializable;
+    }
+
+    // -- HELPER
+
+    private boolean isContentPending() {
+        return bytes == null
+                && source != null;
+    }
+
+    private InputStream openContent() throws IOException {
+        if(isContentPending()) {
+            return source.openStream();
+        }
+        // null to empty
+        val bytes = Optional.ofNullable(getBytes())
+                .orElse(new byte[0]);
+        return new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * A deferred {@link Blob} is serialized by reference to its source if that is {@link Serializable},
+     * otherwise (eg. file-backed, the file being local to this JVM) with its bytes.
+     */
+    private Object writeReplace() {
+        return isContentByReference()
+                ? new DeferredForm(name, mimeType, source)
+                : this;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getBytes();
+        out.defaultWriteObject();
+    }
+
+    @RequiredArgsConstructor
+    private static final class DeferredForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String name;
+        private final MimeType mimeType;
+        private final LobContentSource source;
+        private Object readResolve() {
+            return Blob.ofDeferred(name, mimeType, source);
+        }
     }
 
     /**
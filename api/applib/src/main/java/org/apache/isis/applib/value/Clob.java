@@ -19,6 +19,9 @@
 package org.apache.isis.applib.value;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -29,12 +32,16 @@
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.isis.applib.IsisModuleApplib;
 import org.apache.isis.applib.annotation.Value;
 import org.apache.isis.applib.jaxb.PrimitiveJaxbAdapters;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 /**
@@ -80,7 +87,9 @@ public final class Clob implements NamedWithMimeType {
 
     private final String name;
     private final MimeType mimeType;
-    private final CharSequence chars;
+    private volatile CharSequence chars; // if deferred, read on demand
+    private final transient @Nullable LobContentSource source;
+    private final transient @Nullable Charset charset;
 
 
     // -- FACTORIES
@@ -104,6 +113,30 @@ public static Clob of(final String name, final CommonMimeType mimeType, final Ch
         return new Clob(fileName, mimeType.getMimeType(), content);
     }
 
+    /**
+     * Returns a new {@link Clob} of given {@code name} and {@code mimeType}, whose chars are only read
+     * (decoded using given {@code charset}) from the given {@code source} on demand.
+     * <p>
+     * {@link #writeCharsTo(Writer)} streams the content without holding it in memory; {@link #getChars()}
+     * (also used by {@link #equals(Object)}, {@link #hashCode()} and serialization) reads it once and then keeps it.
+     * <p>
+     * If the {@code source} is {@link Serializable}, then so long as its chars have not been read, the
+     * {@link Clob} is serialized by reference to the {@code source} (not embedding the chars).
+     * @param name
+     * @param mimeType
+     * @param charset
+     * @param source - the content
+     * @return new {@link Clob}
+     * @see #isContentByReference()
+     */
+    public static Clob ofDeferred(
+            final String name,
+            final MimeType mimeType,
+            final @NonNull Charset charset,
+            final @NonNull LobContentSource source) {
+        return new Clob(name, mimeType, null, source, charset);
+    }
+
     // --
 
     public Clob(final String name, final String primaryType, final String subType, final char[] chars) {
@@ -127,6 +160,15 @@ public Clob(final String name, final String mimeTypeBase, final CharSequence cha
     }
 
     public Clob(final String name, final MimeType mimeType, final CharSequence chars) {
+        this(name, mimeType, chars, null, null);
+    }
+
+    private Clob(
+            final String name,
+            final MimeType mimeType,
+            final CharSequence chars,
+            final LobContentSource source,
+            final Charset charset) {
         if(name == null) {
             throw new IllegalArgumentException("Name cannot be null");
         }
@@ -136,12 +178,15 @@ public Clob(final String name, final MimeType mimeType, final CharSequence chars
         if(name.contains(":")) {
             throw new IllegalArgumentException("Name cannot contain ':'");
         }
-        if(chars == null) {
+        if(chars == null
+                && source == null) {
             throw new IllegalArgumentException("Chars cannot be null");
         }
         this.name = name;
         this.mimeType = mimeType;
         this.chars = chars;
+        this.source = source;
+        this.charset = charset;
     }
 
     @Override
@@ -155,6 +200,18 @@ public MimeType getMimeType() {
     }
 
     public CharSequence getChars() {
+        if(chars == null) {
+            synchronized (this) {
+                if(chars == null) {
+                    try(val is = source.openStream()) {
+                        chars = _Strings.read(is, charset);
+                    } catch (IOException e) {
+                        throw _Exceptions
+                            .unrecoverable(String.format("failed to read clob content from %s", source), e);
+                    }
+                }
+            }
+        }
         return chars;
     }
 
@@ -165,7 +222,16 @@ public Blob toBlob(final @NonNull Charset charset) {
     }
 
     public void writeCharsTo(final Writer wr) throws IOException {
-        if(wr!=null && chars!=null){
+        if(wr==null) {
+            return;
+        }
+        if(isContentPending()) {
+            try(val reader = new InputStreamReader(source.openStream(), charset)) {
+                reader.transferTo(wr);
+            }
+            return;
+        }
+        if(chars!=null){
             wr.append(chars);
         }
     }
@@ -181,16 +247,62 @@ public boolean equals(final Object o) {
         final Clob clob = (Clob) o;
         return Objects.equals(name, clob.name) &&
                 Objects.equals(mimeType.toString(), clob.mimeType.toString()) &&
-                Objects.equals(chars, clob.chars);
+                Objects.equals(getChars(), clob.getChars());
     }
 
     @Override public int hashCode() {
-        return Objects.hash(name, mimeType.toString(), chars);
+        return Objects.hash(name, mimeType.toString(), getChars());
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getChars().length() + " chars";
+        return getName() + " [" + getMimeType().getBaseType() + "]: "
+                + (isContentPending() ? "deferred" : getChars().length() + " chars");
+    }
+
+    /**
+     * Whether this {@link Clob}'s chars have not been read yet from a {@link Serializable}
+     * {@link LobContentSource}, such that it is serialized by reference to that source, rather than with its chars.
+     * @see #ofDeferred(String, MimeType, Charset, LobContentSource)
+     */
+    @Override
+    public boolean isContentByReference() {
+        return isContentPending()
+                && source instanceof Serializable;
+    }
+
+    // -- HELPER
+
+    private boolean isContentPending() {
+        return chars == null
+                && source != null;
+    }
+
+    /**
+     * A deferred {@link Clob} is serialized by reference to its source if that is {@link Serializable},
+     * otherwise with its chars.
+     */
+    private Object writeReplace() {
+        return isContentByReference()
+                ? new DeferredForm(name, mimeType, charset.name(), source)
+                : this;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getChars();
+        out.defaultWriteObject();
+    }
+
+    @RequiredArgsConstructor
+    private static final class DeferredForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String name;
+        private final MimeType mimeType;
+        private final String charsetName;
+        private final LobContentSource source;
+        private Object readResolve() {
+            return Clob.ofDeferred(name, mimeType, Charset.forName(charsetName), source);
+        }
     }
 
     /**
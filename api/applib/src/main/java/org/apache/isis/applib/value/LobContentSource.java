@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.value;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Provides the content of a deferred {@link Blob} or {@link Clob}, such that it is only read on demand.
+ * <p>
+ * A deferred {@link Blob} or {@link Clob} is Java-serialized (and memento-ized) by reference to its source,
+ * without its content, if (and only if) the source itself is {@link java.io.Serializable}; otherwise the content
+ * is read before serialization. Sources referencing resources local to the current JVM (such as
+ * {@link #ofFile(File) temporary files}) should therefore not be serializable.
+ *
+ * @see Blob#ofDeferred(String, javax.activation.MimeType, LobContentSource)
+ * @see Clob#ofDeferred(String, javax.activation.MimeType, java.nio.charset.Charset, LobContentSource)
+ * @since 2.0 {@index}
+ */
+@FunctionalInterface
+public interface LobContentSource {
+
+    /**
+     * Opens a new stream over the (binary) content, to be closed by the caller.
+     */
+    InputStream openStream() throws IOException;
+
+    /**
+     * The length of the content in bytes, if known without reading it, otherwise {@code -1}.
+     */
+    default long getLength() {
+        return -1L;
+    }
+
+    // -- FACTORIES
+
+    /**
+     * Content read from given {@code file}, which must neither change nor be deleted while in use.
+     */
+    public static LobContentSource ofFile(final @NonNull File file) {
+        return new FileSource(file);
+    }
+
+    // -- IMPLEMENTATIONS
+
+    @RequiredArgsConstructor
+    static final class FileSource implements LobContentSource {
+
+        private final @NonNull File file;
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return Files.newInputStream(file.toPath());
+        }
+
+        @Override
+        public long getLength() {
+            return file.length();
+        }
+
+        @Override
+        public String toString() {
+            return file.toString();
+        }
+
+    }
+
+}
@@ -36,6 +36,17 @@ public interface NamedWithMimeType extends Serializable {
 
     public MimeType getMimeType();
 
+    /**
+     * Whether the content is deferred to a serializable source (not yet read), such that this value
+     * is serialized by reference to that source, rather than with its content.
+     *
+     * @since 2.0
+     * @see LobContentSource
+     */
+    public default boolean isContentByReference() {
+        return false;
+    }
+
     /**
      * Subset of MimeTypes most commonly used.
      *
@@ -18,12 +18,18 @@
  */
 package org.apache.isis.applib.services.jaxb;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.isis.commons.internal.resources._Xml;
 import org.apache.isis.schema.ixn.v2.ActionInvocationDto;
@@ -58,8 +64,51 @@ void clone_usingUtility() {
         assertDtoEquals(dto, _Xml.clone(dto).presentElseFail());
     }
 
+    @Test
+    void pooledMarshaller_isConfiguredOnce_andNotSharedWithOtherServices() {
+        // given
+        val configurations = new AtomicInteger();
+        val marshalled = new AtomicInteger();
+        val configuring = new JaxbService.Simple() {
+            @Override
+            protected void configure(final Marshaller marshaller) {
+                configurations.incrementAndGet();
+                marshaller.setListener(new Marshaller.Listener() {
+                    @Override
+                    public void beforeMarshal(final Object source) {
+                        marshalled.incrementAndGet();
+                    }
+                });
+            }
+        };
+        val greeting = new Greeting();
+        greeting.text = "hello";
+
+        // when
+        configuring.toXml(greeting);
+        configuring.toXml(greeting);
+
+        // then
+        assertEquals(1, configurations.get());
+        val marshalledByConfiguring = marshalled.get();
+        assertTrue(marshalledByConfiguring > 0);
+
+        // when
+        simple.toXml(greeting);
+        _Xml.writeXml(greeting, _Xml.WriteOptions.builder().useContextCache(true).formattedOutput(true).build())
+            .presentElseFail();
+
+        // then
+        assertEquals(marshalledByConfiguring, marshalled.get());
+    }
+
     // -- HELPER
 
+    @XmlRootElement
+    public static class Greeting {
+        public String text;
+    }
+
     private ActionInvocationDto getSample() {
         val dto = new ActionInvocationDto();
         dto.setTitle("hello");
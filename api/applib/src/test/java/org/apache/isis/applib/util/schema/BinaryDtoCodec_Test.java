@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.util.schema;
+
+import java.math.BigDecimal;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.schema.cmd.v2.ActionDto;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+import org.apache.isis.schema.cmd.v2.ParamDto;
+import org.apache.isis.schema.cmd.v2.ParamsDto;
+import org.apache.isis.schema.common.v2.BlobDto;
+import org.apache.isis.schema.common.v2.InteractionType;
+import org.apache.isis.schema.common.v2.OidDto;
+import org.apache.isis.schema.common.v2.OidsDto;
+import org.apache.isis.schema.common.v2.ValueType;
+
+public class BinaryDtoCodec_Test {
+
+    CommandDto dto;
+
+    @Before
+    public void setUp() throws Exception {
+        dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId("1234");
+        dto.setUser("sven");
+        dto.setTimestamp(DatatypeFactory.newInstance().newXMLGregorianCalendar("2021-01-02T03:04:05.678Z"));
+
+        final OidDto target = new OidDto();
+        target.setType("customer.Customer");
+        target.setId("42");
+        dto.setTargets(new OidsDto());
+        dto.getTargets().getOid().add(target);
+
+        final ParamDto amount = new ParamDto();
+        amount.setName("amount");
+        amount.setType(ValueType.BIG_DECIMAL);
+        amount.setBigDecimal(new BigDecimal("-123.4500"));
+
+        final ParamDto attachment = new ParamDto();
+        attachment.setName("attachment");
+        attachment.setType(ValueType.BLOB);
+        attachment.setBlob(new BlobDto());
+        attachment.getBlob().setName("a.bin");
+        attachment.getBlob().setMimeType("application/octet-stream");
+        attachment.getBlob().setBytes(new byte[] {0, 1, -1});
+
+        final ParamDto nothing = new ParamDto();
+        nothing.setName("nothing");
+        nothing.setType(ValueType.STRING);
+        nothing.setNull(true);
+
+        final ActionDto action = new ActionDto();
+        action.setLogicalMemberIdentifier("customer.Customer#pay");
+        action.setInteractionType(InteractionType.ACTION_INVOCATION);
+        action.setParameters(new ParamsDto());
+        action.getParameters().getParameter().add(amount);
+        action.getParameters().getParameter().add(attachment);
+        action.getParameters().getParameter().add(nothing);
+        dto.setMember(action);
+
+        CommandDtoUtils.setUserData(dto, "someKey", "someValue ✓");
+    }
+
+    @Test
+    public void roundtrip_is_lossless() {
+
+        // when
+        final byte[] bytes = BinaryDtoCodec.toBytes(dto);
+        final CommandDto roundtripped = BinaryDtoCodec.fromBytes(CommandDto.class, bytes);
+
+        // then
+        assertThat(roundtripped.getMember(), is(instanceOf(ActionDto.class)));
+        assertThat(CommandDtoUtils.toXml(roundtripped), is(CommandDtoUtils.toXml(dto)));
+
+        // and more compact than xml
+        assertThat(bytes.length < CommandDtoUtils.toXmlCompact(dto).length(), is(true));
+    }
+
+    @Test
+    public void encodedString_reads_either_format() {
+
+        final String xml = CommandDtoUtils.toEncodedString(dto, DtoFormat.XML);
+        final String binary = CommandDtoUtils.toEncodedString(dto, DtoFormat.BINARY);
+
+        assertThat(BinaryDtoCodec.isXml(xml), is(true));
+        assertThat(BinaryDtoCodec.isXml(binary), is(false));
+
+        final String expected = CommandDtoUtils.toXml(dto);
+        assertThat(CommandDtoUtils.toXml(CommandDtoUtils.fromEncodedString(xml)), is(expected));
+        assertThat(CommandDtoUtils.toXml(CommandDtoUtils.fromEncodedString(binary)), is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_layout_mismatch() {
+
+        // given
+        final byte[] bytes = BinaryDtoCodec.toBytes(dto);
+
+        // when the fingerprint following the first class name differs (as if encoded by another schema version)
+        final int classNameLength = CommandDto.class.getName().length();
+        final int fingerprintOffset = 4 /*magic*/ + 1 /*version*/ + 1 /*class index*/ + 1 /*length*/ + classNameLength;
+        bytes[fingerprintOffset] ^= 0x01;
+
+        // then
+        BinaryDtoCodec.fromBytes(CommandDto.class, bytes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_other_input() {
+        BinaryDtoCodec.fromBytes(CommandDto.class, "<commandDto/>".getBytes());
+    }
+
+}
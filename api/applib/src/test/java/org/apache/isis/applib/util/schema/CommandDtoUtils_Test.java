@@ -18,6 +18,9 @@
  */
 package org.apache.isis.applib.util.schema;
 
+import java.io.StringWriter;
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -76,4 +79,42 @@ public void clearUserData() {
         // then
         assertThat(CommandDtoUtils.getUserData(dto, "someKey"), is(nullValue()));
     }
-}
\ No newline at end of file
+    @Test
+    public void toXmlCompact_roundtrip() {
+        // given
+        dto.setInteractionId("1234");
+        dto.setUser("sven");
+        CommandDtoUtils.setUserData(dto, "someKey", "someValue");
+
+        // when
+        final String xml = CommandDtoUtils.toXmlCompact(dto);
+
+        // then
+        assertThat(xml.contains("\n"), is(false));
+        final CommandDto roundtripped = CommandDtoUtils.fromXml(xml);
+        assertThat(roundtripped.getInteractionId(), is("1234"));
+        assertThat(roundtripped.getUser(), is("sven"));
+        assertThat(CommandDtoUtils.getUserData(roundtripped, "someKey"), is("someValue"));
+
+        // and formatted output is the same, but indented
+        assertThat(CommandDtoUtils.toXml(dto).replaceAll(">\\s+<", "><").trim(), is(xml.trim()));
+    }
+
+    @Test
+    public void toXml_batch() {
+        // given
+        final CommandDto other = new CommandDto();
+        dto.setInteractionId("1234");
+        other.setInteractionId("5678");
+
+        // when
+        final StringWriter writer = new StringWriter();
+        CommandDtoUtils.toXml(Arrays.asList(dto, other), writer);
+
+        // then
+        final String xml = writer.toString();
+        assertThat(xml.contains("<commandDtos>"), is(true));
+        assertThat(xml.indexOf("1234") < xml.indexOf("5678"), is(true));
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.isis.applib.value.NamedWithMimeType.CommonMimeType;
+
+import lombok.RequiredArgsConstructor;
+
+public class Blob_ofFile_Test {
+
+    private final byte[] content = new byte[] {0, 1, 2, 3};
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile(Blob_ofFile_Test.class.getName(), ".bin");
+        Files.write(file.toPath(), content);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.delete();
+    }
+
+    @Test
+    public void streams_content_from_file() throws Exception {
+        final Blob blob = Blob.ofFile("data.bin", CommonMimeType.BIN.getMimeType(), file);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        blob.writeBytesTo(baos);
+
+        assertArrayEquals(content, baos.toByteArray());
+        assertEquals("data.bin [application/octet-stream]: 4 bytes", blob.toString());
+    }
+
+    @Test
+    public void equals_blob_holding_same_bytes() throws Exception {
+        final Blob blob = Blob.ofFile("data.bin", CommonMimeType.BIN.getMimeType(), file);
+
+        assertEquals(new Blob("data.bin", CommonMimeType.BIN.getMimeType(), content), blob);
+        assertArrayEquals(content, blob.getBytes());
+    }
+
+    @Test
+    public void serializes_with_bytes() throws Exception {
+        final Blob blob = Blob.ofFile("data.bin", CommonMimeType.BIN.getMimeType(), file);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try(final ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(blob);
+        }
+        file.delete();
+
+        try(final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            final Blob deserialized = (Blob) ois.readObject();
+            assertArrayEquals(content, deserialized.getBytes());
+        }
+    }
+
+    @Test
+    public void serializes_by_reference_to_serializable_source() throws Exception {
+        final Blob blob = Blob.ofDeferred("data.bin", CommonMimeType.BIN.getMimeType(), new PathSource(file.getPath()));
+        assertTrue(blob.isContentByReference());
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try(final ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(blob);
+        }
+        Files.write(file.toPath(), new byte[] {4, 5});
+
+        try(final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            final Blob deserialized = (Blob) ois.readObject();
+            assertTrue(deserialized.isContentByReference());
+            assertArrayEquals(new byte[] {4, 5}, deserialized.getBytes());
+            assertFalse(deserialized.isContentByReference());
+        }
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static class PathSource implements LobContentSource, Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String path;
+        @Override
+        public InputStream openStream() throws IOException {
+            return new FileInputStream(path);
+        }
+    }
+
+}
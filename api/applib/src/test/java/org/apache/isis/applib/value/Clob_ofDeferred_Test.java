@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.apache.isis.applib.value.NamedWithMimeType.CommonMimeType;
+
+public class Clob_ofDeferred_Test {
+
+    private final String content = "héllo";
+    private final AtomicInteger opened = new AtomicInteger();
+
+    private Clob newClob() {
+        return Clob.ofDeferred("hello.txt", CommonMimeType.TXT.getMimeType(), StandardCharsets.UTF_8, ()->{
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    @Test
+    public void reads_content_on_demand_only() throws Exception {
+        final Clob clob = newClob();
+        assertEquals("hello.txt [text/plain]: deferred", clob.toString());
+        assertEquals(0, opened.get());
+
+        final StringWriter writer = new StringWriter();
+        clob.writeCharsTo(writer);
+        assertEquals(content, writer.toString());
+
+        assertEquals(content, clob.getChars());
+        assertEquals(content, clob.getChars());
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    public void serializes_with_chars_when_source_not_serializable() throws Exception {
+        final Clob clob = newClob();
+        assertFalse(clob.isContentByReference());
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try(final ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(clob);
+        }
+
+        try(final ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            final Clob deserialized = (Clob) ois.readObject();
+            assertEquals(clob, deserialized);
+            assertEquals(content, deserialized.getChars().toString());
+        }
+    }
+
+}
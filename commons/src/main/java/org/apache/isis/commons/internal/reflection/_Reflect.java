@@ -448,6 +448,18 @@ public static MethodHandle handleOfGetterOn(final Field field) throws IllegalAcc
         return MethodHandles.lookup().unreflectGetter(field);
     }
 
+    public static MethodHandle handleOfSetterOn(final Field field) throws IllegalAccessException {
+        if(!field.isAccessible()) { // java9+ to replace by canAccess
+            /*sonar-ignore-on*/
+            field.setAccessible(true);
+            MethodHandle mh = MethodHandles.lookup().unreflectSetter(field);
+            field.setAccessible(false);
+            /*sonar-ignore-off*/
+            return mh;
+        }
+        return MethodHandles.lookup().unreflectSetter(field);
+    }
+
     // -- FIND GETTER
 
     @SneakyThrows
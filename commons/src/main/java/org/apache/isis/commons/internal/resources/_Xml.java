@@ -25,6 +25,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
@@ -32,8 +34,11 @@
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.isis.commons.functional.Result;
 import org.apache.isis.commons.internal.base._Casts;
@@ -92,16 +97,19 @@ public static <T> T _readXml(
             final @NonNull Reader reader,
             final @NonNull ReadOptions readOptions) {
 
-        val unmarshaller = jaxbContextFor(dtoClass, readOptions.isUseContextCache()).createUnmarshaller();
+        val jaxbContext = jaxbContextFor(dtoClass, readOptions.isUseContextCache());
 
         if(readOptions.isAllowMissingRootElement()
                 && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
             val xsr = _DocumentFactories.xmlInputFactory().createXMLStreamReader(reader);
-            final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
-            return userElement.getValue();
+            return withUnmarshaller(jaxbContext, unmarshaller->{
+                final JAXBElement<T> userElement = unmarshaller.unmarshal(xsr, dtoClass);
+                return userElement.getValue();
+            });
         }
 
-        return _Casts.uncheckedCast(unmarshaller.unmarshal(reader));
+        return withUnmarshaller(jaxbContext, unmarshaller->
+            _Casts.uncheckedCast(unmarshaller.unmarshal(reader)));
     }
 
     // -- WRITE
@@ -126,18 +134,128 @@ public static <T> void writeXml(
             final @NonNull WriteOptions writeOptions) throws JAXBException {
 
         val dtoClass = _Casts.<Class<T>>uncheckedCast(dto.getClass());
-        val marshaller = jaxbContextFor(dtoClass, writeOptions.useContextCache).createMarshaller();
-        if(writeOptions.isFormattedOutput()) {
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        val jaxbContext = jaxbContextFor(dtoClass, writeOptions.useContextCache);
+        withMarshaller(jaxbContext, writeOptions.isFormattedOutput(), marshaller->{
+            if(writeOptions.isAllowMissingRootElement()
+                && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
+                val qName = new QName("", dtoClass.getSimpleName());
+                val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
+                marshaller.marshal(jaxbElement, writer);
+            } else {
+                marshaller.marshal(dto, writer);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Writes all given DTOs (of the same type) as children of a single root element, streaming them one by one
+     * (using StAX), so that a large batch does not need to be held in memory as a single XML string.
+     *
+     * @param rootElementName - name of the (non-namespaced) element enclosing the DTOs
+     */
+    public static <T> void writeXmlBatch(
+            final @NonNull Class<T> dtoClass,
+            final @NonNull Iterable<? extends T> dtos,
+            final @NonNull Writer writer,
+            final @NonNull String rootElementName) throws JAXBException {
+
+        val jaxbContext = jaxbContextFor(dtoClass, true);
+        // fragment marshallers are not pooled, one per batch only
+        val marshaller = jaxbContext.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        val wrapElement = !_Annotations.isPresent(dtoClass, XmlRootElement.class);
+        val qName = new QName("", dtoClass.getSimpleName());
+        try {
+            val xsw = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xsw.writeStartDocument();
+            xsw.writeStartElement(rootElementName);
+            for (final T dto : dtos) {
+                if(wrapElement) {
+                    marshaller.marshal(new JAXBElement<T>(qName, dtoClass, null, dto), xsw);
+                } else {
+                    marshaller.marshal(dto, xsw);
+                }
+            }
+            xsw.writeEndElement();
+            xsw.writeEndDocument();
+            xsw.flush();
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
         }
-        if(writeOptions.isAllowMissingRootElement()
-            && !_Annotations.isPresent(dtoClass, XmlRootElement.class)) {
-            val qName = new QName("", dtoClass.getSimpleName());
-            val jaxbElement = new JAXBElement<T>(qName, dtoClass, null, dto);
-            marshaller.marshal(jaxbElement, writer);
-        } else {
-            marshaller.marshal(dto, writer);
+    }
+
+    // -- MARSHALLER POOLS
+
+    @FunctionalInterface
+    public static interface JaxbFunction<T, R> {
+        R apply(T t) throws JAXBException;
+    }
+
+    /**
+     * Applies given function to a {@link Marshaller} of given {@link JAXBContext}, that is borrowed from a pool if
+     * the context is one of the {@link #jaxbContextFor(Class, boolean) cached} ones, else created.
+     * <p>
+     * Pooled marshallers are shared between threads (one at a time), hence the function must not change
+     * their properties.
+     */
+    public static <R> R withMarshaller(
+            final @NonNull JAXBContext jaxbContext,
+            final boolean formattedOutput,
+            final @NonNull JaxbFunction<Marshaller, R> function) throws JAXBException {
+
+        val pools = poolsByContext.get(jaxbContext);
+        val pool = pools != null
+                ? (formattedOutput ? pools.formattedMarshallers : pools.compactMarshallers)
+                : null;
+        Marshaller marshaller = pool != null ? pool.poll() : null;
+        if(marshaller == null) {
+            marshaller = jaxbContext.createMarshaller();
+            if(formattedOutput) {
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+            }
+        }
+        val result = function.apply(marshaller);
+        if(pool != null) {
+            pool.offer(marshaller); // discarded if the pool is full
         }
+        return result;
+    }
+
+    /**
+     * Applies given function to an {@link Unmarshaller} of given {@link JAXBContext}, that is borrowed from a pool
+     * if the context is one of the {@link #jaxbContextFor(Class, boolean) cached} ones, else created.
+     * <p>
+     * Pooled unmarshallers are shared between threads (one at a time), hence the function must not change
+     * their properties.
+     */
+    public static <R> R withUnmarshaller(
+            final @NonNull JAXBContext jaxbContext,
+            final @NonNull JaxbFunction<Unmarshaller, R> function) throws JAXBException {
+
+        val pools = poolsByContext.get(jaxbContext);
+        val pool = pools != null
+                ? pools.unmarshallers
+                : null;
+        Unmarshaller unmarshaller = pool != null ? pool.poll() : null;
+        if(unmarshaller == null) {
+            unmarshaller = jaxbContext.createUnmarshaller();
+        }
+        val result = function.apply(unmarshaller);
+        if(pool != null) {
+            pool.offer(unmarshaller); // discarded if the pool is full
+        }
+        return result;
+    }
+
+    /**
+     * Idle (un)marshallers of a cached {@link JAXBContext}, bounded in size; an instance that fails is not returned.
+     */
+    private static final class Pools {
+        private static final int CAPACITY = 32;
+        private final BlockingQueue<Marshaller> compactMarshallers = new ArrayBlockingQueue<>(CAPACITY);
+        private final BlockingQueue<Marshaller> formattedMarshallers = new ArrayBlockingQueue<>(CAPACITY);
+        private final BlockingQueue<Unmarshaller> unmarshallers = new ArrayBlockingQueue<>(CAPACITY);
     }
 
     // -- CLONE
@@ -212,12 +330,31 @@ private static boolean isIllegalAnnotationsException(Exception e) {
 
     private static Map<Class<?>, JAXBContext> jaxbContextByClass = _Maps.newConcurrentHashMap();
 
+    /**
+     * Only for cached contexts, as a pooled (un)marshaller references its context.
+     */
+    private static Map<JAXBContext, Pools> poolsByContext = _Maps.newConcurrentHashMap();
+
     public static <T> JAXBContext jaxbContextFor(final Class<T> dtoClass, final boolean useCache)  {
         return useCache
-                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::contextOf)
+                ? jaxbContextByClass.computeIfAbsent(dtoClass, _Xml::cachedContextOf)
                 : contextOf(dtoClass);
     }
 
+    /**
+     * Whether given {@link JAXBContext} is one of the {@link #jaxbContextFor(Class, boolean) cached} ones, hence
+     * long-lived, so that its (un)marshallers are worth pooling.
+     */
+    public static boolean isCachedContext(final @NonNull JAXBContext jaxbContext) {
+        return poolsByContext.containsKey(jaxbContext);
+    }
+
+    private static <T> JAXBContext cachedContextOf(final Class<T> dtoClass) {
+        val jaxbContext = contextOf(dtoClass);
+        poolsByContext.put(jaxbContext, new Pools());
+        return jaxbContext;
+    }
+
     @SneakyThrows
     private static <T> JAXBContext contextOf(final Class<T> dtoClass) {
         try {
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.commons.internal.resources;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Benchmarks the pooled (un)marshallers of {@link _Xml} against creating one per call.
+ */
+@Log4j2
+class XmlPoolingBenchmarkTest {
+
+    private static final int WARM_UP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    @XmlRootElement
+    public static class Sample {
+        public String name;
+        public List<String> items = new ArrayList<>();
+    }
+
+    @Test @Tag("LongRunning")
+    void pooled_isFasterThanUnpooled() throws JAXBException {
+
+        // given
+        val jaxbContext = _Xml.jaxbContextFor(Sample.class, true);
+        val sample = sample();
+        val xml = marshalPooled(jaxbContext, sample);
+        assertEquals(xml, marshalUnpooled(jaxbContext, sample));
+
+        roundtrips(jaxbContext, sample, xml, WARM_UP, true);
+        roundtrips(jaxbContext, sample, xml, WARM_UP, false);
+
+        // when
+        val unpooledNanos = roundtrips(jaxbContext, sample, xml, ITERATIONS, false);
+        val pooledNanos = roundtrips(jaxbContext, sample, xml, ITERATIONS, true);
+
+        log.info("{} marshal/unmarshal roundtrips: pooled {} ms, unpooled {} ms",
+                ITERATIONS, pooledNanos / 1_000_000, unpooledNanos / 1_000_000);
+
+        // then
+        assertTrue(pooledNanos < unpooledNanos,
+                String.format("pooled %d ns, unpooled %d ns", pooledNanos, unpooledNanos));
+    }
+
+    // -- HELPER
+
+    private static long roundtrips(
+            final JAXBContext jaxbContext,
+            final Sample sample,
+            final String xml,
+            final int iterations,
+            final boolean pooled) throws JAXBException {
+
+        val start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if(pooled) {
+                marshalPooled(jaxbContext, sample);
+                _Xml.withUnmarshaller(jaxbContext, unmarshaller->unmarshaller.unmarshal(new StringReader(xml)));
+            } else {
+                marshalUnpooled(jaxbContext, sample);
+                jaxbContext.createUnmarshaller().unmarshal(new StringReader(xml));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String marshalPooled(final JAXBContext jaxbContext, final Sample sample) throws JAXBException {
+        return _Xml.withMarshaller(jaxbContext, false, marshaller->{
+            val writer = new StringWriter();
+            marshaller.marshal(sample, writer);
+            return writer.toString();
+        });
+    }
+
+    private static String marshalUnpooled(final JAXBContext jaxbContext, final Sample sample) throws JAXBException {
+        final Marshaller marshaller = jaxbContext.createMarshaller();
+        val writer = new StringWriter();
+        marshaller.marshal(sample, writer);
+        return writer.toString();
+    }
+
+    private static Sample sample() {
+        val sample = new Sample();
+        sample.name = "sample";
+        for (int i = 0; i < 10; i++) {
+            sample.items.add("item #" + i);
+        }
+        return sample;
+    }
+
+}
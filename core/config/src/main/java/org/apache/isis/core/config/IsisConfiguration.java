@@ -66,6 +66,7 @@
 import org.apache.isis.applib.services.userreg.EmailNotificationService;
 import org.apache.isis.applib.services.userreg.UserRegistrationService;
 import org.apache.isis.applib.services.userui.UserMenu;
+import org.apache.isis.applib.util.schema.DtoFormat;
 import org.apache.isis.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.context._Context;
@@ -121,6 +122,16 @@ public static class Shiro {
              */
             private boolean autoLogoutIfAlreadyAuthenticated = false;
 
+            /**
+             * Whether authorization decisions (visibility and usability per feature) are cached for the
+             * lifetime of the Shiro subject's session, rather than asking Shiro on every check.
+             *
+             * <p>
+             * The cache is discarded on logout (along with the session) and if the user's roles change.
+             * </p>
+             */
+            private boolean cacheAuthorizationDecisions = true;
+
         }
 
         private final Spring spring = new Spring();
@@ -1640,6 +1651,62 @@ public static class RepositoryService {
                  */
                 private boolean disableAutoFlush = false;
 
+                private final Bulk bulk = new Bulk();
+                @Data
+                public static class Bulk {
+                    /**
+                     * The number of entities that bulk operations (such as
+                     * {@link org.apache.isis.applib.services.repository.RepositoryService#persistAll(java.util.Collection)})
+                     * process before flushing (and, for those loading the entities themselves, releasing them from the
+                     * persistence context, to bound its memory footprint).
+                     */
+                    private int chunkSize = 1000;
+
+                    /**
+                     * Whether bulk operations should (opt-in) post the (per entity) lifecycle events, such as
+                     * <code>ObjectPersistedEvent</code>, same as their single entity counterparts. Entity callbacks
+                     * and entity change tracking are not affected.
+                     *
+                     * <p>
+                     *     If not, a single <code>BulkChangeEvent</code> is posted per entity type changed instead.
+                     * </p>
+                     */
+                    private boolean publishLifecycleEvents = false;
+
+                    /**
+                     * Whether
+                     * {@link org.apache.isis.applib.services.repository.RepositoryService#removeAll(org.apache.isis.applib.query.Query)}
+                     * may remove all instances of an entity type using a single (set based) statement, rather than
+                     * loading and removing them one by one.
+                     *
+                     * <p>
+                     *     Even if enabled, this is only done for entity types that have no removing lifecycle event,
+                     *     no <code>removing()</code> callback, are not enabled for entity change publishing, and have
+                     *     no mapping (such as cascading removal, dependent fields or join tables) that a per entity
+                     *     removal would take care of. Instances of the type already loaded into the persistence
+                     *     context are not affected, so must not be used afterwards.
+                     * </p>
+                     */
+                    private boolean setBasedDelete = false;
+                }
+
+            }
+
+            private final WrapperFactory wrapperFactory = new WrapperFactory();
+            @Data
+            public static class WrapperFactory {
+
+                private final FanOut fanOut = new FanOut();
+                @Data
+                public static class FanOut {
+                    /**
+                     * The maximum number of tasks that
+                     * {@link org.apache.isis.applib.services.wrapper.WrapperFactory#fanOut(java.util.Collection)}
+                     * runs in parallel (across all callers) on its default executor; further tasks are queued.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int maxParallelism = 16;
+                }
             }
 
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
@@ -1707,6 +1774,92 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * In {@link Mode#READ read} mode, the languages (eg. <tt>de</tt>, <tt>fr-CA</tt>) whose
+                     * translations are loaded eagerly on start-up, rather than by the first request to use them.
+                     */
+                    private final List<String> preloadLanguages = new ArrayList<>();
+
+                    /**
+                     * In {@link Mode#READ read} mode, the language (eg. <tt>en</tt>) that the (untranslated)
+                     * message ids are written in, if any.
+                     *
+                     * <p>
+                     *     Requests for this language are not looked up, the message id is returned as is.
+                     * </p>
+                     */
+                    private Optional<String> sourceLanguage = Optional.empty();
+
+                    /**
+                     * In {@link Mode#READ read} mode and when prototyping, the interval after which the
+                     * translations of a language are re-read (on next use), so that changes to the
+                     * <tt>.po</tt> files are picked up without a restart.
+                     *
+                     * <p>
+                     *     Not used in production.
+                     * </p>
+                     */
+                    private Duration hotReloadInterval = Duration.ofSeconds(5);
+                }
+            }
+
+            private final ViewModelStateStore viewModelStateStore = new ViewModelStateStore();
+            @Data
+            public static class ViewModelStateStore {
+
+                /**
+                 * If a {@link org.apache.isis.applib.services.viewmodel.ViewModelStateStore} is registered, the
+                 * minimum length of a view model's state for it to be kept in that store (rather than used directly
+                 * as the view model's bookmark identifier).
+                 */
+                private int minStateLength = 256;
+
+                private final InMemory inMemory = new InMemory();
+                @Data
+                public static class InMemory {
+                    /**
+                     * The maximum number of view model states held; the least recently used are evicted first.
+                     */
+                    private int maxEntries = 10_000;
+
+                    /**
+                     * How long a view model state is held since it was last accessed.
+                     */
+                    private Duration timeToLive = Duration.ofHours(8);
+                }
+
+                private final Jdbc jdbc = new Jdbc();
+                @Data
+                public static class Jdbc {
+                    /**
+                     * The name of the table holding the view model states.
+                     */
+                    @NotEmpty @NotNull
+                    private String tableName = "isisViewModelState";
+
+                    /**
+                     * Whether the table should be created on startup, if it does not exist.
+                     */
+                    private boolean autoCreateTable = true;
+
+                    /**
+                     * The number of view model states additionally held in memory (least recently used), in front of
+                     * the table, so that repeated lookups do not hit the database.
+                     */
+                    private int cacheSize = 1_000;
+
+                    /**
+                     * How long a view model state is held since it was (last) stored; expired states are deleted
+                     * from the table.
+                     */
+                    private Duration timeToLive = Duration.ofDays(30);
+
+                    /**
+                     * The minimum interval between deletions of expired view model states, which are triggered
+                     * by storing a view model state.
+                     */
+                    private Duration purgeInterval = Duration.ofHours(1);
                 }
             }
         }
@@ -2019,6 +2172,21 @@ public void setMaxTitleLengthInStandaloneTables(final int val) {
                 maxTitleLengthInStandaloneTables = val;
             }
 
+            /**
+             * Whether to render a search box above tables, that filters the table's rows by (case-insensitive)
+             * matching against each row's title and column values.
+             *
+             * <p>
+             *     The filtering is done server-side, using an index of the rows' text that is built (lazily) once per
+             *     load of the table's elements, rather than re-evaluating titles on every keystroke.
+             * </p>
+             *
+             * <p>
+             *     This is enabled by default.
+             * </p>
+             */
+            private boolean tableSearchBox = true;
+
             /**
              * Whether to use a modal dialog for property edits and for actions associated with properties.
              *
@@ -2421,6 +2589,81 @@ public static class RememberMe {
                 private Optional<String> encryptionKey = Optional.empty();
             }
 
+            private final PageStore pageStore = new PageStore();
+            @Data
+            public static class PageStore {
+
+                /**
+                 * Where Wicket stores serialized pages once they drop out of the (per session) in-memory cache.
+                 */
+                public enum Mode {
+                    /**
+                     * Pages are written to a file per session (Wicket's default), optionally
+                     * {@link #isAsynchronous() asynchronously}.
+                     */
+                    DISK,
+                    /**
+                     * Pages are held in the HTTP session, evicting the least recently used pages once the
+                     * {@link #getMaxSizePerSessionInKilobytes() size budget} is exceeded.
+                     */
+                    MEMORY
+                }
+
+                /**
+                 * Whether serialized pages are stored on disk (the default) or in the HTTP session.
+                 */
+                private Mode mode = Mode.DISK;
+
+                /**
+                 * Whether to use the framework's own page serializer, which writes
+                 * {@link org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento}s of entities and
+                 * view models as (compact) bookmark references, and which de-duplicates repeated strings (such as
+                 * logical type names) within each page.
+                 *
+                 * <p>
+                 *     If disabled, Wicket's default (Java) serializer is used.  Either way, pages serialized by one
+                 *     serializer can still be read by the other.
+                 * </p>
+                 */
+                private boolean compactSerialization = true;
+
+                /**
+                 * If {@link #isCompactSerialization() compact serialization} is enabled, whether to additionally
+                 * deflate the serialized pages; trades CPU for less I/O and a smaller page store.
+                 */
+                private boolean compression = false;
+
+                /**
+                 * The number of (serialized) pages held per session in an in-memory (LRU) cache, in front of the
+                 * page store.
+                 */
+                private int inmemoryCacheSize = 40;
+
+                /**
+                 * The maximum size of all pages stored for a session, either on disk or in memory
+                 * (see {@link #getMode()}).
+                 */
+                private int maxSizePerSessionInKilobytes = 10 * 1024;
+
+                /**
+                 * Whether pages are written to the {@link Mode#DISK disk} store by a background thread, rather
+                 * than as part of the request.
+                 */
+                private boolean asynchronous = true;
+
+                /**
+                 * If {@link #isAsynchronous() asynchronous}, the capacity of the queue of pages waiting to be
+                 * written.
+                 */
+                private int asynchronousQueueCapacity = 100;
+
+                /**
+                 * Optionally overrides the folder used for the {@link Mode#DISK disk} store; defaults to the
+                 * servlet container's temporary folder.
+                 */
+                private Optional<String> fileStoreFolder = Optional.empty();
+            }
+
             private final Themes themes = new Themes();
             @Data
             public static class Themes {
@@ -2541,6 +2784,30 @@ public static class Temporal {
 
         }
 
+        private final Sse sse = new Sse();
+        @Data
+        public static class Sse {
+
+            /**
+             * The maximum number of server-sent event sources (tasks) that run concurrently, each on a thread of
+             * a pool dedicated to server-sent events; further tasks are queued.
+             */
+            private int maxConcurrentTasks = 16;
+
+            /**
+             * The maximum number of server-sent event sources (tasks) waiting for a thread; any further tasks
+             * submitted are rejected.
+             */
+            private int taskQueueCapacity = 256;
+
+            /**
+             * The maximum number of events buffered per connected client, that could not yet be written
+             * (without blocking) to its connection; a client falling further behind is disconnected.
+             */
+            private int maxPendingEventsPerClient = 64;
+
+        }
+
     }
 
     private final Testing testing = new Testing();
@@ -2702,6 +2969,36 @@ public enum MultipleExecutionStrategy {
         }
     }
 
+    private final Subdomains subdomains = new Subdomains();
+    @Data
+    public static class Subdomains {
+
+        private final Excel excel = new Excel();
+        @Data
+        public static class Excel {
+
+            private final Streaming streaming = new Streaming();
+            @Data
+            public static class Streaming {
+
+                /**
+                 * The number of rows held in memory while streaming a spreadsheet; older rows are flushed
+                 * to a temporary file, so heap use is bounded by this window rather than by the number of
+                 * rows exported.
+                 */
+                private int rowAccessWindowSize = 100;
+
+                /**
+                 * Whether the temporary files, holding rows already flushed, are gzip-compressed.
+                 */
+                private boolean compressTempFiles = true;
+
+            }
+
+        }
+
+    }
+
     private final Extensions extensions = new Extensions();
     @Data
     public static class Extensions {
@@ -2776,6 +3073,65 @@ public static class Cors {
         public static class Quartz {
         }
 
+        private final CommandLog commandLog = new CommandLog();
+        @Data
+        public static class CommandLog {
+
+            /**
+             * The format in which the {@link org.apache.isis.schema.cmd.v2.CommandDto} of each logged command is
+             * persisted.
+             *
+             * <p>
+             *     Applies to the JDO persistence unit, for any property of that type. Both formats are read back
+             *     regardless of this setting, so switching from {@link DtoFormat#XML XML} to
+             *     {@link DtoFormat#BINARY binary} is safe at any time.
+             * </p>
+             *
+             * <p>
+             *     The (more compact, faster to parse) binary format however is only readable with the same version
+             *     of the schema (DTO classes) it was written with; decoding fails on a mismatch. Hence, before
+             *     upgrading to a version that changes the schema, either switch back to XML and purge (or
+             *     re-persist) any commands stored in binary format, or accept that these can no longer be read.
+             * </p>
+             */
+            private DtoFormat dtoFormat = DtoFormat.XML;
+
+            private final Retention retention = new Retention();
+            @Data
+            public static class Retention {
+
+                /**
+                 * Commands older than this are eligible for purging; if not set (the default), commands are
+                 * retained indefinitely.
+                 */
+                private Optional<Duration> maxAge = Optional.empty();
+
+                /**
+                 * Whether only commands that have completed (successfully or not) are purged; those still running,
+                 * or never started, are retained regardless of their age.
+                 */
+                private boolean completedOnly = true;
+
+                /**
+                 * Whether commands still pending replay (on a secondary system) are retained regardless of
+                 * their age.
+                 */
+                private boolean retainPendingReplay = true;
+
+                /**
+                 * Maximum number of commands deleted per transaction.
+                 */
+                @javax.validation.constraints.Min(1)
+                private int chunkSize = 1000;
+
+                /**
+                 * If set, purged commands are first archived to this (local) directory, as gzip-ed XML files
+                 * (one per chunk) of their {@link org.apache.isis.schema.cmd.v2.CommandDto}s.
+                 */
+                private Optional<String> archiveDirectory = Optional.empty();
+            }
+        }
+
         private final CommandReplay commandReplay = new CommandReplay();
         @Data
         public static class CommandReplay {
@@ -3058,6 +3414,29 @@ public enum UserMenuMeActionPolicy {
              * </p>
              */
             private UserMenuMeActionPolicy userMenuMeActionPolicy = UserMenuMeActionPolicy.HIDE;
+
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * The maximum number of users whose permissions are cached (across requests); the least recently
+                 * used are evicted first.
+                 *
+                 * <p>
+                 *     Entries are evicted as soon as an <code>ApplicationUser</code>, <code>ApplicationRole</code>
+                 *     or <code>ApplicationPermission</code> is persisted, updated or removed (relying on the
+                 *     corresponding lifecycle events being posted, as is the default).
+                 * </p>
+                 */
+                private int maxEntries = 1_000;
+
+                /**
+                 * How long a user's permissions are cached since they were loaded, as a safety net for any changes
+                 * not made through the framework (eg. directly in the database).
+                 */
+                private Duration timeToLive = Duration.ofMinutes(10);
+            }
         }
     }
 
@@ -18,10 +18,13 @@
  */
 package org.apache.isis.core.metamodel._testing;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
 import org.apache.isis.applib.services.wrapper.control.AsyncControl;
+import org.apache.isis.applib.services.wrapper.control.FanOut;
 import org.apache.isis.applib.services.wrapper.control.SyncControl;
 import org.apache.isis.applib.services.wrapper.events.InteractionEvent;
 import org.apache.isis.applib.services.wrapper.listeners.InteractionListener;
@@ -69,6 +72,11 @@ public <T, R> T asyncWrapMixin(Class<T> mixinClass, Object mixedIn, AsyncControl
         return null;
     }
 
+    @Override
+    public <R> FanOut<R> fanOut(Collection<? extends Callable<? extends R>> tasks) {
+        return null;
+    }
+
     @Override
     public List<InteractionListener> getListeners() {
         return null;
@@ -59,6 +59,23 @@ public static class ParamSupportingMethodSearchRequest {
         @Builder.Default
         final @NonNull Can<Class<?>> additionalParamTypes = Can.empty();
 
+        /**
+         * Appended to the {@link #getAdditionalParamTypes()}, but optional,
+         * that is, supporting methods are matched with and without these,
+         * while a match that includes them is preferred.
+         */
+        @Builder.Default
+        final @NonNull Can<Class<?>> optionalTrailingParamTypes = Can.empty();
+
+        /**
+         * Candidates for the (full list of) additional param types, in order of preference.
+         */
+        Can<Can<Class<?>>> getAdditionalParamTypesCandidates() {
+            return optionalTrailingParamTypes.isEmpty()
+                    ? Can.ofSingleton(additionalParamTypes)
+                    : Can.of(additionalParamTypes.addAll(optionalTrailingParamTypes), additionalParamTypes);
+        }
+
         @Getter(lazy = true) Class<?>[] paramTypes =
                 getProcessMethodContext().getMethod().getParameterTypes();
 
@@ -134,15 +151,23 @@ private static void findParamSupportingMethodWithPATArg(
 
         val paramType = paramTypes[paramIndex];
 
-        MethodFinderPAT
-        .findMethodWithPATArg(
-                MethodFinder
-                .memberSupport(type, methodNames, processMethodContext.getIntrospectionPolicy())
-                .withReturnTypeAnyOf(searchRequest.getReturnTypePattern().matchingTypes(paramType)),
-                paramTypes,
-                searchRequest.getAdditionalParamTypes())
-        .map(methodAndPatConstructor->toSearchResult(paramIndex, paramType, methodAndPatConstructor))
-        .forEach(onMethodFound);
+        for(val additionalParamTypes : searchRequest.getAdditionalParamTypesCandidates()) {
+
+            val searchResults = MethodFinderPAT
+            .findMethodWithPATArg(
+                    MethodFinder
+                    .memberSupport(type, methodNames, processMethodContext.getIntrospectionPolicy())
+                    .withReturnTypeAnyOf(searchRequest.getReturnTypePattern().matchingTypes(paramType)),
+                    paramTypes,
+                    additionalParamTypes)
+            .map(methodAndPatConstructor->toSearchResult(paramIndex, paramType, methodAndPatConstructor))
+            .collect(Can.toCan());
+
+            if(searchResults.isNotEmpty()) {
+                searchResults.forEach(onMethodFound);
+                return;
+            }
+        }
     }
 
     private static ParamSupportingMethodSearchResult toSearchResult(
@@ -189,24 +214,27 @@ private static void findParamSupportingMethod(
         val paramTypes = searchRequest.getParamTypes();
         val methodNames = searchRequest.getSupporingMethodNameCandidates(paramIndex);
         val paramType = paramTypes[paramIndex];
-        val additionalParamTypes = searchRequest.getAdditionalParamTypes();
+        val additionalParamTypesCandidates = searchRequest.getAdditionalParamTypesCandidates();
 
         //limit: [0 .. paramIndex + 1]
         for(int limit = paramIndex + 1; limit>=0; --limit) {
 
-            val signature = concat(paramTypes, limit, additionalParamTypes);
+            for(val additionalParamTypes : additionalParamTypesCandidates) {
 
-            val supportingMethod =
-                    MethodFinder
-                    .memberSupport(type, methodNames, processMethodContext.getIntrospectionPolicy())
-                    .withReturnTypeAnyOf(searchRequest.getReturnTypePattern().matchingTypes(paramType))
-                    .streamMethodsMatchingSignature(signature)
-                    .findFirst()
-                    .orElse(null);
+                val signature = concat(paramTypes, limit, additionalParamTypes);
 
-            if(supportingMethod != null) {
-                onMethodFound.accept(toSearchResult(paramIndex, paramType, supportingMethod));
-                return;
+                val supportingMethod =
+                        MethodFinder
+                        .memberSupport(type, methodNames, processMethodContext.getIntrospectionPolicy())
+                        .withReturnTypeAnyOf(searchRequest.getReturnTypePattern().matchingTypes(paramType))
+                        .streamMethodsMatchingSignature(signature)
+                        .findFirst()
+                        .orElse(null);
+
+                if(supportingMethod != null) {
+                    onMethodFound.accept(toSearchResult(paramIndex, paramType, supportingMethod));
+                    return;
+                }
             }
 
         }
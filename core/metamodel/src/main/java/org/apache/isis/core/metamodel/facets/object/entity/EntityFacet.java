@@ -19,6 +19,8 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.OptionalLong;
 
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.bookmark.Bookmark;
@@ -58,6 +60,28 @@ public interface EntityFacet extends Facet {
 
     PersistenceStandard getPersistenceStandard();
 
+    // -- BULK SUPPORT
+
+    /**
+     * Deletes all entities matching given query using a single (set based) statement, that is, without loading
+     * them, hence bypassing any callbacks and entity change tracking.
+     * <p>
+     * Implementations must decline (return empty), if the entity's mapping has anything a per entity removal would
+     * take care of, such as cascading removal, dependent fields, join tables or persistence callbacks.
+     * @return the number of entities deleted, or empty if not supported for given query or type
+     */
+    default OptionalLong deleteAllSetBased(final ObjectSpecification spec, final Query<?> query) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Releases given entities (and only those) from the persistence context, as to bound its memory footprint,
+     * when processing entities in chunks. Pending changes must have been flushed beforehand.
+     */
+    default void evictFromPersistenceContext(final Collection<?> pojos) {
+        // no-op by default
+    }
+
     // -- JUNIT SUPPORT
 
     static EntityFacet forTesting(
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.metamodel.facets.param.autocomplete;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.facetapi.Facet;
@@ -28,8 +29,8 @@
  *
  * <p>
  * In the standard Apache Isis Programming Model, corresponds to invoking the
- * <tt>autoCompleteNXxx(..., String)</tt> support method for an action (where N is the 0-based
- * parameter number).
+ * <tt>autoCompleteNXxx(..., String)</tt> or <tt>autoCompleteNXxx(..., String, QueryRange)</tt>
+ * support method for an action (where N is the 0-based parameter number).
  */
 public interface ActionParameterAutoCompleteFacet extends Facet {
 
@@ -38,6 +39,24 @@ public Can<ManagedObject> autoComplete(
             Can<ManagedObject> pendingArgs,
             String searchArg,
             InteractionInitiatedBy interactionInitiatedBy);
+
+    /**
+     * Auto-complete restricted to the given {@link QueryRange}.
+     * <p>
+     * Unless overridden (eg. to push the range down to the supporting method),
+     * the range is applied in-memory.
+     */
+    public default Can<ManagedObject> autoComplete(
+            final ManagedObject inObject,
+            final Can<ManagedObject> pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return QueryRangeUtil.applyRange(
+                autoComplete(inObject, pendingArgs, searchArg, interactionInitiatedBy),
+                range);
+    }
+
     /**
      * The minimum number of characters that need to be entered.
      */
@@ -29,7 +29,8 @@ public final class MinLengthUtil {
 
     /**
      * Finds the value of the minimum length, from the {@link MinLength} annotation
-     * on the last parameter of the supplied method.
+     * on the last parameter of the supplied method
+     * (or the one before, if the last is a {@link org.apache.isis.applib.query.QueryRange}).
      */
     public static int determineMinLength(final Method method) {
         if(method == null
@@ -37,7 +38,14 @@ public static int determineMinLength(final Method method) {
             return MIN_LENGTH_DEFAULT;
         }
 
-        val lastParam = method.getParameters()[method.getParameterCount()-1];
+        val searchArgParamIndex = QueryRangeUtil.acceptsQueryRange(method)
+                ? method.getParameterCount()-2
+                : method.getParameterCount()-1;
+        if(searchArgParamIndex<0) {
+            return MIN_LENGTH_DEFAULT;
+        }
+
+        val lastParam = method.getParameters()[searchArgParamIndex];
 
         for(Annotation annotation: lastParam.getAnnotations()) {
             if(annotation instanceof MinLength) {
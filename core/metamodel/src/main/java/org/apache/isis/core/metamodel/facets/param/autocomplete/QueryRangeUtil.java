@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.param.autocomplete;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.query.QueryRange;
+import org.apache.isis.commons.collections.Can;
+
+import lombok.NonNull;
+
+/**
+ * In support of <tt>autoCompleteXxx(..., String, QueryRange)</tt> supporting methods,
+ * that allow the {@link QueryRange} to be pushed down to the repository.
+ *
+ * @since 2.0
+ */
+public final class QueryRangeUtil {
+
+    /**
+     * Whether the last parameter of the supplied (supporting) method is a {@link QueryRange}.
+     */
+    public static boolean acceptsQueryRange(final @Nullable Method method) {
+        return method != null
+                && method.getParameterCount()>0
+                && QueryRange.class.equals(method.getParameterTypes()[method.getParameterCount()-1]);
+    }
+
+    /**
+     * Applies the {@link QueryRange} in-memory, for supporting methods that don't accept one,
+     * (hence have already returned all candidates).
+     */
+    public static <T> Can<T> applyRange(final @NonNull Can<T> elements, final @NonNull QueryRange range) {
+        if(range.isUnconstrained()) {
+            return elements;
+        }
+        return Can.ofIterable(()->elements.iterator(
+                range.getStartAsInt(),
+                range.hasLimit() ? range.getLimitAsInt() : Integer.MAX_VALUE));
+    }
+
+    /**
+     * Array variant of {@link #applyRange(Can, QueryRange)}.
+     */
+    public static Object[] applyRange(final @Nullable Object[] elements, final @NonNull QueryRange range) {
+        if(elements == null
+                || range.isUnconstrained()) {
+            return elements;
+        }
+        final int from = Math.min(range.getStartAsInt(), elements.length);
+        final int to = range.hasLimit()
+                ? (int)Math.min((long)from + range.getLimit(), elements.length)
+                : elements.length;
+        return Arrays.copyOfRange(elements, from, to);
+    }
+
+}
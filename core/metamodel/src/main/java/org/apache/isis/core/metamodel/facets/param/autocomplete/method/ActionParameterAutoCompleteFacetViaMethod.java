@@ -21,15 +21,18 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.facets.ImperativeFacet;
 import org.apache.isis.core.metamodel.facets.param.autocomplete.ActionParameterAutoCompleteFacetAbstract;
 import org.apache.isis.core.metamodel.facets.param.autocomplete.MinLengthUtil;
+import org.apache.isis.core.metamodel.facets.param.autocomplete.QueryRangeUtil;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 
@@ -45,6 +48,7 @@
     private final Class<?> choicesType;
     private final int minLength;
     private final Optional<Constructor<?>> patConstructor;
+    private final boolean acceptsQueryRange;
 
     public ActionParameterAutoCompleteFacetViaMethod(
             final Method method,
@@ -57,6 +61,7 @@ public ActionParameterAutoCompleteFacetViaMethod(
         this.choicesType = choicesType;
         this.minLength = MinLengthUtil.determineMinLength(method);
         this.patConstructor = patConstructor;
+        this.acceptsQueryRange = QueryRangeUtil.acceptsQueryRange(method);
     }
 
     @Override
@@ -75,13 +80,26 @@ public Can<ManagedObject> autoComplete(
             final Can<ManagedObject> pendingArgs,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return autoComplete(owningAdapter, pendingArgs, searchArg, QueryRange.unconstrained(), interactionInitiatedBy);
+    }
+
+    @Override
+    public Can<ManagedObject> autoComplete(
+            final ManagedObject owningAdapter,
+            final Can<ManagedObject> pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
 
         val method = methods.getFirstOrFail();
+        final List<Object> additionalArgs = acceptsQueryRange
+                ? List.of(searchArg, range)
+                : Collections.singletonList(searchArg);
         final Object collectionOrArray = patConstructor.isPresent()
                 ? ManagedObjects.InvokeUtil.invokeWithPAT(
-                        patConstructor.get(), method, owningAdapter, pendingArgs, Collections.singletonList(searchArg))
+                        patConstructor.get(), method, owningAdapter, pendingArgs, additionalArgs)
                 : ManagedObjects.InvokeUtil.invokeAutofit(
-                        method, owningAdapter, pendingArgs, Collections.singletonList(searchArg));
+                        method, owningAdapter, pendingArgs, additionalArgs);
 
         if (collectionOrArray == null) {
             return Can.empty();
@@ -91,7 +109,9 @@ public Can<ManagedObject> autoComplete(
                 .adaptMultipleOfTypeThenRefetchThenFilterByVisibility(
                         elementSpec, collectionOrArray, interactionInitiatedBy);
 
-        return visibleChoices;
+        return acceptsQueryRange
+                ? visibleChoices // range already applied by the supporting method
+                : QueryRangeUtil.applyRange(visibleChoices, range);
     }
 
     @Override
@@ -100,6 +120,7 @@ public void visitAttributes(final BiConsumer<String, Object> visitor) {
         ImperativeFacet.visitAttributes(this, visitor);
         visitor.accept("choicesType", choicesType);
         visitor.accept("minLength", minLength);
+        visitor.accept("acceptsQueryRange", acceptsQueryRange);
     }
 
 }
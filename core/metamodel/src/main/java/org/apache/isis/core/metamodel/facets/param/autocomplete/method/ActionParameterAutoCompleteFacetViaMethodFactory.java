@@ -20,6 +20,7 @@
 
 import javax.inject.Inject;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.config.progmodel.ProgrammingModelConstants.MemberSupportPrefix;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
@@ -36,7 +37,8 @@
     public ActionParameterAutoCompleteFacetViaMethodFactory(final MetaModelContext mmc) {
         super(mmc, MemberSupportPrefix.AUTO_COMPLETE, searchOptions->
             searchOptions
-            .additionalParamTypes(Can.of(String.class)));
+            .additionalParamTypes(Can.of(String.class))
+            .optionalTrailingParamTypes(Can.of(QueryRange.class)));
     }
 
     @Override
@@ -18,8 +18,10 @@
  */
 package org.apache.isis.core.metamodel.facets.properties.autocomplete;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facets.param.autocomplete.QueryRangeUtil;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 
 /**
@@ -31,8 +33,8 @@
  *
  * <p>
  * In the standard Apache Isis Programming Model, corresponds to the
- * <tt>autoCompletexx</tt> supporting method for the property with accessor
- * <tt>getXxx</tt>.
+ * <tt>autoCompleteXxx(String)</tt> or <tt>autoCompleteXxx(String, QueryRange)</tt> supporting method
+ * for the property with accessor <tt>getXxx</tt>.
  */
 public interface PropertyAutoCompleteFacet extends Facet {
 
@@ -43,6 +45,23 @@ public Object[] autoComplete(
             final ManagedObject inObject,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy);
+
+    /**
+     * Gets the available auto-complete choices for this property, restricted to the given {@link QueryRange}.
+     * <p>
+     * Unless overridden (eg. to push the range down to the supporting method),
+     * the range is applied in-memory.
+     */
+    public default Object[] autoComplete(
+            final ManagedObject inObject,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return QueryRangeUtil.applyRange(
+                autoComplete(inObject, searchArg, interactionInitiatedBy),
+                range);
+    }
+
     /**
      * The minimum number of characters that need to be entered.
      */
@@ -19,13 +19,16 @@
 package org.apache.isis.core.metamodel.facets.properties.autocomplete.method;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.facets.ImperativeFacet;
 import org.apache.isis.core.metamodel.facets.param.autocomplete.MinLengthUtil;
+import org.apache.isis.core.metamodel.facets.param.autocomplete.QueryRangeUtil;
 import org.apache.isis.core.metamodel.facets.properties.autocomplete.PropertyAutoCompleteFacetAbstract;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
@@ -41,6 +44,7 @@
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<Method> methods;
     private final Class<?> choicesClass;
     private final int minLength;
+    private final boolean acceptsQueryRange;
 
     public PropertyAutoCompleteFacetMethod(
             final Method method,
@@ -50,6 +54,7 @@ public PropertyAutoCompleteFacetMethod(
         this.methods = ImperativeFacet.singleMethod(method);
         this.choicesClass = choicesClass;
         this.minLength = MinLengthUtil.determineMinLength(method);
+        this.acceptsQueryRange = QueryRangeUtil.acceptsQueryRange(method);
     }
 
     @Override
@@ -67,9 +72,20 @@ public Object[] autoComplete(
             final ManagedObject owningAdapter,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return autoComplete(owningAdapter, searchArg, QueryRange.unconstrained(), interactionInitiatedBy);
+    }
+
+    @Override
+    public Object[] autoComplete(
+            final ManagedObject owningAdapter,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
 
         val method = methods.getFirstOrFail();
-        final Object collectionOrArray = ManagedObjects.InvokeUtil.invoke(method, owningAdapter, searchArg);
+        final Object collectionOrArray = acceptsQueryRange
+                ? ManagedObjects.InvokeUtil.invokeAutofit(method, owningAdapter, Can.empty(), List.of(searchArg, range))
+                : ManagedObjects.InvokeUtil.invoke(method, owningAdapter, searchArg);
         if (collectionOrArray == null) {
             return null;
         }
@@ -79,7 +95,9 @@ public Object[] autoComplete(
         val visiblePojos = ManagedObjects.VisibilityUtil
                 .visiblePojosAsArray(collectionAdapter, interactionInitiatedBy);
 
-        return visiblePojos;
+        return acceptsQueryRange
+                ? visiblePojos // range already applied by the supporting method
+                : QueryRangeUtil.applyRange(visiblePojos, range);
     }
 
     @Override
@@ -88,6 +106,7 @@ public void visitAttributes(final BiConsumer<String, Object> visitor) {
         ImperativeFacet.visitAttributes(this, visitor);
         visitor.accept("choicesType", choicesClass);
         visitor.accept("minLength", minLength);
+        visitor.accept("acceptsQueryRange", acceptsQueryRange);
     }
 
 }
@@ -18,8 +18,12 @@
  */
 package org.apache.isis.core.metamodel.facets.properties.autocomplete.method;
 
+import java.util.stream.Stream;
+
 import javax.inject.Inject;
 
+import org.apache.isis.applib.query.QueryRange;
+
 import org.apache.isis.core.config.progmodel.ProgrammingModelConstants.MemberSupportPrefix;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
@@ -31,6 +35,8 @@
 public class PropertyAutoCompleteFacetMethodFactory
 extends MemberSupportFacetFactoryAbstract {
 
+    private static final Class<?>[] STRING_AND_QUERY_RANGE_ARGS = new Class<?>[] {String.class, QueryRange.class};
+
     @Inject
     public PropertyAutoCompleteFacetMethodFactory(final MetaModelContext mmc) {
         super(mmc, FeatureType.PROPERTIES_ONLY, MemberSupportPrefix.AUTO_COMPLETE);
@@ -44,8 +50,11 @@ protected void search(
         val getterOrMixinMain = processMethodContext.getMethod();
         val getterType = getterOrMixinMain.getReturnType();
 
-        methodFinder
-        .streamMethodsMatchingSignature(STRING_ARG)
+        // prefer the signature that accepts a QueryRange, if any
+        Stream.concat(
+                methodFinder.streamMethodsMatchingSignature(STRING_AND_QUERY_RANGE_ARGS),
+                methodFinder.streamMethodsMatchingSignature(STRING_ARG))
+        .limit(1)
         .peek(processMethodContext::removeMethod)
         .forEach(autoCompleteMethod->{
             addFacet(
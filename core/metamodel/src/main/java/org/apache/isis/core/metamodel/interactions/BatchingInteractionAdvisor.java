@@ -0,0 +1,42 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.interactions;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+
+/**
+ * Mix-in interface for {@link HidingInteractionAdvisor}s that can evaluate
+ * many domain objects in one go, eg. all the rows of a table.
+ *
+ * <p>
+ * Called (once) with all the domain objects of a table, prior to asking
+ * {@link HidingInteractionAdvisor#hides(VisibilityContext)} for each row
+ * (and each of its columns), such that implementations can evaluate and
+ * memoize their outcome per domain object, rather than per row and column.
+ */
+public interface BatchingInteractionAdvisor
+extends InteractionAdvisorFacet {
+
+    /**
+     * @param domainObjects - all of the same type, that is, sharing this facet's holder
+     */
+    void prefetchHides(Can<ManagedObject> domainObjects);
+
+}
@@ -19,11 +19,13 @@
 package org.apache.isis.core.metamodel.interactions.managed.nonscalar;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -34,10 +36,12 @@
 import org.apache.isis.commons.internal.binding._Bindables;
 import org.apache.isis.commons.internal.binding._Observables;
 import org.apache.isis.commons.internal.binding._Observables.LazyObservable;
+import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
+import org.apache.isis.core.metamodel.interactions.BatchingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.ObjectVisibilityContext;
@@ -50,6 +54,7 @@
 import org.apache.isis.core.metamodel.interactions.managed.ManagedMember;
 import org.apache.isis.core.metamodel.interactions.managed.MultiselectChoices;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.PackedManagedObject;
 import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
@@ -96,6 +101,8 @@ public static DataTableModel forAction(
 
     @Getter private final @NonNull LazyObservable<Can<ManagedObject>> dataElements;
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
+    @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsVisible;
+    private final @NonNull LazyObservable<Map<UUID, String>> searchIndex;
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsFiltered;
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsSelected;
     @Getter private final _BindableAbstract<Boolean> selectAllToggle;
@@ -118,14 +125,23 @@ private DataTableModel(
 
         searchArgument = _Bindables.forValue(null);
 
-        dataRowsFiltered = _Observables.lazy(()->
-            dataElements.getValue().stream()
-                //XXX future extension: filter by searchArgument
+        // rows are created once per load of the data elements, such that (search) filtering
+        // does not discard the row's state (eg. its selection)
+        dataRowsVisible = _Observables.lazy(()->
+            prefetchHides(dataElements.getValue()).stream()
                 .filter(this::ignoreHidden)
                 .sorted(managedMember.getMetaModel().getElementComparator())
                 .map(domainObject->new DataRow(this, domainObject))
                 .collect(Can.toCan()));
 
+        // built at most once per load of the data elements, and only if actually searched
+        searchIndex = _Observables.lazy(()->
+            dataRowsVisible.getValue().stream()
+                .collect(Collectors.toMap(DataRow::getUuid, this::searchableText)));
+
+        dataRowsFiltered = _Observables.lazy(()->
+            filterBySearchArgument(dataRowsVisible.getValue()));
+
         dataRowsSelected = _Observables.lazy(()->
             dataRowsFiltered.getValue().stream()
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
@@ -151,6 +167,15 @@ private DataTableModel(
             dataRowsSelected.invalidate();
         });
 
+        // using an invalidation listener, as change listeners would eagerly load the data elements
+        dataElements.addListener(__->{
+            dataRowsVisible.invalidate();
+            searchIndex.invalidate();
+            dataRowByUuidLookupCache.clear();
+            dataRowsFiltered.invalidate();
+            dataRowsSelected.invalidate();
+        });
+
         dataColumns = _Observables.lazy(()->
             managedMember.getElementType()
             .streamPropertiesForColumnRendering(managedMember.getIdentifier(), managedMember.getOwner())
@@ -178,12 +203,42 @@ public ObjectSpecification getElementType() {
 
     private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
-        // lookup can be safely cached
-        return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
+        // lookup can be safely cached, as long as data elements are not reloaded
+        return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsVisible().getValue().stream()
                 .filter(dr->dr.getUuid().equals(uuid))
                 .findFirst());
     }
 
+    // -- SEARCH
+
+    private Can<DataRow> filterBySearchArgument(final Can<DataRow> dataRows) {
+        val searchTerm = _Strings.nonEmpty(searchArgument.getValue())
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .orElse(null);
+        if(_Strings.isNullOrEmpty(searchTerm)) {
+            return dataRows;
+        }
+        val index = searchIndex.getValue();
+        return dataRows.filter(dataRow->
+            index.getOrDefault(dataRow.getUuid(), "").contains(searchTerm));
+    }
+
+    /**
+     * Lower-cased concatenation of the row element's title and all its column values' titles.
+     */
+    private String searchableText(final DataRow dataRow) {
+        val rowElement = dataRow.getRowElement();
+        val sb = new StringBuilder(rowElement.titleString());
+        dataColumns.getValue().forEach(column->{
+            val cellElement = dataRow.getCellElement(column);
+            if(!ManagedObjects.isNullOrUnspecifiedOrEmpty(cellElement)) {
+                sb.append('\n').append(cellElement.titleString());
+            }
+        });
+        return sb.toString().toLowerCase();
+    }
+
     // -- TOGGLE ALL
 
     final AtomicBoolean isToggleAllEvent = new AtomicBoolean();
@@ -199,6 +254,20 @@ public void clearToggleAll() {
 
     // -- DATA ROW VISIBILITY
 
+    /**
+     * Allows {@link BatchingInteractionAdvisor}s to evaluate all data elements in one go,
+     * rather than once per row (and column).
+     */
+    private Can<ManagedObject> prefetchHides(final Can<ManagedObject> dataElements) {
+        dataElements.stream()
+            .filter(adapter->!ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter))
+            .collect(Collectors.groupingBy(ManagedObject::getSpecification, LinkedHashMap::new, Can.toCan()))
+            .forEach((elementSpec, elements)->
+                elementSpec.streamFacets(BatchingInteractionAdvisor.class)
+                    .forEach(advisor->advisor.prefetchHides(elements)));
+        return dataElements;
+    }
+
     private boolean ignoreHidden(final ManagedObject adapter) {
         final InteractionResult visibleResult =
                 InteractionUtils.isVisibleResult(
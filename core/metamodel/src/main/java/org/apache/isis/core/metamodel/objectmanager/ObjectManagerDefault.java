@@ -67,10 +67,11 @@ public class ObjectManagerDefault implements ObjectManager {
 
     @PostConstruct
     public void init() {
+        val viewModelStates = new _ViewModelStates(metaModelContext);
         objectCreator = ObjectCreator.createDefault(metaModelContext);
-        objectLoader = ObjectLoader.createDefault(metaModelContext);
+        objectLoader = viewModelStates.decorate(ObjectLoader.createDefault(metaModelContext));
         objectBulkLoader = ObjectBulkLoader.createDefault(metaModelContext);
-        objectBookmarker = ObjectBookmarker.createDefault();
+        objectBookmarker = viewModelStates.decorate(ObjectBookmarker.createDefault());
         objectRefresher = ObjectRefresher.createDefault();
         objectDetacher = ObjectDetacher.createDefault(metaModelContext);
         objectSerializer = ObjectSerializer.createDefault(metaModelContext);
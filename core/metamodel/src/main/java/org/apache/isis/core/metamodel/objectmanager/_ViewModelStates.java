@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.objectmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.apache.isis.applib.exceptions.unrecoverable.ObjectNotFoundException;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.viewmodel.ViewModelStateStore;
+import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.commons.internal.hash._Hashes;
+import org.apache.isis.commons.internal.hash._Hashes.Algorithm;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.objectmanager.identify.ObjectBookmarker;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Decorates the {@link ObjectBookmarker} and {@link ObjectLoader}, such that - if a
+ * {@link ViewModelStateStore} is registered - the state of view models is kept in that store,
+ * and their bookmarks carry only a (content hash) key.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor
+final class _ViewModelStates {
+
+    /**
+     * Not part of the URL safe base64 alphabet, hence cannot clash with the identifiers of encoded mementos.
+     */
+    private static final char KEY_PREFIX = '~';
+
+    /**
+     * 128 bits of the SHA-256 hash of the state, URL safe base64 encoded (without padding).
+     */
+    private static final int KEY_HASH_BYTES = 16;
+    private static final int KEY_LENGTH = 1 + 22;
+
+    private final @NonNull MetaModelContext mmc;
+
+    // looked up lazily, as the store might not yet be available when the ObjectManager is initialized
+    private final _Lazy<Optional<ViewModelStateStore>> store = _Lazy.threadSafe(this::lookupStore);
+
+    ObjectBookmarker decorate(final @NonNull ObjectBookmarker bookmarker) {
+        return managedObject -> {
+            val bookmark = bookmarker.bookmarkObject(managedObject);
+            return isViewModel(managedObject.getSpecification())
+                    ? store.get()
+                        .map(store->toKeyed(store, bookmark))
+                        .orElse(bookmark)
+                    : bookmark;
+        };
+    }
+
+    ObjectLoader decorate(final @NonNull ObjectLoader loader) {
+        return request -> {
+            val bookmark = request.getBookmark();
+            if(bookmark == null
+                    || !isViewModel(request.getObjectSpecification())
+                    || !isKey(bookmark.getIdentifier())) {
+                return loader.loadObject(request);
+            }
+            val stateStore = store.get()
+                    .orElseThrow(()->new ObjectNotFoundException(bookmark.stringify()));
+            return loader.loadObject(
+                    ObjectLoader.Request.of(request.getObjectSpecification(), fromKeyed(stateStore, bookmark)));
+        };
+    }
+
+    // -- HELPER
+
+    private Optional<ViewModelStateStore> lookupStore() {
+        return mmc.getServiceRegistry().lookupService(ViewModelStateStore.class);
+    }
+
+    private Bookmark toKeyed(final ViewModelStateStore store, final Bookmark bookmark) {
+        val state = bookmark.getIdentifier();
+        if(_Strings.isNullOrEmpty(state)
+                || isKey(state)
+                || state.length() < minStateLength()) {
+            return bookmark;
+        }
+        val key = keyFor(state);
+        store.put(key, state);
+        return Bookmark.forLogicalTypeNameAndIdentifier(bookmark.getLogicalTypeName(), key)
+                .withHintId(bookmark.getHintId());
+    }
+
+    private Bookmark fromKeyed(final ViewModelStateStore store, final Bookmark bookmark) {
+        val state = store.lookup(bookmark.getIdentifier())
+                // either evicted or never stored in the first place
+                .orElseThrow(()->new ObjectNotFoundException(bookmark.stringify()));
+        return Bookmark.forLogicalTypeNameAndIdentifier(bookmark.getLogicalTypeName(), state)
+                .withHintId(bookmark.getHintId());
+    }
+
+    private int minStateLength() {
+        return mmc.getConfiguration().getCore().getRuntimeServices().getViewModelStateStore().getMinStateLength();
+    }
+
+    private static boolean isViewModel(final ObjectSpecification spec) {
+        return spec != null
+                && spec.isViewModel();
+    }
+
+    static boolean isKey(final String identifier) {
+        return identifier != null
+                && identifier.length() == KEY_LENGTH
+                && identifier.charAt(0) == KEY_PREFIX;
+    }
+
+    static String keyFor(final String state) {
+        val hash = _Hashes.digest(Algorithm.SHA256, _Strings.toBytes(state, StandardCharsets.UTF_8))
+                .orElseThrow(()->_Exceptions.unrecoverable("failed to generate SHA-256 hash"));
+        val truncated = new byte[KEY_HASH_BYTES];
+        System.arraycopy(hash, 0, truncated, 0, KEY_HASH_BYTES);
+        val encoded = _Strings.ofBytes(_Bytes.asUrlBase64.apply(truncated), StandardCharsets.UTF_8);
+        return KEY_PREFIX + stripPadding(encoded);
+    }
+
+    private static String stripPadding(final String encoded) {
+        int end = encoded.length();
+        while(end > 0 && encoded.charAt(end - 1) == '=') {
+            end--;
+        }
+        return encoded.substring(0, end);
+    }
+
+}
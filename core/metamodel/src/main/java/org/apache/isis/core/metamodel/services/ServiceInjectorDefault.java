@@ -18,6 +18,9 @@
  */
 package org.apache.isis.core.metamodel.services;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.lang.Nullable;
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -28,6 +31,7 @@
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.stereotype.Service;
 
 import lombok.NonNull;
@@ -48,6 +52,11 @@ public class ServiceInjectorDefault implements ServiceInjector {
 
     private final AutowireCapableBeanFactory autowireCapableBeanFactory;
 
+    /**
+     * Per class injection plans, built on first use.
+     */
+    private final Map<Class<?>, _InjectionPlan> injectionPlans = new ConcurrentHashMap<>();
+
     @Override
     public <T> T injectServicesInto(final @Nullable T domainObject) {
 
@@ -68,10 +77,35 @@ public <T> T injectServicesInto(final @Nullable T domainObject) {
     }
 
     private <T> void injectInto(final @NonNull T domainObject) {
-        autowireCapableBeanFactory.autowireBeanProperties(
-                domainObject,
-                AutowireCapableBeanFactory.AUTOWIRE_NO,
-                /*dependencyCheck*/ false);
+        val injectionPlan = injectionPlanFor(domainObject.getClass());
+        if(injectionPlan.isNothingToInject()) {
+            return;
+        }
+        if(injectionPlan.isAutowire()) {
+            autowireCapableBeanFactory.autowireBeanProperties(
+                    domainObject,
+                    AutowireCapableBeanFactory.AUTOWIRE_NO,
+                    /*dependencyCheck*/ false);
+            return;
+        }
+        injectionPlan.injectInto(domainObject);
+    }
+
+    // -- HELPER
+
+    private _InjectionPlan injectionPlanFor(final Class<?> type) {
+        val injectionPlan = injectionPlans.get(type);
+        if(injectionPlan != null) {
+            return injectionPlan;
+        }
+        // not using computeIfAbsent, as resolving beans might recursively request injection plans
+        val newInjectionPlan = autowireCapableBeanFactory instanceof ConfigurableListableBeanFactory
+                ? _InjectionPlan.of(type, (ConfigurableListableBeanFactory) autowireCapableBeanFactory)
+                : _InjectionPlan.AUTOWIRE;
+        val existing = injectionPlans.putIfAbsent(type, newInjectionPlan);
+        return existing != null
+                ? existing
+                : newInjectionPlan;
     }
 
 }
@@ -0,0 +1,256 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import org.apache.isis.commons.internal.reflection._Reflect;
+import org.apache.isis.commons.internal.reflection._Reflect.InterfacePolicy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Immutable plan of how to inject services into instances of a given class, built once per class.
+ *
+ * <p>
+ *     Plain (unqualified) field and single argument method injection points, each resolving to a single singleton
+ *     bean, have the bean resolved once and are then applied using {@link MethodHandle}s. Any other injection point
+ *     (eg. qualified, {@link Lazy}, {@link Value}, <code>@Resource</code>, or of a container type such as
+ *     {@link Optional} or <code>Provider</code>) makes the class fall back to Spring's autowiring.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class _InjectionPlan {
+
+    static final _InjectionPlan NOTHING_TO_INJECT = new _InjectionPlan(false, new MethodHandle[0], new Object[0]);
+    static final _InjectionPlan AUTOWIRE = new _InjectionPlan(true, new MethodHandle[0], new Object[0]);
+
+    /**
+     * Whether to let Spring autowire instances (as this plan does not cover all injection points).
+     */
+    @Getter private final boolean autowire;
+    private final MethodHandle[] injectors;
+    private final Object[] beans;
+
+    boolean isNothingToInject() {
+        return !autowire
+                && injectors.length == 0;
+    }
+
+    @SneakyThrows
+    void injectInto(final Object domainObject) {
+        for (int i = 0; i < injectors.length; i++) {
+            injectors[i].invokeExact(domainObject, beans[i]);
+        }
+    }
+
+    // -- FACTORY
+
+    static _InjectionPlan of(final Class<?> type, final ConfigurableListableBeanFactory beanFactory) {
+
+        val injectionPoints = streamInjectionPoints(type);
+        if(injectionPoints.isEmpty()) {
+            return NOTHING_TO_INJECT;
+        }
+
+        val injectors = new ArrayList<MethodHandle>(injectionPoints.size());
+        val beans = new ArrayList<Object>(injectionPoints.size());
+
+        for(val injectionPoint : injectionPoints) {
+            if(!isPlannable(injectionPoint)) {
+                return AUTOWIRE;
+            }
+
+            val dependencyDescriptor = injectionPoint instanceof Field
+                    ? new DependencyDescriptor((Field) injectionPoint, isRequired(injectionPoint))
+                    : new DependencyDescriptor(new MethodParameter((Method) injectionPoint, 0), isRequired(injectionPoint));
+
+            final Set<String> beanNames = new HashSet<>();
+            final Object bean;
+            try {
+                bean = beanFactory.resolveDependency(dependencyDescriptor, null, beanNames, null);
+            } catch (BeansException e) {
+                return AUTOWIRE; // let Spring report the failure, as before
+            }
+            if(bean == null) {
+                continue; // not required and not available
+            }
+            if(beanNames.size() != 1
+                    || !beanFactory.isSingleton(beanNames.iterator().next())) {
+                return AUTOWIRE; // must not be cached
+            }
+
+            injectors.add(injectorFor(injectionPoint));
+            beans.add(bean);
+        }
+
+        return new _InjectionPlan(false, injectors.toArray(new MethodHandle[0]), beans.toArray());
+    }
+
+    // -- HELPER
+
+    private static final Class<?>[] CONTAINER_TYPES = {
+            Optional.class, javax.inject.Provider.class, ObjectFactory.class, Collection.class, Map.class};
+
+    /**
+     * Injection points of given type, those of super types first (same order as Spring injects them).
+     * <p>
+     * As with Spring's <code>AutowiredAnnotationBeanPostProcessor</code>, static members are not injected,
+     * and a method is only considered in its most specific (overriding) declaration, hence at most once and not at
+     * all if its override is not annotated.
+     */
+    private static List<AnnotatedElement> streamInjectionPoints(final Class<?> type) {
+        val hierarchy = _Reflect.streamTypeHierarchy(type, InterfacePolicy.EXCLUDE)
+                .filter(t->!Object.class.equals(t))
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(hierarchy);
+
+        final List<AnnotatedElement> injectionPoints = new ArrayList<>();
+        for(val t : hierarchy) {
+            for(val field : t.getDeclaredFields()) {
+                if(!Modifier.isStatic(field.getModifiers())
+                        && isInjectionPoint(field)) {
+                    injectionPoints.add(field);
+                }
+            }
+            for(val method : t.getDeclaredMethods()) {
+                if(!method.isBridge()
+                        && !Modifier.isStatic(method.getModifiers())
+                        && method.equals(ClassUtils.getMostSpecificMethod(method, type))
+                        && isInjectionPoint(method)) {
+                    injectionPoints.add(method);
+                }
+            }
+        }
+        return injectionPoints;
+    }
+
+    private static boolean isInjectionPoint(final AnnotatedElement element) {
+        for(val annotation : element.getDeclaredAnnotations()) {
+            val annotationType = annotation.annotationType();
+            if(annotationType.equals(Inject.class)
+                    || annotationType.equals(Autowired.class)
+                    || annotationType.equals(Value.class)
+                    || annotationType.getName().equals("javax.annotation.Resource")) {
+                return true;
+            }
+        }
+        return AnnotatedElementUtils.hasAnnotation(element, Autowired.class)
+                || AnnotatedElementUtils.hasAnnotation(element, Value.class);
+    }
+
+    private static boolean isPlannable(final AnnotatedElement injectionPoint) {
+        val member = (java.lang.reflect.Member) injectionPoint;
+        if(!injectionPoint.isAnnotationPresent(Inject.class)
+                && !injectionPoint.isAnnotationPresent(Autowired.class)) {
+            return false; // eg. @Value, @Resource
+        }
+        if(AnnotatedElementUtils.hasAnnotation(injectionPoint, Qualifier.class)
+                || AnnotatedElementUtils.hasAnnotation(injectionPoint, Lazy.class)
+                || hasJavaxQualifier(injectionPoint.getDeclaredAnnotations())) {
+            return false;
+        }
+        final Class<?> dependencyType;
+        if(injectionPoint instanceof Field) {
+            if(Modifier.isFinal(member.getModifiers())) {
+                return false;
+            }
+            dependencyType = ((Field) injectionPoint).getType();
+        } else {
+            val method = (Method) injectionPoint;
+            if(method.getParameterCount() != 1) {
+                return false;
+            }
+            if(AnnotatedElementUtils.hasAnnotation(method.getParameters()[0], Qualifier.class)
+                    || hasJavaxQualifier(method.getParameters()[0].getDeclaredAnnotations())) {
+                return false;
+            }
+            dependencyType = method.getParameterTypes()[0];
+        }
+        if(dependencyType.isArray()
+                || dependencyType.isPrimitive()) {
+            return false;
+        }
+        for(val containerType : CONTAINER_TYPES) {
+            if(containerType.isAssignableFrom(dependencyType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasJavaxQualifier(final Annotation[] annotations) {
+        for(val annotation : annotations) {
+            if(annotation.annotationType().isAnnotationPresent(javax.inject.Qualifier.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRequired(final AnnotatedElement injectionPoint) {
+        val autowired = AnnotatedElementUtils.findMergedAnnotation(injectionPoint, Autowired.class);
+        return autowired == null
+                || autowired.required();
+    }
+
+    private static final MethodType INJECTOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @SneakyThrows
+    private static MethodHandle injectorFor(final AnnotatedElement injectionPoint) {
+        val handle = injectionPoint instanceof Field
+                ? _Reflect.handleOfSetterOn((Field) injectionPoint)
+                : _Reflect.handleOf((Method) injectionPoint);
+        return handle.asType(INJECTOR_TYPE);
+    }
+
+}
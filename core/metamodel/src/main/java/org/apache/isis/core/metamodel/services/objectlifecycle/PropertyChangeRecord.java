@@ -87,12 +87,16 @@ public void updatePreValue() {
         setPreValue(getPropertyValue());
     }
 
+    public void setPostValue(final Object post) {
+        preAndPostValue = preAndPostValue.withPost(post);
+    }
+
     public void updatePostValueAsNonDeleted() {
-        preAndPostValue.withPost(getPropertyValue());
+        setPostValue(getPropertyValue());
     }
 
     public void updatePostValueAsDeleted() {
-        preAndPostValue.withPost(PropertyValuePlaceholder.DELETED);
+        setPostValue(PropertyValuePlaceholder.DELETED);
     }
 
     // -- UTILITY
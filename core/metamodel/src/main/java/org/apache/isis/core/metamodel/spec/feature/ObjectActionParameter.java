@@ -25,11 +25,13 @@
 
 import org.springframework.lang.Nullable;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.consent.Consent;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facets.all.named.MemberNamedFacet;
+import org.apache.isis.core.metamodel.facets.param.autocomplete.QueryRangeUtil;
 import org.apache.isis.core.metamodel.interactions.ActionArgValidityContext;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
 import org.apache.isis.core.metamodel.interactions.managed.ParameterNegotiationModel;
@@ -105,6 +107,20 @@ Can<ManagedObject> getAutoComplete(
             String searchArg,
             InteractionInitiatedBy interactionInitiatedBy);
 
+    /**
+     * Same as {@link #getAutoComplete(ParameterNegotiationModel, String, InteractionInitiatedBy)},
+     * but restricted to given {@link QueryRange}, in support of paging.
+     */
+    default Can<ManagedObject> getAutoComplete(
+            final ParameterNegotiationModel pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return QueryRangeUtil.applyRange(
+                getAutoComplete(pendingArgs, searchArg, interactionInitiatedBy),
+                range);
+    }
+
 
 
     int getAutoCompleteMinLength();
@@ -26,6 +26,7 @@
 import javax.enterprise.inject.Vetoed;
 
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.collections._Lists;
@@ -34,6 +35,7 @@
 import org.apache.isis.core.metamodel.facets.WhereValueFacet;
 import org.apache.isis.core.metamodel.facets.all.hide.HiddenFacet;
 import org.apache.isis.core.metamodel.facets.members.layout.group.LayoutGroupFacet;
+import org.apache.isis.core.metamodel.facets.param.autocomplete.QueryRangeUtil;
 import org.apache.isis.core.metamodel.facets.object.value.ValueFacet;
 import org.apache.isis.core.metamodel.layout.memberorderfacet.MemberOrderComparator;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
@@ -105,6 +107,20 @@ public Can<ManagedObject> getAutoComplete(
             String searchArg,
             InteractionInitiatedBy interactionInitiatedBy);
 
+    /**
+     * Same as {@link #getAutoComplete(ManagedObject, String, InteractionInitiatedBy)},
+     * but restricted to given {@link QueryRange}, in support of paging.
+     */
+    public default Can<ManagedObject> getAutoComplete(
+            final ManagedObject object,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return QueryRangeUtil.applyRange(
+                getAutoComplete(object, searchArg, interactionInitiatedBy),
+                range);
+    }
+
     int getAutoCompleteMinLength();
 
     /**
@@ -23,6 +23,7 @@
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.exceptions.unrecoverable.DomainModelException;
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.commons.ClassExtensions;
@@ -182,6 +183,15 @@ public Can<ManagedObject> getAutoComplete(
             final ParameterNegotiationModel pendingArgs,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return getAutoComplete(pendingArgs, searchArg, QueryRange.unconstrained(), interactionInitiatedBy);
+    }
+
+    @Override
+    public Can<ManagedObject> getAutoComplete(
+            final ParameterNegotiationModel pendingArgs,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
 
         val autoCompleteFacet = getFacet(ActionParameterAutoCompleteFacet.class);
         if (autoCompleteFacet == null) {
@@ -189,7 +199,7 @@ public Can<ManagedObject> getAutoComplete(
         }
 
         val visibleChoices = autoCompleteFacet
-                .autoComplete(pendingArgs.getActionTarget(), pendingArgs.getParamValues(), searchArg, interactionInitiatedBy);
+                .autoComplete(pendingArgs.getActionTarget(), pendingArgs.getParamValues(), searchArg, range, interactionInitiatedBy);
         checkChoicesOrAutoCompleteType(getSpecificationLoader(), visibleChoices, getElementType());
 
         return visibleChoices;
@@ -22,6 +22,7 @@
 import org.apache.isis.applib.annotation.Property;
 import org.apache.isis.applib.annotation.PropertyLayout;
 import org.apache.isis.applib.annotation.Where;
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.applib.services.command.Command;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._NullSafe;
@@ -292,10 +293,19 @@ public Can<ManagedObject> getAutoComplete(
             final ManagedObject ownerAdapter,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return getAutoComplete(ownerAdapter, searchArg, QueryRange.unconstrained(), interactionInitiatedBy);
+    }
+
+    @Override
+    public Can<ManagedObject> getAutoComplete(
+            final ManagedObject ownerAdapter,
+            final String searchArg,
+            final QueryRange range,
+            final InteractionInitiatedBy interactionInitiatedBy) {
 
         final PropertyAutoCompleteFacet propertyAutoCompleteFacet = getFacet(PropertyAutoCompleteFacet.class);
         final Object[] pojoOptions = propertyAutoCompleteFacet
-                .autoComplete(ownerAdapter, searchArg, interactionInitiatedBy);
+                .autoComplete(ownerAdapter, searchArg, range, interactionInitiatedBy);
 
         val adapters = _NullSafe.stream(pojoOptions)
                 .map(getObjectManager()::adapt)
@@ -22,6 +22,7 @@
 
 import org.jmock.auto.Mock;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facets.AbstractFacetFactoryTest;
@@ -257,6 +258,36 @@ public String[] autoCompleteFirstName(final String searchArg) {
         assertTrue(methodRemover.getRemovedMethodMethodCalls().contains(propertyAutoCompleteMethod));
     }
 
+    public void testAutoCompleteFacetWithQueryRangeFoundAndMethodRemoved() {
+
+        val facetFactory = new PropertyAutoCompleteFacetMethodFactory(metaModelContext);
+
+        class Customer {
+            @SuppressWarnings("unused")
+            public String getFirstName() {
+                return null;
+            }
+
+            @SuppressWarnings("unused")
+            public String[] autoCompleteFirstName(final String searchArg, final QueryRange range) {
+                return null;
+            }
+        }
+        final Method propertyAccessorMethod = findMethod(Customer.class, "getFirstName");
+        final Method propertyAutoCompleteMethod = findMethod(Customer.class, "autoCompleteFirstName", new Class[]{String.class, QueryRange.class});
+
+        facetFactory.process(ProcessMethodContext
+                .forTesting(Customer.class, FeatureType.PROPERTY, propertyAccessorMethod, methodRemover, facetedMethod));
+
+        final Facet facet = facetedMethod.getFacet(PropertyAutoCompleteFacet.class);
+        assertNotNull(facet);
+        assertTrue(facet instanceof PropertyAutoCompleteFacetMethod);
+        final PropertyAutoCompleteFacetMethod propertyAutoCompleteFacet = (PropertyAutoCompleteFacetMethod) facet;
+        assertEquals(propertyAutoCompleteMethod, propertyAutoCompleteFacet.getMethods().getFirstOrFail());
+
+        assertTrue(methodRemover.getRemovedMethodMethodCalls().contains(propertyAutoCompleteMethod));
+    }
+
     public void testDefaultFacetFoundAndMethodRemoved() {
         val facetFactory = new PropertyDefaultFacetViaMethodFactory(metaModelContext);
 
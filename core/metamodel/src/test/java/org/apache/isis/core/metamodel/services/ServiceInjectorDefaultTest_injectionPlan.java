@@ -0,0 +1,215 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.core.config.IsisModuleCoreConfig;
+import org.apache.isis.core.config.beans.IsisBeanFactoryPostProcessorForSpring;
+import org.apache.isis.core.metamodel.services.registry.ServiceRegistryDefault;
+
+import lombok.Getter;
+import lombok.val;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = {
+        IsisBeanFactoryPostProcessorForSpring.class,
+        IsisModuleCoreConfig.class,
+        ServiceInjectorDefault.class,
+        ServiceRegistryDefault.class,
+        ServiceInjectorDefaultTest_injectionPlan.Producers.class,
+})
+@DirtiesContext(classMode = ClassMode.BEFORE_CLASS)
+class ServiceInjectorDefaultTest_injectionPlan {
+
+    @Configuration
+    static class Producers {
+
+        @Bean @Singleton
+        A beanA() {
+            return new A();
+        }
+
+    }
+
+    // -- SCENARIO
+
+    // managed
+    static class A { }
+
+    // not managed
+    static interface Missing { }
+
+    // not-managed, nothing to inject
+    static class NoInjectionPoints {
+        @Getter private A someA;
+    }
+
+    // not-managed, field and setter injection
+    static class FieldAndSetter {
+        @Inject @Getter private A someA;
+        @Getter private A otherA;
+        @Inject void setOtherA(final A otherA) {
+            this.otherA = otherA;
+        }
+    }
+
+    // not-managed, not required and not available
+    static class NotRequired extends FieldAndSetter {
+        @Autowired(required = false) @Getter private Missing missing;
+    }
+
+    // not-managed, not covered by the plan
+    static class WithProvider {
+        @Inject @Getter private Provider<A> someA;
+    }
+
+    // not-managed, counting setter injections
+    static class CountingSetter {
+        @Getter int injections;
+        @Inject void setSomeA(final A someA) {
+            injections++;
+        }
+    }
+
+    // not-managed, overrides an injection method, again annotated
+    static class OverridingAnnotated extends CountingSetter {
+        @Override @Inject void setSomeA(final A someA) {
+            super.setSomeA(someA);
+        }
+    }
+
+    // not-managed, overrides an injection method, not annotated
+    static class OverridingNotAnnotated extends CountingSetter {
+        @Override void setSomeA(final A someA) {
+            super.setSomeA(someA);
+        }
+    }
+
+    // not-managed, having a static injection point
+    static class WithStaticField {
+        @Inject static A staticA;
+        @Inject @Getter private A someA;
+    }
+
+    // -- TESTS
+
+    @Inject private ServiceInjector injector;
+    @Inject private ConfigurableListableBeanFactory beanFactory;
+    @Inject private A serviceA;
+
+    @Test
+    void nothingToInject() {
+        val injectionPlan = _InjectionPlan.of(NoInjectionPoints.class, beanFactory);
+        assertTrue(injectionPlan.isNothingToInject());
+
+        val domainObject = injector.injectServicesInto(new NoInjectionPoints());
+        assertNull(domainObject.getSomeA());
+    }
+
+    @Test
+    void fieldAndSetter() {
+        val injectionPlan = _InjectionPlan.of(FieldAndSetter.class, beanFactory);
+        assertFalse(injectionPlan.isNothingToInject());
+        assertFalse(injectionPlan.isAutowire());
+
+        val domainObject = injector.injectServicesInto(new FieldAndSetter());
+        assertSame(serviceA, domainObject.getSomeA());
+        assertSame(serviceA, domainObject.getOtherA());
+    }
+
+    @Test
+    void notRequiredAndMissing() {
+        val injectionPlan = _InjectionPlan.of(NotRequired.class, beanFactory);
+        assertFalse(injectionPlan.isAutowire());
+
+        val domainObject = injector.injectServicesInto(new NotRequired());
+        assertSame(serviceA, domainObject.getSomeA());
+        assertSame(serviceA, domainObject.getOtherA());
+        assertNull(domainObject.getMissing());
+    }
+
+    @Test
+    void fallbackToAutowiring() {
+        val injectionPlan = _InjectionPlan.of(WithProvider.class, beanFactory);
+        assertTrue(injectionPlan.isAutowire());
+
+        val domainObject = injector.injectServicesInto(new WithProvider());
+        assertNotNull(domainObject.getSomeA());
+        assertSame(serviceA, domainObject.getSomeA().get());
+    }
+
+    @Test
+    void overriddenMethod_isInjectedOnce_whenOverrideIsAnnotated() {
+        assertEquals(1, injector.injectServicesInto(new OverridingAnnotated()).getInjections());
+        assertEquals(1, autowired(new OverridingAnnotated()).getInjections());
+    }
+
+    @Test
+    void overriddenMethod_isNotInjected_whenOverrideIsNotAnnotated() {
+        assertTrue(_InjectionPlan.of(OverridingNotAnnotated.class, beanFactory).isNothingToInject());
+        assertEquals(0, injector.injectServicesInto(new OverridingNotAnnotated()).getInjections());
+        assertEquals(0, autowired(new OverridingNotAnnotated()).getInjections());
+    }
+
+    @Test
+    void staticField_isSkipped() {
+        val injectionPlan = _InjectionPlan.of(WithStaticField.class, beanFactory);
+        assertFalse(injectionPlan.isAutowire());
+
+        val domainObject = injector.injectServicesInto(new WithStaticField());
+        assertSame(serviceA, domainObject.getSomeA());
+        assertNull(WithStaticField.staticA);
+    }
+
+    @Test
+    void injectsRepeatedly() {
+        assertSame(serviceA, injector.injectServicesInto(new FieldAndSetter()).getSomeA());
+        assertSame(serviceA, injector.injectServicesInto(new FieldAndSetter()).getSomeA());
+    }
+
+    // -- HELPER
+
+    private <T> T autowired(final T domainObject) {
+        beanFactory.autowireBeanProperties(domainObject, AutowireCapableBeanFactory.AUTOWIRE_NO, false);
+        return domainObject;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.services.objectlifecycle;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.val;
+
+class PropertyChangeRecordTest {
+
+    private ManagedObject entity;
+    private OneToOneAssociation property;
+
+    @BeforeEach
+    void setUp() {
+        entity = mock(ManagedObject.class);
+        when(entity.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1")));
+        property = mock(OneToOneAssociation.class);
+        when(property.getId()).thenReturn("name");
+    }
+
+    @Test
+    void setPostValue_retainsPreValue() {
+        val record = PropertyChangeRecord.of(entity, property);
+        record.setPreValue("alice");
+
+        record.setPostValue("bob");
+
+        assertEquals("alice", record.getPreAndPostValue().getPre());
+        assertEquals("bob", record.getPreAndPostValue().getPost());
+        assertEquals("bob", record.getPreAndPostValue().getPostString());
+        assertTrue(record.getPreAndPostValue().shouldPublish());
+    }
+
+    @Test
+    void preAndPostValues_areReadThroughProperty() {
+        val record = PropertyChangeRecord.of(entity, property);
+        givenPropertyValue("alice");
+        record.updatePreValue();
+
+        givenPropertyValue("bob");
+        record.updatePostValueAsNonDeleted();
+
+        assertEquals("alice", record.getPreAndPostValue().getPre());
+        assertEquals("bob", record.getPreAndPostValue().getPost());
+    }
+
+    @Test
+    void unchangedValue_isNotPublished() {
+        val record = PropertyChangeRecord.of(entity, property);
+        givenPropertyValue("alice");
+        record.updatePreValue();
+        record.updatePostValueAsNonDeleted();
+
+        assertFalse(record.getPreAndPostValue().shouldPublish());
+    }
+
+    @Test
+    void deleted_isPublished() {
+        val record = PropertyChangeRecord.of(entity, property);
+        givenPropertyValue("alice");
+        record.updatePreValue();
+        record.updatePostValueAsDeleted();
+
+        assertEquals(PropertyValuePlaceholder.DELETED, record.getPreAndPostValue().getPost());
+        assertTrue(record.getPreAndPostValue().shouldPublish());
+    }
+
+    // -- HELPER
+
+    private void givenPropertyValue(final String value) {
+        val valueAdapter = mock(ManagedObject.class);
+        when(valueAdapter.getPojo()).thenReturn(value);
+        when(property.get(entity, InteractionInitiatedBy.FRAMEWORK)).thenReturn(valueAdapter);
+    }
+
+}
@@ -19,7 +19,7 @@
 package org.apache.isis.core.runtimeservices.i18n.po;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -50,7 +50,7 @@ private State(final String regex) {
     String msgstr = null; // either from msgstr or msgstr[0] if there is a plural
     String msgstr_plural = null; // from msgstr[1]
 
-    Block parseLine(final String line, final Map<ContextAndMsgId, String> translationsByKey) {
+    Block parseLine(final String line, final BiConsumer<ContextAndMsgId, String> translations) {
         if (state == State.CONTEXT) {
             final Matcher contextMatcher = state.pattern.matcher(line);
             if (contextMatcher.matches()) {
@@ -90,7 +90,7 @@ Block parseLine(final String line, final Map<ContextAndMsgId, String> translatio
             if (msgStrMatcher.matches()) {
                 msgstr = msgStrMatcher.group("value");
             }
-            append(translationsByKey);
+            append(translations);
             return new Block();
         }
 
@@ -100,7 +100,7 @@ Block parseLine(final String line, final Map<ContextAndMsgId, String> translatio
                 msgstr = msgStr0Matcher.group("value");
                 state = State.MSGSTR1; // next time, look for plural
             } else {
-                append(translationsByKey);
+                append(translations);
                 return new Block();
             }
             return this;
@@ -111,21 +111,21 @@ Block parseLine(final String line, final Map<ContextAndMsgId, String> translatio
             if (msgStr1Matcher.matches()) {
                 msgstr_plural = msgStr1Matcher.group("value");
             }
-            append(translationsByKey);
+            append(translations);
             return new Block();
         }
         return this;
     }
 
-    void append(final Map<ContextAndMsgId, String> translationsByKey) {
+    void append(final BiConsumer<ContextAndMsgId, String> translations) {
         for (String context : contextList) {
             if(msgid != null && msgstr != null) {
                 final ContextAndMsgId mc = new ContextAndMsgId(context, msgid, ContextAndMsgId.Type.REGULAR);
-                translationsByKey.put(mc, msgstr);
+                translations.accept(mc, msgstr);
             }
             if(msgid_plural != null && msgstr_plural != null) {
                 final ContextAndMsgId mc = new ContextAndMsgId(context, msgid_plural, ContextAndMsgId.Type.PLURAL_ONLY);
-                translationsByKey.put(mc, msgstr_plural);
+                translations.accept(mc, msgstr_plural);
             }
         }
     }
@@ -19,9 +19,11 @@
 package org.apache.isis.core.runtimeservices.i18n.po;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,11 +32,14 @@
 import org.apache.isis.applib.services.i18n.TranslationContext;
 import org.apache.isis.applib.services.i18n.TranslationsResolver;
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
 
+import lombok.AccessLevel;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -43,8 +48,12 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    /**
+     * Catalogs are immutable once built, so lookups are lock-free; each locale's
+     * catalog is built at most once (unless reloaded).
+     */
+    private final Map<Locale, Catalog> catalogByLocale = _Maps.newConcurrentHashMap();
+    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newConcurrentHashMap();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -64,7 +73,25 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final LanguageProvider languageProvider;
 
-    private List<String> fallback;
+    private volatile List<String> fallback;
+
+    /**
+     * Languages whose translations are loaded eagerly, by {@link #init()}.
+     */
+    @Setter(AccessLevel.PACKAGE)
+    private Can<Locale> preloadLocales = Can.empty();
+
+    /**
+     * Language of the (untranslated) message ids, if any; lower-case.
+     */
+    @Setter(AccessLevel.PACKAGE)
+    private Optional<String> sourceLanguage = Optional.empty();
+
+    /**
+     * If non-zero, catalogs are re-read once they are older than this (on next use).
+     */
+    @Setter(AccessLevel.PACKAGE)
+    private long hotReloadIntervalMillis = 0L;
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.READ);
@@ -81,11 +108,14 @@ public PoReader(final TranslationServicePo translationServicePo) {
      * Not API
      */
     void init() {
-        fallback = readUrl(basename + ".po");
+        final List<String> fallback = readUrl(basename + ".po");
         if(fallback == null) {
             log.info("No fallback translations found; i18n is in effect disabled for this application");
-            fallback = Collections.emptyList();
+            this.fallback = Collections.emptyList();
+        } else {
+            this.fallback = fallback;
         }
+        preloadLocales.forEach(this::catalogFor);
     }
 
     @Override
@@ -114,7 +144,7 @@ String translate(final TranslationContext context, final String msgId, final Str
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
+        catalogByLocale.clear();
         usesFallbackByLocale.clear();
         init();
     }
@@ -135,20 +165,16 @@ private String translate(final TranslationContext context, final String msgId, f
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
-
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
-            return translation;
+        if(isSourceLanguage(targetLocale)) {
+            return msgId;
         }
 
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
+        final Catalog catalog = catalogFor(targetLocale);
+
+        // search for translation with a context, else without a context
+        final String translation = catalog.lookup(context.getName(), msgId, type);
+        if (translation != null) {
+            return translation;
         }
 
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
@@ -157,45 +183,46 @@ private String translate(final TranslationContext context, final String msgId, f
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+        if(!catalog.usesFallback) {
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
-
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    private boolean isSourceLanguage(final Locale locale) {
+        return sourceLanguage.isPresent()
+                && sourceLanguage.get().equals(locale.getLanguage().toLowerCase(Locale.ROOT));
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
+    private Catalog catalogFor(final Locale locale) {
+        final Catalog catalog = catalogByLocale.computeIfAbsent(locale, this::read);
+        if(hotReloadIntervalMillis > 0L
+                && catalog.isOlderThan(hotReloadIntervalMillis)) {
+            // replaced at most once per interval, even if requested concurrently
+            return catalogByLocale.compute(locale, (__, current)->
+                current != null
+                    && !current.isOlderThan(hotReloadIntervalMillis)
+                        ? current
+                        : read(locale));
         }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
+        return catalog;
     }
 
-
     /**
      * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
+    private Catalog read(final Locale locale) {
+        usesFallbackByLocale.remove(locale); // (re-)determined by readPo, unless overridden
         final List<String> contents = readPo(locale);
+        return Catalog.parse(contents, usesFallbackByLocale.getOrDefault(locale, Boolean.FALSE));
+    }
 
-        Block block = new Block();
-        for (final String line : contents) {
-            block = block.parseLine(line, translationsByKey);
-        }
+    /**
+     * Whether the (current) translations of given locale are the fallback ones.
+     */
+    boolean usesFallback(final Locale locale) {
+        return catalogFor(locale).usesFallback;
     }
 
     protected List<String> readPo(final Locale locale) {
@@ -209,7 +236,10 @@ protected List<String> readPo(final Locale locale) {
         logInfoIfNotPreviously("Could not locate translations for locale: " + locale + ", using fallback");
 
         usesFallbackByLocale.put(locale, true);
-        return fallback;
+        final List<String> fallback = this.fallback;
+        return fallback != null
+                ? fallback
+                : Collections.emptyList();
     }
 
     private List<String> readPoElseNull(final Locale locale) {
@@ -237,11 +267,18 @@ private List<String> readPoElseNull(final Locale locale) {
         return null;
     }
 
+    /**
+     * @return {@code null} if not found
+     */
     private List<String> readUrl(final String candidate) {
-        return translationsResolver.stream()
+        final List<String> lines = translationsResolver.stream()
                 .map(resolver->resolver.readLines(candidate))
+                .filter(_NullSafe::isPresent)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
+        return lines.isEmpty()
+                ? null
+                : lines;
     }
 
 
@@ -255,5 +292,79 @@ private void logInfoIfNotPreviously(final String infoMessage) {
 
     private final Set<String> loggedInfoMessages = _Sets.newConcurrentHashSet();
 
+    // -- CATALOG
+
+    /**
+     * Immutable translations of a single locale, indexed by {@link ContextAndMsgId.Type type}, message id and
+     * then by context, such that a lookup does not need to allocate a (composite) key.
+     */
+    private static final class Catalog {
+
+        private final Map<ContextAndMsgId.Type, Map<String, Map<String, String>>> translationByContextByMsgIdByType;
+        private final boolean usesFallback;
+        private final long loadedAt = System.currentTimeMillis();
+
+        static Catalog parse(final List<String> lines, final boolean usesFallback) {
+            final Map<ContextAndMsgId.Type, Map<String, Map<String, String>>> translationByContextByMsgIdByType =
+                    new EnumMap<>(ContextAndMsgId.Type.class);
+            Block block = new Block();
+            for (final String line : lines) {
+                block = block.parseLine(line, (key, translation)->{
+                    final String trimmed = translation.trim();
+                    if(trimmed.isEmpty()) {
+                        return;
+                    }
+                    translationByContextByMsgIdByType
+                        .computeIfAbsent(key.getType(), __->_Maps.newHashMap())
+                        .computeIfAbsent(key.getMsgId(), __->_Maps.newHashMap())
+                        .put(key.getContext(), trimmed);
+                });
+            }
+            return new Catalog(translationByContextByMsgIdByType, usesFallback);
+        }
+
+        private Catalog(
+                final Map<ContextAndMsgId.Type, Map<String, Map<String, String>>> translationByContextByMsgIdByType,
+                final boolean usesFallback) {
+            this.translationByContextByMsgIdByType = translationByContextByMsgIdByType;
+            this.usesFallback = usesFallback;
+        }
+
+        /**
+         * @return the translation of given type with the given context, else the one without a context;
+         * else (as a message id might only be translated as the other type) likewise of the other type;
+         * else {@code null}
+         */
+        String lookup(final String context, final String msgId, final ContextAndMsgId.Type type) {
+            final String translation = lookupOfType(context, msgId, type);
+            if(translation != null) {
+                return translation;
+            }
+            return lookupOfType(context, msgId, type == ContextAndMsgId.Type.REGULAR
+                    ? ContextAndMsgId.Type.PLURAL_ONLY
+                    : ContextAndMsgId.Type.REGULAR);
+        }
+
+        private String lookupOfType(final String context, final String msgId, final ContextAndMsgId.Type type) {
+            final Map<String, Map<String, String>> translationByContextByMsgId =
+                    translationByContextByMsgIdByType.get(type);
+            if(translationByContextByMsgId == null) {
+                return null;
+            }
+            final Map<String, String> translationByContext = translationByContextByMsgId.get(msgId);
+            if(translationByContext == null) {
+                return null;
+            }
+            final String translation = translationByContext.get(context != null ? context : "");
+            return translation != null
+                    ? translation
+                    : translationByContext.get("");
+        }
+
+        boolean isOlderThan(final long millis) {
+            return System.currentTimeMillis() - loadedAt > millis;
+        }
+    }
+
 
 }
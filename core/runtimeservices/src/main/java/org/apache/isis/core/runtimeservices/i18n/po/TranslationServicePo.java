@@ -18,6 +18,7 @@
  */
 package org.apache.isis.core.runtimeservices.i18n.po;
 
+import java.util.Locale;
 import java.util.Optional;
 
 import javax.annotation.PostConstruct;
@@ -85,9 +86,7 @@ public void init() {
         }
 
         // switch to read mode
-        final PoReader poReader = new PoReader(this);
-        poReader.init();
-        po = poReader;
+        po = newPoReader();
 
         if(!systemEnvironment.isUnitTesting()) {
             onShutdown = po::logTranslations;
@@ -161,13 +160,25 @@ public void toggleMode() {
                 previousPoReader.clearCache();
                 po = previousPoReader;
             } else {
-                final PoReader poReader = new PoReader(this);
-                poReader.init();
-                po = poReader;
+                po = newPoReader();
             }
         }
     }
 
+    private PoReader newPoReader() {
+        val poConfig = configuration.getCore().getRuntimeServices().getTranslation().getPo();
+        val poReader = new PoReader(this);
+        poReader.setPreloadLocales(Can.ofCollection(poConfig.getPreloadLanguages())
+                .map(Locale::forLanguageTag));
+        poReader.setSourceLanguage(poConfig.getSourceLanguage()
+                .map(language->language.toLowerCase(Locale.ROOT)));
+        if(systemEnvironment.isPrototyping()) {
+            poReader.setHotReloadIntervalMillis(poConfig.getHotReloadInterval().toMillis());
+        }
+        poReader.init();
+        return poReader;
+    }
+
     // -- DEPENDENCIES
 
     @Inject private IsisSystemEnvironment systemEnvironment;
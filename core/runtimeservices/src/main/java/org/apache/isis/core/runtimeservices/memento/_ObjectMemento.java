@@ -32,6 +32,7 @@
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.applib.services.bookmark.Oid;
 import org.apache.isis.applib.services.hint.HintIdProvider;
+import org.apache.isis.applib.value.NamedWithMimeType;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -452,6 +453,16 @@ private void init(final ManagedObject adapter) {
             return;
         }
 
+        // deferred Blob/Clob: serialized by reference to its content source, not embedding the content
+        if(adapter.getPojo() instanceof NamedWithMimeType
+                && ((NamedWithMimeType) adapter.getPojo()).isContentByReference()
+                && spec.isSerializable()) {
+            val serializer = spec.getMetaModelContext().getObjectManager().getObjectSerializer();
+            serializedObject = serializer.serialize(adapter);
+            recreateStrategy = RecreateStrategy.SERIALIZABLE;
+            return;
+        }
+
         val encodableFacet = spec.getFacet(EncodableFacet.class);
         val isEncodable = encodableFacet != null;
         if (isEncodable) {
@@ -19,10 +19,16 @@
 package org.apache.isis.core.runtimeservices.repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -38,6 +44,8 @@
 import org.apache.isis.applib.exceptions.unrecoverable.RepositoryException;
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.query.QueryRange;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.eventbus.EventBusService;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.EntityState;
 import org.apache.isis.applib.services.repository.RepositoryService;
@@ -46,11 +54,19 @@
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.facets.object.callbacks.RemovingCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.RemovingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
 import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.UnwrapUtil;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.transaction.changetracking.PersistenceCallbackHandlerAbstract;
+import org.apache.isis.core.transaction.changetracking.events.BulkChangeEvent;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -69,13 +85,21 @@ public class RepositoryServiceDefault implements RepositoryService {
     final TransactionService transactionService;
     final IsisConfiguration isisConfiguration;
     final ObjectManager objectManager;
+    final EventBusService eventBusService;
 
     private boolean autoFlush;
+    private int bulkChunkSize;
+    private boolean bulkPublishLifecycleEvents;
+    private boolean bulkSetBasedDelete;
 
     @PostConstruct
     public void init() {
-        val disableAutoFlush = isisConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
+        val repositoryServiceConfig = isisConfiguration.getCore().getRuntimeServices().getRepositoryService();
+        val disableAutoFlush = repositoryServiceConfig.isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.bulkChunkSize = Math.max(1, repositoryServiceConfig.getBulk().getChunkSize());
+        this.bulkPublishLifecycleEvents = repositoryServiceConfig.getBulk().isPublishLifecycleEvents();
+        this.bulkSetBasedDelete = repositoryServiceConfig.getBulk().isSetBasedDelete();
     }
 
     @Override
@@ -119,10 +143,7 @@ public void remove(final Object domainObject) {
         if (domainObject == null) {
             return; // noop
         }
-        val adapter = objectManager.adapt(unwrapped(domainObject));
-        if(EntityUtil.isAttached(adapter)) {
-            EntityUtil.destroyInCurrentTransaction(adapter);
-        }
+        removeIfAttached(domainObject);
     }
 
     @Override
@@ -167,9 +188,7 @@ public <T> List<T> allMatches(final Query<T> query) {
     }
 
     <T> List<T> submitQuery(final Query<T> query) {
-        val resultTypeSpec = objectManager.getMetaModelContext()
-                .getSpecificationLoader()
-                .specForType(query.getResultType())
+        val resultTypeSpec = specForType(query.getResultType())
                 .orElse(null);
 
         if(resultTypeSpec==null) {
@@ -231,11 +250,249 @@ public <T> T detach(final T entity) {
     @Override
     public <T> void removeAll(final Class<T> cls) {
         allInstances(cls).forEach(this::remove);
+    }
+
+    // -- BULK OPERATIONS
+
+    @Override
+    public <T> long persistAll(final @Nullable Collection<T> domainObjects) {
+        if(_NullSafe.isEmpty(domainObjects)) {
+            return 0L;
+        }
+        return callBulk(()->typesOf(domainObjects), ()->{
+            long persisted = 0L;
+            for(val domainObject : domainObjects) {
+                val adapter = objectManager.adapt(unwrapped(domainObject));
+                if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
+                    throw new PersistFailedException("Object not known to framework (unable to create/obtain an adapter)");
+                }
+                // only persist detached entities, otherwise skip
+                val entityState = EntityUtil.getEntityState(adapter);
+                if(!entityState.isPersistable()
+                        || entityState.isAttached()) {
+                    continue;
+                }
+                EntityUtil.persistInCurrentTransaction(adapter);
+                if(++persisted % bulkChunkSize == 0) {
+                    transactionService.flushTransaction();
+                }
+            }
+            transactionService.flushTransaction();
+            return persisted;
+        });
+    }
+
+    @Override
+    public <T> long removeAll(final @NonNull Query<T> query) {
+        val spec = specForType(query.getResultType()).orElse(null);
+        if(spec==null
+                || !spec.isEntity()) {
+            return 0L;
+        }
+        val entityFacet = spec.getFacet(EntityFacet.class);
 
+        if(bulkSetBasedDelete
+                && !hasRemovalSideEffects(spec)) {
+            transactionService.flushTransaction();
+            val deleted = entityFacet.deleteAllSetBased(spec, query);
+            if(deleted.isPresent()) {
+                if(deleted.getAsLong() > 0) {
+                    postBulkChange(Collections.singleton(query.getResultType()));
+                }
+                return deleted.getAsLong();
+            }
+        }
+
+        return callBulk(()->Collections.singleton(query.getResultType()), ()->{
+
+            if(!query.getRange().isUnconstrained()) {
+                val removed = new ArrayList<Object>();
+                for(val entity : allMatches(query)) {
+                    if(!removeIfAttached(entity)) {
+                        continue;
+                    }
+                    removed.add(entity);
+                    if(removed.size() % bulkChunkSize == 0) {
+                        transactionService.flushTransaction();
+                    }
+                }
+                flushAndEvict(entityFacet, removed);
+                return (long) removed.size();
+            }
+
+            // repeatedly fetch the first chunk, as those previously fetched are gone once flushed
+            val chunkQuery = query.withRange(QueryRange.limit(bulkChunkSize));
+            long removed = 0L;
+            while(true) {
+                val chunk = submitQuery(chunkQuery);
+                val removedOfChunk = chunk.stream()
+                        .filter(this::removeIfAttached)
+                        .count();
+                removed += removedOfChunk;
+                flushAndEvict(entityFacet, chunk);
+                if(chunk.size() < bulkChunkSize
+                        || removedOfChunk == 0) {
+                    // otherwise the same (not removable) entities would be fetched over and over again
+                    return removed;
+                }
+            }
+        });
+    }
+
+    @Override
+    public <T> long updateAll(final @NonNull Query<T> query, final @NonNull Consumer<? super T> updater) {
+        val spec = specForType(query.getResultType()).orElse(null);
+        if(spec==null) {
+            return 0L;
+        }
+        val entityFacet = spec.getFacet(EntityFacet.class);
+        return callBulk(()->Collections.singleton(query.getResultType()), ()->{
+
+            if(autoFlush) {
+                transactionService.flushTransaction();
+            }
+
+            // first collect (the bookmarks of) all matching entities, before any is updated; as the updater may
+            // well change which entities match, paging the query while updating would skip some of them
+            val bookmarks = new LinkedHashSet<Bookmark>();
+            val range = query.getRange();
+            long remaining = range.hasLimit()
+                    ? range.getLimit()
+                    : Long.MAX_VALUE;
+            long fetched = 0L;
+            while(remaining > 0) {
+                val limit = Math.min(bulkChunkSize, remaining);
+                val chunk = submitQuery(query.withRange(QueryRange.of(range.getStart() + fetched, limit)));
+                chunk.forEach(entity->bookmarks.add(bookmarkOf(entity)));
+                fetched += chunk.size();
+                remaining -= chunk.size();
+                evict(entityFacet, chunk);
+                if(chunk.size() < limit) {
+                    break;
+                }
+            }
+
+            // then update them by id, chunk by chunk
+            long updated = 0L;
+            List<T> chunk = new ArrayList<>();
+            for(val bookmark : bookmarks) {
+                final T entity = _Casts.uncheckedCast(load(spec, bookmark));
+                if(entity == null) {
+                    continue; // removed meanwhile
+                }
+                updater.accept(entity);
+                chunk.add(entity);
+                if(chunk.size() == bulkChunkSize) {
+                    updated += chunk.size();
+                    flushAndEvict(entityFacet, chunk);
+                    chunk = new ArrayList<>();
+                }
+            }
+            updated += chunk.size();
+            flushAndEvict(entityFacet, chunk);
+            return updated;
+        });
+    }
+
+    @Override
+    public <T> long updateAll(final @Nullable Collection<T> entities, final @NonNull Consumer<? super T> updater) {
+        if(_NullSafe.isEmpty(entities)) {
+            return 0L;
+        }
+        return callBulk(()->typesOf(entities), ()->{
+            long updated = 0L;
+            for(val entity : entities) {
+                final T unwrapped = _Casts.uncheckedCast(unwrapped(entity));
+                updater.accept(unwrapped);
+                if(++updated % bulkChunkSize == 0) {
+                    transactionService.flushTransaction();
+                }
+            }
+            transactionService.flushTransaction();
+            return updated;
+        });
     }
 
     // -- HELPER
 
+    /**
+     * Runs given bulk operation, with per entity lifecycle events suppressed unless configured otherwise; if
+     * suppressed, a {@link BulkChangeEvent} is posted for each of the types of the entities changed instead.
+     */
+    private long callBulk(
+            final Supplier<Set<Class<?>>> entityTypes,
+            final Supplier<Long> bulkOperation) {
+        if(bulkPublishLifecycleEvents) {
+            return bulkOperation.get();
+        }
+        final long changed = PersistenceCallbackHandlerAbstract.callWithLifecycleEventsSuppressed(bulkOperation);
+        if(changed > 0) {
+            postBulkChange(entityTypes.get());
+        }
+        return changed;
+    }
+
+    private void postBulkChange(final Set<Class<?>> entityTypes) {
+        entityTypes.forEach(entityType->eventBusService.post(BulkChangeEvent.of(entityType)));
+    }
+
+    private Set<Class<?>> typesOf(final Collection<?> domainObjects) {
+        return domainObjects.stream()
+                .map(this::unwrapped)
+                .filter(Objects::nonNull)
+                .<Class<?>>map(Object::getClass)
+                .collect(Collectors.toSet());
+    }
+
+    private void flushAndEvict(final @Nullable EntityFacet entityFacet, final Collection<?> entities) {
+        transactionService.flushTransaction();
+        evict(entityFacet, entities);
+    }
+
+    private static void evict(final @Nullable EntityFacet entityFacet, final Collection<?> entities) {
+        if(entityFacet!=null
+                && !entities.isEmpty()) {
+            entityFacet.evictFromPersistenceContext(entities);
+        }
+    }
+
+    /**
+     * @return whether the given entity was attached, hence is now removed
+     */
+    boolean removeIfAttached(final Object domainObject) {
+        val adapter = objectManager.adapt(unwrapped(domainObject));
+        if(!EntityUtil.isAttached(adapter)) {
+            return false;
+        }
+        EntityUtil.destroyInCurrentTransaction(adapter);
+        return true;
+    }
+
+    Bookmark bookmarkOf(final Object entity) {
+        return objectManager.bookmarkObject(objectManager.adapt(entity));
+    }
+
+    @Nullable
+    Object load(final ObjectSpecification spec, final Bookmark bookmark) {
+        return UnwrapUtil.single(objectManager.loadObject(ObjectLoader.Request.of(spec, bookmark)));
+    }
+
+    /**
+     * Whether removing an instance of given entity type does more than deleting its row, that is, is observed by
+     * a lifecycle event, callback or entity change publishing.
+     */
+    private static boolean hasRemovalSideEffects(final ObjectSpecification spec) {
+        return spec.containsFacet(RemovingLifecycleEventFacet.class)
+                || spec.containsFacet(RemovingCallbackFacet.class)
+                || EntityChangePublishingFacet.isPublishingEnabled(spec);
+    }
+
+    private Optional<ObjectSpecification> specForType(final Class<?> type) {
+        return objectManager.getMetaModelContext()
+                .getSpecificationLoader()
+                .specForType(type);
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
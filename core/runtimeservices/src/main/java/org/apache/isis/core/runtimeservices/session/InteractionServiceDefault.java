@@ -23,7 +23,6 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -76,7 +75,8 @@
 /**
  * Is the factory of {@link Interaction}s.
  *
- * @implNote holds a reference to the current session using a thread-local
+ * @implNote holds a reference to the current session using a thread-local, which is only populated while
+ * an interaction is open, so no state is left behind on pooled (or virtual) threads
  */
 @Service
 @Named("isis.runtimeservices.InteractionServiceDefault")
@@ -88,7 +88,11 @@
     InteractionService,
     InteractionLayerTracker {
 
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    /**
+     * Not using {@link ThreadLocal#withInitial(java.util.function.Supplier)}, as mere queries
+     * (eg. {@link #isInInteraction()}) must not leave an empty stack behind on the thread.
+     */
+    final ThreadLocal<_InteractionLayerStack> interactionLayerStack = new ThreadLocal<>();
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -162,7 +166,10 @@ public void init(final ContextRefreshedEvent event) {
 
     @Override
     public int getInteractionLayerCount() {
-        return interactionLayerStack.get().size();
+        val stack = interactionLayerStack.get();
+        return stack != null
+                ? stack.size()
+                : 0;
     }
 
     @Override
@@ -192,7 +199,8 @@ public InteractionLayer openInteraction(
 
         val interactionLayer = new InteractionLayer(isisInteraction, interactionContextToUse);
 
-        interactionLayerStack.get().push(interactionLayer);
+        val stack = interactionLayerStackElseCreate();
+        stack.push(interactionLayer);
 
         if(isAtTopLevel()) {
         	postInteractionOpened(isisInteraction);
@@ -200,13 +208,13 @@ public InteractionLayer openInteraction(
 
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (conversation-id={}, total-layers-on-stack={}, {})",
-                    interactionId.get(),
-                    interactionLayerStack.get().size(),
+                    stack.getInteractionId(),
+                    stack.size(),
                     _Probe.currentThreadId());
         }
 
         if(XrayUi.isXrayEnabled()) {
-            _Xray.newInteractionLayer(interactionLayerStack.get());
+            _Xray.newInteractionLayer(stack);
         }
 
         return interactionLayer;
@@ -214,17 +222,27 @@ public InteractionLayer openInteraction(
 
     private IsisInteraction getOrCreateIsisInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
-        return interactionLayers.isEmpty()
+        val stack = interactionLayerStack.get();
+        return stack == null
     			? new IsisInteraction(UUID.randomUUID())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(stack.first().getInteraction());
+    }
+
+    private _InteractionLayerStack interactionLayerStackElseCreate() {
+        val stack = interactionLayerStack.get();
+        if(stack != null) {
+            return stack;
+        }
+        val newStack = new _InteractionLayerStack();
+        interactionLayerStack.set(newStack);
+        return newStack;
     }
 
     @Override
     public void closeInteractionLayers() {
         log.debug("about to close the interaction stack (conversation-id={}, total-layers-on-stack={}, {})",
-                interactionId.get(),
-                interactionLayerStack.get().size(),
+                getInteractionId().orElse(null),
+                getInteractionLayerCount(),
                 _Probe.currentThreadId());
 
         closeInteractionLayerStackDownToStackSize(0);
@@ -233,14 +251,14 @@ public void closeInteractionLayers() {
 	@Override
     public Optional<InteractionLayer> currentInteractionLayer() {
     	val stack = interactionLayerStack.get();
-    	return stack.isEmpty()
+    	return stack == null
     	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+                : Optional.of(stack.peek());
     }
 
     @Override
     public boolean isInInteraction() {
-        return !interactionLayerStack.get().isEmpty();
+        return interactionLayerStack.get() != null;
     }
 
     // -- AUTHENTICATED EXECUTION
@@ -251,7 +269,7 @@ public <R> R call(
             final @NonNull InteractionContext interactionContext,
             final @NonNull Callable<R> callable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = getInteractionLayerCount();
         openInteraction(interactionContext);
         try {
             return callInternal(callable);
@@ -266,7 +284,7 @@ public void run(
             final @NonNull InteractionContext interactionContext,
             final @NonNull ThrowingRunnable runnable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = getInteractionLayerCount();
         openInteraction(interactionContext);
         try {
             runInternal(runnable);
@@ -302,11 +320,10 @@ public void runAnonymous(final @NonNull ThrowingRunnable runnable) {
 
     // -- CONVERSATION ID
 
-    private final ThreadLocal<UUID> interactionId = ThreadLocal.withInitial(()->null);
-
     @Override
     public Optional<UUID> getInteractionId() {
-        return Optional.ofNullable(interactionId.get());
+        return Optional.ofNullable(interactionLayerStack.get())
+                .map(_InteractionLayerStack::getInteractionId);
     }
 
     // -- HELPER
@@ -335,16 +352,16 @@ private void runInternal(final @NonNull ThrowingRunnable runnable) {
 
     private void requestRollback() {
         val stack = interactionLayerStack.get();
-        val interaction = _Casts.<IsisInteraction>uncheckedCast(stack.get(0).getInteraction());
+        val interaction = _Casts.<IsisInteraction>uncheckedCast(stack.first().getInteraction());
         txBoundaryHandler.requestRollback(interaction);
     }
 
     private boolean isAtTopLevel() {
-    	return interactionLayerStack.get().size()==1;
+    	return getInteractionLayerCount()==1;
     }
 
     private void postInteractionOpened(final IsisInteraction interaction) {
-        interactionId.set(interaction.getInteractionId());
+        interactionLayerStack.get().setInteractionId(interaction.getInteractionId());
         transactionBoundaryAwareBeans.forEach(bean->bean.beforeEnteringTransactionalBoundary(interaction));
         txBoundaryHandler.onOpen(interaction);
         val isSynchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
@@ -367,11 +384,14 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
 
         log.debug("about to close authenication stack down to size {} (conversation-id={}, total-sessions-on-stack={}, {})",
                 downToStackSize,
-                interactionId.get(),
-                interactionLayerStack.get().size(),
+                getInteractionId().orElse(null),
+                getInteractionLayerCount(),
                 _Probe.currentThreadId());
 
         val stack = interactionLayerStack.get();
+        if(stack == null) {
+            return; // nothing to close
+        }
         while(stack.size()>downToStackSize) {
         	if(isAtTopLevel()) {
         		// keep the stack unmodified yet, to allow for callbacks to properly operate
@@ -380,10 +400,9 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
         	_Xray.closeInteractionLayer(stack);
             stack.pop();
         }
-        if(downToStackSize == 0) {
+        if(stack.isEmpty()) {
             // cleanup thread-local
             interactionLayerStack.remove();
-            interactionId.remove();
         }
     }
 
@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Non-synchronized stack of {@link InteractionLayer}s, that also carries the id of the top-level interaction.
+ *
+ * <p>
+ *     Is confined to a single thread, hence unlike {@link java.util.Stack} does not synchronize,
+ *     which would otherwise pin virtual threads to their carrier threads.
+ * </p>
+ */
+final class _InteractionLayerStack {
+
+    private final List<InteractionLayer> layers = new ArrayList<>(4);
+
+    @Getter @Setter
+    private UUID interactionId;
+
+    int size() {
+        return layers.size();
+    }
+
+    boolean isEmpty() {
+        return layers.isEmpty();
+    }
+
+    void push(final InteractionLayer interactionLayer) {
+        layers.add(interactionLayer);
+    }
+
+    InteractionLayer peek() {
+        return layers.get(layers.size()-1);
+    }
+
+    InteractionLayer pop() {
+        return layers.remove(layers.size()-1);
+    }
+
+    /**
+     * The bottom most layer, the one that opened the interaction.
+     */
+    InteractionLayer first() {
+        return layers.get(0);
+    }
+
+}
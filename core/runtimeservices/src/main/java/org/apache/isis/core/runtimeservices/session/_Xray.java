@@ -18,9 +18,6 @@
  */
 package org.apache.isis.core.runtimeservices.session;
 
-import java.util.Stack;
-
-import org.apache.isis.applib.services.iactnlayer.InteractionLayer;
 import org.apache.isis.commons.internal.debug._XrayEvent;
 import org.apache.isis.commons.internal.debug.xray.XrayDataModel;
 import org.apache.isis.commons.internal.debug.xray.XrayModel.ThreadMemento;
@@ -32,7 +29,7 @@
 //@Log4j2
 final class _Xray {
 
-    static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
+    static void newInteractionLayer(final _InteractionLayerStack afterEnter) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -89,7 +86,7 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
     }
 
-    public static void closeInteractionLayer(final Stack<InteractionLayer> beforeClose) {
+    public static void closeInteractionLayer(final _InteractionLayerStack beforeClose) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.viewmodel;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.viewmodel.ViewModelStateStore;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Holds view model states in memory, evicting the least recently used once the configured maximum number of
+ * entries is exceeded, and any that have not been accessed within the configured time-to-live.
+ *
+ * <p>
+ *     States do not survive a restart, nor are they shared across a cluster (unless sticky sessions are used);
+ *     see {@link ViewModelStateStoreJdbc} for a persistent alternative.
+ * </p>
+ *
+ * <p>
+ *     Not registered by default; <code>@Import</code> this class to enable.
+ * </p>
+ *
+ * @since 2.0
+ */
+@Service
+@Named("isis.runtimeservices.ViewModelStateStoreInMemory")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("InMemory")
+public class ViewModelStateStoreInMemory implements ViewModelStateStore {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final Map<String, StateEntry> entries;
+
+    @Inject
+    public ViewModelStateStoreInMemory(final IsisConfiguration configuration) {
+        this(configuration.getCore().getRuntimeServices().getViewModelStateStore().getInMemory().getMaxEntries(),
+             configuration.getCore().getRuntimeServices().getViewModelStateStore().getInMemory().getTimeToLive());
+    }
+
+    ViewModelStateStoreInMemory(final int maxEntries, final @NonNull Duration timeToLive) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.entries = new LinkedHashMap<String, StateEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, StateEntry> eldest) {
+                return size() > ViewModelStateStoreInMemory.this.maxEntries
+                        || eldest.getValue().isExpired(System.currentTimeMillis());
+            }
+        };
+    }
+
+    @Override
+    public void put(final @NonNull String key, final @NonNull String state) {
+        val now = System.currentTimeMillis();
+        synchronized (entries) {
+            val entry = entries.get(key);
+            if(entry != null) {
+                entry.touch(now);
+                return;
+            }
+            entries.put(key, new StateEntry(state, now));
+        }
+    }
+
+    @Override
+    public Optional<String> lookup(final @NonNull String key) {
+        val now = System.currentTimeMillis();
+        synchronized (entries) {
+            val entry = entries.get(key);
+            if(entry == null) {
+                return Optional.empty();
+            }
+            if(entry.isExpired(now)) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            entry.touch(now);
+            return Optional.of(entry.state);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // -- HELPER
+
+    private final class StateEntry {
+        private final String state;
+        private long lastAccessed;
+
+        StateEntry(final String state, final long now) {
+            this.state = state;
+            this.lastAccessed = now;
+        }
+
+        void touch(final long now) {
+            lastAccessed = now;
+        }
+
+        boolean isExpired(final long now) {
+            return now - lastAccessed > timeToLiveMillis;
+        }
+    }
+
+}
@@ -0,0 +1,269 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.viewmodel;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.viewmodel.ViewModelStateStore;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds view model states in a database table (accessed through the application's {@link DataSource}), so that
+ * they survive restarts and are shared across a cluster.
+ *
+ * <p>
+ *     Because keys are content hashes, a state is written at most once; the most recently used states are
+ *     additionally held (in their encoded form) in memory, so that repeated lookups do not hit the database.
+ * </p>
+ *
+ * <p>
+ *     States expire once not (re-)stored within the configured time-to-live. Re-storing a state touches its row
+ *     at most once per half the time-to-live, even if held in memory, so that a state still in use does not
+ *     expire for other nodes of the cluster (or after a restart). Expired states are deleted
+ *     (using a single <tt>DELETE</tt> statement) when storing a state, at most once per configured purge interval.
+ * </p>
+ *
+ * <p>
+ *     Not registered by default; <code>@Import</code> this class to enable.
+ * </p>
+ *
+ * @since 2.0
+ */
+@Service
+@Named("isis.runtimeservices.ViewModelStateStoreJdbc")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Jdbc")
+@Log4j2
+public class ViewModelStateStoreJdbc implements ViewModelStateStore {
+
+    private final DataSource dataSource;
+    private final IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc config;
+    private final ViewModelStateStoreInMemory cache;
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    /**
+     * When the row of each of the most recently stored states was last written (inserted or touched).
+     */
+    private final Map<String, Long> lastWrittenAt;
+
+    @Inject
+    public ViewModelStateStoreJdbc(final DataSource dataSource, final IsisConfiguration configuration) {
+        this(dataSource, configuration.getCore().getRuntimeServices().getViewModelStateStore().getJdbc());
+    }
+
+    ViewModelStateStoreJdbc(
+            final @NonNull DataSource dataSource,
+            final @NonNull IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc config) {
+        this.dataSource = dataSource;
+        this.config = config;
+        this.cache = new ViewModelStateStoreInMemory(config.getCacheSize(), config.getTimeToLive());
+        this.lastWrittenAt = Collections.synchronizedMap(new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Long> eldest) {
+                return size() > config.getCacheSize();
+            }
+        });
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!config.isAutoCreateTable()) {
+            return;
+        }
+        try(val connection = dataSource.getConnection()) {
+            if(!tableExists(connection)) {
+                try(val statement = connection.createStatement()) {
+                    statement.executeUpdate(String.format(
+                            "CREATE TABLE %s (stateKey VARCHAR(64) NOT NULL PRIMARY KEY, state CLOB NOT NULL, "
+                            + "createdAt TIMESTAMP NOT NULL)",
+                            tableName()));
+                }
+                log.info("created table {} for view model states", tableName());
+            }
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable("failed to create table " + tableName(), e);
+        }
+    }
+
+    @Override
+    public void put(final @NonNull String key, final @NonNull String state) {
+        val now = System.currentTimeMillis();
+        val writtenAt = lastWrittenAt.get(key);
+        if(writtenAt != null
+                && now - writtenAt < config.getTimeToLive().toMillis() / 2) {
+            // its row is touched again well before it expires
+            cache.put(key, state);
+            return;
+        }
+        purgeExpiredIfDue();
+        try(val connection = dataSource.getConnection()) {
+            if(!exists(connection, key)) {
+                insert(connection, key, state);
+            } else {
+                touch(connection, key);
+            }
+        } catch (SQLException e) {
+            // most likely a concurrent insert of the same key, which is fine as keys are content hashes
+            if(!lookupFromTable(key).isPresent()) {
+                throw _Exceptions.unrecoverable("failed to store view model state " + key, e);
+            }
+        }
+        lastWrittenAt.put(key, now);
+        cache.put(key, state);
+    }
+
+    @Override
+    public Optional<String> lookup(final @NonNull String key) {
+        val cached = cache.lookup(key);
+        if(cached.isPresent()) {
+            return cached;
+        }
+        val state = lookupFromTable(key);
+        state.ifPresent(s->cache.put(key, s));
+        return state;
+    }
+
+    /**
+     * Deletes the expired view model states.
+     *
+     * @return the number of view model states deleted
+     */
+    int purgeExpired() {
+        try(val connection = dataSource.getConnection();
+            val statement = connection.prepareStatement(
+                    String.format("DELETE FROM %s WHERE createdAt < ?", tableName()))) {
+            statement.setTimestamp(1, expiryCutoff());
+            val deleted = statement.executeUpdate();
+            log.debug("deleted {} expired view model states", deleted);
+            return deleted;
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable("failed to delete expired view model states", e);
+        }
+    }
+
+    // -- HELPER
+
+    private void purgeExpiredIfDue() {
+        val now = System.currentTimeMillis();
+        val purgeAt = nextPurgeAt.get();
+        if(now < purgeAt
+                || !nextPurgeAt.compareAndSet(purgeAt, now + config.getPurgeInterval().toMillis())) {
+            return; // not yet due, or another thread purges
+        }
+        try {
+            purgeExpired();
+        } catch (Exception e) {
+            log.warn("failed to delete expired view model states", e);
+        }
+    }
+
+    private Timestamp expiryCutoff() {
+        return new Timestamp(System.currentTimeMillis() - config.getTimeToLive().toMillis());
+    }
+
+    private Optional<String> lookupFromTable(final String key) {
+        try(val connection = dataSource.getConnection()) {
+            return select(connection, key);
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable("failed to lookup view model state " + key, e);
+        }
+    }
+
+    private Optional<String> select(final Connection connection, final String key) throws SQLException {
+        try(val statement = connection.prepareStatement(
+                String.format("SELECT state FROM %s WHERE stateKey = ? AND createdAt >= ?", tableName()))) {
+            statement.setString(1, key);
+            statement.setTimestamp(2, expiryCutoff());
+            try(val resultSet = statement.executeQuery()) {
+                return resultSet.next()
+                        ? Optional.ofNullable(resultSet.getString(1))
+                        : Optional.empty();
+            }
+        }
+    }
+
+    private boolean exists(final Connection connection, final String key) throws SQLException {
+        try(val statement = connection.prepareStatement(
+                String.format("SELECT 1 FROM %s WHERE stateKey = ?", tableName()))) {
+            statement.setString(1, key);
+            try(val resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    /**
+     * Restarts the time-to-live of a state that is stored again.
+     */
+    private void touch(final Connection connection, final String key) throws SQLException {
+        try(val statement = connection.prepareStatement(
+                String.format("UPDATE %s SET createdAt = ? WHERE stateKey = ?", tableName()))) {
+            statement.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+            statement.setString(2, key);
+            statement.executeUpdate();
+        }
+    }
+
+    private void insert(final Connection connection, final String key, final String state) throws SQLException {
+        try(val statement = connection.prepareStatement(
+                String.format("INSERT INTO %s (stateKey, state, createdAt) VALUES (?, ?, ?)", tableName()))) {
+            statement.setString(1, key);
+            statement.setString(2, state);
+            statement.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            statement.executeUpdate();
+        }
+    }
+
+    private boolean tableExists(final Connection connection) {
+        try(val statement = connection.createStatement()) {
+            statement.executeQuery(String.format("SELECT COUNT(*) FROM %s WHERE 1=0", tableName())).close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private String tableName() {
+        return config.getTableName();
+    }
+
+}
@@ -20,6 +20,7 @@
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -27,9 +28,14 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -59,6 +65,7 @@
 import org.apache.isis.applib.services.wrapper.WrappingObject;
 import org.apache.isis.applib.services.wrapper.control.AsyncControl;
 import org.apache.isis.applib.services.wrapper.control.ExecutionMode;
+import org.apache.isis.applib.services.wrapper.control.FanOut;
 import org.apache.isis.applib.services.wrapper.control.SyncControl;
 import org.apache.isis.applib.services.wrapper.events.ActionArgumentEvent;
 import org.apache.isis.applib.services.wrapper.events.ActionInvocationEvent;
@@ -82,10 +89,12 @@
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.collections.ImmutableEnumSet;
 import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Arrays;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.proxy._ProxyFactoryService;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.config.progmodel.ProgrammingModelConstants.MixinConstructor;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.interactions.InteractionHead;
@@ -126,12 +135,16 @@ public class WrapperFactoryDefault implements WrapperFactory {
     @Inject ServiceInjector serviceInjector;
     @Inject _ProxyFactoryService proxyFactoryService; // protected to allow JUnit test
     @Inject @Lazy CommandDtoFactory commandDtoFactory;
+    @Inject InteractionService interactionService;
+    @Inject IsisConfiguration isisConfiguration;
 
     private final List<InteractionListener> listeners = new ArrayList<>();
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher>
         dispatchersByEventClass = new HashMap<>();
     private ProxyContextHandler proxyContextHandler;
 
+    private final _Lazy<ExecutorService> fanOutExecutorService = _Lazy.threadSafe(this::createFanOutExecutorService);
+
     @PostConstruct
     public void init() {
 
@@ -156,6 +169,11 @@ public void init() {
         putDispatcher(CollectionMethodEvent.class, InteractionListener::collectionMethodInvoked);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutorService.getMemoized().ifPresent(ExecutorService::shutdownNow);
+    }
+
     // -- WRAPPING
 
     @Override
@@ -343,6 +361,28 @@ public <T, R> T asyncWrapMixin(
         }, new Object[]{ mixee });
     }
 
+    // -- FAN OUT
+
+    @Override
+    public <R> FanOut<R> fanOut(final @NonNull Collection<? extends Callable<? extends R>> tasks) {
+        // capture the caller's interaction context now, on the calling thread
+        final List<Callable<? extends R>> tasksWithContext = tasks.stream()
+                .map(task->interactionService.callableWithCurrentContext(task))
+                .collect(Collectors.toList());
+        return new _FanOut<R>(tasksWithContext, fanOutExecutorService.get());
+    }
+
+    private ExecutorService createFanOutExecutorService() {
+        val maxParallelism = isisConfiguration.getCore().getRuntimeServices()
+                .getWrapperFactory().getFanOut().getMaxParallelism();
+        val threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxParallelism, runnable->{
+            val thread = new Thread(runnable, "isis-fan-out-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     private boolean isInheritedFromJavaLangObject(final Method method) {
         return method.getDeclaringClass().equals(Object.class);
     }
@@ -0,0 +1,203 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.isis.applib.services.wrapper.control.FanOut;
+import org.apache.isis.commons.functional.Result;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Default implementation of {@link FanOut}, as returned by {@link WrapperFactoryDefault}.
+ *
+ * <p>
+ *     The tasks are expected to already carry their interaction context with them
+ *     (see {@link org.apache.isis.applib.services.iactnlayer.InteractionService#callableWithCurrentContext(Callable)}).
+ * </p>
+ *
+ * <p>
+ *     Nested fan-outs (initiated from within a task) are run inline, on the calling thread.
+ * </p>
+ */
+final class _FanOut<R> implements FanOut<R> {
+
+    /**
+     * Whether the current thread is running one of the tasks of some fan-out.
+     */
+    private static final ThreadLocal<Boolean> runningTask = ThreadLocal.withInitial(()->Boolean.FALSE);
+
+    private final @NonNull List<Callable<? extends R>> tasks;
+    private @NonNull ExecutorService executorService;
+
+    private Duration timeout;
+    private boolean cancelOnFailure = true;
+
+    _FanOut(
+            final @NonNull List<Callable<? extends R>> tasks,
+            final @NonNull ExecutorService executorService) {
+        this.tasks = tasks;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public FanOut<R> withTimeout(final @NonNull Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public FanOut<R> with(final @NonNull ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    @Override
+    public FanOut<R> withCancelOnFailure(final boolean cancelOnFailure) {
+        this.cancelOnFailure = cancelOnFailure;
+        return this;
+    }
+
+    @Override
+    public Result<List<R>> join() {
+
+        final int taskCount = tasks.size();
+        if(taskCount == 0) {
+            return Result.success(Collections.emptyList());
+        }
+
+        final long deadline = timeout != null
+                ? System.nanoTime() + timeout.toNanos()
+                : 0L;
+
+        if(runningTask.get()) {
+            return joinInline(deadline);
+        }
+
+        val completionService = new ExecutorCompletionService<R>(executorService);
+        final Map<Future<R>, Integer> indexByFuture = new IdentityHashMap<>(taskCount);
+        for(int i = 0; i < taskCount; i++) {
+            val task = tasks.get(i);
+            indexByFuture.put(completionService.submit(()->callAsTask(task)), i);
+        }
+
+        final List<R> results = new ArrayList<>(Collections.nCopies(taskCount, null));
+        Throwable firstFailure = null;
+
+        try {
+            for(int completed = 0; completed < taskCount; completed++) {
+                final Future<R> future;
+                if(timeout != null) {
+                    future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if(future == null) {
+                        cancelAll(indexByFuture);
+                        return Result.failure(timeoutException());
+                    }
+                } else {
+                    future = completionService.take();
+                }
+                try {
+                    results.set(indexByFuture.get(future), future.get());
+                } catch (ExecutionException e) {
+                    if(firstFailure == null) {
+                        firstFailure = e.getCause();
+                    }
+                    if(cancelOnFailure) {
+                        cancelAll(indexByFuture);
+                        return Result.failure(firstFailure);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll(indexByFuture);
+            Thread.currentThread().interrupt();
+            return Result.failure(e);
+        }
+
+        return firstFailure != null
+                ? Result.failure(firstFailure)
+                : Result.success(Collections.unmodifiableList(results));
+    }
+
+    // -- HELPER
+
+    private static <R> R callAsTask(final Callable<? extends R> task) throws Exception {
+        final boolean wasRunningTask = runningTask.get();
+        runningTask.set(Boolean.TRUE);
+        try {
+            return task.call();
+        } finally {
+            if(!wasRunningTask) {
+                runningTask.remove();
+            }
+        }
+    }
+
+    /**
+     * Runs the tasks one after the other, on the calling thread.
+     */
+    private Result<List<R>> joinInline(final long deadline) {
+        final List<R> results = new ArrayList<>(tasks.size());
+        Throwable firstFailure = null;
+        for(val task : tasks) {
+            if(timeout != null
+                    && deadline - System.nanoTime() <= 0) {
+                return Result.failure(timeoutException());
+            }
+            try {
+                results.add(task.call());
+            } catch (Exception e) {
+                if(firstFailure == null) {
+                    firstFailure = e;
+                }
+                if(cancelOnFailure) {
+                    return Result.failure(firstFailure);
+                }
+                results.add(null);
+            }
+        }
+        return firstFailure != null
+                ? Result.failure(firstFailure)
+                : Result.success(Collections.unmodifiableList(results));
+    }
+
+    private TimeoutException timeoutException() {
+        return new TimeoutException(String.format(
+                "fan-out of %d tasks did not complete within %s", tasks.size(), timeout));
+    }
+
+    private static void cancelAll(final Map<? extends Future<?>, Integer> indexByFuture) {
+        indexByFuture.keySet().forEach(future->future.cancel(true));
+    }
+
+}
@@ -18,11 +18,14 @@
  */
 package org.apache.isis.core.runtimeservices.i18n.po;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jmock.Expectations;
+import org.jmock.States;
 import org.jmock.auto.Mock;
 import org.junit.Assert;
 import org.junit.Before;
@@ -226,6 +229,73 @@ protected List<String> readPo(final Locale locale) {
 
 
 
+        @Test
+        public void pluralAndRegularOfSameMsgId() throws Exception {
+
+            // given
+            final TranslationContext context = TranslationContext.ofName("someContext");
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add(String.format("#: %s", context.getName()));
+                    lines.add("msgid \"Work of art\"");
+                    lines.add("msgid_plural \"Works of art\"");
+                    lines.add("msgstr[0] \"Œuvre d'art\"");
+                    lines.add("msgstr[1] \"Les œuvres d'art\"");
+
+                    lines.add("");
+
+                    lines.add(String.format("#: %s", context.getName()));
+                    lines.add("msgid \"Works of art\"");
+                    lines.add("msgstr \"Œuvres d'art (titre)\"");
+
+                    lines.add("");
+                    return lines;
+                }
+            };
+
+            // when
+            final String regular = poReader.translate(context, "Works of art");
+            final String plural = poReader.translate(context, "Work of art", "Works of art", 2);
+
+            // then
+            assertThat(regular, is(equalTo("Œuvres d'art (titre)")));
+            assertThat(plural, is(equalTo("Les œuvres d'art")));
+        }
+
+        @Test
+        public void usesFallbackIsRedeterminedOnReload() throws Exception {
+
+            // given
+            final States deployment = context.states("deployment").startsAs("missing");
+            context.checking(new Expectations() {{
+                allowing(mockTranslationsResolver).readLines("translations-en_GB.po");
+                will(returnValue(_Lists.of(
+                        "#: someContext",
+                        "msgid \"Work of art\"",
+                        "msgstr \"Objet d'art\"")));
+                when(deployment.is("deployed"));
+
+                allowing(mockTranslationsResolver).readLines(with(any(String.class)));
+                will(returnValue(Collections.emptyList()));
+            }});
+
+            poReader = new PoReader(mockTranslationServicePo);
+            poReader.setHotReloadIntervalMillis(1L);
+            assertThat(poReader.usesFallback(Locale.UK), is(true));
+
+            // when
+            deployment.become("deployed");
+            Thread.sleep(10L);
+
+            // then
+            assertThat(poReader.usesFallback(Locale.UK), is(false));
+            assertThat(poReader.translate(TranslationContext.ofName("someContext"), "Work of art"),
+                    is(equalTo("Objet d'art")));
+        }
+
         @Test
         public void noTranslation() throws Exception {
 
@@ -246,6 +316,52 @@ protected List<String> readPo(final Locale locale) {
             // then
             assertThat(translated, is(equalTo("Something to translate")));
         }
+
+        @Test
+        public void readOncePerLocale() throws Exception {
+
+            // given
+            final TranslationContext context = TranslationContext.ofName("someContext");
+            final AtomicInteger reads = new AtomicInteger();
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    reads.incrementAndGet();
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add(String.format("#: %s", context.getName()));
+                    lines.add("msgid \"Work of art\"");
+                    lines.add("msgstr \"Objet d'art\"");
+                    return lines;
+                }
+            };
+
+            // when
+            poReader.translate(context, "Work of art");
+            poReader.translate(context, "Something else");
+
+            // then
+            assertThat(reads.get(), is(1));
+        }
+
+        @Test
+        public void sourceLanguage() throws Exception {
+
+            // given
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    throw new AssertionError("not expected to be read");
+                }
+            };
+            poReader.setSourceLanguage(Optional.of("en"));
+
+            // when
+            final String translated = poReader.translate(TranslationContext.ofName("someContext"), "Work of art");
+
+            // then
+            assertThat(translated, is(equalTo("Work of art")));
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,338 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.applib.services.repository.EntityState;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.metamodel.facets.object.callbacks.RemovingCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.RemovingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.transaction.changetracking.events.BulkChangeEvent;
+
+import lombok.val;
+
+class RepositoryServiceDefaultTest_bulk {
+
+    static class Customer {
+        boolean done;
+    }
+
+    private IsisConfiguration configuration;
+    private TransactionService transactionService;
+    private ObjectManager objectManager;
+    private ObjectSpecification spec;
+    private EntityFacet entityFacet;
+    private EventBusService eventBusService;
+
+    private RepositoryServiceDefault repositoryService;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new IsisConfiguration(null);
+        transactionService = mock(TransactionService.class);
+        objectManager = mock(ObjectManager.class, RETURNS_DEEP_STUBS);
+        spec = mock(ObjectSpecification.class);
+        entityFacet = mock(EntityFacet.class);
+        eventBusService = mock(EventBusService.class);
+
+        when(objectManager.getMetaModelContext().getSpecificationLoader().specForType(Customer.class))
+            .thenReturn(Optional.of(spec));
+        when(spec.isEntity()).thenReturn(true);
+        when(spec.getFacet(EntityFacet.class)).thenReturn(entityFacet);
+        when(entityFacet.deleteAllSetBased(any(), any())).thenReturn(OptionalLong.of(42L));
+    }
+
+    // -- REMOVE ALL
+
+    @Test
+    void removeAll_removesPerEntity_byDefault() {
+        // given
+        val customers = customers(2);
+        initRepositoryService();
+        doReturn(customers, Collections.emptyList()).when(repositoryService).submitQuery(any());
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(2L, removed);
+        verify(entityFacet, never()).deleteAllSetBased(any(), any());
+        verify(repositoryService).removeIfAttached(customers.get(0));
+        verify(repositoryService).removeIfAttached(customers.get(1));
+        verify(entityFacet).evictFromPersistenceContext(customers);
+        verify(eventBusService).post(BulkChangeEvent.of(Customer.class));
+    }
+
+    @Test
+    void removeAll_isSetBased_whenOptedIn() {
+        // given
+        bulk().setSetBasedDelete(true);
+        initRepositoryService();
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(42L, removed);
+        verify(repositoryService, never()).submitQuery(any());
+        verify(repositoryService, never()).removeIfAttached(any());
+        verify(eventBusService).post(BulkChangeEvent.of(Customer.class));
+    }
+
+    @Test
+    void removeAll_removesPerEntity_whenOptedIn_butHavingRemovingLifecycleEvent() {
+        // given
+        bulk().setSetBasedDelete(true);
+        when(spec.containsFacet(RemovingLifecycleEventFacet.class)).thenReturn(true);
+        initRepositoryService();
+        doReturn(customers(1)).when(repositoryService).submitQuery(any());
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(1L, removed);
+        verify(entityFacet, never()).deleteAllSetBased(any(), any());
+    }
+
+    @Test
+    void removeAll_removesPerEntity_whenOptedIn_butHavingRemovingCallback() {
+        // given
+        bulk().setSetBasedDelete(true);
+        when(spec.containsFacet(RemovingCallbackFacet.class)).thenReturn(true);
+        initRepositoryService();
+        doReturn(customers(1)).when(repositoryService).submitQuery(any());
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(1L, removed);
+        verify(entityFacet, never()).deleteAllSetBased(any(), any());
+    }
+
+    @Test
+    void removeAll_removesPerEntity_whenSetBasedNotSupported() {
+        // given
+        bulk().setSetBasedDelete(true);
+        when(entityFacet.deleteAllSetBased(any(), any())).thenReturn(OptionalLong.empty());
+        initRepositoryService();
+        doReturn(customers(1)).when(repositoryService).submitQuery(any());
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(1L, removed);
+        verify(repositoryService, times(1)).removeIfAttached(any());
+    }
+
+    @Test
+    void removeAll_stops_whenChunkRemovesNothing() {
+        // given
+        bulk().setChunkSize(2);
+        val notAttached = customers(2);
+        initRepositoryService();
+        doReturn(notAttached).when(repositoryService).submitQuery(any());
+        doReturn(false).when(repositoryService).removeIfAttached(any());
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(0L, removed);
+        verify(repositoryService, times(1)).submitQuery(any());
+    }
+
+    @Test
+    void removeAll_evictsEachChunk_once_flushed() {
+        // given
+        bulk().setChunkSize(2);
+        val chunk1 = customers(2);
+        val chunk2 = customers(1);
+        initRepositoryService();
+        doReturn(chunk1, chunk2).when(repositoryService).submitQuery(any());
+
+        // when
+        val removed = repositoryService.removeAll(Query.allInstances(Customer.class));
+
+        // then
+        assertEquals(3L, removed);
+        verify(transactionService, times(2)).flushTransaction();
+        verify(entityFacet).evictFromPersistenceContext(chunk1);
+        verify(entityFacet).evictFromPersistenceContext(chunk2);
+    }
+
+    // -- PERSIST ALL
+
+    @Test
+    void persistAll_flushesPerChunk_andKeepsEntitiesAttached() {
+        // given
+        bulk().setChunkSize(2);
+        val customers = customers(3);
+        customers.forEach(this::adaptAsDetached);
+        initRepositoryService();
+
+        // when
+        val persisted = repositoryService.persistAll(customers);
+
+        // then
+        assertEquals(3L, persisted);
+        customers.forEach(customer->verify(entityFacet).persist(spec, customer));
+        verify(transactionService, times(2)).flushTransaction();
+        verify(entityFacet, never()).evictFromPersistenceContext(any());
+    }
+
+    // -- UPDATE ALL
+
+    @Test
+    void updateAll_viaQuery_updatesAllMatching_evenIfNoLongerMatchingOnceUpdated() {
+        // given ... 5 customers not yet done, the query matching those not yet done
+        bulk().setChunkSize(2);
+        val customers = customers(5);
+        initRepositoryService();
+        doAnswer(invocation->{
+            final Query<?> query = invocation.getArgument(0);
+            return customers.stream()
+                    .filter(customer->!customer.done)
+                    .skip(query.getRange().getStart())
+                    .limit(query.getRange().getLimit())
+                    .collect(Collectors.toList());
+        }).when(repositoryService).submitQuery(any());
+        doAnswer(invocation->customers.get(Integer.parseInt(invocation.<Bookmark>getArgument(1).getIdentifier())))
+            .when(repositoryService).load(any(), any());
+        doAnswer(invocation->Bookmark.forLogicalTypeNameAndIdentifier(
+                "Customer", "" + customers.indexOf(invocation.getArgument(0))))
+            .when(repositoryService).bookmarkOf(any());
+
+        // when
+        val updated = repositoryService.updateAll(Query.allInstances(Customer.class), customer->customer.done = true);
+
+        // then
+        assertEquals(5L, updated);
+        customers.forEach(customer->assertTrue(customer.done));
+        // once collected, and once updated
+        verify(entityFacet, times(2)).evictFromPersistenceContext(customers.subList(0, 2));
+        verify(entityFacet, times(2)).evictFromPersistenceContext(customers.subList(2, 4));
+        verify(entityFacet, times(2)).evictFromPersistenceContext(customers.subList(4, 5));
+    }
+
+    @Test
+    void updateAll_ofEntities_flushesPerChunk_andKeepsEntitiesAttached() {
+        // given
+        bulk().setChunkSize(2);
+        val customers = customers(4);
+        initRepositoryService();
+        val updatedCustomers = new ArrayList<Customer>();
+
+        // when
+        val updated = repositoryService.updateAll(customers, updatedCustomers::add);
+
+        // then
+        assertEquals(4L, updated);
+        assertEquals(customers, updatedCustomers);
+        verify(transactionService, times(3)).flushTransaction();
+        verify(entityFacet, never()).evictFromPersistenceContext(any());
+    }
+
+    @Test
+    void updateAll_ofEntities_postsBulkChange_whenLifecycleEventsSuppressed() {
+        // given
+        bulk().setPublishLifecycleEvents(false);
+        initRepositoryService();
+
+        // when
+        repositoryService.updateAll(customers(2), customer->{});
+
+        // then
+        verify(eventBusService, times(1)).post(BulkChangeEvent.of(Customer.class));
+    }
+
+    @Test
+    void updateAll_ofEntities_postsNoBulkChange_whenLifecycleEventsPublished() {
+        // given
+        bulk().setPublishLifecycleEvents(true);
+        initRepositoryService();
+
+        // when
+        repositoryService.updateAll(customers(2), customer->{});
+
+        // then
+        verify(eventBusService, never()).post(any());
+    }
+
+    // -- HELPER
+
+    private IsisConfiguration.Core.RuntimeServices.RepositoryService.Bulk bulk() {
+        return configuration.getCore().getRuntimeServices().getRepositoryService().getBulk();
+    }
+
+    private void initRepositoryService() {
+        repositoryService = spy(new RepositoryServiceDefault(
+                null, null, transactionService, configuration, objectManager, eventBusService));
+        repositoryService.init();
+        doReturn(true).when(repositoryService).removeIfAttached(any());
+    }
+
+    private static List<Customer> customers(final int count) {
+        val customers = new Customer[count];
+        Arrays.setAll(customers, i->new Customer());
+        return Arrays.asList(customers);
+    }
+
+    private void adaptAsDetached(final Customer customer) {
+        val adapter = mock(ManagedObject.class);
+        when(adapter.getSpecification()).thenReturn(spec);
+        when(adapter.getPojo()).thenReturn(customer);
+        when(objectManager.adapt(customer)).thenReturn(adapter);
+        when(entityFacet.getEntityState(customer)).thenReturn(EntityState.PERSISTABLE_DETACHED);
+    }
+
+}
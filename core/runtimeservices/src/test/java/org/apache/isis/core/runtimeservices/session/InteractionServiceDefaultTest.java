@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.session;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.core.interaction.integration.InteractionAwareTransactionalBoundaryHandler;
+import org.apache.isis.core.interaction.scope.InteractionScopeBeanFactoryPostProcessor;
+import org.apache.isis.core.interaction.scope.InteractionScopeLifecycleHandler;
+import org.apache.isis.core.metamodel.services.publishing.CommandPublisher;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.events.MetamodelEventService;
+
+import lombok.val;
+
+class InteractionServiceDefaultTest {
+
+    private final InteractionContext interactionContext =
+            InteractionContext.ofUserWithSystemDefaults(UserMemento.ofName("sven"));
+
+    private InteractionServiceDefault interactionService;
+    private ExecutorService worker;
+
+    @BeforeEach
+    void setUp() {
+        val beanFactory = mock(ConfigurableBeanFactory.class);
+        when(beanFactory.getRegisteredScope(InteractionScopeBeanFactoryPostProcessor.SCOPE_NAME))
+            .thenReturn((Scope) mock(InteractionScopeLifecycleHandler.class, withSettings().extraInterfaces(Scope.class)));
+        val commandPublisher = mock(CommandPublisher.class);
+
+        interactionService = new InteractionServiceDefault(
+                mock(MetamodelEventService.class),
+                mock(SpecificationLoader.class),
+                mock(ServiceInjector.class),
+                mock(InteractionAwareTransactionalBoundaryHandler.class),
+                mock(ClockService.class),
+                ()->commandPublisher,
+                beanFactory);
+        interactionService.transactionBoundaryAwareBeans = List.of();
+
+        worker = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Test
+    void callableWithCurrentContext_propagatesContext_toOtherThread() throws Exception {
+        val callable = interactionService.call(interactionContext, ()->
+                interactionService.callableWithCurrentContext(()->interactionService.currentInteractionContext()));
+
+        val contextOnWorker = worker.submit(callable).get();
+
+        assertEquals(interactionContext, contextOnWorker.orElse(null));
+    }
+
+    @Test
+    void callableWithoutCurrentContext_runsAnonymously() throws Exception {
+        val callable = interactionService.callableWithCurrentContext(()->interactionService.currentInteractionContext());
+
+        val contextOnWorker = worker.submit(callable).get();
+
+        assertTrue(contextOnWorker.isPresent());
+        assertFalse(interactionService.isInInteraction());
+    }
+
+    @Test
+    void threadLocal_isClearedAfterRun() throws Exception {
+        val runnable = interactionService.call(interactionContext, ()->
+                interactionService.runnableWithCurrentContext(()->
+                    assertTrue(interactionService.isInInteraction())));
+
+        worker.submit(()->{ runnable.run(); return null; }).get();
+
+        assertWorkerThreadLocalCleared();
+    }
+
+    @Test
+    void threadLocal_isClearedAfterException() throws Exception {
+        val callable = interactionService.call(interactionContext, ()->
+                interactionService.<String>callableWithCurrentContext(()->{
+                    throw new IllegalStateException("task failed");
+                }));
+
+        val ex = assertThrows(ExecutionException.class, ()->worker.submit(callable).get());
+        assertEquals("task failed", ex.getCause().getMessage());
+
+        assertWorkerThreadLocalCleared();
+    }
+
+    @Test
+    void queries_doNotPopulateThreadLocal() throws Exception {
+        worker.submit(()->{
+            interactionService.isInInteraction();
+            interactionService.currentInteractionLayer();
+            interactionService.getInteractionId();
+            return null;
+        }).get();
+
+        assertWorkerThreadLocalCleared();
+    }
+
+    // -- HELPER
+
+    private void assertWorkerThreadLocalCleared() throws Exception {
+        worker.submit(()->{
+            assertFalse(interactionService.isInInteraction());
+            assertNull(interactionService.interactionLayerStack.get());
+            return null;
+        }).get();
+    }
+
+}
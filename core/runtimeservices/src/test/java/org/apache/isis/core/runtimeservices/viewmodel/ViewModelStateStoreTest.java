@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.viewmodel;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.val;
+
+class ViewModelStateStoreTest {
+
+    @Test
+    void inMemory_roundtrip() {
+        val store = new ViewModelStateStoreInMemory(10, Duration.ofMinutes(1));
+        store.put("~key", "state");
+
+        assertEquals(Optional.of("state"), store.lookup("~key"));
+        assertEquals(Optional.empty(), store.lookup("~other"));
+    }
+
+    @Test
+    void inMemory_evictsLeastRecentlyUsed() {
+        val store = new ViewModelStateStoreInMemory(2, Duration.ofMinutes(1));
+        store.put("a", "1");
+        store.put("b", "2");
+        store.lookup("a");
+        store.put("c", "3");
+
+        assertEquals(2, store.size());
+        assertEquals(Optional.of("1"), store.lookup("a"));
+        assertEquals(Optional.empty(), store.lookup("b"));
+    }
+
+    @Test
+    void inMemory_expires() {
+        val store = new ViewModelStateStoreInMemory(10, Duration.ZERO.minusMillis(1));
+        store.put("a", "1");
+
+        assertEquals(Optional.empty(), store.lookup("a"));
+    }
+
+    @Test
+    void jdbc_roundtrip() {
+        val dataSource = newDataSource();
+
+        val config = new IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc();
+        val store = new ViewModelStateStoreJdbc(dataSource, config);
+        store.init();
+
+        store.put("~key", "state");
+        store.put("~key", "state"); // idempotent
+
+        // bypassing the cache
+        val other = new ViewModelStateStoreJdbc(dataSource, config);
+        assertEquals(Optional.of("state"), other.lookup("~key"));
+        assertEquals(Optional.empty(), other.lookup("~other"));
+    }
+
+    @Test
+    void jdbc_expires_andDeletesExpiredOnWrite() throws SQLException {
+        val dataSource = newDataSource();
+
+        val config = new IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc();
+        config.setTimeToLive(Duration.ZERO.minusMillis(1));
+        config.setPurgeInterval(Duration.ZERO);
+        val store = new ViewModelStateStoreJdbc(dataSource, config);
+        store.init();
+
+        store.put("a", "1");
+        assertEquals(Optional.empty(), store.lookup("a"));
+        assertEquals(1, rowCount(dataSource, config));
+
+        store.put("b", "2"); // deletes "a" (and then stores "b")
+        assertEquals(1, rowCount(dataSource, config));
+
+        assertEquals(1, store.purgeExpired());
+        assertEquals(0, rowCount(dataSource, config));
+    }
+
+    @Test
+    void jdbc_touchesRowOfCachedState_whenStoredAgain_afterHalfTheTimeToLive() throws Exception {
+        val dataSource = newDataSource();
+
+        val config = new IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc();
+        config.setTimeToLive(Duration.ofMillis(400));
+        val store = new ViewModelStateStoreJdbc(dataSource, config);
+        store.init();
+
+        store.put("a", "1");
+        val insertedAt = createdAt(dataSource, config, "a");
+
+        store.put("a", "1"); // held in memory and recently written
+        assertEquals(insertedAt, createdAt(dataSource, config, "a"));
+
+        Thread.sleep(250);
+        store.put("a", "1"); // still held in memory, but its row is touched
+        assertTrue(createdAt(dataSource, config, "a").after(insertedAt));
+    }
+
+    // -- HELPER
+
+    private static JDBCDataSource newDataSource() {
+        val dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:" + UUID.randomUUID());
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static Timestamp createdAt(
+            final JDBCDataSource dataSource,
+            final IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc config,
+            final String key) throws SQLException {
+        try(val connection = dataSource.getConnection();
+            val statement = connection.prepareStatement(
+                    "SELECT createdAt FROM " + config.getTableName() + " WHERE stateKey = ?")) {
+            statement.setString(1, key);
+            try(val resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getTimestamp(1);
+            }
+        }
+    }
+
+    private static int rowCount(
+            final JDBCDataSource dataSource,
+            final IsisConfiguration.Core.RuntimeServices.ViewModelStateStore.Jdbc config) throws SQLException {
+        try(val connection = dataSource.getConnection();
+            val statement = connection.createStatement();
+            val resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + config.getTableName())) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+}
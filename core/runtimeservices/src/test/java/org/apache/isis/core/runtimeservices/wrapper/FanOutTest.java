@@ -0,0 +1,219 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class FanOutTest {
+
+    private static final int TILES = 8;
+    private static final long TILE_MILLIS = 100;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(TILES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void results_areInTaskOrder() {
+        // each tile completes only once its successor has, ie. in reverse order
+        final List<CountDownLatch> completed = new ArrayList<>();
+        for(int i = 0; i < TILES; i++) {
+            completed.add(new CountDownLatch(1));
+        }
+        final List<Callable<? extends Integer>> tasks = new ArrayList<>();
+        for(int i = 0; i < TILES; i++) {
+            final int tile = i;
+            tasks.add(()->{
+                if(tile + 1 < TILES) {
+                    completed.get(tile + 1).await();
+                }
+                completed.get(tile).countDown();
+                return tile;
+            });
+        }
+
+        val results = new _FanOut<Integer>(tasks, executorService).join().presentElseFail();
+
+        for(int i = 0; i < TILES; i++) {
+            assertEquals(i, results.get(i));
+        }
+    }
+
+    @Test
+    void nestedFanOut_runsInline_ratherThanDeadlocking() {
+        val singleThreaded = Executors.newFixedThreadPool(1);
+        try {
+            final List<Callable<? extends List<String>>> tasks = List.of(
+                    ()->new _FanOut<String>(List.of(()->"a", ()->"b"), singleThreaded)
+                            .join()
+                            .presentElseFail());
+
+            val result = new _FanOut<List<String>>(tasks, singleThreaded)
+                    .withTimeout(Duration.ofSeconds(5))
+                    .join();
+
+            assertEquals(List.of(List.of("a", "b")), result.presentElseFail());
+        } finally {
+            singleThreaded.shutdownNow();
+        }
+    }
+
+    @Test
+    void nestedFanOut_failure_isReported() {
+        final List<Callable<? extends List<String>>> tasks = List.of(
+                ()->new _FanOut<String>(
+                        List.of(()->"a", ()->{ throw new IllegalStateException("nested tile failed"); }),
+                        executorService)
+                        .join()
+                        .presentElseFail());
+
+        val result = new _FanOut<List<String>>(tasks, executorService).join();
+
+        assertTrue(result.isFailure());
+        assertEquals("nested tile failed", result.getFailure().get().getMessage());
+    }
+
+    @Test @Tag("LongRunning")
+    void dashboardLatency_fanOut_vsSequential() throws Exception {
+        final List<Callable<? extends String>> tiles = new ArrayList<>();
+        for(int i = 0; i < TILES; i++) {
+            final int tile = i;
+            tiles.add(()->{
+                Thread.sleep(TILE_MILLIS); // simulates a read of a separate service
+                return "tile-" + tile;
+            });
+        }
+
+        final long sequentialStart = System.nanoTime();
+        for(val tile : tiles) {
+            tile.call();
+        }
+        final long sequentialMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sequentialStart);
+
+        final long fanOutStart = System.nanoTime();
+        val results = new _FanOut<String>(tiles, executorService)
+                .withTimeout(Duration.ofSeconds(5))
+                .join()
+                .presentElseFail();
+        final long fanOutMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fanOutStart);
+
+        assertEquals(TILES, results.size());
+        assertTrue(sequentialMillis >= TILES * TILE_MILLIS);
+        assertTrue(fanOutMillis < sequentialMillis / 2,
+                ()->String.format("fan-out %dms not faster than sequential %dms", fanOutMillis, sequentialMillis));
+    }
+
+    @Test
+    void timeout_failsAndCancelsPendingTasks() throws InterruptedException {
+        val interrupted = new CountDownLatch(1);
+        final List<Callable<? extends String>> tasks = List.of(
+                ()->"fast",
+                ()->{
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return "slow";
+                });
+
+        val result = new _FanOut<String>(tasks, executorService)
+                .withTimeout(Duration.ofMillis(100))
+                .join();
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getFailure().get() instanceof TimeoutException);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failure_cancelsSiblings() throws InterruptedException {
+        val started = new CountDownLatch(1);
+        val interrupted = new CountDownLatch(1);
+        final List<Callable<? extends String>> tasks = List.of(
+                ()->{
+                    started.await(5, TimeUnit.SECONDS); // fail only once the sibling is running
+                    throw new IllegalStateException("tile failed");
+                },
+                ()->{
+                    started.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return "slow";
+                });
+
+        val result = new _FanOut<String>(tasks, executorService).join();
+
+        assertTrue(result.isFailure());
+        assertEquals("tile failed", result.getFailure().get().getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failure_withoutCancelOnFailure_runsAllTasks() {
+        val completed = new AtomicInteger();
+        final List<Callable<? extends String>> tasks = List.of(
+                ()->{ throw new IllegalStateException("tile failed"); },
+                ()->{
+                    Thread.sleep(50);
+                    completed.incrementAndGet();
+                    return "slow";
+                });
+
+        val result = new _FanOut<String>(tasks, executorService)
+                .withCancelOnFailure(false)
+                .join();
+
+        assertTrue(result.isFailure());
+        assertEquals(1, completed.get());
+    }
+
+}
@@ -16,7 +16,7 @@
  *  specific language governing permissions and limitations
  *  under the License.
  */
-package org.apache.isis.persistence.jdo.integration.changetracking;
+package org.apache.isis.core.transaction.changetracking;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -35,18 +35,26 @@
 
 import lombok.val;
 
-final class _ChangingEntitiesFactory {
+/**
+ * Creates the {@link EntityChanges} to be published from the {@link TrackedEntityChanges} of any
+ * persistence specific {@link EntityChangeTracker}.
+ *
+ * @since 2.0
+ */
+public final class ChangingEntitiesFactory {
+
+    private ChangingEntitiesFactory() {}
 
     public static Optional<EntityChanges> createChangingEntities(
             final java.sql.Timestamp completedAt,
             final String userName,
-            final EntityChangeTrackerJdo entityChangeTracker) {
+            final TrackedEntityChanges entityChangeTracker) {
 
         if(entityChangeTracker.getChangeKindByEnlistedAdapter().isEmpty()) {
             return Optional.empty();
         }
 
-        // take a copy of enlisted adapters ... the JDO implementation of the PublishingService
+        // take a copy of enlisted adapters ... the PublishingService implementations
         // creates further entities which would be enlisted;
         // taking copy of the map avoids ConcurrentModificationException
         val changeKindByEnlistedAdapter = new HashMap<>(
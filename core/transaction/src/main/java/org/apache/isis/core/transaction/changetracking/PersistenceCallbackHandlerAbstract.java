@@ -18,6 +18,8 @@
  */
 package org.apache.isis.core.transaction.changetracking;
 
+import java.util.function.Supplier;
+
 import org.apache.isis.applib.events.lifecycle.AbstractLifecycleEvent;
 import org.apache.isis.applib.services.eventbus.EventBusService;
 import org.apache.isis.commons.internal.factory._InstanceUtil;
@@ -33,6 +35,22 @@ public abstract class PersistenceCallbackHandlerAbstract {
 
     protected final EventBusService eventBusService;
 
+    private static final ThreadLocal<Boolean> lifecycleEventsSuppressed = ThreadLocal.withInitial(()->Boolean.FALSE);
+
+    /**
+     * Calls given {@link Supplier}, while not posting any lifecycle events on the current thread, as used by bulk
+     * operations not opted in to lifecycle event publishing. Entity callbacks are still called.
+     */
+    public static <T> T callWithLifecycleEventsSuppressed(final Supplier<T> supplier) {
+        val wasSuppressed = lifecycleEventsSuppressed.get();
+        lifecycleEventsSuppressed.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            lifecycleEventsSuppressed.set(wasSuppressed);
+        }
+    }
+
     //  -- HELPER
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -40,6 +58,9 @@ protected void postLifecycleEventIfRequired(
             final ManagedObject adapter,
             final Class<? extends LifecycleEventFacet> lifecycleEventFacetClass) {
 
+        if(lifecycleEventsSuppressed.get()) {
+            return;
+        }
         val lifecycleEventFacet = adapter.getSpecification().getFacet(lifecycleEventFacetClass);
         if(lifecycleEventFacet == null) {
             return;
@@ -0,0 +1,49 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.changetracking;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.isis.applib.annotation.EntityChangeKind;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+
+/**
+ * The entity changes enlisted by a (persistence specific) {@link EntityChangeTracker} within the current
+ * transaction, from which {@link ChangingEntitiesFactory} creates the
+ * {@link org.apache.isis.applib.services.publishing.spi.EntityChanges} to be published.
+ *
+ * @since 2.0
+ */
+public interface TrackedEntityChanges {
+
+    Map<Bookmark, EntityChangeKind> getChangeKindByEnlistedAdapter();
+
+    Interaction currentInteraction();
+
+    int numberEntitiesLoaded();
+
+    /**
+     * Side-effect: locks the result for this transaction, such that cannot enlist on top of it.
+     */
+    Set<PropertyChangeRecord> snapshotPropertyChangeRecords();
+
+}
@@ -0,0 +1,36 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.transaction.changetracking.events;
+
+import lombok.Value;
+
+/**
+ * Posted by bulk operations of the {@link org.apache.isis.applib.services.repository.RepositoryService} on entities
+ * of given type, whenever these changed without (all of) the usual per entity lifecycle events being published,
+ * that is, with lifecycle events suppressed or when deleted set-based; so that listeners relying on these events
+ * (eg. caches) can react all the same.
+ *
+ * @since 2.0
+ *
+ */
+@Value(staticConstructor = "of")
+public class BulkChangeEvent {
+
+    private final Class<?> entityType;
+}
@@ -0,0 +1,170 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.jdo;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.clock.ClockService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdo;
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdoRepository;
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdoRepository.PurgePolicy;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Purges old {@link CommandJdo command}s from the command log, as per
+ * <code>isis.extensions.command-log.retention.*</code>.
+ *
+ * <p>
+ *     Commands are deleted in chunks (oldest first), each using a single set-based <tt>DELETE</tt> statement
+ *     within its own transaction, so that neither the transaction log nor memory grows with the number of
+ *     commands purged. Optionally, each chunk is first archived to a gzip-ed XML file.
+ * </p>
+ *
+ * <p>
+ *     Purging is not scheduled by this module; call {@link #purge()} periodically, eg. from a Quartz job.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.commandLog.CommandRetentionServiceForJdo")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Jdo")
+@Log4j2
+@RequiredArgsConstructor
+public class CommandRetentionServiceForJdo {
+
+    @Inject final CommandJdoRepository commandJdoRepository;
+    @Inject final TransactionService transactionService;
+    @Inject final ClockService clockService;
+    @Inject final IsisConfiguration isisConfiguration;
+
+    /**
+     * Purges the commands older than the configured maximum age, if any.
+     *
+     * @return the number of commands purged
+     */
+    public long purge() {
+        return retention().getMaxAge()
+                .map(this::purgeOlderThan)
+                .orElse(0L);
+    }
+
+    public long purgeOlderThan(final @NonNull Duration maxAge) {
+        return purgeOlderThan(clockService.getClock().nowAsInstant().minus(maxAge));
+    }
+
+    /**
+     * Purges the commands older than the given cutoff, subject to the configured status policies.
+     *
+     * @return the number of commands purged
+     */
+    public long purgeOlderThan(final @NonNull Instant cutoff) {
+        val retention = retention();
+        val policy = PurgePolicy.of(
+                Timestamp.from(cutoff),
+                retention.isCompletedOnly(),
+                retention.isRetainPendingReplay());
+        val archiveDirectory = retention.getArchiveDirectory().map(Paths::get);
+
+        long purged = 0;
+        while(true) {
+            final long purgedInChunk = transactionService.callTransactional(Propagation.REQUIRES_NEW,
+                    ()->purgeChunk(policy, retention.getChunkSize(), archiveDirectory))
+                    .presentElseFail();
+            if(purgedInChunk == 0) {
+                break;
+            }
+            purged += purgedInChunk;
+            log.debug("purged {} commands (so far) older than {}", purged, cutoff);
+        }
+        log.info("purged {} commands older than {}", purged, cutoff);
+        return purged;
+    }
+
+    // -- HELPER
+
+    private long purgeChunk(
+            final PurgePolicy policy,
+            final int chunkSize,
+            final Optional<Path> archiveDirectory) throws IOException {
+
+        val upTo = commandJdoRepository.findPurgeChunkBoundary(policy, chunkSize);
+        if(archiveDirectory.isPresent()) {
+            val commandJdos = commandJdoRepository.findPurgeable(policy, upTo);
+            if(commandJdos.isEmpty()) {
+                return 0;
+            }
+            archive(commandJdos, archiveDirectory.get());
+        }
+        return commandJdoRepository.deletePurgeable(policy, upTo);
+    }
+
+    private static void archive(final List<CommandJdo> commandJdos, final Path archiveDirectory) throws IOException {
+        final List<CommandDto> commandDtos = commandJdos.stream()
+                .map(CommandJdo::getCommandDto)
+                .filter(dto->dto != null)
+                .collect(Collectors.toList());
+
+        val first = commandJdos.get(0).getTimestamp().toInstant().toEpochMilli();
+        val last = commandJdos.get(commandJdos.size() - 1).getTimestamp().toInstant().toEpochMilli();
+
+        Files.createDirectories(archiveDirectory);
+        val file = archiveDirectory.resolve(String.format("commands-%d-%d.xml.gz", first, last));
+        try(final Writer writer = new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)) {
+            CommandDtoUtils.toXml(commandDtos, writer);
+        }
+        log.debug("archived {} commands to {}", commandDtos.size(), file);
+    }
+
+    private IsisConfiguration.Extensions.CommandLog.Retention retention() {
+        return isisConfiguration.getExtensions().getCommandLog().getRetention();
+    }
+
+}
@@ -41,6 +41,7 @@
 
         // @Service's
         , CommandJdo.TableColumnOrderDefault.class
+        , CommandRetentionServiceForJdo.class
 
         // entities
         , CommandJdo.class
@@ -238,6 +238,12 @@
 @javax.jdo.annotations.Indices({
         @javax.jdo.annotations.Index(name = "CommandJdo__startedAt__timestamp__IDX", members = { "startedAt", "timestamp" }),
         @javax.jdo.annotations.Index(name = "CommandJdo__timestamp__IDX", members = { "timestamp" }),
+        // findRecentByTarget, findByTarget...
+        @javax.jdo.annotations.Index(name = "CommandJdo__target__timestamp__IDX", members = { "target", "timestamp" }),
+        // findNotYetReplayed, findMostRecentReplayed
+        @javax.jdo.annotations.Index(name = "CommandJdo__replayState__timestamp__IDX", members = { "replayState", "timestamp" }),
+        // findByParent, and the foreign key check when purging
+        @javax.jdo.annotations.Index(name = "CommandJdo__parent__IDX", members = { "parent" }),
 //        @javax.jdo.annotations.Index(name = "CommandJdo__replayState__timestamp__startedAt_IDX", members = { "replayState", "timestamp", "startedAt"}),
 //        @javax.jdo.annotations.Index(name = "CommandJdo__replayState__startedAt__completedAt_IDX", members = {"startedAt", "replayState", "completedAt"}),
 })
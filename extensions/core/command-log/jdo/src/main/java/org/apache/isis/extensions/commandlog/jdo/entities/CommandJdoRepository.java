@@ -25,6 +25,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +33,7 @@
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import javax.jdo.PersistenceManager;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -45,6 +47,7 @@
 import org.apache.isis.applib.services.iactn.InteractionProvider;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.extensions.commandlog.model.command.CommandModel;
 import org.apache.isis.extensions.commandlog.model.command.CommandModelRepository;
 import org.apache.isis.extensions.commandlog.model.command.ReplayState;
@@ -55,7 +58,9 @@
 import org.apache.isis.schema.common.v2.InteractionType;
 import org.apache.isis.schema.common.v2.OidDto;
 
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 /**
@@ -316,6 +321,143 @@ public void truncateLog() {
         repositoryService().removeAll(CommandJdo.class);
     }
 
+    // -- PURGE
+
+    /**
+     * Which commands are eligible for purging: those older than some cutoff, optionally restricted by status.
+     */
+    @Value(staticConstructor = "of")
+    public static class PurgePolicy {
+        private final @NonNull Timestamp cutoff;
+        private final boolean completedOnly;
+        private final boolean retainPendingReplay;
+
+        String filter(final String prefix) {
+            final StringBuilder filter = new StringBuilder()
+                    .append(prefix).append("timestamp < :cutoff && ")
+                    .append(prefix).append("timestamp <= :upTo");
+            if(completedOnly) {
+                filter.append(" && ").append(prefix).append("completedAt != null");
+            }
+            if(retainPendingReplay) {
+                filter.append(" && (").append(prefix).append("replayState == null || ")
+                      .append(prefix).append("replayState != :pending)");
+            }
+            return filter.toString();
+        }
+
+        /**
+         * In-memory counterpart of {@link #filter(String)}, with the same parameters.
+         */
+        boolean isPurgeable(final CommandJdo commandJdo, final Timestamp upTo) {
+            val timestamp = commandJdo.getTimestamp();
+            return timestamp.before(cutoff)
+                    && !timestamp.after(upTo)
+                    && (!completedOnly || commandJdo.getCompletedAt() != null)
+                    && (!retainPendingReplay || commandJdo.getReplayState() != ReplayState.PENDING);
+        }
+    }
+
+    /**
+     * The timestamp up to (and including) which the next chunk of (at most about) <code>chunkSize</code> commands
+     * is eligible per the given policy, else the policy's cutoff if fewer are left.
+     */
+    @Programmatic
+    public Timestamp findPurgeChunkBoundary(final PurgePolicy policy, final int chunkSize) {
+        val query = persistenceManager().newQuery(CommandJdo.class, policy.filter(""));
+        query.setResult("timestamp");
+        query.setOrdering("timestamp ASC");
+        // RANGE of 1 would result in "FETCH NEXT ROW ONLY", which SQL Server doesn't understand
+        query.setRange(chunkSize - 1, chunkSize + 1);
+        try {
+            @SuppressWarnings("unchecked")
+            final List<Timestamp> timestamps = (List<Timestamp>) query.executeWithMap(
+                    purgeParameters(policy, policy.getCutoff()));
+            return timestamps.isEmpty()
+                    ? policy.getCutoff()
+                    : timestamps.get(0);
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    /**
+     * The commands eligible for purging up to (and including) the given chunk boundary, oldest first.
+     */
+    @Programmatic
+    public List<CommandJdo> findPurgeable(final PurgePolicy policy, final Timestamp upTo) {
+        val query = persistenceManager().newQuery(CommandJdo.class, policy.filter(""));
+        query.setOrdering("timestamp ASC");
+        @SuppressWarnings("unchecked")
+        final List<CommandJdo> commandJdos = (List<CommandJdo>) query.executeWithMap(purgeParameters(policy, upTo));
+        return commandJdos;
+    }
+
+    /**
+     * Deletes the commands eligible for purging up to (and including) the given chunk boundary, using a single
+     * (set-based) <tt>DELETE</tt> statement.
+     *
+     * <p>
+     *     Any retained commands referencing a deleted command as their parent have that reference cleared first;
+     *     those candidates are re-checked in memory, so that no other parent references are cleared.
+     * </p>
+     *
+     * @return the number of commands deleted
+     */
+    @Programmatic
+    public long deletePurgeable(final PurgePolicy policy, final Timestamp upTo) {
+        val pm = persistenceManager();
+        val parameters = purgeParameters(policy, upTo);
+
+        // (rare) children that are retained while their parent is not
+        val orphansQuery = pm.newQuery(CommandJdo.class,
+                "parent != null && " + policy.filter("parent.") + " && !(" + policy.filter("") + ")");
+        try {
+            @SuppressWarnings("unchecked")
+            final List<CommandJdo> orphans = (List<CommandJdo>) orphansQuery.executeWithMap(parameters);
+            orphans.stream()
+                .filter(orphan->isOrphanedBy(policy, upTo, orphan))
+                .forEach(orphan->orphan.setParent(null));
+            pm.flush();
+        } finally {
+            orphansQuery.closeAll();
+        }
+
+        val deleteQuery = pm.newQuery("javax.jdo.query.JDOQL",
+                "DELETE FROM " + CommandJdo.FQCN + " WHERE " + policy.filter(""));
+        deleteQuery.addExtension("datanucleus.query.jdoql.allowAll", "true");
+        try {
+            final Object deleted = deleteQuery.executeWithMap(parameters);
+            pm.evictAll();
+            return deleted instanceof Number
+                    ? ((Number) deleted).longValue()
+                    : 0L;
+        } finally {
+            deleteQuery.closeAll();
+        }
+    }
+
+    private static boolean isOrphanedBy(final PurgePolicy policy, final Timestamp upTo, final CommandJdo commandJdo) {
+        val parent = commandJdo.getParent();
+        return parent != null
+                && policy.isPurgeable(parent, upTo)
+                && !policy.isPurgeable(commandJdo, upTo);
+    }
+
+    private static Map<String, Object> purgeParameters(final PurgePolicy policy, final Timestamp upTo) {
+        final Map<String, Object> parameters = _Maps.newHashMap();
+        parameters.put("cutoff", policy.getCutoff());
+        parameters.put("upTo", upTo);
+        if(policy.isRetainPendingReplay()) {
+            parameters.put("pending", ReplayState.PENDING);
+        }
+        return parameters;
+    }
+
+    private PersistenceManager persistenceManager() {
+        return jdoSupport.getPersistenceManager();
+    }
+
     private RepositoryService repositoryService() {
         return repositoryServiceProvider.get();
     }
@@ -0,0 +1,125 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.jdo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.functional.Result;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdo;
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdoRepository;
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdoRepository.PurgePolicy;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+class CommandRetentionServiceForJdo_Test {
+
+    final Instant cutoff = Instant.parse("2021-06-01T00:00:00Z");
+    final Timestamp upTo = Timestamp.from(Instant.parse("2021-05-01T00:00:00Z"));
+
+    CommandJdoRepository commandJdoRepository;
+    IsisConfiguration isisConfiguration;
+    CommandRetentionServiceForJdo service;
+
+    @BeforeEach
+    void setUp() {
+        commandJdoRepository = mock(CommandJdoRepository.class);
+        when(commandJdoRepository.findPurgeChunkBoundary(any(PurgePolicy.class), anyInt())).thenReturn(upTo);
+
+        val transactionService = mock(TransactionService.class);
+        when(transactionService.callTransactional(eq(Propagation.REQUIRES_NEW), any()))
+            .thenAnswer(invocation->Result.of(invocation.<Callable<?>>getArgument(1)));
+
+        isisConfiguration = new IsisConfiguration(null);
+        service = new CommandRetentionServiceForJdo(commandJdoRepository, transactionService, null, isisConfiguration);
+    }
+
+    @Test
+    void purgesInChunks_untilNoneLeft() {
+        when(commandJdoRepository.deletePurgeable(any(PurgePolicy.class), eq(upTo))).thenReturn(1000L, 500L, 0L);
+
+        assertThat(service.purgeOlderThan(cutoff)).isEqualTo(1500L);
+        verify(commandJdoRepository, never()).findPurgeable(any(PurgePolicy.class), any(Timestamp.class));
+    }
+
+    @Test
+    void archivesEachChunk_beforeDeletingIt(final @TempDir Path archiveDirectory) throws IOException {
+        isisConfiguration.getExtensions().getCommandLog().getRetention()
+            .setArchiveDirectory(Optional.of(archiveDirectory.toString()));
+
+        val commandJdos = List.of(command("2021-04-01T00:00:00Z"), command("2021-04-02T00:00:00Z"));
+        when(commandJdoRepository.findPurgeable(any(PurgePolicy.class), eq(upTo))).thenReturn(commandJdos, List.of());
+        when(commandJdoRepository.deletePurgeable(any(PurgePolicy.class), eq(upTo))).thenReturn(2L);
+
+        assertThat(service.purgeOlderThan(cutoff)).isEqualTo(2L);
+
+        final List<Path> files;
+        try(val stream = Files.list(archiveDirectory)) {
+            files = stream.collect(Collectors.toList());
+        }
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getFileName().toString())
+            .isEqualTo(String.format("commands-%d-%d.xml.gz",
+                    Instant.parse("2021-04-01T00:00:00Z").toEpochMilli(),
+                    Instant.parse("2021-04-02T00:00:00Z").toEpochMilli()));
+
+        final String xml;
+        try(final InputStream in = new GZIPInputStream(Files.newInputStream(files.get(0)))) {
+            xml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(xml).contains("commandDtos");
+    }
+
+    // -- HELPER
+
+    private static CommandJdo command(final String timestamp) {
+        val commandJdo = new CommandJdo();
+        commandJdo.setTimestamp(Timestamp.from(Instant.parse(timestamp)));
+        commandJdo.setCommandDto(new CommandDto());
+        return commandJdo;
+    }
+
+}
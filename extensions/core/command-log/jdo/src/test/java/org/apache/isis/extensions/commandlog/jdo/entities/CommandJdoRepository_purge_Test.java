@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.commandlog.jdo.entities;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.extensions.commandlog.jdo.entities.CommandJdoRepository.PurgePolicy;
+import org.apache.isis.extensions.commandlog.model.command.ReplayState;
+import org.apache.isis.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
+
+class CommandJdoRepository_purge_Test {
+
+    final Timestamp cutoff = Timestamp.valueOf("2021-06-01 00:00:00");
+    final Timestamp upTo = Timestamp.valueOf("2021-05-01 00:00:00");
+    final PurgePolicy policy = PurgePolicy.of(cutoff, true, true);
+
+    PersistenceManager pm;
+    Query<?> orphansQuery;
+    Query<?> deleteQuery;
+    CommandJdoRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        pm = mock(PersistenceManager.class);
+        orphansQuery = mock(Query.class);
+        deleteQuery = mock(Query.class);
+        when(pm.newQuery(eq(CommandJdo.class), anyString())).thenAnswer(invocation->orphansQuery);
+        when(pm.newQuery(eq("javax.jdo.query.JDOQL"), anyString())).thenAnswer(invocation->deleteQuery);
+        when(orphansQuery.executeWithMap(anyMap())).thenReturn(List.of());
+
+        val jdoSupport = mock(JdoSupportService.class);
+        when(jdoSupport.getPersistenceManager()).thenReturn(pm);
+        repository = new CommandJdoRepository(null, null, jdoSupport);
+    }
+
+    @Test
+    void deletes_usingSingleStatement_withPendingBoundAsEnum() {
+        when(deleteQuery.executeWithMap(anyMap())).thenReturn(42L);
+
+        val deleted = repository.deletePurgeable(policy, upTo);
+
+        assertThat(deleted).isEqualTo(42L);
+
+        val statement = ArgumentCaptor.forClass(String.class);
+        verify(pm).newQuery(eq("javax.jdo.query.JDOQL"), statement.capture());
+        assertThat(statement.getValue())
+            .startsWith("DELETE FROM " + CommandJdo.FQCN + " WHERE ")
+            .contains("replayState != :pending")
+            .doesNotContain("'PENDING'");
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Map<String, Object>> parameters = ArgumentCaptor.forClass(Map.class);
+        verify(deleteQuery).executeWithMap(parameters.capture());
+        assertThat(parameters.getValue())
+            .containsEntry("cutoff", cutoff)
+            .containsEntry("upTo", upTo)
+            .containsEntry("pending", ReplayState.PENDING);
+    }
+
+    @Test
+    void clearsParentReference_onlyWhenParentIsDeleted() {
+        val deletedParent = command("2021-04-01 00:00:00", ReplayState.OK);
+        val retainedParent = command("2021-04-01 00:00:00", ReplayState.PENDING);
+
+        val childOfDeletedParent = command("2021-05-15 00:00:00", ReplayState.OK);
+        childOfDeletedParent.setParent(deletedParent);
+        val childOfRetainedParent = command("2021-05-15 00:00:00", ReplayState.OK);
+        childOfRetainedParent.setParent(retainedParent);
+        val deletedChild = command("2021-04-15 00:00:00", ReplayState.OK);
+        deletedChild.setParent(deletedParent);
+
+        when(orphansQuery.executeWithMap(anyMap()))
+            .thenReturn(List.of(childOfDeletedParent, childOfRetainedParent, deletedChild));
+        when(deleteQuery.executeWithMap(anyMap())).thenReturn(2L);
+
+        repository.deletePurgeable(policy, upTo);
+
+        assertThat(childOfDeletedParent.getParent()).isNull();
+        assertThat(childOfRetainedParent.getParent()).isSameAs(retainedParent);
+        assertThat(deletedChild.getParent()).isSameAs(deletedParent);
+        verify(pm).flush();
+    }
+
+    @Test
+    void isPurgeable_honoursCutoffChunkBoundaryAndStatus() {
+        assertThat(policy.isPurgeable(command("2021-04-01 00:00:00", ReplayState.OK), upTo)).isTrue();
+        assertThat(policy.isPurgeable(command("2021-05-01 00:00:00", ReplayState.OK), upTo)).isTrue();
+        assertThat(policy.isPurgeable(command("2021-05-02 00:00:00", ReplayState.OK), upTo)).isFalse();
+        assertThat(policy.isPurgeable(command("2021-04-01 00:00:00", ReplayState.PENDING), upTo)).isFalse();
+
+        val notCompleted = command("2021-04-01 00:00:00", ReplayState.OK);
+        notCompleted.setCompletedAt(null);
+        assertThat(policy.isPurgeable(notCompleted, upTo)).isFalse();
+    }
+
+    // -- HELPER
+
+    private static CommandJdo command(final String timestamp, final ReplayState replayState) {
+        val commandJdo = new CommandJdo();
+        commandJdo.setTimestamp(Timestamp.valueOf(timestamp));
+        commandJdo.setCompletedAt(Timestamp.valueOf(timestamp));
+        commandJdo.setReplayState(replayState);
+        return commandJdo;
+    }
+
+}
@@ -47,6 +47,7 @@
 import org.apache.isis.extensions.commandreplay.secondary.job.ReplicateAndReplayJob;
 import org.apache.isis.extensions.commandreplay.secondary.mixins.Object_openOnPrimary;
 import org.apache.isis.extensions.commandreplay.secondary.ui.CommandReplayOnSecondaryService;
+import org.apache.isis.extensions.jaxrsclient.impl.IsisModuleExtJaxRsClientImpl;
 import org.apache.isis.extensions.quartz.IsisModuleExtQuartzImpl;
 import org.apache.isis.extensions.quartz.spring.AutowiringSpringBeanJobFactory;
 
@@ -60,6 +61,7 @@
         // @Configuration's
         IsisModuleExtCommandLogApplib.class,
         IsisModuleExtQuartzImpl.class,
+        IsisModuleExtJaxRsClientImpl.class,
 
         // @Service's
         CommandFetcher.class,
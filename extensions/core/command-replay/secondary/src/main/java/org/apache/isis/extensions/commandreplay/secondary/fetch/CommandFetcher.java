@@ -92,9 +92,10 @@ private CommandsDto fetchCommands(final CommandModel previousHwmIfAny)
 
         final URI uri = buildUri(transactionId);
 
-        final JaxRsResponse response = callPrimary(uri);
-
-        final CommandsDto commandsDto = unmarshal(response, uri);
+        final CommandsDto commandsDto;
+        try(final JaxRsResponse response = callPrimary(uri)) {
+            commandsDto = unmarshal(response, uri);
+        }
 
         final int size = commandsDto.getCommandDto().size();
         if(size == 0) {
@@ -129,6 +130,7 @@ private JaxRsResponse callPrimary(final URI uri) throws StatusException {
             int status = response.getStatus();
             if(status != Response.Status.OK.getStatusCode()) {
                 final String entity = readEntityFrom(response);
+                response.close();
                 if(entity != null) {
                     log.warn("status: {}, entity: \n{}", status, entity);
                 } else {
@@ -47,8 +47,9 @@ public void testing_the_unmarshalling() {
                         "http://localhost:8080/restful/", CommandFetcher.URL_SUFFIX, 10)
         );
         URI uri = uriBuilder.build();
-        JaxRsResponse invoke = jaxRsClient.get(uri, CommandsDto.class, JaxRsClient.ReprType.ACTION_RESULT, "sven", "pass");
-        CommandsDto entity = invoke.readEntity(CommandsDto.class);
-        System.out.println(JaxbUtil.toXml(entity));
+        try(JaxRsResponse invoke = jaxRsClient.get(uri, CommandsDto.class, JaxRsClient.ReprType.ACTION_RESULT, "sven", "pass")) {
+            CommandsDto entity = invoke.readEntity(CommandsDto.class);
+            System.out.println(JaxbUtil.toXml(entity));
+        }
     }
 }
@@ -20,12 +20,15 @@
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.isis.commons.internal.collections._Lists;
-import org.apache.isis.commons.internal.collections._Multimaps;
 import org.apache.isis.extensions.secman.applib.IsisModuleExtSecmanApplib;
 import org.apache.isis.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
 
@@ -58,7 +61,8 @@ public static abstract class ActionDomainEvent extends IsisModuleExtSecmanApplib
     private final List<ApplicationPermissionValue> values;
     /**
      * Partitions the {@link ApplicationPermissionValue permissions} by feature and within that orders according to their
-     * evaluation precedence.
+     * evaluation precedence; compiled once, such that evaluating a target feature takes one hash lookup per
+     * segment of its {@link ApplicationFeatureId#getPathIds() path}.
      *
      * <p>
      *     The following sketches out what is stored:
@@ -88,11 +92,13 @@ public static abstract class ActionDomainEvent extends IsisModuleExtSecmanApplib
      *     meaning that it is checked first and therefore also takes precedence.
      * </p>
      */
-    private final _Multimaps.SetMultimap<ApplicationFeatureId, ApplicationPermissionValue> permissionsByFeature =
-            _Multimaps.newSortedSetMultimap(
-                    Collections.reverseOrder(),
-                    null // natural element order
-                    );
+    private final Map<ApplicationFeatureId, List<ApplicationPermissionValue>> permissionsByFeature;
+
+    /**
+     * Memoized {@link Evaluation}s by target feature, per {@link ApplicationPermissionMode} (indexed by ordinal);
+     * valid for the lifetime of this (immutable) set.
+     */
+    private transient volatile Map<ApplicationFeatureId, Evaluation>[] evaluationsByMode;
 
     /**
      * Note that we require PermissionsEvaluationService to be serializable.
@@ -107,10 +113,7 @@ public ApplicationPermissionValueSet(
             final PermissionsEvaluationService permissionsEvaluationService) {
 
         this.values = Collections.unmodifiableList(_Lists.newArrayList(permissionValues));
-        for (final ApplicationPermissionValue permissionValue : permissionValues) {
-            final ApplicationFeatureId featureId = permissionValue.getFeatureId();
-            permissionsByFeature.putElement(featureId, permissionValue);
-        }
+        this.permissionsByFeature = compile(permissionValues);
         this.permissionsEvaluationService = permissionsEvaluationService;
     }
 
@@ -140,11 +143,60 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
         return evaluate(featureId, mode).isGranted();
     }
 
+    /**
+     * Evaluates the permissions applicable to given {@code featureId} in given {@code mode}; the result is
+     * memoized, with the {@link PermissionsEvaluationService} only consulted on first evaluation.
+     */
     @Programmatic
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
 
+        val evaluations = evaluationsFor(mode);
+        val evaluation = evaluations.get(featureId);
+        return evaluation != null
+                ? evaluation
+                : evaluations.computeIfAbsent(featureId, __->doEvaluate(featureId, mode));
+    }
+
+    // -- HELPER
+
+    private static Map<ApplicationFeatureId, List<ApplicationPermissionValue>> compile(
+            final List<ApplicationPermissionValue> permissionValues) {
+
+        val sortedByFeature = new HashMap<ApplicationFeatureId, TreeSet<ApplicationPermissionValue>>();
+        for (final ApplicationPermissionValue permissionValue : permissionValues) {
+            sortedByFeature
+                .computeIfAbsent(permissionValue.getFeatureId(), __->new TreeSet<>()) // natural element order
+                .add(permissionValue);
+        }
+        val permissionsByFeature = new HashMap<ApplicationFeatureId, List<ApplicationPermissionValue>>();
+        sortedByFeature.forEach((featureId, sorted)->
+            permissionsByFeature.put(featureId, Collections.unmodifiableList(_Lists.newArrayList(sorted))));
+        return permissionsByFeature;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<ApplicationFeatureId, Evaluation> evaluationsFor(final ApplicationPermissionMode mode) {
+        if(evaluationsByMode == null) {
+            synchronized (this) {
+                if(evaluationsByMode == null) {
+                    val modes = ApplicationPermissionMode.values();
+                    final Map<ApplicationFeatureId, Evaluation>[] maps = new Map[modes.length];
+                    for (int i = 0; i < maps.length; i++) {
+                        maps[i] = new ConcurrentHashMap<>();
+                    }
+                    evaluationsByMode = maps;
+                }
+            }
+        }
+        return evaluationsByMode[mode.ordinal()];
+    }
+
+    private Evaluation doEvaluate(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
+
         for (val pathId : featureId.getPathIds()) {
             val permissionValues = permissionsByFeature.get(pathId);
             val evaluation = permissionsEvaluationService.evaluate(featureId, mode, permissionValues);
@@ -18,6 +18,9 @@
  */
 package org.apache.isis.extensions.secman.applib.tenancy.spi;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
 
 /**
@@ -83,4 +86,27 @@ public interface ApplicationTenancyEvaluator {
      */
     String disables(Object domainObject, ApplicationUser applicationUser);
 
+    /**
+     * Batch form of {@link #hides(Object, ApplicationUser)}, called for
+     * all the domain objects of a table (rather than once per row and
+     * column), returning the reasons index-wise.
+     *
+     * <p>
+     *     The default implementation simply delegates to
+     *     {@link #hides(Object, ApplicationUser)} for each domain object;
+     *     implementations may override in order to (pre-)compute the
+     *     tenancy paths of all domain objects in one go.
+     * </p>
+     *
+     * @return a list of the same size as the provided domain objects,
+     * with a non-null element for each domain object that should be hidden;
+     * if the sizes differ, the result is discarded and
+     * {@link #hides(Object, ApplicationUser)} is called per domain object instead.
+     */
+    default List<String> hides(final List<Object> domainObjects, final ApplicationUser applicationUser) {
+        return domainObjects.stream()
+                .map(domainObject->hides(domainObject, applicationUser))
+                .collect(Collectors.toList());
+    }
+
 }
@@ -23,6 +23,7 @@
 
 import org.apache.isis.extensions.secman.applib.IsisModuleExtSecmanApplib;
 import org.apache.isis.extensions.secman.integration.authorizor.AuthorizorSecman;
+import org.apache.isis.extensions.secman.integration.authorizor.PermissionCache;
 import org.apache.isis.extensions.secman.integration.facets.TenantedAuthorizationPostProcessor;
 import org.apache.isis.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
 import org.apache.isis.extensions.secman.integration.spiimpl.ImpersonateMenuAdvisorForSecman;
@@ -40,6 +41,7 @@
 
         // @Component or @Service
         AuthorizorSecman.class,
+        PermissionCache.class,
         TenantedAuthorizationPostProcessor.Register.class,
         TableColumnVisibilityServiceForSecman.class,
         ImpersonateMenuAdvisorForSecman.class, //not activated by default yet
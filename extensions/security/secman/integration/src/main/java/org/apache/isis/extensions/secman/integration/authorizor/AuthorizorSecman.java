@@ -18,32 +18,21 @@
  */
 package org.apache.isis.extensions.secman.integration.authorizor;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.function.Supplier;
-
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.inject.Provider;
 
-import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.Identifier;
-import org.apache.isis.applib.annotation.InteractionScope;
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.isis.applib.services.iactnlayer.InteractionContext;
-import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.security.authorization.Authorizor;
 import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
-import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
-import lombok.NonNull;
 import lombok.val;
 
 /**
@@ -56,7 +45,7 @@
 public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
-    @Inject Provider<PermissionCache> cache;
+    @Inject PermissionCache cache;
 
     @Override
     public boolean isVisible(final InteractionContext authentication, final Identifier identifier) {
@@ -76,7 +65,7 @@ private boolean grants(
             final ApplicationPermissionMode permissionMode) {
 
         val userName = authentication.getUser().getName();
-        val permissionSetIfAny = cache.get()
+        val permissionSetIfAny = cache
                 .computeIfAbsent(userName, ()->
                 applicationUserRepository
                 .findByUsername(userName)
@@ -89,29 +78,4 @@ private boolean grants(
         .orElse(false);
     }
 
-    @Component
-    @Named("isis.ext.secman.AuthorizorSecman.PermissionCache")
-    @InteractionScope
-    static class PermissionCache implements DisposableBean {
-
-        private Map<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername;
-
-        @Override
-        public void destroy() throws Exception {
-            permissionsByUsername = null;
-        }
-
-        Optional<ApplicationPermissionValueSet> computeIfAbsent(
-                final @NonNull String userName,
-                final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
-
-            if(permissionsByUsername==null) {
-                permissionsByUsername = _Maps.newHashMap();
-            }
-
-            return permissionsByUsername.computeIfAbsent(userName, __->lookup.get());
-        }
-
-    }
-
 }
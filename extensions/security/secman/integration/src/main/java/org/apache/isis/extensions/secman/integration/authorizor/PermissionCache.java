@@ -0,0 +1,251 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.isis.applib.events.lifecycle.AbstractLifecycleEvent;
+import org.apache.isis.applib.events.lifecycle.ObjectPersistedEvent;
+import org.apache.isis.applib.events.lifecycle.ObjectRemovingEvent;
+import org.apache.isis.applib.events.lifecycle.ObjectUpdatedEvent;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.transaction.changetracking.events.BulkChangeEvent;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.isis.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Caches the {@link ApplicationPermissionValueSet} of each user across requests, so that {@link AuthorizorSecman}
+ * need not re-query the user, its roles and their permissions for every interaction.
+ *
+ * <p>
+ *     The cache is bounded, evicting the least recently used entries first, with entries expiring after a
+ *     configured time-to-live as a safety net. Changes to an {@link ApplicationUser} evict that user's entry,
+ *     whereas changes to any {@link ApplicationRole} or {@link ApplicationPermission} (potentially affecting many
+ *     users) evict all entries; in both cases again once the transaction has completed, so that no concurrent
+ *     lookup re-populates the cache with what is about to become stale.
+ * </p>
+ *
+ * <p>
+ *     Bulk operations of the {@link org.apache.isis.applib.services.repository.RepositoryService} that change
+ *     these entities without per entity lifecycle events (see {@link BulkChangeEvent}) evict all entries.
+ * </p>
+ *
+ * @see IsisConfiguration.Extensions.Secman.PermissionCache
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.secman.PermissionCache")
+@Log4j2
+public class PermissionCache {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final Map<String, CacheEntry> entries;
+
+    /**
+     * Incremented on every invalidation; a lookup only populates the cache if no invalidation happened meanwhile.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Inject
+    public PermissionCache(final IsisConfiguration configuration) {
+        this(configuration.getExtensions().getSecman().getPermissionCache().getMaxEntries(),
+             configuration.getExtensions().getSecman().getPermissionCache().getTimeToLive());
+    }
+
+    PermissionCache(final int maxEntries, final @NonNull Duration timeToLive) {
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+                return size() > PermissionCache.this.maxEntries
+                        || eldest.getValue().isExpired(System.currentTimeMillis());
+            }
+        };
+    }
+
+    /**
+     * Returns the cached permissions of given {@code userName}, else those provided by {@code lookup}
+     * (which is called without holding any lock).
+     */
+    public Optional<ApplicationPermissionValueSet> computeIfAbsent(
+            final @NonNull String userName,
+            final @NonNull Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+        val generationBefore = generation.get();
+        synchronized (entries) {
+            val entry = entries.get(userName);
+            if(entry != null) {
+                if(!entry.isExpired(System.currentTimeMillis())) {
+                    hits.increment();
+                    return entry.permissionSet;
+                }
+                entries.remove(userName);
+            }
+        }
+        misses.increment();
+
+        val permissionSet = lookup.get();
+        synchronized (entries) {
+            if(generation.get() == generationBefore) {
+                entries.put(userName, new CacheEntry(permissionSet, System.currentTimeMillis()));
+            }
+        }
+        return permissionSet;
+    }
+
+    public void invalidate(final @NonNull String userName) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        synchronized (entries) {
+            entries.remove(userName);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    // -- METRICS
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // -- INVALIDATION
+
+    @EventListener(ObjectPersistedEvent.class)
+    public void on(final ObjectPersistedEvent<?> event) {
+        onChanged(event);
+    }
+
+    @EventListener(ObjectUpdatedEvent.class)
+    public void on(final ObjectUpdatedEvent<?> event) {
+        onChanged(event);
+    }
+
+    @EventListener(ObjectRemovingEvent.class)
+    public void on(final ObjectRemovingEvent<?> event) {
+        onChanged(event);
+    }
+
+    @EventListener(BulkChangeEvent.class)
+    public void on(final BulkChangeEvent event) {
+        val entityType = event.getEntityType();
+        if(ApplicationUser.class.isAssignableFrom(entityType)
+                || ApplicationRole.class.isAssignableFrom(entityType)
+                || ApplicationPermission.class.isAssignableFrom(entityType)) {
+            log.debug("invalidating permissions on bulk change of {}", entityType.getName());
+            invalidateNowAndOnCompletion(this::invalidateAll);
+        }
+    }
+
+    private void onChanged(final AbstractLifecycleEvent<?> event) {
+        val entity = event.getSource();
+        final Runnable invalidation;
+        if(entity instanceof ApplicationUser) {
+            val userName = ((ApplicationUser) entity).getUsername();
+            if(userName == null) {
+                return;
+            }
+            invalidation = ()->invalidate(userName);
+        } else if(entity instanceof ApplicationRole
+                || entity instanceof ApplicationPermission) {
+            invalidation = this::invalidateAll;
+        } else {
+            return;
+        }
+
+        log.debug("invalidating permissions on change of {}", entity);
+        invalidateNowAndOnCompletion(invalidation);
+    }
+
+    private static void invalidateNowAndOnCompletion(final Runnable invalidation) {
+        invalidation.run();
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    // -- HELPER
+
+    private final class CacheEntry {
+        private final Optional<ApplicationPermissionValueSet> permissionSet;
+        private final long loadedAt;
+
+        CacheEntry(final Optional<ApplicationPermissionValueSet> permissionSet, final long now) {
+            this.permissionSet = permissionSet;
+            this.loadedAt = now;
+        }
+
+        boolean isExpired(final long now) {
+            return now - loadedAt > timeToLiveMillis;
+        }
+    }
+
+}
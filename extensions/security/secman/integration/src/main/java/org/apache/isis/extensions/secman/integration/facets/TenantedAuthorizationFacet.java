@@ -19,6 +19,7 @@
 package org.apache.isis.extensions.secman.integration.facets;
 
 import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.interactions.BatchingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.DisablingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
 
@@ -27,6 +28,6 @@
  * depending on the tenancy.
  */
 public interface TenantedAuthorizationFacet
-extends Facet, HidingInteractionAdvisor, DisablingInteractionAdvisor {
+extends Facet, HidingInteractionAdvisor, DisablingInteractionAdvisor, BatchingInteractionAdvisor {
 
 }
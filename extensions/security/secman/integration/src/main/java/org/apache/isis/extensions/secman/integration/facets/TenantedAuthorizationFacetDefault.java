@@ -24,15 +24,22 @@
 
 import org.apache.isis.applib.services.queryresultscache.QueryResultsCache;
 import org.apache.isis.applib.services.user.UserService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.functional.IndexedConsumer;
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.interactions.UsabilityContext;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.extensions.secman.applib.tenancy.spi.ApplicationTenancyEvaluator;
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
 public class TenantedAuthorizationFacetDefault
 extends FacetAbstract
 implements TenantedAuthorizationFacet {
@@ -61,52 +68,127 @@ public TenantedAuthorizationFacetDefault(
 
     @Override
     public String hides(final VisibilityContext ic) {
+        return evaluate(ic.getHead().getOwner(), "hides", ApplicationTenancyEvaluator::hides);
+    }
 
-        if(evaluators == null
-                || evaluators.isEmpty()
-                || userService.isCurrentUserWithSystemPrivileges()) {
-            return null;
+    @Override
+    public String disables(final UsabilityContext ic) {
+        return evaluate(ic.getHead().getOwner(), "disables", ApplicationTenancyEvaluator::disables);
+    }
+
+    /**
+     * Evaluates all given domain objects in one go, using
+     * {@link ApplicationTenancyEvaluator#hides(List, ApplicationUser)},
+     * memoizing the outcome per domain object for subsequent calls to {@link #hides(VisibilityContext)}.
+     */
+    @Override
+    public void prefetchHides(final Can<ManagedObject> domainObjects) {
+
+        if(isNoop()) {
+            return;
         }
 
-        final Object domainObject = ic.getHead().getOwner().getPojo();
         final String userName = userService.currentUserNameElseNobody();
-
         final ApplicationUser applicationUser = findApplicationUser(userName);
         if (applicationUser == null) {
-            // not expected, but best to be safe...
-            return "Could not locate application user for " + userName;
+            return; // reported per domain object, when evaluated
         }
 
+        val bookmarked = domainObjects
+                .filter(domainObject->domainObject.getBookmark().isPresent());
+        if(bookmarked.isEmpty()) {
+            return;
+        }
+        val pojos = bookmarked.map(ManagedObject::getPojo).toList();
+
+        final String[] reasons = new String[pojos.size()];
         for (ApplicationTenancyEvaluator evaluator : evaluators) {
-            final String reason = evaluator.hides(domainObject, applicationUser);
-            if(reason != null) {
-                return reason;
+            final List<String> evaluatorReasons = evaluator.hides(pojos, applicationUser);
+            final boolean isBatchResultUsable = evaluatorReasons != null
+                    && evaluatorReasons.size() == pojos.size();
+            if(!isBatchResultUsable) {
+                log.warn("{} returned {} reasons for {} domain objects; evaluating per domain object instead",
+                        evaluator.getClass().getName(),
+                        evaluatorReasons != null ? evaluatorReasons.size() : null,
+                        pojos.size());
+            }
+            for (int i = 0; i < reasons.length; i++) {
+                if(reasons[i] == null) {
+                    reasons[i] = isBatchResultUsable
+                            ? evaluatorReasons.get(i)
+                            : evaluator.hides(pojos.get(i), applicationUser);
+                }
             }
         }
-        return null;
-    }
 
+        val queryResultsCache = queryResultsCacheProvider.get();
+        bookmarked.forEach(IndexedConsumer.zeroBased((i, domainObject)->{
+            final String reason = reasons[i];
+            queryResultsCache.execute(
+                    ()->reason,
+                    TenantedAuthorizationFacetDefault.class,
+                    "hides",
+                    domainObject.getBookmark().get(),
+                    userName,
+                    applicationUser.getAtPath());
+        }));
+    }
 
-    @Override
-    public String disables(final UsabilityContext ic) {
+    // -- HELPER
 
-        if(evaluators == null
+    private boolean isNoop() {
+        return evaluators == null
                 || evaluators.isEmpty()
-                || userService.isCurrentUserWithSystemPrivileges()) {
+                || userService.isCurrentUserWithSystemPrivileges();
+    }
+
+    /**
+     * Memoized per domain object (bookmark), user and the user's tenancy (<code>atPath</code>)
+     * for the current interaction, using the {@link QueryResultsCache}, and so shared between
+     * the facets of the object and those of its members (eg. the columns of a table).
+     *
+     * <p>
+     *     Keying by the tenancy means that a change to the user's tenancy within the interaction
+     *     is not answered from the memo.
+     * </p>
+     */
+    private String evaluate(
+            final ManagedObject owner,
+            final String methodName,
+            final Evaluation evaluation) {
+
+        if(isNoop()) {
             return null;
         }
 
-        final Object domainObject = ic.getHead().getOwner().getPojo();
         final String userName = userService.currentUserNameElseNobody();
-
         final ApplicationUser applicationUser = findApplicationUser(userName);
         if (applicationUser == null) {
             // not expected, but best to be safe...
             return "Could not locate application user for " + userName;
         }
 
+        val bookmarkIfAny = owner.getBookmark();
+        if(!bookmarkIfAny.isPresent()) {
+            return evaluateNoCache(owner.getPojo(), applicationUser, evaluation);
+        }
+        return queryResultsCacheProvider.get()
+                .execute(
+                        ()->evaluateNoCache(owner.getPojo(), applicationUser, evaluation),
+                        TenantedAuthorizationFacetDefault.class,
+                        methodName,
+                        bookmarkIfAny.get(),
+                        userName,
+                        applicationUser.getAtPath());
+    }
+
+    private String evaluateNoCache(
+            final Object domainObject,
+            final ApplicationUser applicationUser,
+            final Evaluation evaluation) {
+
         for (ApplicationTenancyEvaluator evaluator : evaluators) {
-            final String reason = evaluator.disables(domainObject, applicationUser);
+            final String reason = evaluation.evaluate(evaluator, domainObject, applicationUser);
             if(reason != null) {
                 return reason;
             }
@@ -114,6 +196,10 @@ public String disables(final UsabilityContext ic) {
         return null;
     }
 
+    @FunctionalInterface
+    private static interface Evaluation {
+        String evaluate(ApplicationTenancyEvaluator evaluator, Object domainObject, ApplicationUser applicationUser);
+    }
 
     /**
      * Per {@link #findApplicationUserNoCache(String)},
@@ -0,0 +1,176 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.events.lifecycle.ObjectRemovingEvent;
+import org.apache.isis.applib.events.lifecycle.ObjectUpdatedEvent;
+import org.apache.isis.core.transaction.changetracking.events.BulkChangeEvent;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.isis.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.val;
+
+class PermissionCacheTest {
+
+    static abstract class SomeApplicationRole extends ApplicationRole {
+    }
+
+    PermissionCache cache;
+    AtomicInteger lookups;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PermissionCache(2, Duration.ofHours(1));
+        lookups = new AtomicInteger();
+    }
+
+    // -- LOOKUP
+
+    @Test
+    void lookup_isCached_perUser() {
+        // given
+        val permissionSet = lookup("sven");
+
+        // when
+        val cached = lookup("sven");
+
+        // then
+        assertSame(permissionSet, cached);
+        assertEquals(1, lookups.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    void lookup_evictsLeastRecentlyUsed_whenFull() {
+        // given
+        lookup("sven");
+        lookup("dick");
+        lookup("sven");
+
+        // when
+        lookup("bob");
+
+        // then
+        assertEquals(2, cache.getSize());
+        lookup("sven");
+        assertEquals(3, lookups.get());
+        lookup("dick");
+        assertEquals(4, lookups.get());
+    }
+
+    @Test
+    void lookup_isNotCached_whenInvalidatedMeanwhile() {
+        // when
+        cache.computeIfAbsent("sven", ()->{
+            cache.invalidateAll();
+            return Optional.of(mock(ApplicationPermissionValueSet.class));
+        });
+
+        // then
+        assertEquals(0, cache.getSize());
+    }
+
+    // -- INVALIDATION
+
+    @Test
+    void userChange_invalidatesThatUser_only() {
+        // given
+        lookup("sven");
+        lookup("dick");
+
+        // when
+        cache.on(new ObjectUpdatedEvent<Object>(user("sven")) {});
+
+        // then
+        assertEquals(1, cache.getSize());
+        assertEquals(1L, cache.getInvalidationCount());
+        lookup("dick");
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void roleChange_invalidatesAll() {
+        // given
+        lookup("sven");
+        lookup("dick");
+
+        // when
+        cache.on(new ObjectRemovingEvent<Object>(mock(ApplicationRole.class)) {});
+
+        // then
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void bulkChange_ofSecmanEntity_invalidatesAll() {
+        // given
+        lookup("sven");
+        lookup("dick");
+
+        // when
+        cache.on(BulkChangeEvent.of(SomeApplicationRole.class));
+
+        // then
+        assertEquals(0, cache.getSize());
+        assertEquals(1L, cache.getInvalidationCount());
+    }
+
+    @Test
+    void bulkChange_ofOtherEntity_keepsEntries() {
+        // given
+        lookup("sven");
+
+        // when
+        cache.on(BulkChangeEvent.of(Object.class));
+
+        // then
+        assertEquals(1, cache.getSize());
+        assertEquals(0L, cache.getInvalidationCount());
+    }
+
+    // -- HELPER
+
+    private ApplicationPermissionValueSet lookup(final String userName) {
+        return cache.computeIfAbsent(userName, ()->{
+            lookups.incrementAndGet();
+            return Optional.of(mock(ApplicationPermissionValueSet.class));
+        }).orElseThrow();
+    }
+
+    private static ApplicationUser user(final String userName) {
+        val user = mock(ApplicationUser.class);
+        when(user.getUsername()).thenReturn(userName);
+        return user;
+    }
+
+}
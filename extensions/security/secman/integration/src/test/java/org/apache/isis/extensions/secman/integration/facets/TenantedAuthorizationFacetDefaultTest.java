@@ -0,0 +1,186 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.integration.facets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.isis.applib.services.user.UserService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.interactions.InteractionHead;
+import org.apache.isis.core.metamodel.interactions.VisibilityContext;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.extensions.secman.applib.tenancy.spi.ApplicationTenancyEvaluator;
+import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.isis.extensions.secman.applib.user.dom.ApplicationUserRepository;
+
+import lombok.val;
+
+class TenantedAuthorizationFacetDefaultTest {
+
+    CountingEvaluator evaluator;
+    ApplicationUser applicationUser;
+    TenantedAuthorizationFacetDefault facet;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new CountingEvaluator();
+
+        applicationUser = mock(ApplicationUser.class);
+        when(applicationUser.getAtPath()).thenReturn("/uk");
+
+        val applicationUserRepository = mock(ApplicationUserRepository.class);
+        when(applicationUserRepository.findByUsername("sven")).thenReturn(Optional.of(applicationUser));
+
+        val userService = mock(UserService.class);
+        when(userService.currentUserNameElseNobody()).thenReturn("sven");
+
+        val queryResultsCache = new QueryResultsCache();
+
+        facet = new TenantedAuthorizationFacetDefault(
+                List.of(evaluator),
+                applicationUserRepository,
+                ()->queryResultsCache,
+                userService,
+                mock(FacetHolder.class));
+    }
+
+    @Test
+    void hides_isMemoized_perDomainObject() {
+        val owner = domainObject("1", "hidden");
+
+        assertEquals("hidden", facet.hides(visibilityContext(owner)));
+        assertEquals("hidden", facet.hides(visibilityContext(owner)));
+
+        assertEquals(1, evaluator.singleCalls);
+    }
+
+    @Test
+    void hides_isReEvaluated_whenTenancyOfUserChanges() {
+        val owner = domainObject("1", null);
+
+        assertNull(facet.hides(visibilityContext(owner)));
+        when(applicationUser.getAtPath()).thenReturn("/uk/london");
+        assertNull(facet.hides(visibilityContext(owner)));
+
+        assertEquals(2, evaluator.singleCalls);
+    }
+
+    @Test
+    void prefetchHides_usesBatch_andPrefillsMemo() {
+        val first = domainObject("1", null);
+        val second = domainObject("2", "hidden");
+
+        facet.prefetchHides(Can.of(first, second));
+
+        assertNull(facet.hides(visibilityContext(first)));
+        assertEquals("hidden", facet.hides(visibilityContext(second)));
+        assertEquals(1, evaluator.batchCalls);
+        assertEquals(0, evaluator.singleCalls);
+    }
+
+    @Test
+    void prefetchHides_fallsBackPerDomainObject_whenBatchResultHasWrongSize() {
+        evaluator.truncateBatchResult = true;
+        val first = domainObject("1", null);
+        val second = domainObject("2", "hidden");
+
+        facet.prefetchHides(Can.of(first, second));
+
+        assertEquals(2, evaluator.singleCalls);
+        assertNull(facet.hides(visibilityContext(first)));
+        assertEquals("hidden", facet.hides(visibilityContext(second)));
+        assertEquals(2, evaluator.singleCalls);
+    }
+
+    // -- HELPER
+
+    /**
+     * Hides those domain objects that are a non-empty {@link String}, using that as the reason.
+     */
+    static class CountingEvaluator implements ApplicationTenancyEvaluator {
+
+        int singleCalls;
+        int batchCalls;
+        boolean truncateBatchResult;
+
+        @Override
+        public boolean handles(final Class<?> cls) {
+            return true;
+        }
+
+        @Override
+        public String hides(final Object domainObject, final ApplicationUser applicationUser) {
+            singleCalls++;
+            return reasonToHide(domainObject);
+        }
+
+        @Override
+        public String disables(final Object domainObject, final ApplicationUser applicationUser) {
+            return null;
+        }
+
+        @Override
+        public List<String> hides(final List<Object> domainObjects, final ApplicationUser applicationUser) {
+            batchCalls++;
+            val reasons = domainObjects.stream()
+                    .map(CountingEvaluator::reasonToHide)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if(truncateBatchResult) {
+                reasons.remove(reasons.size() - 1);
+            }
+            return reasons;
+        }
+
+        private static String reasonToHide(final Object domainObject) {
+            val reason = (String) domainObject;
+            return reason.isEmpty() ? null : reason;
+        }
+    }
+
+    private static ManagedObject domainObject(final String id, final String reasonToHide) {
+        val domainObject = mock(ManagedObject.class);
+        when(domainObject.getBookmark())
+            .thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("secman.Tenanted", id)));
+        when(domainObject.getPojo()).thenReturn(reasonToHide != null ? reasonToHide : "");
+        return domainObject;
+    }
+
+    private static VisibilityContext visibilityContext(final ManagedObject owner) {
+        val head = mock(InteractionHead.class);
+        when(head.getOwner()).thenReturn(owner);
+        val visibilityContext = mock(VisibilityContext.class);
+        when(visibilityContext.getHead()).thenReturn(head);
+        return visibilityContext;
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.integration.permissions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+
+import org.apache.isis.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Extensions.Secman.PermissionsEvaluationPolicy;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionRule;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.isis.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+
+import lombok.val;
+
+class ApplicationPermissionValueSetTest {
+
+    final ApplicationFeatureId namespace = ApplicationFeatureId.newNamespace("com.foo");
+    final ApplicationFeatureId type = ApplicationFeatureId.newType("com.foo.Bar");
+    final ApplicationFeatureId member = ApplicationFeatureId.newMember("com.foo.Bar", "bip");
+    final ApplicationFeatureId otherMember = ApplicationFeatureId.newMember("com.foo.Bar", "bop");
+
+    PermissionsEvaluationServiceForSecman allowBeatsVeto;
+    PermissionsEvaluationServiceForSecman vetoBeatsAllow;
+
+    @BeforeEach
+    void setUp() {
+        allowBeatsVeto = evaluationService(PermissionsEvaluationPolicy.ALLOW_BEATS_VETO);
+        vetoBeatsAllow = evaluationService(PermissionsEvaluationPolicy.VETO_BEATS_ALLOW);
+    }
+
+    // -- PRECEDENCE
+
+    @Test
+    void noPermissions_notGranted() {
+        val valueSet = new ApplicationPermissionValueSet(List.of(), allowBeatsVeto);
+
+        val evaluation = valueSet.evaluate(member, ApplicationPermissionMode.VIEWING);
+
+        assertFalse(evaluation.isGranted());
+        assertNull(evaluation.getCause());
+    }
+
+    @Test
+    void memberVeto_beats_typeAllow() {
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                allow(type, ApplicationPermissionMode.CHANGING),
+                veto(member, ApplicationPermissionMode.VIEWING)),
+                allowBeatsVeto);
+
+        assertFalse(valueSet.grants(member, ApplicationPermissionMode.VIEWING));
+        assertTrue(valueSet.grants(otherMember, ApplicationPermissionMode.CHANGING));
+    }
+
+    @Test
+    void memberAllow_beats_namespaceVeto() {
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                veto(namespace, ApplicationPermissionMode.VIEWING),
+                allow(member, ApplicationPermissionMode.VIEWING)),
+                allowBeatsVeto);
+
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.VIEWING));
+        assertFalse(valueSet.grants(otherMember, ApplicationPermissionMode.VIEWING));
+        assertFalse(valueSet.grants(type, ApplicationPermissionMode.VIEWING));
+    }
+
+    @Test
+    void typeVeto_beats_namespaceAllow() {
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                allow(namespace, ApplicationPermissionMode.CHANGING),
+                veto(type, ApplicationPermissionMode.VIEWING)),
+                allowBeatsVeto);
+
+        val evaluation = valueSet.evaluate(member, ApplicationPermissionMode.VIEWING);
+
+        assertFalse(evaluation.isGranted());
+        assertEquals(veto(type, ApplicationPermissionMode.VIEWING), evaluation.getCause());
+    }
+
+    @Test
+    void sameFeature_precedence_asPerPolicy() {
+        val permissions = List.of(
+                allow(type, ApplicationPermissionMode.VIEWING),
+                veto(type, ApplicationPermissionMode.VIEWING));
+
+        assertTrue(new ApplicationPermissionValueSet(permissions, allowBeatsVeto)
+                .grants(member, ApplicationPermissionMode.VIEWING));
+        assertFalse(new ApplicationPermissionValueSet(permissions, vetoBeatsAllow)
+                .grants(member, ApplicationPermissionMode.VIEWING));
+    }
+
+    // -- MODES
+
+    @Test
+    void allowViewing_doesNotGrantChanging() {
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                allow(type, ApplicationPermissionMode.VIEWING)),
+                allowBeatsVeto);
+
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.VIEWING));
+        assertFalse(valueSet.grants(member, ApplicationPermissionMode.CHANGING));
+    }
+
+    @Test
+    void vetoChanging_doesNotRefuteViewing() {
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                allow(namespace, ApplicationPermissionMode.CHANGING),
+                veto(member, ApplicationPermissionMode.CHANGING)),
+                allowBeatsVeto);
+
+        assertFalse(valueSet.grants(member, ApplicationPermissionMode.CHANGING));
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.VIEWING));
+    }
+
+    // -- MEMOIZATION
+
+    @Test
+    void evaluation_isMemoized_perFeatureAndMode() {
+        val evaluationService = spy(allowBeatsVeto);
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                allow(type, ApplicationPermissionMode.VIEWING)),
+                evaluationService);
+
+        // when
+        val first = valueSet.evaluate(member, ApplicationPermissionMode.VIEWING);
+        val evaluationsAfterFirst = numberOfInvocations(evaluationService);
+        val second = valueSet.evaluate(member, ApplicationPermissionMode.VIEWING);
+
+        // then
+        assertTrue(first.isGranted());
+        assertSame(first, second);
+        assertEquals(evaluationsAfterFirst, numberOfInvocations(evaluationService));
+
+        // and the other mode is not served from the memo of the first
+        assertFalse(valueSet.grants(member, ApplicationPermissionMode.CHANGING));
+        assertTrue(numberOfInvocations(evaluationService) > evaluationsAfterFirst);
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.VIEWING));
+    }
+
+    @Test
+    void evaluation_isNotStale_whenPermissionsChange() {
+        val permissions = new ArrayList<>(Arrays.asList(
+                allow(type, ApplicationPermissionMode.CHANGING)));
+        val valueSet = new ApplicationPermissionValueSet(permissions, allowBeatsVeto);
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.CHANGING));
+
+        // when
+        permissions.add(veto(member, ApplicationPermissionMode.CHANGING));
+        val changedValueSet = new ApplicationPermissionValueSet(permissions, allowBeatsVeto);
+
+        // then the new set does not see the memo of the previous one
+        assertFalse(changedValueSet.grants(member, ApplicationPermissionMode.CHANGING));
+
+        // and the previous set is unaffected, as it copied the permissions it was built from
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.CHANGING));
+    }
+
+    @Test
+    void memo_isNotSerialized() throws Exception {
+        val valueSet = new ApplicationPermissionValueSet(List.of(
+                allow(type, ApplicationPermissionMode.VIEWING)),
+                allowBeatsVeto);
+        assertTrue(valueSet.grants(member, ApplicationPermissionMode.VIEWING));
+
+        // when
+        val deserialized = roundtrip(valueSet);
+
+        // then
+        assertEquals(valueSet, deserialized);
+        assertTrue(deserialized.grants(member, ApplicationPermissionMode.VIEWING));
+        assertFalse(deserialized.grants(member, ApplicationPermissionMode.CHANGING));
+    }
+
+    // -- HELPER
+
+    private static PermissionsEvaluationServiceForSecman evaluationService(final PermissionsEvaluationPolicy policy) {
+        val isisConfiguration = new IsisConfiguration(null);
+        isisConfiguration.getExtensions().getSecman().setPermissionsEvaluationPolicy(policy);
+        return new PermissionsEvaluationServiceForSecman(isisConfiguration);
+    }
+
+    private static ApplicationPermissionValue allow(final ApplicationFeatureId featureId, final ApplicationPermissionMode mode) {
+        return new ApplicationPermissionValue(featureId, ApplicationPermissionRule.ALLOW, mode);
+    }
+
+    private static ApplicationPermissionValue veto(final ApplicationFeatureId featureId, final ApplicationPermissionMode mode) {
+        return new ApplicationPermissionValue(featureId, ApplicationPermissionRule.VETO, mode);
+    }
+
+    private static int numberOfInvocations(final Object spy) {
+        return mockingDetails(spy).getInvocations().size();
+    }
+
+    private static ApplicationPermissionValueSet roundtrip(final ApplicationPermissionValueSet valueSet) throws Exception {
+        val bytes = new ByteArrayOutputStream();
+        try(val out = new ObjectOutputStream(bytes)) {
+            out.writeObject(valueSet);
+        }
+        try(val in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (ApplicationPermissionValueSet) in.readObject();
+        }
+    }
+
+}
@@ -23,6 +23,9 @@
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import javax.naming.AuthenticationException;
 import javax.naming.NamingEnumeration;
@@ -33,21 +36,26 @@
 import javax.naming.ldap.LdapContext;
 
 import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.Permission;
 import org.apache.shiro.authz.SimpleAuthorizationInfo;
 import org.apache.shiro.config.Ini;
 import org.apache.shiro.realm.ldap.DefaultLdapRealm;
 import org.apache.shiro.realm.ldap.LdapContextFactory;
 import org.apache.shiro.realm.ldap.LdapUtils;
 import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.util.Destroyable;
 import org.apache.shiro.util.StringUtils;
 
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.security.shiro.authorization.IsisPermissionIndex;
 import org.apache.isis.security.shiro.permrolemapper.PermissionToRoleMapper;
 import org.apache.isis.security.shiro.permrolemapper.PermissionToRoleMapperFromIni;
 
 import static org.apache.isis.commons.internal.base._NullSafe.stream;
 
+import lombok.val;
+
 /**
  * Implementation of {@link org.apache.shiro.realm.ldap.JndiLdapRealm} that also
  * returns each user's groups.
@@ -119,11 +127,27 @@
  * replacing the string {attribute} by the extracted attribute (can me multiple).
  * See the sample for group and user attribute and mapping.
  * <p/>
+ * <p>
+ * The roles and permissions looked up for each user are cached (bounded, with a time-to-live),
+ * so that the LDAP server is only searched again once they expire. Empty lookups (eg. for unknown
+ * users) are cached for a shorter period. Optionally, cached lookups are refreshed in the
+ * background, so that once a user has logged in, requests do not block on the LDAP server:
+ * <p/>
+ * <pre>
+ * ldapRealm.lookupCacheMaxEntries = 1000
+ * ldapRealm.lookupCacheTimeToLiveMillis = 600000
+ * ldapRealm.lookupCacheNegativeTimeToLiveMillis = 60000
+ * ldapRealm.lookupCacheAsyncRefresh = true
+ * ldapRealm.lookupCacheRefreshAheadMillis = 60000
+ * </pre>
+ * <p/>
+ * <p>
+ * Setting <tt>lookupCacheMaxEntries</tt> to <tt>0</tt> disables the cache.
  * </p>
  *
  * @since 1.x {@index}
  */
-public class IsisLdapRealm extends DefaultLdapRealm {
+public class IsisLdapRealm extends DefaultLdapRealm implements Destroyable {
 
     private static final String UNIQUEMEMBER_SUBSTITUTION_TOKEN = "{0}";
     private static final SearchControls SUBTREE_SCOPE = new SearchControls();
@@ -179,12 +203,35 @@ public class IsisLdapRealm extends DefaultLdapRealm {
      */
     private String cnAttribute = "cn";
 
+    private final IsisPermissionIndex.Cache permissionIndexCache = new IsisPermissionIndex.Cache();
+
+    private final LdapLookupCache<String, Set<String>> rolesByUser =
+            new LdapLookupCache<>("roles by user", this::lookupRoles);
+    private final LdapLookupCache<String, Set<String>> userPermissionsByUser =
+            new LdapLookupCache<>("user attribute permissions by user", this::lookupUserPermissions);
+    private final LdapLookupCache<String, Set<String>> groupPermissionsByUser =
+            new LdapLookupCache<>("group attribute permissions by user", this::lookupGroupPermissions);
+    private ExecutorService refreshExecutor;
+
     public IsisLdapRealm() {
         setGroupObjectClass("groupOfUniqueNames");
         setUniqueMemberAttribute("uniqueMember");
         setUniqueMemberAttributeValueTemplate("uid={0}");
     }
 
+    /**
+     * If this realm caches {@link AuthorizationInfo}s, checks against their (pre-parsed and indexed)
+     * permissions, rather than re-resolving and looping over all of them on every check.
+     */
+    @Override
+    protected boolean isPermitted(final Permission permission, final AuthorizationInfo info) {
+        if(info == null
+                || getAuthorizationCache() == null) {
+            return super.isPermitted(permission, info);
+        }
+        return permissionIndexCache.indexFor(info, this::getPermissions).implies(permission);
+    }
+
     /**
      * Get groups from LDAP.
      *
@@ -197,18 +244,119 @@ public IsisLdapRealm() {
      */
     @Override
     protected AuthorizationInfo queryForAuthorizationInfo(final PrincipalCollection principals, final LdapContextFactory ldapContextFactory) throws NamingException {
-        final Set<String> roleNames = getRoles(principals, ldapContextFactory);
+        final String username = (String) getAvailablePrincipal(principals);
+        final Set<String> roleNames = _Sets.newLinkedHashSet(rolesByUser.get(username));
         SimpleAuthorizationInfo simpleAuthorizationInfo = new SimpleAuthorizationInfo(roleNames);
         Set<String> stringPermissions = permsFor(roleNames);
-        final String username = (String) getAvailablePrincipal(principals);
-        final LdapContext finalLdapContext = ldapContextFactory.getSystemLdapContext();
-        stringPermissions.addAll(getPermissionForUser(username, finalLdapContext));
-        stringPermissions.addAll(getPermissionForRole(username, finalLdapContext));
+        stringPermissions.addAll(userPermissionsByUser.get(username));
+        stringPermissions.addAll(groupPermissionsByUser.get(username));
         simpleAuthorizationInfo.setStringPermissions(stringPermissions);
 
         return simpleAuthorizationInfo;
     }
 
+    // -- LOOKUP CACHE
+
+    /**
+     * Clears all cached LDAP lookups (roles and permissions by user).
+     */
+    public void clearLookupCache() {
+        lookupCaches().forEach(LdapLookupCache::invalidateAll);
+    }
+
+    /**
+     * The maximum number of users whose LDAP lookups are cached (per kind of lookup);
+     * <tt>0</tt> disables caching.
+     */
+    public void setLookupCacheMaxEntries(final int maxEntries) {
+        lookupCaches().forEach(cache->cache.setMaxEntries(maxEntries));
+    }
+
+    /**
+     * How long an LDAP lookup is cached for (in milliseconds).
+     */
+    public void setLookupCacheTimeToLiveMillis(final long timeToLiveMillis) {
+        lookupCaches().forEach(cache->cache.setTimeToLiveMillis(timeToLiveMillis));
+    }
+
+    /**
+     * How long an empty LDAP lookup (eg. for an unknown user) is cached for (in milliseconds).
+     */
+    public void setLookupCacheNegativeTimeToLiveMillis(final long negativeTimeToLiveMillis) {
+        lookupCaches().forEach(cache->cache.setNegativeTimeToLiveMillis(negativeTimeToLiveMillis));
+    }
+
+    /**
+     * If {@link #setLookupCacheAsyncRefresh(boolean) refreshing asynchronously}, how long before expiry
+     * (in milliseconds) a cached LDAP lookup is refreshed in the background.
+     */
+    public void setLookupCacheRefreshAheadMillis(final long refreshAheadMillis) {
+        lookupCaches().forEach(cache->cache.setRefreshAheadMillis(refreshAheadMillis));
+    }
+
+    /**
+     * Whether cached LDAP lookups are refreshed in the background (serving the cached result meanwhile),
+     * such that, once cached, requests do not block on the LDAP server.
+     */
+    public synchronized void setLookupCacheAsyncRefresh(final boolean asyncRefresh) {
+        if(asyncRefresh
+                && refreshExecutor == null) {
+            refreshExecutor = Executors.newSingleThreadExecutor(runnable->{
+                val thread = new Thread(runnable, "isis-ldap-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else if(!asyncRefresh
+                && refreshExecutor != null) {
+            refreshExecutor.shutdown();
+            refreshExecutor = null;
+        }
+        val executor = refreshExecutor;
+        lookupCaches().forEach(cache->cache.setRefreshExecutor(executor));
+    }
+
+    @Override
+    public synchronized void destroy() {
+        setLookupCacheAsyncRefresh(false);
+    }
+
+    private Stream<LdapLookupCache<String, Set<String>>> lookupCaches() {
+        return Stream.of(rolesByUser, userPermissionsByUser, groupPermissionsByUser);
+    }
+
+    private Set<String> lookupRoles(final String username) throws NamingException {
+        LdapContext systemLdapCtx = null;
+        try {
+            systemLdapCtx = getContextFactory().getSystemLdapContext();
+            return rolesFor(username, systemLdapCtx);
+        } catch (AuthenticationException ex) {
+            // principal was not authenticated on LDAP
+            return Collections.emptySet();
+        } finally {
+            LdapUtils.closeContext(systemLdapCtx);
+        }
+    }
+
+    private Set<String> lookupUserPermissions(final String username) throws NamingException {
+        LdapContext systemLdapCtx = null;
+        try {
+            systemLdapCtx = getContextFactory().getSystemLdapContext();
+            return _Sets.newLinkedHashSet(getPermissionForUser(username, systemLdapCtx));
+        } finally {
+            LdapUtils.closeContext(systemLdapCtx);
+        }
+    }
+
+    private Set<String> lookupGroupPermissions(final String username) throws NamingException {
+        LdapContext systemLdapCtx = null;
+        try {
+            systemLdapCtx = getContextFactory().getSystemLdapContext();
+            return getPermissionForRole(username, systemLdapCtx);
+        } finally {
+            LdapUtils.closeContext(systemLdapCtx);
+        }
+    }
+
     private Set<String>
     getPermissionForRole(final String username, final LdapContext ldapContext)
             throws NamingException {
@@ -295,21 +443,6 @@ private void addPermIfFound(
         }
     }
 
-    private Set<String> getRoles(final PrincipalCollection principals, final LdapContextFactory ldapContextFactory) throws NamingException {
-        final String username = (String) getAvailablePrincipal(principals);
-
-        LdapContext systemLdapCtx = null;
-        try {
-            systemLdapCtx = ldapContextFactory.getSystemLdapContext();
-            return rolesFor(username, systemLdapCtx);
-        } catch (AuthenticationException ex) {
-            // principal was not authenticated on LDAP
-            return Collections.emptySet();
-        } finally {
-            LdapUtils.closeContext(systemLdapCtx);
-        }
-    }
-
     private Set<String> rolesFor(final String userName, final LdapContext ldapCtx) throws NamingException {
         final Set<String> roleNames = _Sets.newLinkedHashSet();
         final NamingEnumeration<SearchResult> searchResultEnum = ldapCtx.search(searchBase, "objectClass=" + groupObjectClass, SUBTREE_SCOPE);
@@ -0,0 +1,203 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.shirorealmldap.realm.impl;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+import javax.naming.NamingException;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded, time-to-live based cache of LDAP lookups (such as the groups of a user, or the permissions
+ * derived from those groups), used by {@link IsisLdapRealm}.
+ *
+ * <ul>
+ *     <li>the least recently used entries are evicted once {@link #getMaxEntries() maxEntries} is exceeded</li>
+ *     <li>empty results (eg. unknown users) are cached for {@link #getNegativeTimeToLiveMillis() their own}
+ *     (typically shorter) time-to-live</li>
+ *     <li>entries within {@link #getRefreshAheadMillis() refreshAhead} of expiry are refreshed in the
+ *     background (if an {@link Executor} is given), while still being served</li>
+ *     <li>with an {@link Executor}, expired entries are also served (stale) while being refreshed in the
+ *     background, until twice their time-to-live, beyond which lookups block on the directory again</li>
+ * </ul>
+ *
+ * @param <K> lookup key (eg. user name)
+ * @param <V> lookup result
+ */
+@Log4j2
+final class LdapLookupCache<K, V extends Collection<?>> {
+
+    @FunctionalInterface
+    static interface Loader<K, V> {
+        V load(K key) throws NamingException;
+    }
+
+    private final @NonNull String name;
+    private final @NonNull Loader<K, V> loader;
+    private final @NonNull LongSupplier clock;
+
+    @Getter @Setter private int maxEntries = 1_000;
+    @Getter @Setter private long timeToLiveMillis = 10 * 60_000L;
+    @Getter @Setter private long negativeTimeToLiveMillis = 60_000L;
+    @Getter @Setter private long refreshAheadMillis = 60_000L;
+    @Getter @Setter private @Nullable Executor refreshExecutor;
+
+    private final Map<K, Lookup<V>> entries;
+
+    LdapLookupCache(final @NonNull String name, final @NonNull Loader<K, V> loader) {
+        this(name, loader, System::currentTimeMillis);
+    }
+
+    LdapLookupCache(final @NonNull String name, final @NonNull Loader<K, V> loader, final @NonNull LongSupplier clock) {
+        this.name = name;
+        this.loader = loader;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, Lookup<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Lookup<V>> eldest) {
+                return size() > LdapLookupCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for given {@code key}, only calling the loader (and blocking on it)
+     * if there is none that may still be served.
+     */
+    V get(final @NonNull K key) throws NamingException {
+        if(maxEntries <= 0) {
+            return loader.load(key);
+        }
+        final Lookup<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if(entry != null) {
+            val now = clock.getAsLong();
+            val age = now - entry.loadedAt;
+            val timeToLive = timeToLiveFor(entry.value);
+            val executor = refreshExecutor;
+            val asynchronous = executor != null;
+            if(age <= timeToLive) {
+                if(asynchronous
+                        && age > timeToLive - refreshAheadMillis) {
+                    refreshInBackground(key, entry, executor);
+                }
+                return entry.value;
+            }
+            if(asynchronous
+                    && age <= 2 * timeToLive) {
+                refreshInBackground(key, entry, executor);
+                return entry.value; // stale
+            }
+        }
+        return load(key);
+    }
+
+    void invalidate(final @NonNull K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // -- HELPER
+
+    private V load(final K key) throws NamingException {
+        val value = loader.load(key);
+        synchronized (entries) {
+            entries.put(key, new Lookup<>(value, clock.getAsLong()));
+        }
+        return value;
+    }
+
+    private void refreshInBackground(final K key, final Lookup<V> entry, final Executor executor) {
+        if(!entry.startRefresh()) {
+            return; // already in progress
+        }
+        try {
+            executor.execute(()->{
+                try {
+                    load(key);
+                } catch (Exception e) {
+                    log.warn("{}: failed to refresh entry for {}, serving previous result meanwhile", name, key, e);
+                } finally {
+                    entry.endRefresh();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // executor shut down
+            entry.endRefresh();
+        }
+    }
+
+    private long timeToLiveFor(final V value) {
+        return value == null
+                || value.isEmpty()
+                ? negativeTimeToLiveMillis
+                : timeToLiveMillis;
+    }
+
+    private static final class Lookup<V> {
+        private final V value;
+        private final long loadedAt;
+        private boolean refreshing;
+
+        Lookup(final V value, final long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        synchronized boolean startRefresh() {
+            if(refreshing) {
+                return false;
+            }
+            return refreshing = true;
+        }
+
+        synchronized void endRefresh() {
+            refreshing = false;
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.shirorealmldap.realm.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.NamingException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LdapLookupCacheTest {
+
+    private long now;
+    private AtomicInteger loads;
+    private Set<String> directory;
+    private List<Runnable> backgroundTasks;
+    private LdapLookupCache<String, Set<String>> cache;
+
+    @Before
+    public void setUp() throws Exception {
+        now = 0L;
+        loads = new AtomicInteger();
+        directory = Collections.singleton("admin_role");
+        backgroundTasks = new ArrayList<>();
+        cache = new LdapLookupCache<>("test", this::lookup, ()->now);
+        cache.setTimeToLiveMillis(1_000L);
+        cache.setNegativeTimeToLiveMillis(100L);
+        cache.setRefreshAheadMillis(200L);
+    }
+
+    private Set<String> lookup(final String user) throws NamingException {
+        loads.incrementAndGet();
+        return "sven".equals(user)
+                ? directory
+                : Collections.emptySet();
+    }
+
+    @Test
+    public void servesFromCacheUntilExpired() throws Exception {
+        assertThat(cache.get("sven"), is(directory));
+        now = 1_000L;
+        assertThat(cache.get("sven"), is(directory));
+        assertThat(loads.get(), is(1));
+
+        now = 1_001L;
+        cache.get("sven");
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void emptyResultsExpireSooner() throws Exception {
+        cache.get("olaf");
+        now = 100L;
+        cache.get("olaf");
+        assertThat(loads.get(), is(1));
+
+        now = 101L;
+        cache.get("olaf");
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        cache.setMaxEntries(2);
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+        assertThat(cache.size(), is(2));
+        assertThat(loads.get(), is(3));
+
+        cache.get("a");
+        assertThat(loads.get(), is(3));
+        cache.get("b");
+        assertThat(loads.get(), is(4));
+    }
+
+    @Test
+    public void refreshesAheadOfExpiryInBackground() throws Exception {
+        cache.setRefreshExecutor(backgroundTasks::add);
+        cache.get("sven");
+
+        now = 900L;
+        directory = Collections.singleton("user_role");
+        assertThat(cache.get("sven"), is(Collections.singleton("admin_role")));
+        cache.get("sven");
+        assertThat(backgroundTasks.size(), is(1)); // only one refresh at a time
+
+        backgroundTasks.get(0).run();
+        assertThat(cache.get("sven"), is(Collections.singleton("user_role")));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void servesStaleWhileRefreshingInBackground() throws Exception {
+        cache.setRefreshExecutor(backgroundTasks::add);
+        cache.get("sven");
+
+        now = 1_500L;
+        assertThat(cache.get("sven"), is(directory));
+        assertThat(loads.get(), is(1));
+        assertThat(backgroundTasks.size(), is(1));
+
+        now = 2_001L;
+        cache.get("sven");
+        assertThat(loads.get(), is(2)); // too stale, so blocks
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        cache.get("sven");
+        cache.invalidateAll();
+        cache.get("sven");
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        cache.setMaxEntries(0);
+        cache.get("sven");
+        cache.get("sven");
+        assertThat(loads.get(), is(2));
+        assertThat(cache.size(), is(0));
+    }
+
+}
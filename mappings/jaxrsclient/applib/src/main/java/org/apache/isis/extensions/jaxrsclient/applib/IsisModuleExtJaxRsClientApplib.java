@@ -21,15 +21,15 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientFactory;
+
 /**
  * @since 2.0 {@index}
  */
 @Configuration
 @Import({
-        // modules
-        IsisModuleExtJaxRsClientApplib.class
-
         // @Service's
+        JaxRsClientFactory.class,
 
 })
 public class IsisModuleExtJaxRsClientApplib {
@@ -0,0 +1,77 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.jaxrsclient.applib.client;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Connection settings of a (shared) JAX-RS {@link javax.ws.rs.client.Client},
+ * as obtained from {@link JaxRsClientFactory}.
+ *
+ * <p>
+ *     Is a value type, clients are shared among all callers using equal configurations.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Value @Builder
+public class JaxRsClientConfig {
+
+    public static final JaxRsClientConfig DEFAULT = JaxRsClientConfig.builder().build();
+
+    /**
+     * Maximum time to wait for a connection to be established.
+     */
+    @Builder.Default @NonNull
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum time to wait for a response, once connected.
+     */
+    @Builder.Default @NonNull
+    private final Duration readTimeout = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of pooled (kept alive) connections in total.
+     *
+     * <p>
+     *     Only applies to JAX-RS implementations supporting connection pool limits through their
+     *     {@link javax.ws.rs.client.ClientBuilder} (currently RESTEasy). Has no effect with CXF, whose default
+     *     HTTP conduit relies on the JDK's keep-alive cache instead (as sized by the
+     *     <code>http.maxConnections</code> system property, which is per destination).
+     * </p>
+     */
+    @Builder.Default
+    private final int maxConnections = 50;
+
+    /**
+     * Maximum number of pooled (kept alive) connections per route (that is, per target host and port).
+     *
+     * <p>
+     *     As with <code>maxConnections</code>, has no effect with CXF.
+     * </p>
+     */
+    @Builder.Default
+    private final int maxConnectionsPerRoute = 20;
+
+}
@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.jaxrsclient.applib.client;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Provides shared, reusable JAX-RS {@link Client}s, one per {@link JaxRsClientConfig}.
+ *
+ * <p>
+ *     {@link Client}s are thread-safe and expensive to create; each holds its own pool of (kept alive)
+ *     connections. Creating a new client per request hence means a new TCP (and TLS) handshake for every
+ *     request. Instead, callers should obtain the shared client and (if needed) apply any per-caller
+ *     configuration (such as filters) to the {@link javax.ws.rs.client.WebTarget}s they create from it,
+ *     rather than to the client itself.
+ * </p>
+ *
+ * <p>
+ *     Timeouts are set using the standard {@link ClientBuilder} API. The connection pool limits are applied
+ *     to JAX-RS implementations that support them through their {@link ClientBuilder}
+ *     (currently RESTEasy); other implementations use their own pooling, eg. CXF's default HTTP conduit
+ *     relies on the JDK's keep-alive cache (as sized by the <code>http.maxConnections</code> system property).
+ * </p>
+ *
+ * <p>
+ *     When running within Spring, this class is registered as a bean (by
+ *     {@link org.apache.isis.extensions.jaxrsclient.applib.IsisModuleExtJaxRsClientApplib}), solely so that the
+ *     shared clients are {@link #closeAll() closed} when the application context is shut down.
+ *     As shared clients are static, this affects all other application contexts within the same JVM
+ *     (such as cached test contexts) also; callers must therefore look up the shared client per request
+ *     (a cheap map lookup), rather than hold on to it, such that a closed client is re-created on next use.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.ext.jaxrsclient.JaxRsClientFactory")
+public final class JaxRsClientFactory {
+
+    /**
+     * Not to be instantiated other than by Spring; all other methods are static.
+     */
+    public JaxRsClientFactory() {}
+
+    @PreDestroy
+    public void preDestroy() {
+        closeAll();
+    }
+
+    private static final Map<JaxRsClientConfig, Client> sharedClients = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared {@link Client} for the {@link JaxRsClientConfig#DEFAULT default configuration}.
+     */
+    public static Client sharedClient() {
+        return sharedClient(JaxRsClientConfig.DEFAULT);
+    }
+
+    /**
+     * Returns the shared {@link Client} for given configuration, creating it on first use.
+     *
+     * <p>
+     *     The returned client must not be closed nor (re-)configured by callers, nor be held on to beyond
+     *     the current request.
+     * </p>
+     */
+    public static Client sharedClient(final @NonNull JaxRsClientConfig config) {
+        return sharedClients.computeIfAbsent(config, JaxRsClientFactory::newClient);
+    }
+
+    /**
+     * Returns a new (not shared) {@link Client} for given configuration, to be closed by the caller.
+     */
+    public static Client newClient(final @NonNull JaxRsClientConfig config) {
+        val clientBuilder = ClientBuilder.newBuilder()
+                .connectTimeout(config.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(config.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        configureConnectionPool(clientBuilder, config);
+        return clientBuilder.build();
+    }
+
+    /**
+     * Closes all shared {@link Client}s, eg. on application shutdown; subsequent calls to
+     * {@link #sharedClient(JaxRsClientConfig)} create new ones.
+     */
+    public static void closeAll() {
+        sharedClients.keySet().forEach(config->{
+            val client = sharedClients.remove(config);
+            if(client != null) {
+                closeQuietly(client);
+            }
+        });
+    }
+
+    // -- HELPER
+
+    /**
+     * RESTEasy's <code>ResteasyClientBuilder</code> by default uses a single (non-pooled) connection per client.
+     */
+    private static void configureConnectionPool(
+            final ClientBuilder clientBuilder,
+            final JaxRsClientConfig config) {
+        invokeIfSupported(clientBuilder, "connectionPoolSize", config.getMaxConnections());
+        invokeIfSupported(clientBuilder, "maxPooledPerRoute", config.getMaxConnectionsPerRoute());
+    }
+
+    private static void invokeIfSupported(
+            final ClientBuilder clientBuilder,
+            final String builderMethodName,
+            final int value) {
+        final Method builderMethod;
+        try {
+            builderMethod = clientBuilder.getClass().getMethod(builderMethodName, int.class);
+        } catch (NoSuchMethodException e) {
+            return; // not supported by this JAX-RS implementation
+        }
+        ReflectionUtils.invokeMethod(builderMethod, clientBuilder, value);
+    }
+
+    private static void closeQuietly(final Client client) {
+        try {
+            client.close();
+        } catch (Exception ex) {
+            // ignore
+        }
+    }
+
+}
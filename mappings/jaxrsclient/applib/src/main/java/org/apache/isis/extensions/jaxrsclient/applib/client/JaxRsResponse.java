@@ -19,12 +19,25 @@
 package org.apache.isis.extensions.jaxrsclient.applib.client;
 
 /**
+ * Wraps the response of a call made using a {@link JaxRsClient}.
+ *
+ * <p>
+ *     As {@link JaxRsClient}s share a pool of connections, the response must be {@link #close() closed} once
+ *     read, so that its connection is released back to the pool.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
-public interface JaxRsResponse {
+public interface JaxRsResponse extends AutoCloseable {
 
     int getStatus();
 
     <T> T readEntity(final Class<T> entityType);
 
+    /**
+     * Releases the underlying connection; subsequent calls have no effect.
+     */
+    @Override
+    default void close() {}
+
 }
@@ -21,11 +21,15 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import org.apache.isis.extensions.jaxrsclient.applib.IsisModuleExtJaxRsClientApplib;
+
 /**
  * @since 2.0 {@index}
  */
 @Configuration
 @Import({
+        // modules
+        IsisModuleExtJaxRsClientApplib.class,
 
 })
 public class IsisModuleExtJaxRsClientImpl {
@@ -22,7 +22,6 @@
 import java.util.HashMap;
 
 import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
@@ -30,16 +29,35 @@
 import javax.ws.rs.core.Response;
 
 import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClient;
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientConfig;
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientFactory;
 import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsResponse;
 
+import lombok.NonNull;
 import lombok.val;
 
 public class JaxRsClientDefault implements JaxRsClient {
 
-    protected final ClientBuilder clientBuilder;
+    /**
+     * Identifies the {@link Client} to use, which is shared (connection pooled) among all instances using the
+     * same {@link JaxRsClientConfig}.
+     */
+    protected final JaxRsClientConfig config;
 
     public JaxRsClientDefault() {
-        clientBuilder = ClientBuilder.newBuilder();
+        this(JaxRsClientConfig.DEFAULT);
+    }
+
+    public JaxRsClientDefault(final @NonNull JaxRsClientConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * The shared {@link Client}, looked up per request (rather than held on to), as shared clients are closed
+     * (and subsequently re-created) once any application context using them shuts down; not to be closed.
+     */
+    protected Client client() {
+        return JaxRsClientFactory.sharedClient(config);
     }
 
     /**
@@ -56,46 +74,35 @@ public JaxRsResponse get(
             final ReprType reprType,
             final String username,
             final String password) {
-        final Client client = this.clientBuilder.build();
 
-        try {
-            final WebTarget webTarget = client.target(uri);
-            configureInvocationBuilder(webTarget);
+        final WebTarget webTarget = client().target(uri);
+        configureInvocationBuilder(webTarget);
 
-            final Invocation.Builder invocationBuilder = webTarget.request();
-            invocationBuilder.accept(mediaTypeFor(dtoClass, reprType));
-            addBasicAuth(username, password, invocationBuilder);
+        final Invocation.Builder invocationBuilder = webTarget.request();
+        invocationBuilder.accept(mediaTypeFor(dtoClass, reprType));
+        addBasicAuth(username, password, invocationBuilder);
 
-            final Invocation invocation = invocationBuilder.buildGet();
+        final Invocation invocation = invocationBuilder.buildGet();
 
-            final Response response = invocation.invoke();
-            return new JaxRsResponseDefault(response);
-        } finally {
-            closeQuietly(client);
-        }
+        final Response response = invocation.invoke();
+        return new JaxRsResponseDefault(response);
     }
 
     @Override
     public JaxRsResponse post(final URI uri, final String bodyJson, final String username, final String password) {
 
-        final Client client = this.clientBuilder.build();
+        final WebTarget webTarget = client().target(uri);
 
-        try {
-            final WebTarget webTarget = client.target(uri);
+        final Invocation.Builder invocationBuilder = webTarget.request();
+        configureInvocationBuilder(invocationBuilder);
+        addBasicAuth(username, password, invocationBuilder);
 
-            final Invocation.Builder invocationBuilder = webTarget.request();
-            configureInvocationBuilder(invocationBuilder);
-            addBasicAuth(username, password, invocationBuilder);
+        final Entity<String> entity = Entity.entity(bodyJson, MediaType.APPLICATION_JSON_TYPE);
 
-            final Entity<String> entity = Entity.entity(bodyJson, MediaType.APPLICATION_JSON_TYPE);
+        final Invocation invocation = invocationBuilder.buildPost(entity);
 
-            final Invocation invocation = invocationBuilder.buildPost(entity);
-
-            final Response response = invocation.invoke();
-            return new JaxRsResponseDefault(response);
-        } finally {
-            closeQuietly(client);
-        }
+        final Response response = invocation.invoke();
+        return new JaxRsResponseDefault(response);
     }
 
     private Invocation.Builder addBasicAuth(
@@ -143,14 +150,4 @@ private static byte[] asBytes(final String username, final String password) {
         return String.format("%s:%s", username, password).getBytes();
     }
 
-    private static void closeQuietly(final Client client) {
-        if (client == null) {
-            return;
-        }
-        try {
-            client.close();
-        } catch (Exception ex) {
-            // ignore so as to avoid overriding any pending exceptions in calling 'finally' block.
-        }
-    }
 }
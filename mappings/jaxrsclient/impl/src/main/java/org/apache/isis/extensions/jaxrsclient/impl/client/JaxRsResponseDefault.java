@@ -39,4 +39,9 @@ public int getStatus() {
     public <T> T readEntity(final Class<T> entityType) {
         return response.readEntity(entityType);
     }
+
+    @Override
+    public void close() {
+        response.close();
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.jaxrsclient.impl.client;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClient;
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientConfig;
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientFactory;
+
+import lombok.val;
+
+class JaxRsClientDefaultTest {
+
+    private HttpServer server;
+    private URI uri;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/restful/", exchange->{
+            requestCount.incrementAndGet();
+            clientAddresses.add(exchange.getRemoteAddress()); // one per (kept alive) connection
+            val body = "<ok/>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        uri = URI.create(String.format("http://localhost:%d/restful/objects", server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        JaxRsClientFactory.closeAll();
+    }
+
+    @Test
+    void clients_areShared_perConfig() {
+        val config = JaxRsClientConfig.builder().maxConnectionsPerRoute(5).build();
+
+        assertSame(JaxRsClientFactory.sharedClient(config),
+                JaxRsClientFactory.sharedClient(JaxRsClientConfig.builder().maxConnectionsPerRoute(5).build()));
+        assertNotSame(JaxRsClientFactory.sharedClient(config),
+                JaxRsClientFactory.sharedClient(JaxRsClientConfig.DEFAULT));
+    }
+
+    @Test
+    void sequentialRequests_reuseConnection() {
+        for(int i = 0; i < 5; i++) {
+            // as eg. the command replay fetcher does, a new instance per request
+            val response = new JaxRsClientDefault()
+                    .get(uri, String.class, JaxRsClient.ReprType.OBJECT, "sven", "pass");
+            assertEquals(200, response.getStatus());
+            assertEquals("<ok/>", response.readEntity(String.class));
+        }
+
+        assertEquals(5, requestCount.get());
+        assertEquals(1, clientAddresses.size());
+    }
+
+    @Test
+    void requests_succeed_afterSharedClientsWereClosed() {
+        // as eg. when another (cached) application context within the same JVM is shut down
+        val jaxRsClient = new JaxRsClientDefault();
+
+        try(val response = jaxRsClient.get(uri, String.class, JaxRsClient.ReprType.OBJECT, "sven", "pass")) {
+            assertEquals(200, response.getStatus());
+        }
+
+        JaxRsClientFactory.closeAll();
+
+        try(val response = jaxRsClient.get(uri, String.class, JaxRsClient.ReprType.OBJECT, "sven", "pass")) {
+            assertEquals(200, response.getStatus());
+        }
+        assertEquals(2, requestCount.get());
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.extensions.restclient;
 
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
@@ -26,14 +27,16 @@
 import java.util.stream.Collectors;
 
 import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Invocation.Builder;
+import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
 
 import org.apache.isis.applib.client.SuppressionType;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.context._Context;
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientConfig;
+import org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientFactory;
 import org.apache.isis.extensions.restclient.auth.BasicAuthFilter;
 import org.apache.isis.extensions.restclient.auth.BasicAuthFilter.Credentials;
 import org.apache.isis.extensions.restclient.log.ClientConversationLogger;
@@ -143,6 +146,12 @@ public class RestfulClient {
     private static final String DEFAULT_RESPONSE_CONTENT_TYPE = "application/json;profile=\"urn:org.apache.isis/v2\"";
 
     private RestfulClientConfig clientConfig;
+
+    /**
+     * View onto the shared (connection pooled) JAX-RS {@link Client}; providers and filters specific to this
+     * client's configuration are registered with each {@link WebTarget} created from it, rather than with the
+     * shared client.
+     */
     private Client client;
 
     public static RestfulClient ofConfig(RestfulClientConfig clientConfig) {
@@ -153,7 +162,13 @@ public static RestfulClient ofConfig(RestfulClientConfig clientConfig) {
 
     public void init(RestfulClientConfig clientConfig) {
         this.clientConfig = clientConfig;
-        client = ClientBuilder.newClient();
+        final JaxRsClientConfig jaxRsClientConfig = JaxRsClientConfig.builder()
+                .connectTimeout(Duration.ofMillis(clientConfig.getConnectTimeoutMillis()))
+                .readTimeout(Duration.ofMillis(clientConfig.getReadTimeoutMillis()))
+                .maxConnections(clientConfig.getMaxConnections())
+                .maxConnectionsPerRoute(clientConfig.getMaxConnectionsPerRoute())
+                .build();
+        client = _SharedClient.of(()->JaxRsClientFactory.sharedClient(jaxRsClientConfig));
 
         registerDefaultJsonProvider();
         registerBasicAuthFilter();
@@ -164,6 +179,20 @@ public RestfulClientConfig getConfig() {
         return clientConfig;
     }
 
+    /**
+     * The JAX-RS {@link Client} this {@link RestfulClient} creates its {@link WebTarget}s from.
+     *
+     * @deprecated as of 2.0 the underlying JAX-RS client is shared (connection pooled) among all
+     * {@link RestfulClient}s with equal connection settings, so is no longer exposed; what is returned is a
+     * view onto it: closing it has no effect, and components or properties registered with it are applied to
+     * the {@link WebTarget}s of this {@link RestfulClient} (including those of {@link #request(String, EnumSet)})
+     * only, rather than to the shared client, hence are not reflected by its
+     * {@link Client#getConfiguration() configuration}.
+     * To migrate, use {@link #request(String, EnumSet)} to build requests and
+     * {@link RestfulClientConfig#getClientConversationFilters()} to add filters.
+     * @see JaxRsClientFactory
+     */
+    @Deprecated
     public Client getJaxRsClient() {
         return client;
     }
@@ -178,7 +207,7 @@ public Builder request(String path, EnumSet<SuppressionType> suppressionTypes) {
         final String responseContentType = DEFAULT_RESPONSE_CONTENT_TYPE
                 + toSuppressionLiteral(suppressionTypes);
 
-        return client.target(relativePathToUri(path)).request(responseContentType);
+        return webTarget(relativePathToUri(path)).request(responseContentType);
     }
 
     // -- ARGUMENT BUILDER
@@ -245,7 +274,8 @@ public <T> CompletableFuture<ResponseDigest<T>> digestList(
     private void registerDefaultJsonProvider() {
         try {
             Class<?> MOXyJsonProvider = _Context.loadClass("org.eclipse.persistence.jaxb.rs.MOXyJsonProvider");
-            client.register(MOXyJsonProvider);
+            // a single instance, so its JAXB contexts are cached across requests
+            client.register(MOXyJsonProvider.getDeclaredConstructor().newInstance());
         } catch (Exception e) {
             log.warn("This implementation of RestfulClient does require the class 'MOXyJsonProvider'"
                     + " on the class-path."
@@ -273,6 +303,10 @@ private void registerConversationFilters() {
 
     // -- HELPER
 
+    private WebTarget webTarget(final String uri) {
+        return client.target(uri);
+    }
+
     private String relativePathToUri(String path) {
         final String baseUri = _Strings.suffix(clientConfig.getRestfulBase(), "/");
         while(path.startsWith("/")) {
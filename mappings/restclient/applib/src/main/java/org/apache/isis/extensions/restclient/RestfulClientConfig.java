@@ -54,6 +54,30 @@ public class RestfulClientConfig {
     @XmlElement(name="useRequestDebugLogging")
     private boolean useRequestDebugLogging;
 
+    /**
+     * Maximum time (in milliseconds) to wait for a connection to be established.
+     */
+    @XmlElement(name="connectTimeoutMillis")
+    private long connectTimeoutMillis = 10_000;
+
+    /**
+     * Maximum time (in milliseconds) to wait for a response, once connected.
+     */
+    @XmlElement(name="readTimeoutMillis")
+    private long readTimeoutMillis = 60_000;
+
+    /**
+     * Maximum number of pooled (kept alive) connections in total.
+     */
+    @XmlElement(name="maxConnections")
+    private int maxConnections = 50;
+
+    /**
+     * Maximum number of pooled (kept alive) connections per route (that is, per target host and port).
+     */
+    @XmlElement(name="maxConnectionsPerRoute")
+    private int maxConnectionsPerRoute = 20;
+
     @XmlTransient
     private List<ClientConversationFilter> clientConversationFilters = new ArrayList<>();
 
@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.restclient;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.UriBuilder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * View onto a shared (connection pooled) {@link Client}, as used by {@link RestfulClient} to create its
+ * {@link WebTarget}s and as handed out by {@link RestfulClient#getJaxRsClient()}.
+ *
+ * <p>
+ *     The shared client is looked up on every call rather than held on to, as it is closed (and re-created on
+ *     next use) once any application context shuts down
+ *     (see {@link org.apache.isis.extensions.jaxrsclient.applib.client.JaxRsClientFactory}).
+ *     {@link #close()} has no effect. Components and properties registered with this view are not applied to the
+ *     shared client, as that would affect all its other users, but to every {@link WebTarget} created from this
+ *     view; hence these are not reflected by {@link #getConfiguration()}.
+ * </p>
+ */
+@RequiredArgsConstructor(staticName = "of")
+final class _SharedClient implements Client {
+
+    private final @NonNull Supplier<Client> sharedClient;
+    private final List<Consumer<WebTarget>> webTargetConfigurers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void close() {
+        // no-op, the shared client is closed on application shutdown
+    }
+
+    @Override
+    public WebTarget target(final String uri) {
+        return configure(sharedClient.get().target(uri));
+    }
+
+    @Override
+    public WebTarget target(final URI uri) {
+        return configure(sharedClient.get().target(uri));
+    }
+
+    @Override
+    public WebTarget target(final UriBuilder uriBuilder) {
+        return configure(sharedClient.get().target(uriBuilder));
+    }
+
+    @Override
+    public WebTarget target(final Link link) {
+        return configure(sharedClient.get().target(link));
+    }
+
+    @Override
+    public Invocation.Builder invocation(final Link link) {
+        val invocationBuilder = target(link).request();
+        if(link.getType() != null) {
+            invocationBuilder.accept(link.getType());
+        }
+        return invocationBuilder;
+    }
+
+    @Override
+    public SSLContext getSslContext() {
+        return sharedClient.get().getSslContext();
+    }
+
+    @Override
+    public HostnameVerifier getHostnameVerifier() {
+        return sharedClient.get().getHostnameVerifier();
+    }
+
+    @Override
+    public Configuration getConfiguration() {
+        return sharedClient.get().getConfiguration();
+    }
+
+    // -- APPLIED TO EACH WEB TARGET
+
+    @Override
+    public Client property(final String name, final Object value) {
+        return addConfigurer(webTarget->webTarget.property(name, value));
+    }
+
+    @Override
+    public Client register(final Class<?> componentClass) {
+        return addConfigurer(webTarget->webTarget.register(componentClass));
+    }
+
+    @Override
+    public Client register(final Class<?> componentClass, final int priority) {
+        return addConfigurer(webTarget->webTarget.register(componentClass, priority));
+    }
+
+    @Override
+    public Client register(final Class<?> componentClass, final Class<?>... contracts) {
+        return addConfigurer(webTarget->webTarget.register(componentClass, contracts));
+    }
+
+    @Override
+    public Client register(final Class<?> componentClass, final Map<Class<?>, Integer> contracts) {
+        return addConfigurer(webTarget->webTarget.register(componentClass, contracts));
+    }
+
+    @Override
+    public Client register(final Object component) {
+        return addConfigurer(webTarget->webTarget.register(component));
+    }
+
+    @Override
+    public Client register(final Object component, final int priority) {
+        return addConfigurer(webTarget->webTarget.register(component, priority));
+    }
+
+    @Override
+    public Client register(final Object component, final Class<?>... contracts) {
+        return addConfigurer(webTarget->webTarget.register(component, contracts));
+    }
+
+    @Override
+    public Client register(final Object component, final Map<Class<?>, Integer> contracts) {
+        return addConfigurer(webTarget->webTarget.register(component, contracts));
+    }
+
+    // -- HELPER
+
+    private Client addConfigurer(final Consumer<WebTarget> webTargetConfigurer) {
+        webTargetConfigurers.add(webTargetConfigurer);
+        return this;
+    }
+
+    private WebTarget configure(final WebTarget webTarget) {
+        webTargetConfigurers.forEach(configurer->configurer.accept(webTarget));
+        return webTarget;
+    }
+
+}
@@ -50,6 +50,7 @@
 import org.apache.isis.persistence.jdo.datanucleus.mixins.Persistable_datanucleusVersionLong;
 import org.apache.isis.persistence.jdo.datanucleus.mixins.Persistable_datanucleusVersionTimestamp;
 import org.apache.isis.persistence.jdo.datanucleus.mixins.Persistable_downloadJdoMetadata;
+import org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2.IsisCommandDtoConverter;
 import org.apache.isis.persistence.jdo.integration.IsisModulePersistenceJdoIntegration;
 import org.apache.isis.persistence.jdo.spring.integration.JdoDialect;
 import org.apache.isis.persistence.jdo.spring.integration.JdoTransactionManager;
@@ -117,6 +118,7 @@ protected PersistenceManagerFactory newPersistenceManagerFactory(final java.util
                 val pu = createDefaultPersistenceUnit(beanTypeRegistry);
                 val pmf = new JDOPersistenceManagerFactory(pu, props);
                 pmf.setConnectionFactory(dataSource);
+                registerTypeConverters(isisConfiguration, pmf);
                 integrateWithApplicationLayer(metaModelContext, eventBusService, entityChangeTrackerProvider, pmf);
                 return pmf;
             }
@@ -124,6 +126,7 @@ protected PersistenceManagerFactory newPersistenceManagerFactory(final java.util
             protected PersistenceManagerFactory newPersistenceManagerFactory(final String name) {
                 val pmf = super.newPersistenceManagerFactory(name);
                 pmf.setConnectionFactory(dataSource); //might be too late, anyway, not sure if this is ever called
+                registerTypeConverters(isisConfiguration, pmf);
                 integrateWithApplicationLayer(metaModelContext, eventBusService, entityChangeTrackerProvider, pmf);
                 return pmf;
             }
@@ -242,6 +245,16 @@ private static PersistenceUnitMetaData createDefaultPersistenceUnit (
         return pumd;
     }
 
+    /**
+     * Type converters configured per persistence unit (rather than as declared in <tt>plugin.xml</tt>).
+     */
+    private static void registerTypeConverters(
+            final IsisConfiguration isisConfiguration,
+            final PersistenceManagerFactory pmf) {
+        IsisCommandDtoConverter.registerWith(pmf,
+                isisConfiguration.getExtensions().getCommandLog().getDtoFormat());
+    }
+
     private static void integrateWithApplicationLayer(
             final MetaModelContext metaModelContext,
             final EventBusService eventBusService,
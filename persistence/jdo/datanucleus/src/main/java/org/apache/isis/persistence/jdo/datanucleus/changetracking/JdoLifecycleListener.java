@@ -39,6 +39,7 @@
 import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.isis.core.transaction.changetracking.events.PostStoreEvent;
 import org.apache.isis.core.transaction.changetracking.events.PreStoreEvent;
+import org.apache.isis.persistence.jdo.integration.changetracking.EntityChangeTrackerJdo;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -108,6 +109,13 @@ public void preStore(final InstanceLifecycleEvent event) {
         if(pojo.dnGetStateManager().isNew(pojo)) {
             val entity = adaptEntity(pojo, EntityAdaptingMode.SKIP_MEMOIZATION);
             getEntityChangeTracker().recognizePersisting(entity);
+        } else {
+            // dirty flags are reset once flushed
+            val entityChangeTracker = getEntityChangeTracker();
+            if(entityChangeTracker instanceof EntityChangeTrackerJdo) {
+                val entity = adaptEntity(pojo, EntityAdaptingMode.MEMOIZE_BOOKMARK);
+                ((EntityChangeTrackerJdo) entityChangeTracker).recognizeFlushing(entity);
+            }
         }
     }
 
@@ -141,7 +149,13 @@ public void preDirty(final InstanceLifecycleEvent event) {
 
         final Persistable pojo = _Utils.persistableFor(event);
         val entity = adaptEntity(pojo, EntityAdaptingMode.MEMOIZE_BOOKMARK);
-        getEntityChangeTracker().enlistUpdating(entity);
+        val entityChangeTracker = getEntityChangeTracker();
+        if(entityChangeTracker instanceof EntityChangeTrackerJdo) {
+            // only publish changes of the fields actually modified
+            ((EntityChangeTrackerJdo) entityChangeTracker).enlistUpdating(entity, new _DirtyFieldTrackingDn(pojo));
+        } else {
+            entityChangeTracker.enlistUpdating(entity);
+        }
     }
 
     @Override
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus.changetracking;
+
+import java.util.Collections;
+import java.util.Set;
+
+import javax.jdo.JDOHelper;
+
+import org.datanucleus.api.jdo.NucleusJDOHelper;
+import org.datanucleus.enhancement.Persistable;
+
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.persistence.jdo.integration.changetracking.EntityChangeTrackerJdo.DirtyFieldTracking;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * {@link DirtyFieldTracking} as provided by DataNucleus' own (per field) dirty flags.
+ */
+final class _DirtyFieldTrackingDn implements DirtyFieldTracking {
+
+    private final Persistable pojo;
+    private final Set<String> loadedFieldNames;
+
+    /**
+     * To be created before the entity is dirtied, as which fields are loaded is captured eagerly.
+     */
+    _DirtyFieldTrackingDn(final @NonNull Persistable pojo) {
+        this.pojo = pojo;
+        val pm = JDOHelper.getPersistenceManager(pojo);
+        this.loadedFieldNames = pm != null
+                ? setOf(NucleusJDOHelper.getLoadedFields(pojo, pm))
+                : Collections.emptySet();
+    }
+
+    @Override
+    public boolean isLoaded(final String fieldName) {
+        return loadedFieldNames.contains(fieldName);
+    }
+
+    @Override
+    public Set<String> getDirtyFieldNames() {
+        val pm = JDOHelper.getPersistenceManager(pojo);
+        if(pm == null) {
+            return Collections.emptySet();
+        }
+        return setOf(NucleusJDOHelper.getDirtyFields(pojo, pm));
+    }
+
+    // -- HELPER
+
+    private static Set<String> setOf(final String[] fieldNames) {
+        return fieldNames != null
+                ? _Sets.of(fieldNames)
+                : Collections.emptySet();
+    }
+
+}
@@ -19,12 +19,15 @@
 package org.apache.isis.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
 import javax.jdo.PersistenceManager;
+import javax.jdo.listener.DeleteCallback;
 
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
@@ -297,6 +300,48 @@ public void delete(final ObjectSpecification spec, final Object pojo) {
         //TODO integrate with entity change tracking
     }
 
+    @Override
+    public OptionalLong deleteAllSetBased(final ObjectSpecification spec, final Query<?> query) {
+
+        if(!(query instanceof AllInstancesQuery)
+                || !query.getRange().isUnconstrained()
+                || !isPersistableType(query.getResultType())) {
+            return OptionalLong.empty(); // not supported
+        }
+        if(spec.hasSubclasses()
+                || !isSetBasedDeleteSafe(query.getResultType())) {
+            return OptionalLong.empty(); // would bypass dependent fields, join tables or callbacks
+        }
+
+        val pm = getPersistenceManager();
+
+        log.debug("about to bulk delete all entities of type {}", query.getResultType());
+
+        val deleteQuery = pm.newQuery("javax.jdo.query.JDOQL",
+                "DELETE FROM " + query.getResultType().getName());
+        deleteQuery.addExtension("datanucleus.query.jdoql.allowAll", "true");
+        try {
+            final Object deleted = getTransactionalProcessor()
+                    .callWithinCurrentTransactionElseCreateNew(deleteQuery::execute)
+                    .optionalElseFail()
+                    .orElse(null);
+            // instances in the level 2 cache are gone from the database
+            pm.getPersistenceManagerFactory().getDataStoreCache().evictAll(true, query.getResultType());
+            return OptionalLong.of(deleted instanceof Number
+                    ? ((Number) deleted).longValue()
+                    : 0L);
+        } finally {
+            deleteQuery.closeAll();
+        }
+    }
+
+    @Override
+    public void evictFromPersistenceContext(final Collection<?> pojos) {
+        // makes the (flushed) instances hollow, so their field values can be garbage collected;
+        // any still referenced are reloaded on next access
+        getPersistenceManager().evictAll(pojos);
+    }
+
     @Override
     public void refresh(final Object pojo) {
 
@@ -333,6 +378,32 @@ private static boolean isPersistableType(final Class<?> type) {
         return Persistable.class.isAssignableFrom(type);
     }
 
+    /**
+     * A JDOQL bulk delete only removes rows of the entity's own table(s), so is only safe if there is nothing
+     * else, that a per entity deletion would take care of.
+     */
+    private boolean isSetBasedDeleteSafe(final Class<?> type) {
+        if(DeleteCallback.class.isAssignableFrom(type)) {
+            return false;
+        }
+        val persistenceManagerFactory = getPersistenceManager().getPersistenceManagerFactory();
+        for(Class<?> cls = type; cls != null && isPersistableType(cls); cls = cls.getSuperclass()) {
+            val typeMetadata = persistenceManagerFactory.getMetadata(cls.getName());
+            if(typeMetadata == null) {
+                return false; // unknown, so be conservative
+            }
+            val dependentOrJoined = _NullSafe.stream(typeMetadata.getMembers())
+                    .anyMatch(member->Boolean.TRUE.equals(member.getDependent())
+                        || member.getCollectionMetadata() != null
+                        || member.getMapMetadata() != null
+                        || member.getArrayMetadata() != null);
+            if(dependentOrJoined) {
+                return false; // dependent fields or join tables
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean isProxyEnhancement(final Method method) {
         return jdoFacetContext.isMethodProvidedByEnhancement(method);
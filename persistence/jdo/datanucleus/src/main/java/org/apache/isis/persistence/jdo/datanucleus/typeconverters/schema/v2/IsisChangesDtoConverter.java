@@ -33,7 +33,7 @@ public class IsisChangesDtoConverter implements TypeConverter<ChangesDto, String
     @Override
     public String toDatastoreType(final ChangesDto memberValue) {
         return memberValue != null
-                ? ChangesDtoUtils.toXml(memberValue)
+                ? ChangesDtoUtils.toXmlCompact(memberValue)
                         : null;
     }
 
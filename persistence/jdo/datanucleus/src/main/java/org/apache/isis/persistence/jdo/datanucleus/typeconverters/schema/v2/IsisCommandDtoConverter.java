@@ -18,29 +18,74 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus.typeconverters.schema.v2;
 
+import javax.jdo.PersistenceManagerFactory;
+
+import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.isis.applib.util.schema.CommandDtoUtils;
+import org.apache.isis.applib.util.schema.DtoFormat;
 import org.apache.isis.schema.cmd.v2.CommandDto;
 
+import lombok.NonNull;
+
 /**
+ * Persists {@link CommandDto}s in the configured {@link DtoFormat}; reads either.
+ *
+ * <p>
+ *     The instance created by DataNucleus (as per <tt>plugin.xml</tt>) persists as XML; to persist in another
+ *     format, a configured instance is {@link #registerWith(PersistenceManagerFactory, DtoFormat) registered}
+ *     with the persistence unit.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 public class IsisCommandDtoConverter implements TypeConverter<CommandDto, String>{
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * As declared in <tt>plugin.xml</tt>.
+     */
+    public static final String NAME = "isis.commanddtov2-string";
+
+    private final DtoFormat datastoreFormat;
+
+    public IsisCommandDtoConverter() {
+        this(DtoFormat.XML);
+    }
+
+    public IsisCommandDtoConverter(final @NonNull DtoFormat datastoreFormat) {
+        this.datastoreFormat = datastoreFormat;
+    }
+
+    /**
+     * Replaces the converter (of given persistence unit) declared in <tt>plugin.xml</tt> with one persisting in
+     * given format; to be called before any entity metadata is loaded.
+     */
+    public static void registerWith(
+            final @NonNull PersistenceManagerFactory persistenceManagerFactory,
+            final @NonNull DtoFormat datastoreFormat) {
+        if(!(persistenceManagerFactory instanceof JDOPersistenceManagerFactory)) {
+            return;
+        }
+        ((JDOPersistenceManagerFactory) persistenceManagerFactory)
+            .getNucleusContext()
+            .getTypeManager()
+            .registerConverter(NAME, new IsisCommandDtoConverter(datastoreFormat));
+    }
+
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
         return memberValue != null
-                ? CommandDtoUtils.toXml(memberValue)
+                ? CommandDtoUtils.toEncodedString(memberValue, datastoreFormat)
                         : null;
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
         return datastoreValue != null
-                ? CommandDtoUtils.fromXml(datastoreValue)
+                ? CommandDtoUtils.fromEncodedString(datastoreValue)
                         : null;
     }
 
@@ -33,7 +33,7 @@ public class IsisInteractionDtoConverter implements TypeConverter<InteractionDto
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
         return memberValue != null
-                ? InteractionDtoUtils.toXml(memberValue)
+                ? InteractionDtoUtils.toXmlCompact(memberValue)
                         : null;
     }
 
@@ -18,12 +18,14 @@
  */
 package org.apache.isis.persistence.jdo.integration.changetracking;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -33,6 +35,7 @@
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.isis.applib.annotation.EntityChangeKind;
@@ -48,6 +51,7 @@
 import org.apache.isis.applib.services.xactn.TransactionId;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -65,22 +69,22 @@
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingCallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacet;
 import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
-import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
 import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
-import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.transaction.changetracking.ChangingEntitiesFactory;
 import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
 import org.apache.isis.core.transaction.changetracking.HasEnlistedEntityChanges;
 import org.apache.isis.core.transaction.changetracking.PersistenceCallbackHandlerAbstract;
+import org.apache.isis.core.transaction.changetracking.TrackedEntityChanges;
 import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
 
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.val;
@@ -101,13 +105,35 @@
     MetricsService,
     EntityChangeTracker,
     HasEnlistedEntityPropertyChanges,
-    HasEnlistedEntityChanges {
+    HasEnlistedEntityChanges,
+    TrackedEntityChanges {
 
     /**
-     * Contains initial change records having set the pre-values of every property of every object that was enlisted.
+     * Provided by the JDO implementation for an entity about to be updated, to tell which of its fields are loaded,
+     * and (later) which are dirty.
+     */
+    public static interface DirtyFieldTracking {
+        boolean isLoaded(String fieldName);
+        /**
+         * The fields modified since the entity was last flushed.
+         */
+        Set<String> getDirtyFieldNames();
+    }
+
+    /**
+     * Contains initial change records having set the pre-values of every property of every object that was enlisted,
+     * except for those properties of updated objects covered by {@link #dirtyFieldsSnapshotsByBookmark}.
      */
     private final Map<String, PropertyChangeRecord> propertyChangeRecordsById = _Maps.newLinkedHashMap();
 
+    /**
+     * Raw pre-values of the field backed properties of updated objects, for which only those reported dirty
+     * are turned into change records.
+     */
+    private final Map<Bookmark, _DirtyFieldsSnapshot> dirtyFieldsSnapshotsByBookmark = _Maps.newLinkedHashMap();
+
+    private final Map<ObjectSpecification, _PublishedProperties> publishedPropertiesBySpec = _Maps.newHashMap();
+
     /**
      * Contains pre- and post- values of every property of every object that actually changed. A lazy snapshot,
      * triggered by internal call to {@link #snapshotPropertyChangeRecords()}.
@@ -115,7 +141,7 @@
     private final _Lazy<Set<PropertyChangeRecord>> entityPropertyChangeRecordsForPublishing
         = _Lazy.threadSafe(this::capturePostValuesAndDrain);
 
-    @Getter(AccessLevel.PACKAGE)
+    @Getter
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
     private final EntityPropertyChangePublisher entityPropertyChangePublisher;
@@ -145,11 +171,27 @@ private void enlistCreatedInternal(final @NonNull ManagedObject adapter) {
     }
 
     private void enlistUpdatingInternal(
-            final @NonNull ManagedObject entity) {
+            final @NonNull ManagedObject entity,
+            final @Nullable DirtyFieldTracking dirtyFieldTracking) {
         if(!isEntityEnabledForChangePublishing(entity)) {
             return;
         }
-        enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
+        final boolean enlisted = enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
+        if(enlisted
+                && dirtyFieldTracking != null) {
+            log.debug("enlist entity's dirty property changes for publishing {}", entity);
+            val snapshot = new _DirtyFieldsSnapshot(entity, publishedProperties(entity), dirtyFieldTracking,
+                    record->{
+                        record.updatePreValue();
+                        enlistPropertyChangeRecord(record);
+                    });
+            dirtyFieldsSnapshotsByBookmark.put(ManagedObjects.bookmarkElseFail(entity), snapshot);
+            return;
+        }
+        if(dirtyFieldsSnapshotsByBookmark.containsKey(ManagedObjects.bookmarkElseFail(entity))) {
+            // dirtied again (after a flush), its snapshot already covers all properties
+            return;
+        }
         enlistForPreAndPostValuePublishing(entity, PropertyChangeRecord::updatePreValue);
     }
 
@@ -159,11 +201,16 @@ private void enlistDeletingInternal(final @NonNull ManagedObject adapter) {
         }
         final boolean enlisted = enlistForChangeKindPublishing(adapter, EntityChangeKind.DELETE);
         if(enlisted) {
+            // if previously updated, retain the original pre-values
+            Optional.ofNullable(dirtyFieldsSnapshotsByBookmark.remove(ManagedObjects.bookmarkElseFail(adapter)))
+            .ifPresent(snapshot->snapshot.forEachPreValueRecord(this::enlistPropertyChangeRecord));
+
             enlistForPreAndPostValuePublishing(adapter, PropertyChangeRecord::updatePreValue);
         }
     }
 
-    Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
+    @Override
+    public Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
         // this code path has side-effects, it locks the result for this transaction,
         // such that cannot enlist on top of it
         return entityPropertyChangeRecordsForPublishing.get();
@@ -210,6 +257,7 @@ private void doPublish() {
     private void postPublishing() {
         log.debug("purging entity change records");
         propertyChangeRecordsById.clear();
+        dirtyFieldsSnapshotsByBookmark.clear();
         changeKindByEnlistedAdapter.clear();
         entityPropertyChangeRecordsForPublishing.clear();
         entityChangeEventCount.reset();
@@ -228,7 +276,7 @@ private void enableCommandPublishing() {
     public Optional<EntityChanges> getEntityChanges(
             final java.sql.Timestamp timestamp,
             final String userName) {
-        return _ChangingEntitiesFactory.createChangingEntities(timestamp, userName, this);
+        return ChangingEntitiesFactory.createChangingEntities(timestamp, userName, this);
     }
 
     @Override
@@ -245,7 +293,8 @@ public Can<EntityPropertyChange> getPropertyChanges(
 
     // -- DEPENDENCIES
 
-    Interaction currentInteraction() {
+    @Override
+    public Interaction currentInteraction() {
         return interactionProviderProvider.get().currentInteractionElseFail();
     }
 
@@ -297,32 +346,52 @@ private void enlistForPreAndPostValuePublishing(
 
         log.debug("enlist entity's property changes for publishing {}", entity);
 
-        entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
-        .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+        publishedProperties(entity).getProperties().stream()
         .map(property->PropertyChangeRecord.of(entity, property))
-        .filter(record->!propertyChangeRecordsById.containsKey(record.getPropertyId())) // already enlisted, so ignore
+        .filter(record->!propertyChangeRecordsById.containsKey(idOf(record))) // already enlisted, so ignore
         .forEach(record->{
             onNewChangeRecord.accept(record);
-            propertyChangeRecordsById.put(record.getPropertyId(), record);
+            enlistPropertyChangeRecord(record);
         });
     }
 
+    private void enlistPropertyChangeRecord(final PropertyChangeRecord record) {
+        propertyChangeRecordsById.putIfAbsent(idOf(record), record);
+    }
+
+    private static String idOf(final PropertyChangeRecord record) {
+        return record.getBookmark().stringify() + "#" + record.getPropertyId();
+    }
+
+    private _PublishedProperties publishedProperties(final ManagedObject entity) {
+        return publishedPropertiesBySpec.computeIfAbsent(entity.getSpecification(), _PublishedProperties::new);
+    }
+
     /**
      * For any enlisted Object Properties collects those, that are meant for publishing,
      * then clears enlisted objects.
      */
     private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
 
-        val records = propertyChangeRecordsById.values().stream()
-                // set post values, which have been left empty up to now
-                .peek(rec->{
-                    // assuming this check correctly detects deleted entities (JDO)
-                    if(EntityUtil.isDetachedOrRemoved(rec.getEntity())) {
-                        rec.updatePostValueAsDeleted();
-                    } else {
-                        rec.updatePostValueAsNonDeleted();
-                    }
-                })
+        final List<PropertyChangeRecord> dirtyFieldRecords = _Lists.newArrayList();
+        dirtyFieldsSnapshotsByBookmark.values().forEach(snapshot->{
+            snapshot.recognizeDirtyFields(); // those not yet flushed
+            snapshot.forEachChangeRecord(dirtyFieldRecords::add);
+        });
+        dirtyFieldsSnapshotsByBookmark.clear();
+
+        // set post values, which have been left empty up to now
+        propertyChangeRecordsById.values()
+        .forEach(rec->{
+            // assuming this check correctly detects deleted entities (JDO)
+            if(EntityUtil.isDetachedOrRemoved(rec.getEntity())) {
+                rec.updatePostValueAsDeleted();
+            } else {
+                rec.updatePostValueAsNonDeleted();
+            }
+        });
+
+        val records = Stream.concat(dirtyFieldRecords.stream(), propertyChangeRecordsById.values().stream())
                 .filter(managedProperty->managedProperty.getPreAndPostValue().shouldPublish())
                 .collect(_Sets.toUnmodifiable());
 
@@ -334,7 +403,10 @@ private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return propertyChangeRecordsById.size();
+        return propertyChangeRecordsById.size()
+                + dirtyFieldsSnapshotsByBookmark.values().stream()
+                    .mapToLong(_DirtyFieldsSnapshot::countCaptured)
+                    .sum();
     }
 
     // -- METRICS SERVICE
@@ -373,11 +445,19 @@ public void enlistDeleting(final ManagedObject entity) {
 
     @Override
     public void enlistUpdating(final ManagedObject entity) {
+        enlistUpdating(entity, null);
+    }
+
+    /**
+     * As per {@link #enlistUpdating(ManagedObject)}, but only publishing changes of those properties backed by
+     * fields that the given {@link DirtyFieldTracking} reports as dirty (and those not backed by fields).
+     */
+    public void enlistUpdating(final ManagedObject entity, final @Nullable DirtyFieldTracking dirtyFieldTracking) {
         _Xray.enlistUpdating(entity, interactionProviderProvider);
         val hasAlreadyBeenEnlisted = isEnlisted(entity);
         // we call this come what may;
         // additional properties may now have been changed, and the changeKind for publishing might also be modified
-        enlistUpdatingInternal(entity);
+        enlistUpdatingInternal(entity, dirtyFieldTracking);
 
         if(!hasAlreadyBeenEnlisted) {
             // prevent an infinite loop... don't call the 'updating()' callback on this object if we have already done so
@@ -386,6 +466,15 @@ public void enlistUpdating(final ManagedObject entity) {
         }
     }
 
+    /**
+     * To be called before an updated entity is flushed, as its dirty fields are reset thereafter.
+     */
+    public void recognizeFlushing(final ManagedObject entity) {
+        ManagedObjects.bookmark(entity)
+        .map(dirtyFieldsSnapshotsByBookmark::get)
+        .ifPresent(_DirtyFieldsSnapshot::recognizeDirtyFields);
+    }
+
     @Override
     public void recognizeLoaded(final ManagedObject entity) {
         _Xray.recognizeLoaded(entity, interactionProviderProvider);
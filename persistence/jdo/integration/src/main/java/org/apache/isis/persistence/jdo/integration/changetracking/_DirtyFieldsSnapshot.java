@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.persistence.jdo.integration.changetracking.EntityChangeTrackerJdo.DirtyFieldTracking;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * The pre-values of the field backed properties of an updated entity, which are turned into
+ * {@link PropertyChangeRecord}s only for those fields that the JDO implementation reports as dirty.
+ */
+final class _DirtyFieldsSnapshot {
+
+    private final ManagedObject entity;
+    private final _PublishedProperties publishedProperties;
+    private final DirtyFieldTracking dirtyFieldTracking;
+    private final Object[] preValues;
+    private final boolean[] captured;
+    private final Set<String> dirtyFieldNames = _Sets.newHashSet();
+
+    /**
+     * Snapshots the values (as per their getters) of those field backed properties whose fields are loaded; the
+     * properties that could not be snapshot (as not field backed, or not loaded) are passed on to given fallback.
+     */
+    _DirtyFieldsSnapshot(
+            final @NonNull ManagedObject entity,
+            final @NonNull _PublishedProperties publishedProperties,
+            final @NonNull DirtyFieldTracking dirtyFieldTracking,
+            final @NonNull Consumer<PropertyChangeRecord> fallback) {
+
+        this.entity = entity;
+        this.publishedProperties = publishedProperties;
+        this.dirtyFieldTracking = dirtyFieldTracking;
+
+        val properties = publishedProperties.getProperties();
+        this.preValues = new Object[properties.size()];
+        this.captured = new boolean[properties.size()];
+
+        val pojo = entity.getPojo();
+        for (int i = 0; i < captured.length; i++) {
+            final Field field = publishedProperties.fieldAt(i);
+            if(field != null
+                    && dirtyFieldTracking.isLoaded(field.getName())) {
+                preValues[i] = publishedProperties.valueAt(i, pojo);
+                captured[i] = true;
+            } else {
+                fallback.accept(PropertyChangeRecord.of(entity, properties.getElseFail(i)));
+            }
+        }
+    }
+
+    /**
+     * To be called before each flush (as the JDO implementation then resets its dirty flags), and once more at
+     * the end of the transaction.
+     */
+    void recognizeDirtyFields() {
+        dirtyFieldNames.addAll(dirtyFieldTracking.getDirtyFieldNames());
+    }
+
+    /**
+     * Change records (with pre- and post-values) for the dirty fields.
+     */
+    void forEachChangeRecord(final @NonNull Consumer<PropertyChangeRecord> consumer) {
+        val pojo = entity.getPojo();
+        for (int i = 0; i < captured.length; i++) {
+            final Field field = publishedProperties.fieldAt(i);
+            if(captured[i]
+                    && dirtyFieldNames.contains(field.getName())) {
+                val record = preValueRecord(i);
+                record.setPostValue(publishedProperties.valueAt(i, pojo));
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * Change records with just the pre-values, for all fields snapshot; for when the entity is subsequently
+     * deleted.
+     */
+    void forEachPreValueRecord(final @NonNull Consumer<PropertyChangeRecord> consumer) {
+        for (int i = 0; i < captured.length; i++) {
+            if(captured[i]) {
+                consumer.accept(preValueRecord(i));
+            }
+        }
+    }
+
+    long countCaptured() {
+        long count = 0;
+        for (final boolean c : captured) {
+            if(c) count++;
+        }
+        return count;
+    }
+
+    // -- HELPER
+
+    private PropertyChangeRecord preValueRecord(final int index) {
+        val record = PropertyChangeRecord.of(entity, publishedProperties.getProperties().getElseFail(index));
+        record.setPreValue(preValues[index]);
+        return record;
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.reflection._Reflect;
+import org.apache.isis.core.metamodel.commons.MethodExtensions;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacet;
+import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Per entity type index of the properties enabled for entity property change publishing, computed once per
+ * type (rather than per enlisted entity).
+ *
+ * <p>
+ *     Value typed properties having a getter and directly backed by a (same named and typed) field are also given
+ *     that field, such that their values can be snapshot cheaply (by calling the getter, though without adapters),
+ *     and compared only if the field is reported dirty.
+ * </p>
+ */
+final class _PublishedProperties {
+
+    @Getter private final Can<OneToOneAssociation> properties;
+    private final Field[] fields;
+    private final Method[] getters;
+
+    _PublishedProperties(final @NonNull ObjectSpecification spec) {
+        this.properties = spec.streamProperties(MixedIn.EXCLUDED)
+                .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+                .collect(Can.toCan());
+        this.getters = properties.stream()
+                .map(_PublishedProperties::getterElseNull)
+                .toArray(Method[]::new);
+        this.fields = properties.stream()
+                .map(property->backingFieldElseNull(spec, property))
+                .toArray(Field[]::new);
+        for (int i = 0; i < fields.length; i++) {
+            if(getters[i] == null) {
+                fields[i] = null; // can only snapshot via the getter
+            }
+        }
+    }
+
+    /**
+     * The field backing the property at given index, or <code>null</code> if not a value typed property directly
+     * backed by a field (and having a getter).
+     */
+    Field fieldAt(final int index) {
+        return fields[index];
+    }
+
+    /**
+     * The value of the property at given index, as returned by its getter; only to be called for those having a
+     * {@link #fieldAt(int) backing field}.
+     */
+    Object valueAt(final int index, final @NonNull Object pojo) {
+        return MethodExtensions.invoke(getters[index], pojo);
+    }
+
+    // -- HELPER
+
+    private static Method getterElseNull(final OneToOneAssociation property) {
+        return property.lookupFacet(PropertyOrCollectionAccessorFacet.class)
+                .filter(ImperativeFacet.class::isInstance)
+                .map(ImperativeFacet.class::cast)
+                .flatMap(accessorFacet->accessorFacet.getMethods().getFirst())
+                .orElse(null);
+    }
+
+    private static Field backingFieldElseNull(
+            final ObjectSpecification spec,
+            final OneToOneAssociation property) {
+
+        val elementType = property.getElementType();
+        if(elementType.isEntity()) {
+            return null; // references are always snapshot eagerly, see PreAndPostValue#getPreString()
+        }
+        val field = _Reflect.streamAllFields(spec.getCorrespondingClass(), true)
+                .filter(f->f.getName().equals(property.getId()))
+                .filter(f->!Modifier.isStatic(f.getModifiers()))
+                .filter(f->f.getType().equals(elementType.getCorrespondingClass()))
+                .findFirst()
+                .orElse(null);
+        if(field != null) {
+            field.setAccessible(true);
+        }
+        return field;
+    }
+
+}
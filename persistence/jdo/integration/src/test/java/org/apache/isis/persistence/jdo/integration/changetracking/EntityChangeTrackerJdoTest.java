@@ -0,0 +1,167 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.integration.changetracking;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.inject.Provider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacet;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
+import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
+import org.apache.isis.persistence.jdo.integration.changetracking.EntityChangeTrackerJdo.DirtyFieldTracking;
+
+import lombok.val;
+
+class EntityChangeTrackerJdoTest {
+
+    public static class Customer {
+        private String name;
+        // getter deliberately differs from the raw field, to tell which one was read
+        public String getName() {
+            return name != null ? name.toUpperCase() : null;
+        }
+    }
+
+    static class DirtyFieldTrackingForTesting implements DirtyFieldTracking {
+        final Set<String> dirtyFieldNames = _Sets.newHashSet();
+        @Override public boolean isLoaded(final String fieldName) { return true; }
+        @Override public Set<String> getDirtyFieldNames() { return _Sets.newHashSet(dirtyFieldNames); }
+    }
+
+    private Customer customer;
+    private ManagedObject entity;
+    private DirtyFieldTrackingForTesting dirtyFieldTracking;
+
+    private EntityChangeTrackerJdo entityChangeTracker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        customer = new Customer();
+        customer.name = "alice";
+
+        val valueSpec = mock(ObjectSpecification.class);
+        doReturn(String.class).when(valueSpec).getCorrespondingClass();
+
+        val accessorFacet = mock(PropertyOrCollectionAccessorFacet.class,
+                withSettings().extraInterfaces(ImperativeFacet.class));
+        when(((ImperativeFacet) accessorFacet).getMethods())
+            .thenReturn(Can.ofSingleton(Customer.class.getMethod("getName")));
+
+        val nameProperty = mock(OneToOneAssociation.class);
+        when(nameProperty.getId()).thenReturn("name");
+        when(nameProperty.getElementType()).thenReturn(valueSpec);
+        when(nameProperty.lookupFacet(PropertyOrCollectionAccessorFacet.class)).thenReturn(Optional.of(accessorFacet));
+
+        val spec = mock(ObjectSpecification.class);
+        when(spec.isEntity()).thenReturn(true);
+        doReturn(Customer.class).when(spec).getCorrespondingClass();
+        when(spec.getFacet(EntityChangePublishingFacet.class)).thenReturn(mock(EntityChangePublishingFacet.class));
+        when(spec.streamProperties(MixedIn.EXCLUDED)).thenAnswer(invocation->Stream.of(nameProperty));
+
+        entity = mock(ManagedObject.class);
+        when(entity.getSpecification()).thenReturn(spec);
+        when(entity.getPojo()).thenReturn(customer);
+        when(entity.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1")));
+
+        dirtyFieldTracking = new DirtyFieldTrackingForTesting();
+
+        val interactionProvider = mock(InteractionProvider.class, RETURNS_DEEP_STUBS);
+        final Provider<InteractionProvider> interactionProviderProvider = ()->interactionProvider;
+        entityChangeTracker = new EntityChangeTrackerJdo(
+                mock(EntityPropertyChangePublisher.class),
+                mock(EntityChangesPublisher.class),
+                mock(EventBusService.class),
+                interactionProviderProvider);
+    }
+
+    @Test
+    void dirtyField_publishesPreAndPostValue_asPerGetter() {
+        // when
+        entityChangeTracker.enlistUpdating(entity, dirtyFieldTracking);
+        customer.name = "bob";
+        dirtyFieldTracking.dirtyFieldNames.add("name");
+
+        // then
+        val records = entityChangeTracker.snapshotPropertyChangeRecords();
+        assertEquals(1, records.size());
+        val record = records.iterator().next();
+        assertEquals("ALICE", record.getPreAndPostValue().getPre());
+        assertEquals("BOB", record.getPreAndPostValue().getPost());
+    }
+
+    @Test
+    void fieldNotReportedDirty_isNotPublished() {
+        // when
+        entityChangeTracker.enlistUpdating(entity, dirtyFieldTracking);
+        customer.name = "bob";
+
+        // then
+        assertTrue(entityChangeTracker.snapshotPropertyChangeRecords().isEmpty());
+    }
+
+    @Test
+    void dirtiedAgainAfterFlush_retainsSnapshot_fromBeforeFirstChange() {
+        // given
+        entityChangeTracker.enlistUpdating(entity, dirtyFieldTracking);
+        customer.name = "bob";
+        dirtyFieldTracking.dirtyFieldNames.add("name");
+        entityChangeTracker.recognizeFlushing(entity);
+        dirtyFieldTracking.dirtyFieldNames.clear(); // as reset by the flush
+
+        // when
+        entityChangeTracker.enlistUpdating(entity, dirtyFieldTracking);
+        customer.name = "carol";
+
+        // then - not snapshot eagerly once more
+        assertEquals(1L, entityChangeTracker.countPotentialPropertyChangeRecords());
+
+        val records = entityChangeTracker.snapshotPropertyChangeRecords();
+        assertEquals(1, records.size());
+        final PropertyChangeRecord record = records.iterator().next();
+        assertEquals("ALICE", record.getPreAndPostValue().getPre());
+        assertEquals("CAROL", record.getPreAndPostValue().getPost());
+    }
+
+}
@@ -28,24 +28,16 @@
 import javax.persistence.PreRemove;
 import javax.persistence.PreUpdate;
 
-import org.eclipse.persistence.sessions.UnitOfWork;
-import org.eclipse.persistence.sessions.changesets.DirectToFieldChangeRecord;
-
 import org.apache.isis.applib.services.inject.ServiceInjector;
-import org.apache.isis.commons.collections.Can;
-import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
-import org.apache.isis.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
-import org.apache.isis.core.metamodel.services.objectlifecycle.PreAndPostValue;
-import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
-import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
 
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * EntityListener class for listing with the {@link javax.persistence.EntityListeners} annotation, to
- * support injection point resolving for entities, and to notify {@link ObjectLifecyclePublisher} of changes.
+ * support injection point resolving for entities, and to notify the {@link EntityChangeTracker} of changes.
  *
  * <p>
  * Instances of this class are not managed by Spring, but by the persistence layer.
@@ -63,76 +55,41 @@ public class IsisEntityListener {
 
     // not managed by Spring (directly)
     @Inject private ServiceInjector serviceInjector;
-    @Inject private ObjectLifecyclePublisher objectLifecyclePublisher;
-    @Inject private Provider<JpaSupportService> jpaSupportServiceProvider;
+    @Inject private Provider<EntityChangeTracker> entityChangeTrackerProvider;
     @Inject private ObjectManager objectManager;
 
     @PrePersist void onPrePersist(final Object entityPojo) {
         log.debug("onPrePersist: {}", entityPojo);
         serviceInjector.injectServicesInto(entityPojo);
         val entity = objectManager.adapt(entityPojo);
-        objectLifecyclePublisher.onPrePersist(entity);
+        getEntityChangeTracker().recognizePersisting(entity);
     }
 
     @PreUpdate void onPreUpdate(final Object entityPojo) {
         log.debug("onPreUpdate: {}", entityPojo);
         serviceInjector.injectServicesInto(entityPojo);
         val entity = objectManager.adapt(entityPojo);
-        val entityManagerResult = jpaSupportServiceProvider.get().getEntityManager(entityPojo.getClass());
-        entityManagerResult.getValue().ifPresent(em -> {  // https://wiki.eclipse.org/EclipseLink/FAQ/JPA#How_to_access_what_changed_in_an_object_or_transaction.3F
-            val unwrap = em.unwrap(UnitOfWork.class);
-            val changes = unwrap.getCurrentChanges();
-            val objectChanges = changes.getObjectChangeSetForClone(entityPojo);
-            if(objectChanges==null) {
-                return;
-            }
-
-            final Can<PropertyChangeRecord> propertyChangeRecords =
-            objectChanges
-            .getChanges()
-            .stream()
-            .filter(DirectToFieldChangeRecord.class::isInstance)
-            .map(DirectToFieldChangeRecord.class::cast)
-            .map(changeRecord -> {
-                //XXX lombok val issue with nested lambda
-                final String propertyName = changeRecord.getAttribute();
-                return entity
-                        .getSpecification()
-                        .getProperty(propertyName)
-                        .filter(property->!property.isMixedIn())
-                        .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
-                        .map(property->PropertyChangeRecord.of(
-                                entity,
-                                property,
-                                PreAndPostValue
-                                    .pre(changeRecord.getOldValue())
-                                    .withPost(changeRecord.getNewValue())))
-                        .orElse(null); // ignore
-            })
-            .collect(Can.toCan()); // a Can<T> only collects non-null elements
-
-            objectLifecyclePublisher.onPreUpdate(entity, propertyChangeRecords);
-
-        });
+        // the tracker consults the (EclipseLink) change set of the entity, to pick up its changed attributes only
+        getEntityChangeTracker().enlistUpdating(entity);
     }
 
     @PreRemove void onPreRemove(final Object entityPojo) {
         log.debug("onAnyRemove: {}", entityPojo);
         serviceInjector.injectServicesInto(entityPojo);
         val entity = objectManager.adapt(entityPojo);
-        objectLifecyclePublisher.onPreRemove(entity);
+        getEntityChangeTracker().enlistDeleting(entity);
     }
 
     @PostPersist void onPostPersist(final Object entityPojo) {
         log.debug("onPostPersist: {}", entityPojo);
         val entity = objectManager.adapt(entityPojo);
-        objectLifecyclePublisher.onPostPersist(entity);
+        getEntityChangeTracker().enlistCreated(entity);
     }
 
     @PostUpdate void onPostUpdate(final Object entityPojo) {
         log.debug("onPostUpdate: {}", entityPojo);
         val entity = objectManager.adapt(entityPojo);
-        objectLifecyclePublisher.onPostUpdate(entity);
+        getEntityChangeTracker().recognizeUpdating(entity);
     }
 
     @PostRemove void onPostRemove(final Object entityPojo) {
@@ -143,7 +100,13 @@ public class IsisEntityListener {
         log.debug("onPostLoad: {}", entityPojo);
         serviceInjector.injectServicesInto(entityPojo);
         val entity = objectManager.adapt(entityPojo);
-        objectLifecyclePublisher.onPostLoad(entity);
+        getEntityChangeTracker().recognizeLoaded(entity);
+    }
+
+    // -- DEPENDENCIES
+
+    private EntityChangeTracker getEntityChangeTracker() {
+        return entityChangeTrackerProvider.get();
     }
 
 }
@@ -118,7 +118,16 @@ public static Blob toBlob(final BlobJpaEmbeddable blobJpaEmbeddable) {
     @Basic
     private String name;
 
+    /**
+     * Returns a {@link Blob} holding the {@link #getBytes() bytes}, which are read when this method is called.
+     *
+     * @throws IllegalStateException if there are no bytes
+     */
     public Blob asBlob() {
+        val bytes = getBytes();
+        if(bytes == null) {
+            throw new IllegalStateException(String.format("BlobJpaEmbeddable '%s' has no bytes", name));
+        }
         return new Blob(name, mimeType, bytes);
     }
 
@@ -117,7 +117,16 @@ public static Clob toClob(final ClobJpaEmbeddable clobJpaEmbeddable) {
     @Basic
     private String name;
 
+    /**
+     * Returns a {@link Clob} holding the {@link #getChars() chars}, which are read when this method is called.
+     *
+     * @throws IllegalStateException if there are no chars
+     */
     public Clob asClob() {
+        val chars = getChars();
+        if(chars == null) {
+            throw new IllegalStateException(String.format("ClobJpaEmbeddable '%s' has no chars", name));
+        }
         return new Clob(name, mimeType, chars);
     }
 
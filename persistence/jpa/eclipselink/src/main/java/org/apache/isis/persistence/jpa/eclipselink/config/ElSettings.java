@@ -27,6 +27,7 @@
 import javax.inject.Named;
 import javax.inject.Provider;
 
+import org.eclipse.persistence.config.BatchWriting;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -75,6 +76,9 @@ protected Map<String, Object> createMap() {
         //jpaProps.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.FINER_LABEL); //debug logging
         jpaProps.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_OR_EXTEND);
         jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForEntityListeners(serviceInjectorProvider));
+        // group inserts, updates and deletes of a flush into JDBC batches (as used by bulk operations)
+        jpaProps.put(PersistenceUnitProperties.BATCH_WRITING, BatchWriting.JDBC);
+        jpaProps.put(PersistenceUnitProperties.BATCH_WRITING_SIZE, "100");
 
         // potentially overrides defaults from above
         getEclipselink().forEach((k, v)->jpaProps.put("eclipselink." + k, v));
@@ -23,7 +23,7 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
-import org.apache.isis.persistence.jpa.integration.changetracking.PersistenceMetricsServiceJpa;
+import org.apache.isis.persistence.jpa.integration.changetracking.EntityChangeTrackerJpa;
 import org.apache.isis.persistence.jpa.integration.entity.JpaEntityIntegration;
 import org.apache.isis.persistence.jpa.integration.services.JpaSupportServiceUsingSpring;
 import org.apache.isis.persistence.jpa.integration.typeconverters.JavaAwtBufferedImageByteArrayConverter;
@@ -40,7 +40,7 @@
 
         // @Service's
         JpaSupportServiceUsingSpring.class,
-        PersistenceMetricsServiceJpa.class,
+        EntityChangeTrackerJpa.class,
 
 })
 @EntityScan(basePackageClasses = {
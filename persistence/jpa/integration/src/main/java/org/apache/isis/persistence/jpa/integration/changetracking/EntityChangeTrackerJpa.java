@@ -0,0 +1,561 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.changetracking;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.changesets.DirectToFieldChangeRecord;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+import org.eclipse.persistence.sessions.changesets.ObjectReferenceChangeRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.EntityChangeKind;
+import org.apache.isis.applib.annotation.InteractionScope;
+import org.apache.isis.applib.annotation.PriorityPrecedence;
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.metrics.MetricsService;
+import org.apache.isis.applib.services.publishing.spi.EntityChanges;
+import org.apache.isis.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.isis.applib.services.xactn.TransactionId;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.metamodel.facets.object.callbacks.CallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.LoadedCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.LoadedLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.PersistedCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.PersistedLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.PersistingCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.PersistingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.RemovingCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.RemovingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatedCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatedLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingCallbackFacet;
+import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.facets.properties.property.entitychangepublishing.EntityPropertyChangePublishingPolicyFacet;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.isis.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.transaction.changetracking.ChangingEntitiesFactory;
+import org.apache.isis.core.transaction.changetracking.EntityChangeTracker;
+import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
+import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
+import org.apache.isis.core.transaction.changetracking.HasEnlistedEntityChanges;
+import org.apache.isis.core.transaction.changetracking.PersistenceCallbackHandlerAbstract;
+import org.apache.isis.core.transaction.changetracking.TrackedEntityChanges;
+import org.apache.isis.core.transaction.events.TransactionBeforeCompletionEvent;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Tracks entity changes for the JPA (EclipseLink) persistence stack.
+ *
+ * <p>
+ *     For updated entities only the attributes recorded as changed by EclipseLink's
+ *     {@link ObjectChangeSet change sets} are turned into property change records, unchanged attributes are never
+ *     read. These are obtained when the entity is flushed (<code>@PreUpdate</code>), and at pre-commit for any
+ *     changes not yet flushed.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("isis.transaction.EntityChangeTrackerJpa")
+@Priority(PriorityPrecedence.EARLY)
+@Qualifier("jpa")
+@InteractionScope
+@Log4j2
+public class EntityChangeTrackerJpa
+extends PersistenceCallbackHandlerAbstract
+implements
+    MetricsService,
+    EntityChangeTracker,
+    HasEnlistedEntityPropertyChanges,
+    HasEnlistedEntityChanges,
+    TrackedEntityChanges {
+
+    /**
+     * Contains initial change records having set the pre-values of the changed properties of every object that was
+     * enlisted. Records enlisted first win, such that pre-values are those at the start of the transaction.
+     */
+    private final Map<String, PropertyChangeRecord> propertyChangeRecordsById = _Maps.newLinkedHashMap();
+
+    /**
+     * Contains pre- and post- values of every property of every object that actually changed. A lazy snapshot,
+     * triggered by internal call to {@link #snapshotPropertyChangeRecords()}.
+     */
+    private final _Lazy<Set<PropertyChangeRecord>> entityPropertyChangeRecordsForPublishing
+        = _Lazy.threadSafe(this::capturePostValuesAndDrain);
+
+    @Getter
+    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
+
+    /**
+     * Entity types seen in the current transaction, used to resolve the {@link UnitOfWork}s to inspect at pre-commit.
+     */
+    private final Set<Class<?>> entityTypesSeen = _Sets.newHashSet();
+
+    private final EntityPropertyChangePublisher entityPropertyChangePublisher;
+    private final EntityChangesPublisher entityChangesPublisher;
+    private final Provider<InteractionProvider> interactionProviderProvider;
+    private final Provider<JpaSupportService> jpaSupportServiceProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+    private final ObjectManager objectManager;
+
+    @Inject
+    public EntityChangeTrackerJpa(
+            final EntityPropertyChangePublisher entityPropertyChangePublisher,
+            final EntityChangesPublisher entityChangesPublisher,
+            final EventBusService eventBusService,
+            final Provider<InteractionProvider> interactionProviderProvider,
+            final Provider<JpaSupportService> jpaSupportServiceProvider,
+            final Provider<TransactionService> transactionServiceProvider,
+            final ObjectManager objectManager) {
+        super(eventBusService);
+        this.entityPropertyChangePublisher = entityPropertyChangePublisher;
+        this.entityChangesPublisher = entityChangesPublisher;
+        this.interactionProviderProvider = interactionProviderProvider;
+        this.jpaSupportServiceProvider = jpaSupportServiceProvider;
+        this.transactionServiceProvider = transactionServiceProvider;
+        this.objectManager = objectManager;
+    }
+
+    private boolean isEnlisted(final @NonNull ManagedObject adapter) {
+        return ManagedObjects.bookmark(adapter)
+        .map(changeKindByEnlistedAdapter::containsKey)
+        .orElse(false);
+    }
+
+    private void enlistCreatedInternal(final @NonNull ManagedObject adapter) {
+        if(!isEntityEnabledForChangePublishing(adapter)) {
+            return;
+        }
+        enlistForChangeKindPublishing(adapter, EntityChangeKind.CREATE);
+        enlistForPreAndPostValuePublishing(adapter, record->record.setPreValue(PropertyValuePlaceholder.NEW));
+    }
+
+    private void enlistUpdatingInternal(
+            final @NonNull ManagedObject entity,
+            final @Nullable ObjectChangeSet objectChangeSet) {
+        if(!isEntityEnabledForChangePublishing(entity)) {
+            return;
+        }
+        enlistForChangeKindPublishing(entity, EntityChangeKind.UPDATE);
+        if(objectChangeSet==null) {
+            return;
+        }
+        log.debug("enlist entity's changed attributes for publishing {}", entity);
+        val spec = entity.getSpecification();
+        for(val changeRecord : objectChangeSet.getChanges()) {
+            if(!isSingleValued(changeRecord)) {
+                continue; // collections are not published
+            }
+            spec.getProperty(changeRecord.getAttribute(), MixedIn.EXCLUDED)
+            .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+            .map(property->PropertyChangeRecord.of(entity, property, PreAndPostValue.pre(changeRecord.getOldValue())))
+            .ifPresent(this::enlistPropertyChangeRecord);
+        }
+    }
+
+    private void enlistDeletingInternal(final @NonNull ManagedObject adapter) {
+        if(!isEntityEnabledForChangePublishing(adapter)) {
+            return;
+        }
+        final boolean enlisted = enlistForChangeKindPublishing(adapter, EntityChangeKind.DELETE);
+        if(enlisted) {
+            // if previously updated, the original pre-values of changed properties are retained
+            enlistForPreAndPostValuePublishing(adapter, PropertyChangeRecord::updatePreValue);
+        }
+    }
+
+    @Override
+    public Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
+        // this code path has side-effects, it locks the result for this transaction,
+        // such that cannot enlist on top of it
+        return entityPropertyChangeRecordsForPublishing.get();
+    }
+
+    private boolean isEntityEnabledForChangePublishing(final @NonNull ManagedObject adapter) {
+
+        if(entityPropertyChangeRecordsForPublishing.isMemoized()) {
+            throw _Exceptions.illegalState("Cannot enlist additional changes for auditing, "
+                    + "since changedObjectPropertiesRef was already prepared (memoized) for auditing.");
+        }
+
+        entityChangeEventCount.increment();
+        enableCommandPublishing();
+
+        if(!EntityChangePublishingFacet.isPublishingEnabled(adapter.getSpecification())) {
+            return false; // ignore entities that are not enabled for entity change publishing
+        }
+
+        return true;
+    }
+
+    /**
+     * TRANSACTION END BOUNDARY
+     * @apiNote intended to be called during before transaction completion by the framework internally
+     */
+    @EventListener(value = TransactionBeforeCompletionEvent.class) @Order(PriorityPrecedence.LATE)
+    public void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
+        try {
+            enlistPendingChanges();
+            doPublish();
+        } finally {
+            postPublishing();
+        }
+    }
+
+    /**
+     * Enlists the changes not yet flushed, as per the current change sets of the {@link UnitOfWork}s involved,
+     * then flushes, such that created entities are assigned their identity (<code>@PostPersist</code>).
+     */
+    private void enlistPendingChanges() {
+        val transactionService = transactionServiceProvider.get();
+        if(entityTypesSeen.isEmpty()
+                || !transactionService.currentTransactionState().canFlush()) {
+            return;
+        }
+
+        streamUnitsOfWork()
+        .map(UnitOfWork::getCurrentChanges)
+        .filter(unitOfWorkChangeSet->unitOfWorkChangeSet.hasChanges())
+        .forEach(unitOfWorkChangeSet->{
+            for(val key : unitOfWorkChangeSet.getAllChangeSets().keySet()) {
+                val objectChangeSet = (ObjectChangeSet) key;
+                if(objectChangeSet.isNew()
+                        || !objectChangeSet.hasChanges()) {
+                    continue; // created entities are enlisted once persisted
+                }
+                val pojo = unitOfWorkChangeSet.getUOWCloneForObjectChangeSet(objectChangeSet);
+                if(pojo==null) {
+                    continue;
+                }
+                val entity = objectManager.adapt(pojo);
+                if(ManagedObjects.bookmark(entity).isPresent()) {
+                    enlistUpdating(entity, objectChangeSet);
+                }
+            }
+        });
+
+        transactionService.flushTransaction();
+    }
+
+    private void doPublish() {
+        log.debug("about to publish entity changes");
+        entityPropertyChangePublisher.publishChangedProperties(this);
+        entityChangesPublisher.publishChangingEntities(this);
+    }
+
+    private void postPublishing() {
+        log.debug("purging entity change records");
+        propertyChangeRecordsById.clear();
+        changeKindByEnlistedAdapter.clear();
+        entityTypesSeen.clear();
+        entityPropertyChangeRecordsForPublishing.clear();
+        entityChangeEventCount.reset();
+        numberEntitiesLoaded.reset();
+    }
+
+    private void enableCommandPublishing() {
+        val alreadySet = persitentChangesEncountered.getAndSet(true);
+        if(!alreadySet) {
+            val command = currentInteraction().getCommand();
+            command.updater().setSystemStateChanged(true);
+        }
+    }
+
+    @Override
+    public Optional<EntityChanges> getEntityChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName) {
+        return ChangingEntitiesFactory.createChangingEntities(timestamp, userName, this);
+    }
+
+    @Override
+    public Can<EntityPropertyChange> getPropertyChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+
+        return snapshotPropertyChangeRecords().stream()
+                .map(propertyChangeRecord->propertyChangeRecord
+                        .toEntityPropertyChange(timestamp, userName, txId))
+                .collect(Can.toCan());
+    }
+
+    // -- DEPENDENCIES
+
+    @Override
+    public Interaction currentInteraction() {
+        return interactionProviderProvider.get().currentInteractionElseFail();
+    }
+
+    // -- HELPER
+
+    /**
+     * @return <code>true</code> if successfully enlisted, <code>false</code> if was already enlisted
+     */
+    private boolean enlistForChangeKindPublishing(
+            final @NonNull ManagedObject entity,
+            final @NonNull EntityChangeKind changeKind) {
+
+        val bookmark = ManagedObjects.bookmarkElseFail(entity);
+
+        val previousChangeKind = changeKindByEnlistedAdapter.get(bookmark);
+        if(previousChangeKind == null) {
+            changeKindByEnlistedAdapter.put(bookmark, changeKind);
+            return true;
+        }
+        switch (previousChangeKind) {
+        case CREATE:
+            switch (changeKind) {
+            case DELETE:
+                changeKindByEnlistedAdapter.remove(bookmark);
+            case CREATE:
+            case UPDATE:
+                return false;
+            }
+            break;
+        case UPDATE:
+            switch (changeKind) {
+            case DELETE:
+                changeKindByEnlistedAdapter.put(bookmark, changeKind);
+                return true;
+            case CREATE:
+            case UPDATE:
+                return false;
+            }
+            break;
+        case DELETE:
+            return false;
+        }
+        return previousChangeKind == null;
+    }
+
+    private void enlistForPreAndPostValuePublishing(
+            final ManagedObject entity,
+            final Consumer<PropertyChangeRecord> onNewChangeRecord) {
+
+        log.debug("enlist entity's property changes for publishing {}", entity);
+
+        entity.getSpecification().streamProperties(MixedIn.EXCLUDED)
+        .filter(property->!EntityPropertyChangePublishingPolicyFacet.isExcludedFromPublishing(property))
+        .map(property->PropertyChangeRecord.of(entity, property))
+        .filter(record->!propertyChangeRecordsById.containsKey(idOf(record))) // already enlisted, so ignore
+        .forEach(record->{
+            onNewChangeRecord.accept(record);
+            enlistPropertyChangeRecord(record);
+        });
+    }
+
+    private void enlistPropertyChangeRecord(final PropertyChangeRecord record) {
+        propertyChangeRecordsById.putIfAbsent(idOf(record), record);
+    }
+
+    private static String idOf(final PropertyChangeRecord record) {
+        return record.getBookmark().stringify() + "#" + record.getPropertyId();
+    }
+
+    private static boolean isSingleValued(final ChangeRecord changeRecord) {
+        return changeRecord instanceof DirectToFieldChangeRecord
+                || changeRecord instanceof ObjectReferenceChangeRecord;
+    }
+
+    /**
+     * For any enlisted Object Properties collects those, that are meant for publishing,
+     * then clears enlisted objects.
+     */
+    private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
+
+        // set post values, which have been left empty up to now;
+        // for updated entities, only those of changed attributes are read
+        propertyChangeRecordsById.values()
+        .forEach(rec->{
+            if(changeKindByEnlistedAdapter.get(rec.getBookmark()) == EntityChangeKind.DELETE) {
+                rec.updatePostValueAsDeleted();
+            } else {
+                rec.updatePostValueAsNonDeleted();
+            }
+        });
+
+        val records = propertyChangeRecordsById.values().stream()
+                .filter(managedProperty->managedProperty.getPreAndPostValue().shouldPublish())
+                .collect(_Sets.toUnmodifiable());
+
+        propertyChangeRecordsById.clear();
+
+        return records;
+
+    }
+
+    private Stream<UnitOfWork> streamUnitsOfWork() {
+        val jpaSupportService = jpaSupportServiceProvider.get();
+        final Map<UnitOfWork, Boolean> unitsOfWork = new IdentityHashMap<>();
+        entityTypesSeen.forEach(entityType->
+            jpaSupportService.getEntityManager(entityType).getValue()
+            .map(em->em.unwrap(UnitOfWork.class))
+            .ifPresent(unitOfWork->unitsOfWork.put(unitOfWork, Boolean.TRUE)));
+        return unitsOfWork.keySet().stream();
+    }
+
+    private Optional<UnitOfWork> unitOfWorkFor(final Object pojo) {
+        return jpaSupportServiceProvider.get().getEntityManager(pojo.getClass()).getValue()
+                .map(em->em.unwrap(UnitOfWork.class));
+    }
+
+    /**
+     * The change set of given entity, preferring the one already calculated by the flush in progress
+     * over calculating the current changes of the entire {@link UnitOfWork}.
+     */
+    private Optional<ObjectChangeSet> objectChangeSetFor(final Object pojo) {
+        return unitOfWorkFor(pojo)
+                .map(unitOfWork->{
+                    val inProgress = unitOfWork.getUnitOfWorkChangeSet();
+                    val objectChangeSet = inProgress!=null
+                            ? inProgress.getObjectChangeSetForClone(pojo)
+                            : null;
+                    return objectChangeSet!=null
+                            ? objectChangeSet
+                            : unitOfWork.getCurrentChanges().getObjectChangeSetForClone(pojo);
+                });
+    }
+
+    private void recognizeEntityType(final ManagedObject entity) {
+        entityTypesSeen.add(entity.getSpecification().getCorrespondingClass());
+    }
+
+    // -- METRICS SERVICE
+
+    @Override
+    public int numberEntitiesLoaded() {
+        return Math.toIntExact(numberEntitiesLoaded.longValue());
+    }
+
+    @Override
+    public int numberEntitiesDirtied() {
+        return changeKindByEnlistedAdapter.size();
+    }
+
+    // -- ENTITY CHANGE TRACKING
+
+    @Override
+    public void enlistCreated(final ManagedObject entity) {
+        recognizeEntityType(entity);
+        val hasAlreadyBeenEnlisted = isEnlisted(entity);
+        enlistCreatedInternal(entity);
+
+        if(!hasAlreadyBeenEnlisted) {
+            CallbackFacet.callCallback(entity, PersistedCallbackFacet.class);
+            postLifecycleEventIfRequired(entity, PersistedLifecycleEventFacet.class);
+        }
+    }
+
+    @Override
+    public void enlistDeleting(final ManagedObject entity) {
+        recognizeEntityType(entity);
+        enlistDeletingInternal(entity);
+        CallbackFacet.callCallback(entity, RemovingCallbackFacet.class);
+        postLifecycleEventIfRequired(entity, RemovingLifecycleEventFacet.class);
+    }
+
+    /**
+     * Enlists the attributes of given entity, that are recorded as changed by the {@link UnitOfWork} it is
+     * registered with.
+     */
+    @Override
+    public void enlistUpdating(final ManagedObject entity) {
+        enlistUpdating(entity, objectChangeSetFor(entity.getPojo()).orElse(null));
+    }
+
+    private void enlistUpdating(final ManagedObject entity, final @Nullable ObjectChangeSet objectChangeSet) {
+        recognizeEntityType(entity);
+        val hasAlreadyBeenEnlisted = isEnlisted(entity);
+        // we call this come what may;
+        // additional properties may now have been changed, and the changeKind for publishing might also be modified
+        enlistUpdatingInternal(entity, objectChangeSet);
+
+        if(!hasAlreadyBeenEnlisted) {
+            // prevent an infinite loop... don't call the 'updating()' callback on this object if we have already done so
+            CallbackFacet.callCallback(entity, UpdatingCallbackFacet.class);
+            postLifecycleEventIfRequired(entity, UpdatingLifecycleEventFacet.class);
+        }
+    }
+
+    @Override
+    public void recognizeLoaded(final ManagedObject entity) {
+        recognizeEntityType(entity);
+        CallbackFacet.callCallback(entity, LoadedCallbackFacet.class);
+        postLifecycleEventIfRequired(entity, LoadedLifecycleEventFacet.class);
+        numberEntitiesLoaded.increment();
+    }
+
+    @Override
+    public void recognizePersisting(final ManagedObject entity) {
+        recognizeEntityType(entity);
+        CallbackFacet.callCallback(entity, PersistingCallbackFacet.class);
+        postLifecycleEventIfRequired(entity, PersistingLifecycleEventFacet.class);
+    }
+
+    @Override
+    public void recognizeUpdating(final ManagedObject entity) {
+        CallbackFacet.callCallback(entity, UpdatedCallbackFacet.class);
+        postLifecycleEventIfRequired(entity, UpdatedLifecycleEventFacet.class);
+    }
+
+    private final LongAdder numberEntitiesLoaded = new LongAdder();
+    private final LongAdder entityChangeEventCount = new LongAdder();
+    private final AtomicBoolean persitentChangesEncountered = new AtomicBoolean();
+
+}
@@ -18,13 +18,23 @@
  */
 package org.apache.isis.persistence.jpa.integration.entity;
 
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import javax.inject.Inject;
+import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EntityManager;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.PostRemove;
+import javax.persistence.PreRemove;
 import javax.persistence.metamodel.EntityType;
 
 import org.springframework.data.jpa.repository.JpaContext;
@@ -280,6 +290,40 @@ public void delete(final ObjectSpecification spec, final Object pojo) {
             entityManager.remove(pojo);
         }
 
+        @Override
+        public OptionalLong deleteAllSetBased(final ObjectSpecification spec, final Query<?> query) {
+
+            if(!(query instanceof AllInstancesQuery)
+                    || !query.getRange().isUnconstrained()
+                    || !entityClass.equals(query.getResultType())) {
+                return OptionalLong.empty(); // not supported, JPQL bulk delete has no named query counterpart
+            }
+            if(!isSetBasedDeleteSafe()) {
+                return OptionalLong.empty(); // would bypass cascades, orphan removal, collection tables or callbacks
+            }
+
+            val entityManager = getEntityManager();
+
+            log.debug("about to bulk delete all entities of type {}", entityClass);
+
+            val deleted = entityManager
+                    .createQuery("DELETE FROM " + getJpaEntityType().getName() + " e")
+                    .executeUpdate();
+            // instances in the shared cache are gone from the database
+            entityManager.getEntityManagerFactory().getCache().evict(entityClass);
+            return OptionalLong.of(deleted);
+        }
+
+        @Override
+        public void evictFromPersistenceContext(final Collection<?> pojos) {
+            val entityManager = getEntityManager();
+            for(val pojo : pojos) {
+                if(entityManager.contains(pojo)) {
+                    entityManager.detach(pojo);
+                }
+            }
+        }
+
         @Override
         public EntityState getEntityState(final Object pojo) {
 
@@ -336,6 +380,83 @@ private Optional<EntityType<?>> queryJpaMetamodel() {
             .findFirst();
         }
 
+        // -- SET BASED DELETE SUPPORT
+
+        private final _Lazy<Boolean> setBasedDeleteSafeRef = _Lazy.threadSafe(this::inspectSetBasedDeleteSafe);
+
+        private boolean isSetBasedDeleteSafe() {
+            return setBasedDeleteSafeRef.get();
+        }
+
+        /**
+         * A JPQL bulk delete only removes rows of the entity's own table(s), so is only safe if there is nothing
+         * else, that a per entity removal would take care of.
+         */
+        private boolean inspectSetBasedDeleteSafe() {
+            val metamodel = getEntityManager().getMetamodel();
+            val hasSubtypes = metamodel.getEntities().stream()
+                    .map(EntityType::getJavaType)
+                    .anyMatch(type->!entityClass.equals(type) && entityClass.isAssignableFrom(type));
+            if(hasSubtypes) {
+                return false;
+            }
+            for(val attribute : getJpaEntityType().getAttributes()) {
+                switch (attribute.getPersistentAttributeType()) {
+                case ONE_TO_MANY:
+                case MANY_TO_MANY:
+                case ELEMENT_COLLECTION:
+                    return false; // join or collection tables
+                case ONE_TO_ONE:
+                case MANY_TO_ONE:
+                    if(isCascadingRemoval(attribute.getJavaMember())) {
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+            for(Class<?> type = entityClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                if(type.isAnnotationPresent(EntityListeners.class)) {
+                    return false;
+                }
+                for(val method : type.getDeclaredMethods()) {
+                    if(method.isAnnotationPresent(PreRemove.class)
+                            || method.isAnnotationPresent(PostRemove.class)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean isCascadingRemoval(final Member javaMember) {
+            if(!(javaMember instanceof AnnotatedElement)) {
+                return true; // unknown, so be conservative
+            }
+            val annotatedMember = (AnnotatedElement) javaMember;
+            val oneToOne = annotatedMember.getAnnotation(OneToOne.class);
+            if(oneToOne != null) {
+                return oneToOne.orphanRemoval()
+                        || isCascadingRemoval(oneToOne.cascade());
+            }
+            val manyToOne = annotatedMember.getAnnotation(ManyToOne.class);
+            if(manyToOne != null) {
+                return isCascadingRemoval(manyToOne.cascade());
+            }
+            return false;
+        }
+
+        private static boolean isCascadingRemoval(final CascadeType[] cascadeTypes) {
+            for(val cascadeType : cascadeTypes) {
+                if(cascadeType == CascadeType.ALL
+                        || cascadeType == CascadeType.REMOVE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         // -- OBJECT ID SERIALIZATION
 
         private final _Lazy<JpaObjectIdSerializer<Object>> objectIdSerializerRef = _Lazy.threadSafe(this::createObjectIdSerializer);
@@ -0,0 +1,194 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jpa.integration.changetracking;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.inject.Provider;
+import javax.persistence.EntityManager;
+
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.changesets.DirectToFieldChangeRecord;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.applib.services.eventbus.EventBusService;
+import org.apache.isis.applib.services.iactn.InteractionProvider;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.functional.Result;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.MixedIn;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.transaction.changetracking.EntityChangesPublisher;
+import org.apache.isis.core.transaction.changetracking.EntityPropertyChangePublisher;
+import org.apache.isis.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.val;
+
+class EntityChangeTrackerJpaTest {
+
+    public static class Customer {
+    }
+
+    private Customer customer;
+    private ManagedObject entity;
+    private OneToOneAssociation nameProperty;
+    private ObjectChangeSet objectChangeSet;
+
+    private EntityChangeTrackerJpa entityChangeTracker;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+
+        val valueSpec = mock(ObjectSpecification.class);
+        doReturn(String.class).when(valueSpec).getCorrespondingClass();
+
+        nameProperty = mock(OneToOneAssociation.class);
+        when(nameProperty.getId()).thenReturn("name");
+        when(nameProperty.getElementType()).thenReturn(valueSpec);
+
+        val spec = mock(ObjectSpecification.class);
+        when(spec.isEntity()).thenReturn(true);
+        doReturn(Customer.class).when(spec).getCorrespondingClass();
+        when(spec.getFacet(EntityChangePublishingFacet.class)).thenReturn(mock(EntityChangePublishingFacet.class));
+        when(spec.getProperty("name", MixedIn.EXCLUDED)).thenReturn(Optional.of(nameProperty));
+
+        entity = mock(ManagedObject.class);
+        when(entity.getSpecification()).thenReturn(spec);
+        when(entity.getPojo()).thenReturn(customer);
+        when(entity.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1")));
+
+        // the change set, as recorded by EclipseLink
+        objectChangeSet = mock(ObjectChangeSet.class);
+        val unitOfWork = mock(UnitOfWork.class, RETURNS_DEEP_STUBS);
+        when(unitOfWork.getUnitOfWorkChangeSet()).thenReturn(null); // no flush in progress
+        when(unitOfWork.getCurrentChanges().getObjectChangeSetForClone(customer)).thenReturn(objectChangeSet);
+        val entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(UnitOfWork.class)).thenReturn(unitOfWork);
+        val jpaSupportService = mock(JpaSupportService.class);
+        when(jpaSupportService.getEntityManager(Customer.class)).thenReturn(Result.success(entityManager));
+
+        val interactionProvider = mock(InteractionProvider.class, RETURNS_DEEP_STUBS);
+        final Provider<InteractionProvider> interactionProviderProvider = ()->interactionProvider;
+        final Provider<JpaSupportService> jpaSupportServiceProvider = ()->jpaSupportService;
+        final Provider<TransactionService> transactionServiceProvider = ()->mock(TransactionService.class);
+
+        entityChangeTracker = new EntityChangeTrackerJpa(
+                mock(EntityPropertyChangePublisher.class),
+                mock(EntityChangesPublisher.class),
+                mock(EventBusService.class),
+                interactionProviderProvider,
+                jpaSupportServiceProvider,
+                transactionServiceProvider,
+                mock(ObjectManager.class));
+    }
+
+    @Test
+    void changedAttribute_publishesPreValue_asRecorded_andPostValue_asPerGetter() {
+        // given
+        givenChangedAttribute("name", "alice");
+        givenPropertyValue("bob");
+
+        // when
+        entityChangeTracker.enlistUpdating(entity);
+
+        // then
+        val records = entityChangeTracker.snapshotPropertyChangeRecords();
+        assertEquals(1, records.size());
+        val record = records.iterator().next();
+        assertEquals("alice", record.getPreAndPostValue().getPre());
+        assertEquals("bob", record.getPreAndPostValue().getPost());
+    }
+
+    @Test
+    void changedBack_isNotPublished() {
+        // given
+        givenChangedAttribute("name", "alice");
+        givenPropertyValue("alice");
+
+        // when
+        entityChangeTracker.enlistUpdating(entity);
+
+        // then
+        assertTrue(entityChangeTracker.snapshotPropertyChangeRecords().isEmpty());
+    }
+
+    @Test
+    void enlistedTwice_retainsPreValue_ofFirstChange() {
+        // given
+        givenChangedAttribute("name", "alice");
+        entityChangeTracker.enlistUpdating(entity);
+        givenChangedAttribute("name", "bob"); // as recorded after a flush
+
+        // when
+        entityChangeTracker.enlistUpdating(entity);
+        givenPropertyValue("carol");
+
+        // then
+        val records = entityChangeTracker.snapshotPropertyChangeRecords();
+        assertEquals(1, records.size());
+        val record = records.iterator().next();
+        assertEquals("alice", record.getPreAndPostValue().getPre());
+        assertEquals("carol", record.getPreAndPostValue().getPost());
+    }
+
+    @Test
+    void unknownAttribute_isIgnored() {
+        // given
+        givenChangedAttribute("notAProperty", "alice");
+
+        // when
+        entityChangeTracker.enlistUpdating(entity);
+
+        // then
+        assertTrue(entityChangeTracker.snapshotPropertyChangeRecords().isEmpty());
+    }
+
+    // -- HELPER
+
+    private void givenChangedAttribute(final String attributeName, final Object oldValue) {
+        val changeRecord = mock(DirectToFieldChangeRecord.class);
+        when(changeRecord.getAttribute()).thenReturn(attributeName);
+        when(changeRecord.getOldValue()).thenReturn(oldValue);
+        when(objectChangeSet.getChanges()).thenReturn(Arrays.<ChangeRecord>asList(changeRecord));
+    }
+
+    private void givenPropertyValue(final String value) {
+        val valueAdapter = mock(ManagedObject.class);
+        when(valueAdapter.getPojo()).thenReturn(value);
+        when(nameProperty.get(entity, InteractionInitiatedBy.FRAMEWORK)).thenReturn(valueAdapter);
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.ldap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.NamingException;
+import javax.naming.ldap.LdapContext;
+
+import org.apache.isis.extensions.shirorealmldap.realm.impl.IsisLdapContextFactory;
+
+/**
+ * Counts the system contexts obtained (that is, lookups sent to the LDAP server on behalf of the realm),
+ * as configured with <code>shiro-ldap-lookup-cache.ini</code>.
+ */
+public class LdapContextFactoryForTesting extends IsisLdapContextFactory {
+
+    private static final AtomicInteger systemLdapContextCount = new AtomicInteger();
+
+    @Override
+    public LdapContext getSystemLdapContext() throws NamingException {
+        systemLdapContextCount.incrementAndGet();
+        return super.getSystemLdapContext();
+    }
+
+    public static int getSystemLdapContextCount() {
+        return systemLdapContextCount.get();
+    }
+
+    public static void resetSystemLdapContextCount() {
+        systemLdapContextCount.set(0);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.shiro;
+
+import javax.inject.Inject;
+
+import org.apache.shiro.SecurityUtils;
+import org.apache.shiro.authc.UsernamePasswordToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJdoAndShiro;
+import org.apache.isis.testdomain.ldap.LdapConstants;
+import org.apache.isis.testdomain.ldap.LdapContextFactoryForTesting;
+import org.apache.isis.testdomain.ldap.LdapServerService;
+
+import lombok.val;
+
+/**
+ * The LDAP realm's role and permission lookups are cached for their time-to-live
+ * (of 1 second, as configured with <code>shiro-ldap-lookup-cache.ini</code>).
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdoAndShiro.class,
+        })
+@Import({
+    LdapServerService.class,
+})
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+class ShiroLdapLookupCacheTest extends AbstractShiroTest {
+
+    /** one per kind of lookup: roles, user attribute permissions and group attribute permissions */
+    private static final int LOOKUPS_PER_AUTHORIZATION = 3;
+
+    @Inject LdapServerService ldapServerService;
+    @Inject ServiceInjector serviceInjector;
+
+    @BeforeEach
+    void beforeEach() {
+        setSecurityManager(serviceInjector, "classpath:shiro-ldap-lookup-cache.ini");
+    }
+
+    @AfterEach
+    void afterEach() {
+        SecurityUtils.setSecurityManager(null);
+    }
+
+    @AfterAll
+    static void afterClass() {
+        tearDownShiro();
+    }
+
+    @Test
+    void lookups_hitLdapServerOnce_withinTimeToLive_andAgain_onceExpired() throws InterruptedException {
+
+        // given
+        val subject = SecurityUtils.getSubject();
+        subject.login(new UsernamePasswordToken(LdapConstants.SVEN_PRINCIPAL, "pass"));
+        assertTrue(subject.isAuthenticated());
+        LdapContextFactoryForTesting.resetSystemLdapContextCount();
+
+        // when - repeated checks within the time-to-live
+        for(int i = 0; i < 5; i++) {
+            assertTrue(subject.hasRole("user_role"));
+            assertFalse(subject.hasRole("admin_role"));
+            assertTrue(subject.isPermitted("testdomain:Product:name:edit"));
+            assertFalse(subject.isPermitted("testdomain:Customer:name:edit"));
+        }
+
+        // then - each kind of lookup has hit the server once
+        assertEquals(LOOKUPS_PER_AUTHORIZATION, LdapContextFactoryForTesting.getSystemLdapContextCount());
+
+        // when - checked again once the time-to-live has expired
+        Thread.sleep(1_500);
+        assertTrue(subject.hasRole("user_role"));
+        assertTrue(subject.isPermitted("testdomain:Product:name:edit"));
+
+        // then - each kind of lookup has hit the server again, once
+        assertEquals(2 * LOOKUPS_PER_AUTHORIZATION, LdapContextFactoryForTesting.getSystemLdapContextCount());
+
+        subject.logout();
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.persistence.jpa;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.isis.applib.query.Query;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJpa;
+import org.apache.isis.testdomain.jpa.JpaTestFixtures;
+import org.apache.isis.testdomain.jpa.entities.JpaBook;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Bulk updates of the {@link org.apache.isis.applib.services.repository.RepositoryService} against the
+ * (in-memory H2) datastore, using the smallest chunk size, so that each entity is processed in its own chunk.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "isis.core.runtime-services.repository-service.bulk.chunk-size=1",
+        })
+@TestPropertySource(IsisPresets.UseLog4j2Test)
+@Transactional
+class JpaRepositoryBulkTest extends IsisIntegrationTestAbstract {
+
+    @Inject private JpaTestFixtures testFixtures;
+
+    @BeforeEach
+    void setUp() {
+        testFixtures.setUp3Books();
+    }
+
+    @Test
+    void updateAll_updatesAllMatching_evenIfNoLongerMatchingOnceUpdated() {
+
+        // given ... 2 of the 3 books are affordable
+        testFixtures.assertInventoryHasBooks(repositoryService.allMatches(affordableBooks()), 1, 2);
+
+        // when ... each update makes the book no longer match the query
+        val updated = repositoryService.updateAll(affordableBooks(), book->book.setPrice(100.));
+
+        // then
+        assertEquals(2L, updated);
+        assertEquals(0, repositoryService.allMatches(affordableBooks()).size());
+        assertEquals(3, repositoryService.allInstances(JpaBook.class).size());
+    }
+
+    // -- HELPER
+
+    private static Query<JpaBook> affordableBooks() {
+        return Query.named(JpaBook.class, "JpaInventory.findAffordableProducts")
+                .withParameter("priceUpperBound", 60.);
+    }
+
+}
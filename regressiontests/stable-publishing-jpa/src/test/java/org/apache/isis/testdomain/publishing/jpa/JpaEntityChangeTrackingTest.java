@@ -0,0 +1,170 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.publishing.jpa;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.conf.Configuration_usingJpa;
+import org.apache.isis.testdomain.jpa.HasPersistenceStandardJpa;
+import org.apache.isis.testdomain.jpa.JpaTestFixtures;
+import org.apache.isis.testdomain.jpa.entities.JpaBook;
+import org.apache.isis.testdomain.publishing.conf.Configuration_usingEntityChangesPublishing;
+import org.apache.isis.testdomain.publishing.conf.Configuration_usingEntityPropertyChangePublishing;
+import org.apache.isis.testdomain.util.CollectionAssertions;
+import org.apache.isis.testdomain.util.dto.BookDto;
+import org.apache.isis.testdomain.util.kv.KVStoreForTesting;
+import org.apache.isis.testing.integtestsupport.applib.IsisIntegrationTestAbstract;
+
+import static org.apache.isis.testdomain.publishing.subscriber.EntityChangesSubscriberForTesting.clearPublishedEntries;
+import static org.apache.isis.testdomain.publishing.subscriber.EntityChangesSubscriberForTesting.getCreated;
+import static org.apache.isis.testdomain.publishing.subscriber.EntityChangesSubscriberForTesting.getUpdated;
+import static org.apache.isis.testdomain.publishing.subscriber.EntityPropertyChangeSubscriberForTesting.clearPropertyChangeEntries;
+import static org.apache.isis.testdomain.publishing.subscriber.EntityPropertyChangeSubscriberForTesting.getPropertyChangeEntries;
+
+import lombok.val;
+
+/**
+ * Entity changes tracked by the <code>EntityChangeTrackerJpa</code> are published only once the transaction
+ * completes, after pending changes have been flushed (before completion) to the (in-memory H2) datastore.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+                Configuration_usingEntityChangesPublishing.class,
+                Configuration_usingEntityPropertyChangePublishing.class,
+        })
+@TestPropertySource({
+    IsisPresets.UseLog4j2Test
+})
+@DirtiesContext
+class JpaEntityChangeTrackingTest
+extends IsisIntegrationTestAbstract
+implements HasPersistenceStandardJpa {
+
+    @Inject private TransactionService transactionService;
+    @Inject private JpaTestFixtures testFixtures;
+    @Inject private KVStoreForTesting kvStore;
+
+    @BeforeEach
+    void setUp() {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, testFixtures::setUp3Books)
+        .optionalElseFail();
+        clearPublishedEntries(kvStore);
+        clearPropertyChangeEntries(kvStore);
+    }
+
+    @Test
+    void updatedEntity_isPublished_whenTransactionCompletes_evenIfNeverFlushed() {
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+
+            // when - not flushed
+            sampleBook().setName("Book #2");
+
+            // then - nothing published yet
+            assertNothingPublished();
+
+        })
+        .optionalElseFail();
+
+        // then
+        assertEquals(1, getUpdated(kvStore));
+        CollectionAssertions.assertComponentWiseEquals(
+                Can.of(formatPersistenceStandardSpecificCapitalize(
+                        "%s Book/name: '" + BookDto.sample().getName() + "' -> 'Book #2'")),
+                getPropertyChangeEntries(kvStore));
+    }
+
+    @Test
+    void updatedEntity_retainsPreValue_whenChangedAgainAfterFlush() {
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+
+            // when - changed, flushed, then changed again
+            val book = sampleBook();
+            book.setName("Book #1");
+            transactionService.flushTransaction();
+            book.setName("Book #2");
+
+            // then - flushing does not publish
+            assertNothingPublished();
+
+        })
+        .optionalElseFail();
+
+        // then - pre-value is the one at the start of the transaction
+        assertEquals(1, getUpdated(kvStore));
+        CollectionAssertions.assertComponentWiseEquals(
+                Can.of(formatPersistenceStandardSpecificCapitalize(
+                        "%s Book/name: '" + BookDto.sample().getName() + "' -> 'Book #2'")),
+                getPropertyChangeEntries(kvStore));
+    }
+
+    @Test
+    void createdEntity_isPublished_onceFlushedBeforeCompletion() {
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+
+            // when - not flushed, hence not yet assigned an identity
+            repositoryService.persist(JpaBook.of("Book #4", "A new book.", 19., "Author", "ISBN-D", "Publisher"));
+
+            // then - nothing published yet
+            assertNothingPublished();
+
+        })
+        .optionalElseFail();
+
+        // then
+        assertEquals(1, getCreated(kvStore));
+        val expectedEntry = formatPersistenceStandardSpecificCapitalize("%s Book/name: '[NEW]' -> 'Book #4'");
+        assertTrue(getPropertyChangeEntries(kvStore).contains(expectedEntry),
+                ()->String.format("expected entry (%s) not found in %s",
+                        expectedEntry, getPropertyChangeEntries(kvStore)));
+    }
+
+    // -- HELPER
+
+    private JpaBook sampleBook() {
+        val name = BookDto.sample().getName();
+        return repositoryService.allInstances(JpaBook.class).stream()
+                .filter(book->name.equals(book.getName()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+
+    private void assertNothingPublished() {
+        assertEquals(0, getCreated(kvStore));
+        assertEquals(0, getUpdated(kvStore));
+        assertTrue(getPropertyChangeEntries(kvStore).isEmpty());
+    }
+
+}
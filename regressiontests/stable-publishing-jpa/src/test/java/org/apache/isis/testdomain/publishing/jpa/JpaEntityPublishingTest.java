@@ -56,7 +56,7 @@
 
     @Override
     protected PublishingTestFactoryAbstract getTestFactory() {
-        return null; // Entity Changes Tracking' currently not supported for JPA
+        return testFactory;
     }
 
 }
@@ -18,11 +18,17 @@
  */
 package org.apache.isis.security.shiro.authorization;
 
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.apache.shiro.SecurityUtils;
 import org.apache.shiro.mgt.RealmSecurityManager;
 import org.apache.shiro.mgt.SecurityManager;
+import org.apache.shiro.session.InvalidSessionException;
 import org.apache.shiro.subject.Subject;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -30,6 +36,10 @@
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.services.iactnlayer.InteractionContext;
+import org.apache.isis.applib.services.user.RoleMemento;
+import org.apache.isis.applib.services.user.UserMemento;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.security.authentication.Authenticator;
 import org.apache.isis.core.security.authorization.Authorizor;
 import org.apache.isis.security.shiro.context.ShiroSecurityContext;
@@ -46,6 +56,12 @@
  * (bound to a thread-local).
  * </p>
  *
+ * <p>
+ * Unless disabled (<tt>isis.security.shiro.cache-authorization-decisions</tt>), decisions are cached in the
+ * subject's Shiro session, keyed by feature {@link Identifier} and mode; the cache is discarded along with the
+ * session on logout, and whenever the user's roles change.
+ * </p>
+ *
  * @since 1.x {@index}
  */
 @Service
@@ -54,17 +70,26 @@
 @Qualifier("Shiro")
 public class AuthorizorShiro implements Authorizor {
 
+    private static final String DECISION_CACHE_KEY = AuthorizorShiro.class.getName() + ".decisionCache";
+
+    private final boolean cacheDecisions;
+
+    @Inject
+    public AuthorizorShiro(final IsisConfiguration configuration) {
+        this.cacheDecisions = configuration.getSecurity().getShiro().isCacheAuthorizationDecisions();
+    }
+
     @Override
     public boolean isVisible(final InteractionContext authentication, final Identifier identifier) {
-        return isPermitted(authentication.getUser().getName(), identifier, "r");
+        return isPermitted(authentication.getUser(), identifier, Mode.READ);
     }
 
     @Override
     public boolean isUsable(final InteractionContext authentication, final Identifier identifier) {
-        return isPermitted(authentication.getUser().getName(), identifier, "w");
+        return isPermitted(authentication.getUser(), identifier, Mode.WRITE);
     }
 
-    private boolean isPermitted(String userName, Identifier identifier, String qualifier) {
+    private boolean isPermitted(final UserMemento user, final Identifier identifier, final Mode mode) {
 
         RealmSecurityManager securityManager = getSecurityManager();
         if(securityManager == null) {
@@ -74,8 +99,17 @@ private boolean isPermitted(String userName, Identifier identifier, String quali
         }
 
         final Subject subject = SecurityUtils.getSubject();
-        final String permission = asPermissionsString(identifier) + ":" + qualifier;
 
+        final DecisionCache decisionCache = decisionCache(subject, user);
+        if(decisionCache == null) {
+            return isPermitted(subject, identifier, mode);
+        }
+        return decisionCache.decisions(mode)
+                .computeIfAbsent(identifier, __->isPermitted(subject, identifier, mode));
+    }
+
+    private boolean isPermitted(final Subject subject, final Identifier identifier, final Mode mode) {
+        final String permission = asPermissionsString(identifier) + ":" + mode.qualifier;
         try {
             //_Assert.assertEquals(userName, subject.getPrincipal().toString()); ... does not work
             return subject.isPermitted(permission);
@@ -89,6 +123,78 @@ private String asPermissionsString(Identifier identifier) {
         return logicalTypeName + ":" + identifier.getMemberLogicalName();
     }
 
+    // -- DECISION CACHE
+
+    private static enum Mode {
+        READ("r"),
+        WRITE("w");
+        private final String qualifier;
+        private Mode(final String qualifier) {
+            this.qualifier = qualifier;
+        }
+    }
+
+    /**
+     * Returns the decision cache held by the subject's (existing) session, if enabled,
+     * (re-)creating it if absent or if held for a different user or set of roles.
+     */
+    private DecisionCache decisionCache(final Subject subject, final UserMemento user) {
+        if(!cacheDecisions) {
+            return null;
+        }
+        try {
+            val session = subject.getSession(false);
+            if(session == null) {
+                return null;
+            }
+            val decisionCache = (DecisionCache) session.getAttribute(DECISION_CACHE_KEY);
+            if(decisionCache != null
+                    && decisionCache.isFor(user)) {
+                return decisionCache;
+            }
+            val newDecisionCache = new DecisionCache(user);
+            session.setAttribute(DECISION_CACHE_KEY, newDecisionCache);
+            return newDecisionCache;
+        } catch (InvalidSessionException e) {
+            return null;
+        }
+    }
+
+    private static final class DecisionCache implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient UserMemento user;
+        private final String userName;
+        private final Can<RoleMemento> roles;
+
+        private transient Map<Identifier, Boolean>[] decisionsByMode;
+
+        DecisionCache(final UserMemento user) {
+            this.user = user;
+            this.userName = user.getName();
+            this.roles = Can.ofCollection(user.getRoles());
+        }
+
+        boolean isFor(final UserMemento user) {
+            return this.user == user // fast path, same memento
+                    || (userName.equals(user.getName())
+                            && roles.equals(Can.ofCollection(user.getRoles())));
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized Map<Identifier, Boolean> decisions(final Mode mode) {
+            if(decisionsByMode == null) {
+                decisionsByMode = new Map[Mode.values().length];
+            }
+            val decisions = decisionsByMode[mode.ordinal()];
+            return decisions != null
+                    ? decisions
+                    : (decisionsByMode[mode.ordinal()] = new ConcurrentHashMap<>());
+        }
+
+    }
+
     // -- DEPS
 
     /**
@@ -18,6 +18,9 @@
  */
 package org.apache.isis.security.shiro.authorization;
 
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,6 +28,7 @@
 import org.apache.shiro.authz.permission.WildcardPermission;
 
 import org.apache.isis.commons.internal.collections._Multimaps;
+import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.collections._Multimaps.ListMultimap;
 
 import lombok.val;
@@ -126,4 +130,27 @@ private String getPermissionGroup() {
         return permissionGroup;
     }
 
+    /**
+     * The (sub-)parts of the first part (typically the leading namespace segment) of given {@code permission},
+     * if it is a {@link WildcardPermission}.
+     */
+    static Optional<Set<String>> firstPartOf(final Permission permission) {
+        if(permission instanceof IsisPermission) {
+            val parts = ((IsisPermission) permission).getParts();
+            return parts.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(parts.get(0));
+        }
+        if(permission instanceof WildcardPermission) {
+            // WildcardPermission does not expose its parts, but renders them divided by ':' and ','
+            val permissionString = permission.toString();
+            val partDividerIndex = permissionString.indexOf(PART_DIVIDER_TOKEN);
+            val firstPart = partDividerIndex < 0
+                    ? permissionString
+                    : permissionString.substring(0, partDividerIndex);
+            return Optional.of(_Sets.newHashSet(Arrays.asList(firstPart.split(SUBPART_DIVIDER_TOKEN, -1))));
+        }
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,177 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.security.shiro.authorization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.realm.AuthorizingRealm;
+
+import org.apache.isis.commons.internal.base._NullSafe;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * The (resolved) permissions of a user, pre-parsed and indexed by the first part of their
+ * {@link org.apache.shiro.authz.permission.WildcardPermission wildcard} representation (typically the leading
+ * namespace segment), such that checking a permission only considers those that could possibly imply it,
+ * rather than looping over all of them.
+ *
+ * <p>
+ * Candidates are considered in their original order, so {@link IsisPermission} veto semantics are preserved:
+ * a vetoing permission can only affect permissions with the same first part (or a wildcard one).
+ * </p>
+ *
+ * <p>
+ * Intended for use by {@link AuthorizingRealm} implementations, by overriding
+ * {@link AuthorizingRealm#isPermitted(Permission, AuthorizationInfo)}, caching an index per
+ * {@link AuthorizationInfo}; see {@link Cache}.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public final class IsisPermissionIndex {
+
+    private static final String WILDCARD_TOKEN = "*";
+
+    private final List<Permission> permissions;
+
+    /**
+     * Positions (in {@link #permissions}) of those permissions with a given first (sub-)part.
+     */
+    private final Map<String, List<Integer>> positionsByFirstPart;
+
+    /**
+     * Positions of those permissions that cannot be indexed, or with a wildcard first part.
+     */
+    private final List<Integer> unindexedPositions;
+
+    /**
+     * Memoized candidates by first part of the permission checked.
+     */
+    private final Map<String, List<Permission>> candidatesByFirstPart = new ConcurrentHashMap<>();
+
+    public static IsisPermissionIndex of(final @NonNull Collection<Permission> permissions) {
+        return new IsisPermissionIndex(permissions);
+    }
+
+    private IsisPermissionIndex(final Collection<Permission> permissions) {
+        this.permissions = new ArrayList<>(permissions);
+        this.positionsByFirstPart = new HashMap<>();
+        this.unindexedPositions = new ArrayList<>();
+
+        for (int position = 0; position < this.permissions.size(); position++) {
+            val firstPart = IsisPermission.firstPartOf(this.permissions.get(position)).orElse(null);
+            if(firstPart == null
+                    || firstPart.contains(WILDCARD_TOKEN)) {
+                unindexedPositions.add(position);
+                continue;
+            }
+            for (val token : firstPart) {
+                positionsByFirstPart.computeIfAbsent(token, __->new ArrayList<>()).add(position);
+            }
+        }
+    }
+
+    /**
+     * Whether any of the indexed permissions implies given {@code permission}.
+     */
+    public boolean implies(final @NonNull Permission permission) {
+        for (val candidate : candidatesFor(permission)) {
+            if(candidate.implies(permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return permissions.size();
+    }
+
+    // -- HELPER
+
+    private List<Permission> candidatesFor(final Permission permission) {
+        val firstPart = IsisPermission.firstPartOf(permission).orElse(null);
+        if(firstPart == null
+                || firstPart.size() != 1
+                || firstPart.contains(WILDCARD_TOKEN)) {
+            return permissions;
+        }
+        val token = firstPart.iterator().next();
+        return candidatesByFirstPart.computeIfAbsent(token, this::candidatesFor);
+    }
+
+    private List<Permission> candidatesFor(final String token) {
+        val indexed = positionsByFirstPart.getOrDefault(token, List.of());
+        val candidates = new ArrayList<Permission>(indexed.size() + unindexedPositions.size());
+        // merge, retaining original order
+        int i = 0, j = 0;
+        while(i < indexed.size() || j < unindexedPositions.size()) {
+            final int position = j >= unindexedPositions.size()
+                    || (i < indexed.size() && indexed.get(i) < unindexedPositions.get(j))
+                    ? indexed.get(i++)
+                    : unindexedPositions.get(j++);
+            candidates.add(permissions.get(position));
+        }
+        return candidates;
+    }
+
+    // -- CACHE
+
+    /**
+     * Holds an {@link IsisPermissionIndex} per {@link AuthorizationInfo} (by identity, weakly referenced),
+     * so that realms caching their {@link AuthorizationInfo} only resolve and index their permissions once.
+     */
+    public static final class Cache {
+
+        private final Map<AuthorizationInfo, IsisPermissionIndex> indexByInfo =
+                Collections.synchronizedMap(new WeakHashMap<>());
+
+        public IsisPermissionIndex indexFor(
+                final @NonNull AuthorizationInfo info,
+                final @NonNull Function<AuthorizationInfo, Collection<Permission>> permissionsResolver) {
+            val index = indexByInfo.get(info);
+            if(index != null) {
+                return index;
+            }
+            val newIndex = IsisPermissionIndex.of(_NullSafe.stream(permissionsResolver.apply(info))
+                    .collect(Collectors.toList()));
+            indexByInfo.put(info, newIndex);
+            return newIndex;
+        }
+
+        public void clear() {
+            indexByInfo.clear();
+        }
+
+    }
+
+}
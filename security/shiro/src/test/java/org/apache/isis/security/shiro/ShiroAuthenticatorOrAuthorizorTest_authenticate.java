@@ -62,7 +62,7 @@ public void setUp() throws Exception {
         configuration.getSecurity().getShiro().setAutoLogoutIfAlreadyAuthenticated(false);
 
         authenticator = new AuthenticatorShiro(configuration);
-        authorizor = new AuthorizorShiro();
+        authorizor = new AuthorizorShiro(configuration);
     }
 
     @After
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.security.shiro.authorization;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.permission.WildcardPermission;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+public class IsisPermissionIndexTest {
+
+    private final List<Permission> permissions = Arrays.asList(
+            new IsisPermission("!foo/com:mycompany:Customer:changeAddress:w"),
+            new IsisPermission("foo/com:mycompany:Customer:*"),
+            new IsisPermission("org:other:*"),
+            new IsisPermission("*:Order:*:r"),
+            new WildcardPermission("net,com:acme:Invoice:*"));
+
+    @After
+    public void tearDown() throws Exception {
+        IsisPermission.resetVetoedPermissions();
+    }
+
+    @Test
+    public void agreesWithLinearScan() throws Exception {
+        final IsisPermissionIndex index = IsisPermissionIndex.of(permissions);
+
+        for (final String requested : Arrays.asList(
+                "com:mycompany:Customer:changeAddress:r",
+                "com:mycompany:Customer:changeAddress:w",
+                "com:mycompany:Order:place:r",
+                "com:mycompany:Order:place:w",
+                "org:other:Anything:any:w",
+                "net:acme:Invoice:pay:w",
+                "com:acme:Invoice:pay:w",
+                "xxx:acme:Invoice:pay:w")) {
+
+            final Permission permission = new IsisPermission(requested);
+            Assert.assertThat(requested, index.implies(permission), is(linearScan(permission)));
+            IsisPermission.resetVetoedPermissions();
+        }
+    }
+
+    @Test
+    public void vetoAppliesAcrossIndex() throws Exception {
+        final IsisPermissionIndex index = IsisPermissionIndex.of(permissions);
+
+        Assert.assertThat(index.implies(new IsisPermission("com:mycompany:Customer:changeAddress:r")), is(true));
+        IsisPermission.resetVetoedPermissions();
+        Assert.assertThat(index.implies(new IsisPermission("com:mycompany:Customer:changeAddress:w")), is(false));
+    }
+
+    // -- HELPER
+
+    private boolean linearScan(final Permission requested) {
+        try {
+            for (final Permission permission : permissions) {
+                if(permission.implies(requested)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            IsisPermission.resetVetoedPermissions();
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package org.apache.isis.subdomains.excel.applib.dom;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.exceptions.RecoverableException;
 import org.apache.isis.applib.value.Blob;
@@ -44,6 +47,34 @@ <T> Blob toExcel(WorksheetContent worksheetContent, String fileName, InputStream
     Blob toExcel(List<WorksheetContent> worksheetContents, String fileName, InputStream in)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * Streams a single-sheet spreadsheet of the domain objects to the provided output stream.
+     *
+     * <p>
+     *     Unlike {@link #toExcel(List, Class, String, String)}, the workbook is never built in memory: only a
+     *     window of rows (see <code>isis.subdomains.excel.streaming.row-access-window-size</code>) is held at any
+     *     time, and each domain object is only adapted as its row is written.  Use this for large exports.
+     * </p>
+     *
+     * @param sheetName - must be 30 chars or less
+     * @param out - not closed by this method
+     */
+    <T> void toExcel(Iterable<T> domainObjects, Class<T> cls, String sheetName, OutputStream out)
+            throws ExcelServiceDefault.Exception;
+
+    /**
+     * As {@link #toExcel(Iterable, Class, String, OutputStream)}, but consuming a stream of domain objects.
+     */
+    <T> void toExcel(Stream<T> domainObjects, Class<T> cls, String sheetName, OutputStream out)
+            throws ExcelServiceDefault.Exception;
+
+    /**
+     * As {@link #toExcel(Stream, Class, String, OutputStream)}, but returning a Blob; the spreadsheet is streamed
+     * to a temporary file first, so only its (compressed) bytes are held in memory.
+     */
+    <T> Blob toExcel(Stream<T> domainObjects, Class<T> cls, String sheetName, String fileName)
+            throws ExcelServiceDefault.Exception;
+
     <T> Blob toExcelPivot(List<T> domainObjects, Class<T> cls, String fileName) throws ExcelServiceDefault.Exception;
 
     <T> Blob toExcelPivot(List<T> domainObjects, Class<T> cls, String sheetName, String fileName)
@@ -75,6 +106,35 @@ <T> List<T> fromExcel(Blob excelBlob, Class<T> cls, String sheetName, Mode mode)
     List<List<?>> fromExcel(Blob excelBlob, WorksheetSpec.Matcher matcher, WorksheetSpec.Sequencer sequencer)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * As {@link #fromExcel(Blob, WorksheetSpec)}, but reading the rows one at a time from the sheet's XML rather than
+     * loading the workbook, with each object created only as the returned stream is consumed.  Use this for large
+     * imports.
+     *
+     * <p>
+     *     The returned stream must be closed (for example using try-with-resources); the input is copied to a
+     *     temporary file that is only deleted then.
+     * </p>
+     *
+     * @param in - not closed by this method
+     */
+    <T> Stream<T> streamExcel(InputStream in, WorksheetSpec worksheetSpec) throws ExcelServiceDefault.Exception;
+
+    /**
+     * As {@link #streamExcel(InputStream, WorksheetSpec)}, but reading from a Blob.
+     */
+    <T> Stream<T> streamExcel(Blob excelBlob, WorksheetSpec worksheetSpec) throws ExcelServiceDefault.Exception;
+
+    /**
+     * As {@link #streamExcel(InputStream, WorksheetSpec)}, but passing the objects to the handler in batches of
+     * (at most) <code>batchSize</code>, for example to persist each batch and then flush the transaction, so that
+     * imports of any number of rows run in bounded memory.
+     *
+     * @return the number of objects imported
+     */
+    <T> int fromExcel(InputStream in, WorksheetSpec worksheetSpec, int batchSize, Consumer<List<T>> batchHandler)
+            throws ExcelServiceDefault.Exception;
+
     public static class Exception extends RecoverableException {
 
         private static final long serialVersionUID = 1L;
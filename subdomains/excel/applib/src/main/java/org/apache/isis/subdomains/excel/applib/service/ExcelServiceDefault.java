@@ -21,7 +21,10 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -108,6 +111,33 @@ public Blob toExcel(
         return helper.toExcel(worksheetContents, fileName, in);
     }
 
+    @Override
+    public <T> void toExcel(
+            final Iterable<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) throws ExcelServiceDefault.Exception {
+        helper.toExcel(domainObjects, cls, sheetName, out);
+    }
+
+    @Override
+    public <T> void toExcel(
+            final Stream<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) throws ExcelServiceDefault.Exception {
+        helper.toExcel(domainObjects::iterator, cls, sheetName, out);
+    }
+
+    @Override
+    public <T> Blob toExcel(
+            final Stream<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final String fileName) throws ExcelServiceDefault.Exception {
+        return helper.toExcel(domainObjects, cls, sheetName, fileName);
+    }
+
     @Override
     public <T> Blob toExcelPivot(
             final List<T> domainObjects,
@@ -208,6 +238,29 @@ public List<List<?>> fromExcel(
         return fromExcel(excelBlob, worksheetSpecs);
     }
 
+    @Override
+    public <T> Stream<T> streamExcel(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec) throws ExcelServiceDefault.Exception {
+        return helper.streamExcel(in, worksheetSpec);
+    }
+
+    @Override
+    public <T> Stream<T> streamExcel(
+            final Blob excelBlob,
+            final WorksheetSpec worksheetSpec) throws ExcelServiceDefault.Exception {
+        return helper.streamExcel(new ByteArrayInputStream(excelBlob.getBytes()), worksheetSpec);
+    }
+
+    @Override
+    public <T> int fromExcel(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final int batchSize,
+            final Consumer<List<T>> batchHandler) throws ExcelServiceDefault.Exception {
+        return helper.fromExcel(in, worksheetSpec, batchSize, batchHandler);
+    }
+
     @Inject private ServiceInjector serviceInjector;
 
 }
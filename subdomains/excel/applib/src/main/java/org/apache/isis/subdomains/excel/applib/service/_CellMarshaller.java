@@ -52,6 +52,9 @@
     private final CellStyle defaultCellStyle;
     private final BookmarkService bookmarkService;
 
+    // created lazily, shared by all multi-line cells; creating one per cell would soon exceed the workbook's limit
+    private CellStyle wrappedCellStyle;
+
     _CellMarshaller(
             final BookmarkService bookmarkService,
             final CellStyle dateCellStyle,
@@ -240,12 +243,14 @@ private boolean setCellValue(final Cell cell, final Object valueAsObj) {
         return false;
     }
 
-    private static void setCellValueForString(final Cell cell, final String objectAsStr, final CellStyle cellStyle) {
+    private void setCellValueForString(final Cell cell, final String objectAsStr, final CellStyle cellStyle) {
         // char 10 is for linebreak within a cell; to display correctly wrap text needs to be set to true
         if (objectAsStr.contains(Character.toString((char)10))) {
-            CellStyle wrappedCellStyle = cell.getSheet().getWorkbook().createCellStyle();
-            wrappedCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
-            wrappedCellStyle.setWrapText(true);
+            if(wrappedCellStyle == null) {
+                wrappedCellStyle = cell.getSheet().getWorkbook().createCellStyle();
+                wrappedCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
+                wrappedCellStyle.setWrapText(true);
+            }
             cell.setCellStyle(wrappedCellStyle);
         } else {
             cell.setCellStyle(cellStyle);
@@ -297,11 +302,11 @@ private static void setCellValueForDate(final Cell cell, final Date date, final
         cell.setCellStyle(dateCellStyle);
     }
 
-    String getStringCellValue(final Cell cell) {
+    String getStringCellValue(final _ReadableCell cell) {
         return getCellValue(cell, String.class);
     }
 
-    Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
+    Object getCellValue(final _ReadableCell cell, final OneToOneAssociation otoa) {
 
         final CellType cellType = cell.getCellType();
 
@@ -326,7 +331,7 @@ Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
+    private <T> T getCellValue(final _ReadableCell cell, final Class<T> requiredType) {
         final CellType cellType = cell.getCellType();
 
         if(requiredType == boolean.class || requiredType == Boolean.class) {
@@ -483,16 +488,11 @@ private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
     }
 
 
-    private Object getCellComment(final Cell cell, final Class<?> requiredType) {
-        final Comment comment = cell.getCellComment();
-        if(comment == null) {
-            return null;
-        }
-        final RichTextString commentRts = comment.getString();
-        if(commentRts == null) {
+    private Object getCellComment(final _ReadableCell cell, final Class<?> requiredType) {
+        final String bookmarkStr = cell.getCommentText();
+        if(bookmarkStr == null) {
             return null;
         }
-        final String bookmarkStr = commentRts.getString();
         final Bookmark bookmark = Bookmark.parse(bookmarkStr).orElse(null);
         return bookmarkService.lookup(bookmark, requiredType).orElse(null);
     }
@@ -22,16 +22,19 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -44,6 +47,7 @@
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.apache.isis.applib.annotation.Where;
@@ -149,16 +153,49 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
         return tempFile;
     }
 
+    /**
+     * Writes a single sheet of the domain objects to the output stream, using a {@link SXSSFWorkbook} so that
+     * only a window of {@code rowAccessWindowSize} rows is held in memory at any time; rows already written are
+     * flushed to a temporary file.
+     *
+     * <p>
+     *     The domain objects are adapted one at a time as their row is written, so they too can be provided lazily
+     *     (for example as a stream over a query result).  Note though that the comments holding the bookmarks of
+     *     any referenced objects are not part of the window, and so are retained until the workbook is written.
+     * </p>
+     */
+    void writeSheet(
+            final Iterable<?> domainObjects,
+            final WorksheetSpec spec,
+            final int rowAccessWindowSize,
+            final boolean compressTempFiles,
+            final OutputStream out) throws IOException {
+
+        final String sheetName = spec.getSheetName();
+        if(sheetName.length() > 30) {
+            throw new IllegalArgumentException(
+                    String.format("Sheet name cannot exceed 30 characters (invalid name: '%s')",
+                            sheetName));
+        }
+
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindowSize);
+        workbook.setCompressTempFiles(compressTempFiles);
+        try {
+            appendSheet(workbook, domainObjects, spec.getFactory(), sheetName);
+            workbook.write(out);
+        } finally {
+            // deletes the temporary files backing the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
-            final List<?> domainObjects,
+            final Workbook workbook,
+            final Iterable<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
 
-        final List<ManagedObject> adapters = domainObjects.stream()
-                .map(objectManager::adapt)
-                .collect(Collectors.toList());
-
         final List<OneToOneAssociation> propertyList = _Lists.newArrayList();
 
         specificationLoader.specForType(factory.getCls())
@@ -173,7 +210,7 @@ private Sheet appendSheet(
                     .forEach(annotatedAsHyperlink::add);
         }
 
-        final Sheet sheet = ((Workbook) workbook).createSheet(sheetName);
+        final Sheet sheet = workbook.createSheet(sheetName);
 
         final RowFactory rowFactory = new RowFactory(sheet);
         final Row headerRow = rowFactory.newRow();
@@ -188,8 +225,9 @@ private Sheet appendSheet(
 
         final _CellMarshaller cellMarshaller = newCellMarshaller(workbook);
 
-        // detail rows
-        for (final ManagedObject objectAdapter : adapters) {
+        // detail rows, adapting each domain object only as its row is written
+        for (final Object domainObject : domainObjects) {
+            final ManagedObject objectAdapter = objectManager.adapt(domainObject);
             final Row detailRow = rowFactory.newRow();
             i = 0;
             for (val property : propertyList) {
@@ -394,28 +432,84 @@ private <T> List<T> fromWorkbook(
             final Workbook workbook,
             final WorksheetSpec worksheetSpec) {
 
-        final WorksheetSpec.RowFactory<Object> factory = worksheetSpec.getFactory();
-        this.serviceInjector.injectServicesInto(factory);
-
-        final Class<T> cls = _Casts.uncheckedCast(factory.getCls());
-        final String sheetName = worksheetSpec.getSheetName();
-        final Mode mode = worksheetSpec.getMode();
+        final RowConverter<T> rowConverter = new RowConverter<>(worksheetSpec, newCellMarshaller(workbook));
 
         final List<T> importedItems = _Lists.newArrayList();
 
-        final _CellMarshaller cellMarshaller = this.newCellMarshaller(workbook);
+        final Sheet sheet = lookupSheet(rowConverter.cls, worksheetSpec.getSheetName(), workbook);
 
-        final Sheet sheet = lookupSheet(cls, sheetName, workbook);
-
-        boolean header = true;
-        final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
+        for (final Row row : sheet) {
+            final List<_ReadableCell> cells = _Lists.newArrayList();
+            for (final Cell cell : row) {
+                cells.add(_ReadableCell.of(cell));
+            }
+            rowConverter.convert(row.getRowNum(), cells)
+            .ifPresent(importedItems::add);
+        }
+        return importedItems;
+    }
 
-        final ObjectSpecification objectSpec = specificationLoader.specForType(cls).orElse(null);
+    /**
+     * As {@link #fromBytes(byte[], WorksheetSpec)}, but reading the sheet's rows one at a time (using
+     * {@link _SheetReader}) rather than loading the workbook, and converting each as the stream is consumed.
+     *
+     * <p>
+     *     The returned stream must be closed, to release the underlying file.
+     * </p>
+     */
+    <T> Stream<T> streamFromFile(
+            final File file,
+            final WorksheetSpec worksheetSpec) throws IOException {
+
+        // reading only, so no cell styles are required
+        final RowConverter<T> rowConverter = new RowConverter<>(
+                worksheetSpec, new _CellMarshaller(bookmarkService, null, null));
+
+        final _SheetReader sheetReader = _SheetReader.open(
+                file, determineCandidateSheetNames(worksheetSpec.getSheetName(), rowConverter.cls));
+
+        return sheetReader.streamRows()
+                .map(row->rowConverter.convert(row.getRowNum(), row.getCells()))
+                .flatMap(Optional::stream)
+                .onClose(()->{
+                    try {
+                        sheetReader.close();
+                    } catch (IOException e) {
+                        throw new ExcelServiceDefault.Exception(e);
+                    }
+                });
+    }
 
-        T previousRow = null;
-        for (final Row row : sheet) {
+    /**
+     * Converts the rows of a sheet, in order: the first into the mapping of columns to properties, each subsequent
+     * (non-blank) one into a new domain object.
+     */
+    private class RowConverter<T> {
+
+        private final WorksheetSpec.RowFactory<Object> factory;
+        private final Class<T> cls;
+        private final String sheetName;
+        private final Mode mode;
+        private final _CellMarshaller cellMarshaller;
+        private final ObjectSpecification objectSpec;
+        private final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
+
+        private boolean header = true;
+        private T previousRow = null;
+
+        RowConverter(final WorksheetSpec worksheetSpec, final _CellMarshaller cellMarshaller) {
+            this.factory = worksheetSpec.getFactory();
+            serviceInjector.injectServicesInto(factory);
+            this.cls = _Casts.uncheckedCast(factory.getCls());
+            this.sheetName = worksheetSpec.getSheetName();
+            this.mode = worksheetSpec.getMode();
+            this.cellMarshaller = cellMarshaller;
+            this.objectSpec = specificationLoader.specForType(cls).orElse(null);
+        }
+
+        Optional<T> convert(final int rowNum, final Iterable<_ReadableCell> cells) {
             if (header) {
-                for (final Cell cell : row) {
+                for (final _ReadableCell cell : cells) {
 
                     try{
                         if (cell.getCellType() != CellType.BLANK) {
@@ -433,91 +527,89 @@ private <T> List<T> fromWorkbook(
                         case RELAXED:
                             // ignore
                         default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
                         }
                     }
 
                 }
                 header = false;
-            } else {
-                // detail
-
-                // Let's require at least one column to be not null for detecting a blank row.
-                // Excel can have physical rows with cells empty that it seem do not existent for the user.
-                ManagedObject templateAdapter = null;
-                T imported = null;
-                for (final Cell cell : row) {
-
-                    try {
+                return Optional.empty();
+            }
 
-                        final int columnIndex = cell.getColumnIndex();
-                        final Property property = propertyByColumn.get(columnIndex);
-                        if (property != null) {
-                            final OneToOneAssociation otoa = property.getOneToOneAssociation();
-                            final Object value = cellMarshaller.getCellValue(cell, otoa);
-                            if (value != null) {
-                                if (imported == null) {
-                                    // copy the row into a new object
-                                    imported = _Casts.uncheckedCast(factory.create());
-                                    // set excel metadata if applicable
-                                    if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
-                                        ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
-                                        importedEnhanced.setExcelRowNumber(row.getRowNum());
-                                        importedEnhanced.setExcelSheetName(sheetName);
-                                        imported = _Casts.uncheckedCast(importedEnhanced);
-                                    }
-                                    templateAdapter = this.objectManager.adapt(imported);
+            // detail
+
+            // Let's require at least one column to be not null for detecting a blank row.
+            // Excel can have physical rows with cells empty that it seem do not existent for the user.
+            ManagedObject templateAdapter = null;
+            T imported = null;
+            for (final _ReadableCell cell : cells) {
+
+                try {
+
+                    final int columnIndex = cell.getColumnIndex();
+                    final Property property = propertyByColumn.get(columnIndex);
+                    if (property != null) {
+                        final OneToOneAssociation otoa = property.getOneToOneAssociation();
+                        final Object value = cellMarshaller.getCellValue(cell, otoa);
+                        if (value != null) {
+                            if (imported == null) {
+                                // copy the row into a new object
+                                imported = _Casts.uncheckedCast(factory.create());
+                                // set excel metadata if applicable
+                                if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
+                                    ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
+                                    importedEnhanced.setExcelRowNumber(rowNum);
+                                    importedEnhanced.setExcelSheetName(sheetName);
+                                    imported = _Casts.uncheckedCast(importedEnhanced);
                                 }
-                                final ManagedObject valueAdapter = this.objectManager.adapt(value);
-                                otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
+                                templateAdapter = objectManager.adapt(imported);
                             }
-                        } else {
-                            // not expected; just ignore.
-                        }
-
-                    } catch (final Exception e) {
-                        switch (mode) {
-                        case RELAXED:
-                            // ignore
-                            break;
-                        default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
-
+                            final ManagedObject valueAdapter = objectManager.adapt(value);
+                            otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
                         }
+                    } else {
+                        // not expected; just ignore.
                     }
-                }
 
-                //
-                // TODO: v2: to review... there is no longer an API to remove adapters.
-                //  However, my hope is that it isn't needed, because we no longer maintain an oid <-> adapter map.
-                //
-//                // we need to remove the templateAdapter because earlier on we will have created an adapter (and corresponding OID)
-//                // for a view model where the OID is initially computed on the incomplete (in fact, empty) view model.
-//                // removing the adapter therefore removes the OID as well, so next time an adapter is needed for the view model
-//                // the OID will be recomputed based on the fully populated view model pojo.
-//                if(templateAdapter != null) {
-//                    this.objectManager.removeAdapter(templateAdapter);
-//                }
-
-                if (imported != null) {
-                    importedItems.add(imported);
-
-                    if(imported instanceof RowHandler) {
-                        val rowHandler = (RowHandler<?>) imported;
-                        val rowHandlerPrev = (RowHandler<?>) previousRow;
-
-                        rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
-                    }
+                } catch (final Exception e) {
+                    switch (mode) {
+                    case RELAXED:
+                        // ignore
+                        break;
+                    default:
+                        throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
 
-                    previousRow = imported;
+                    }
                 }
+            }
 
+            //
+            // TODO: v2: to review... there is no longer an API to remove adapters.
+            //  However, my hope is that it isn't needed, because we no longer maintain an oid <-> adapter map.
+            //
+//            // we need to remove the templateAdapter because earlier on we will have created an adapter (and corresponding OID)
+//            // for a view model where the OID is initially computed on the incomplete (in fact, empty) view model.
+//            // removing the adapter therefore removes the OID as well, so next time an adapter is needed for the view model
+//            // the OID will be recomputed based on the fully populated view model pojo.
+//            if(templateAdapter != null) {
+//                this.objectManager.removeAdapter(templateAdapter);
+//            }
+
+            if (imported == null) {
+                return Optional.empty();
             }
 
+            if(imported instanceof RowHandler) {
+                val rowHandler = (RowHandler<?>) imported;
+                val rowHandlerPrev = (RowHandler<?>) previousRow;
 
+                rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
+            }
 
+            previousRow = imported;
+            return Optional.of(imported);
         }
-        return importedItems;
+
     }
 
     protected <T> Sheet lookupSheet(final Class<T> cls, final String sheetName, final Workbook workbook) {
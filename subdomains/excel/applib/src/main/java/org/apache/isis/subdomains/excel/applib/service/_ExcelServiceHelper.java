@@ -19,10 +19,18 @@
 package org.apache.isis.subdomains.excel.applib.service;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -31,6 +39,8 @@
 import org.apache.isis.applib.services.inject.ServiceInjector;
 import org.apache.isis.applib.value.Blob;
 import org.apache.isis.commons.internal.base._Casts;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.subdomains.excel.applib.dom.PivotColumn;
@@ -41,6 +51,7 @@
 import org.apache.isis.subdomains.excel.applib.util.ExcelFileBlobConverter;
 
 import lombok.SneakyThrows;
+import lombok.val;
 
 class _ExcelServiceHelper {
 
@@ -124,6 +135,59 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
         }
     }
 
+    /**
+     * As {@link #toExcel(List, Class, String, String)}, but streaming the single-sheet spreadsheet to the provided
+     * output stream, holding only a (configurable) window of rows in memory.  Intended for large exports.
+     *
+     * @param sheetName - must be 30 chars or less
+     * @param out - not closed by this method
+     */
+    <T> void toExcel(
+            final Iterable<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final OutputStream out) {
+        val streaming = isisConfiguration.getSubdomains().getExcel().getStreaming();
+        try {
+            newExcelConverter().writeSheet(
+                    domainObjects,
+                    new WorksheetSpec(cls, sheetName),
+                    streaming.getRowAccessWindowSize(),
+                    streaming.isCompressTempFiles(),
+                    out);
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        }
+    }
+
+    /**
+     * As {@link #toExcel(Iterable, Class, String, OutputStream)}, but writing to a temporary file from which the
+     * returned Blob is created; only the (compressed) spreadsheet is ever held in memory, not its rows.
+     *
+     * @param sheetName - must be 30 chars or less
+     */
+    <T> Blob toExcel(
+            final Stream<T> domainObjects,
+            final Class<T> cls,
+            final String sheetName,
+            final String fileName) {
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile(
+                    _ExcelServiceHelper.class.getName(), UUID.randomUUID().toString() + ".xlsx");
+            try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
+                toExcel(domainObjects::iterator, cls, sheetName, fos);
+            }
+            return excelFileBlobConverter.toBlob(fileName, tempFile);
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        } finally {
+            if(tempFile != null) {
+                tempFile.delete();
+            }
+        }
+    }
+
     /**
      * Creates a Blob holding a single-sheet spreadsheet with a pivot of the domain objects. The sheet name is derived from the
      * class name.
@@ -222,6 +286,72 @@ List<List<?>> fromExcel(
         }
     }
 
+    /**
+     * As {@link #fromExcel(Blob, WorksheetSpec)}, but reading the rows one at a time from the sheet's XML rather than
+     * loading the workbook, and creating each object only as the returned stream is consumed.
+     *
+     * <p>
+     *     The input is first copied to a temporary file, deleted once the returned stream is closed.
+     * </p>
+     *
+     * @param in - not closed by this method
+     */
+    <T> Stream<T> streamExcel(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec) throws ExcelServiceDefault.Exception {
+        File tempFile = null;
+        boolean streaming = false;
+        try {
+            tempFile = File.createTempFile(
+                    _ExcelServiceHelper.class.getName(), UUID.randomUUID().toString() + ".xlsx");
+            Files.copy(in, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            final File file = tempFile;
+            final Stream<T> stream = newExcelConverter().<T>streamFromFile(file, worksheetSpec)
+                    .onClose(file::delete);
+            streaming = true;
+            return stream;
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        } finally {
+            if(!streaming && tempFile != null) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * As {@link #streamExcel(InputStream, WorksheetSpec)}, but passing the objects to the handler in batches of
+     * (at most) <code>batchSize</code>.
+     *
+     * @return the number of objects imported
+     */
+    <T> int fromExcel(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final int batchSize,
+            final Consumer<List<T>> batchHandler) throws ExcelServiceDefault.Exception {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Batch size must be positive (invalid size: %d)", batchSize));
+        }
+        int count = 0;
+        List<T> batch = _Lists.newArrayList();
+        try(final Stream<T> stream = streamExcel(in, worksheetSpec)) {
+            for (final Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+                batch.add(iterator.next());
+                count++;
+                if(batch.size() == batchSize) {
+                    batchHandler.accept(batch);
+                    batch = _Lists.newArrayList();
+                }
+            }
+        }
+        if(!batch.isEmpty()) {
+            batchHandler.accept(batch);
+        }
+        return count;
+    }
+
     // -- HELPER
 
     @SneakyThrows
@@ -243,4 +373,7 @@ private _ExcelConverter newExcelConverter() {
     @javax.inject.Inject
     ObjectManager objectManager;
 
+    @javax.inject.Inject
+    IsisConfiguration isisConfiguration;
+
 }
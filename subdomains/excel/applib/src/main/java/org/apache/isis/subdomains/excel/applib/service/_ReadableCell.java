@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.subdomains.excel.applib.service;
+
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.springframework.lang.Nullable;
+
+/**
+ * The read-only subset of a spreadsheet cell used when importing, so that rows can be converted the same way
+ * whether read from a fully loaded {@link Cell} or streamed from the sheet's XML by {@link _SheetReader}.
+ */
+interface _ReadableCell {
+
+    int getColumnIndex();
+
+    CellType getCellType();
+
+    boolean getBooleanCellValue();
+
+    String getStringCellValue();
+
+    double getNumericCellValue();
+
+    Date getDateCellValue();
+
+    /**
+     * The text of the cell's comment, if any.
+     */
+    @Nullable String getCommentText();
+
+    // -- FACTORIES
+
+    static _ReadableCell of(final Cell cell) {
+        return new _ReadableCell() {
+
+            @Override public int getColumnIndex() { return cell.getColumnIndex(); }
+            @Override public CellType getCellType() { return cell.getCellType(); }
+            @Override public boolean getBooleanCellValue() { return cell.getBooleanCellValue(); }
+            @Override public String getStringCellValue() { return cell.getStringCellValue(); }
+            @Override public double getNumericCellValue() { return cell.getNumericCellValue(); }
+            @Override public Date getDateCellValue() { return cell.getDateCellValue(); }
+
+            @Override
+            public String getCommentText() {
+                final Comment comment = cell.getCellComment();
+                if(comment == null) {
+                    return null;
+                }
+                final RichTextString commentRts = comment.getString();
+                return commentRts != null
+                        ? commentRts.getString()
+                        : null;
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,465 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.subdomains.excel.applib.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.Comments;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.lang.Nullable;
+import org.xml.sax.SAXException;
+
+import org.apache.isis.commons.internal.collections._Lists;
+
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Reads the rows of a single sheet of an <code>.xlsx</code> file one at a time, pulling them from the sheet's XML
+ * rather than loading the workbook's object model; only the shared strings table and the sheet's comments are
+ * held in memory.
+ */
+final class _SheetReader implements AutoCloseable {
+
+    @Value
+    static class SheetRow {
+        /** zero-based, as per {@link org.apache.poi.ss.usermodel.Row#getRowNum()} */
+        int rowNum;
+        List<_ReadableCell> cells;
+    }
+
+    private final OPCPackage opcPackage;
+    private final SharedStrings sharedStrings;
+    private final @Nullable Comments comments;
+    private final boolean date1904;
+    private final InputStream sheetData;
+    private final XMLStreamReader xml;
+
+    private int previousRowNum = -1;
+
+    /**
+     * Opens the first sheet found with any of the given names, in the order provided.
+     */
+    static _SheetReader open(final File file, final List<String> sheetNames) throws IOException {
+        final OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+        try {
+            return new _SheetReader(opcPackage, sheetNames);
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            opcPackage.revert();
+            throw new IOException(e);
+        } catch (IOException | RuntimeException e) {
+            opcPackage.revert();
+            throw e;
+        }
+    }
+
+    private _SheetReader(final OPCPackage opcPackage, final List<String> sheetNames)
+            throws IOException, OpenXML4JException, SAXException, XMLStreamException {
+
+        this.opcPackage = opcPackage;
+
+        val reader = new XSSFReader(opcPackage);
+        this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+        this.date1904 = isDate1904(reader.getWorkbookData());
+
+        final String sheetName = lookupSheetName(reader, sheetNames);
+
+        // the iterator only provides the comments of the sheet it is positioned at
+        val sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        PackagePart sheetPart = null;
+        Comments sheetComments = null;
+        while(sheets.hasNext()) {
+            try(final InputStream unused = sheets.next()) {
+                if(sheetName.equals(sheets.getSheetName())) {
+                    sheetPart = sheets.getSheetPart();
+                    sheetComments = sheets.getSheetComments();
+                    break;
+                }
+            }
+        }
+        this.comments = sheetComments;
+        this.sheetData = sheetPart.getInputStream();
+        this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetData);
+    }
+
+    /**
+     * Streams the (physical) rows of the sheet, in order; the stream is single-use and lazily populated.
+     */
+    Stream<SheetRow> streamRows() {
+        val iterator = new Iterator<SheetRow>() {
+
+            private SheetRow next;
+
+            @Override
+            public boolean hasNext() {
+                if(next == null) {
+                    next = readRow();
+                }
+                return next != null;
+            }
+
+            @Override
+            public SheetRow next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                val row = next;
+                next = null;
+                return row;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            try {
+                sheetData.close();
+            } finally {
+                // read-only, so nothing to save
+                opcPackage.revert();
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private @Nullable SheetRow readRow() {
+        try {
+            while(xml.hasNext()) {
+                if(xml.next() == XMLStreamConstants.START_ELEMENT
+                        && "row".equals(xml.getLocalName())) {
+                    return readRowElement();
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        }
+    }
+
+    private SheetRow readRowElement() throws XMLStreamException {
+        val rowRef = xml.getAttributeValue(null, "r");
+        final int rowNum = rowRef != null
+                ? Integer.parseInt(rowRef) - 1
+                : previousRowNum + 1;
+        previousRowNum = rowNum;
+
+        final List<_ReadableCell> cells = _Lists.newArrayList();
+        int previousColumnIndex = -1;
+        while(xml.hasNext()) {
+            final int event = xml.next();
+            if(event == XMLStreamConstants.START_ELEMENT
+                    && "c".equals(xml.getLocalName())) {
+                val cell = readCellElement(rowNum, previousColumnIndex + 1);
+                previousColumnIndex = cell.getColumnIndex();
+                cells.add(cell);
+            } else if(event == XMLStreamConstants.END_ELEMENT
+                    && "row".equals(xml.getLocalName())) {
+                break;
+            }
+        }
+        return new SheetRow(rowNum, cells);
+    }
+
+    private XmlCell readCellElement(final int rowNum, final int defaultColumnIndex) throws XMLStreamException {
+        val cellRef = xml.getAttributeValue(null, "r");
+        final int columnIndex = cellRef != null
+                ? new CellReference(cellRef).getCol()
+                : defaultColumnIndex;
+        val type = xml.getAttributeValue(null, "t");
+
+        String value = null;
+        StringBuilder inlineText = null;
+        boolean formula = false;
+
+        while(xml.hasNext()) {
+            final int event = xml.next();
+            if(event == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                case "v":
+                    value = xml.getElementText();
+                    break;
+                case "f":
+                    formula = true;
+                    xml.getElementText();
+                    break;
+                case "t": // within <is>, possibly within rich text runs <r>
+                    if(inlineText == null) {
+                        inlineText = new StringBuilder();
+                    }
+                    inlineText.append(xml.getElementText());
+                    break;
+                case "rPh": // phonetic runs are not part of the value
+                    skipElement();
+                    break;
+                default:
+                    break;
+                }
+            } else if(event == XMLStreamConstants.END_ELEMENT
+                    && "c".equals(xml.getLocalName())) {
+                break;
+            }
+        }
+        return new XmlCell(rowNum, columnIndex, type, value,
+                inlineText != null ? inlineText.toString() : null, formula);
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while(depth > 0 && xml.hasNext()) {
+            final int event = xml.next();
+            if(event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if(event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static String lookupSheetName(final XSSFReader reader, final List<String> sheetNames)
+            throws IOException, OpenXML4JException {
+        final List<String> available = _Lists.newArrayList();
+        val sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while(sheets.hasNext()) {
+            try(final InputStream unused = sheets.next()) {
+                available.add(sheets.getSheetName());
+            }
+        }
+        for (String sheetName : sheetNames) {
+            if(available.contains(sheetName)) {
+                return sheetName;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Could not locate sheet named any of: '%s'", sheetNames));
+    }
+
+    private static boolean isDate1904(final InputStream workbookData) throws IOException, XMLStreamException {
+        try(final InputStream in = workbookData) {
+            val xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(in);
+            try {
+                while(xml.hasNext()) {
+                    if(xml.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    switch (xml.getLocalName()) {
+                    case "workbookPr":
+                        val date1904 = xml.getAttributeValue(null, "date1904");
+                        return "1".equals(date1904) || "true".equalsIgnoreCase(date1904);
+                    case "sheets": // workbookPr, if present, precedes the sheets
+                        return false;
+                    default:
+                        break;
+                    }
+                }
+                return false;
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+    /**
+     * A cell as read from the sheet's XML, mirroring how a loaded {@link org.apache.poi.ss.usermodel.Cell}
+     * reports its type and values (formula cells included).
+     */
+    private final class XmlCell implements _ReadableCell {
+
+        private final int rowNum;
+        private final int columnIndex;
+        private final CellType valueType;
+        private final boolean formula;
+        private final @Nullable String value;
+        private final @Nullable String inlineText;
+        private final @Nullable String type;
+
+        XmlCell(
+                final int rowNum,
+                final int columnIndex,
+                final @Nullable String type,
+                final @Nullable String value,
+                final @Nullable String inlineText,
+                final boolean formula) {
+            this.rowNum = rowNum;
+            this.columnIndex = columnIndex;
+            this.type = type;
+            this.value = value;
+            this.inlineText = inlineText;
+            this.formula = formula;
+            this.valueType = valueTypeFor(type, value, inlineText);
+        }
+
+        @Override
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        @Override
+        public CellType getCellType() {
+            return formula
+                    ? CellType.FORMULA
+                    : valueType;
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            switch (valueType) {
+            case BLANK:
+                return false;
+            case BOOLEAN:
+                return "1".equals(value) || "true".equalsIgnoreCase(value);
+            default:
+                throw typeMismatch(CellType.BOOLEAN);
+            }
+        }
+
+        @Override
+        public String getStringCellValue() {
+            switch (valueType) {
+            case BLANK:
+                return "";
+            case STRING:
+                if("s".equals(type)) {
+                    return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+                }
+                return "inlineStr".equals(type)
+                        ? inlineText
+                        : value;
+            default:
+                throw typeMismatch(CellType.STRING);
+            }
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            switch (valueType) {
+            case BLANK:
+                return 0.0;
+            case NUMERIC:
+                return Double.parseDouble(value);
+            default:
+                throw typeMismatch(CellType.NUMERIC);
+            }
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            switch (valueType) {
+            case BLANK:
+                return null;
+            case NUMERIC:
+                return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+            default:
+                throw typeMismatch(CellType.NUMERIC);
+            }
+        }
+
+        @Override
+        public String getCommentText() {
+            if(comments == null) {
+                return null;
+            }
+            final XSSFComment comment = comments.findCellComment(new CellAddress(rowNum, columnIndex));
+            if(comment == null) {
+                return null;
+            }
+            final RichTextString commentRts = comment.getString();
+            return commentRts != null
+                    ? commentRts.getString()
+                    : null;
+        }
+
+        private IllegalStateException typeMismatch(final CellType requested) {
+            return new IllegalStateException(
+                    String.format("Cannot get a %s value from a %s cell", requested, valueType));
+        }
+
+        private CellType valueTypeFor(
+                final @Nullable String type,
+                final @Nullable String value,
+                final @Nullable String inlineText) {
+            if(type == null) {
+                return value != null
+                        ? CellType.NUMERIC
+                        : CellType.BLANK;
+            }
+            switch (type) {
+            case "s":
+            case "str":
+                return value != null
+                        ? CellType.STRING
+                        : CellType.BLANK;
+            case "inlineStr":
+                return inlineText != null
+                        ? CellType.STRING
+                        : CellType.BLANK;
+            case "b":
+                return CellType.BOOLEAN;
+            case "e":
+                return CellType.ERROR;
+            case "n":
+            default:
+                return value != null
+                        ? CellType.NUMERIC
+                        : CellType.BLANK;
+            }
+        }
+
+    }
+
+}
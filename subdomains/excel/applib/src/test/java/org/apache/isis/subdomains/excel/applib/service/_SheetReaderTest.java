@@ -0,0 +1,151 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.subdomains.excel.applib.service;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.Drawing;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import lombok.val;
+
+public class _SheetReaderTest {
+
+    private File file;
+    private Date date;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile(_SheetReaderTest.class.getName(), ".xlsx");
+        date = new Date(1_600_000_000_000L);
+
+        try(val workbook = new XSSFWorkbook()) {
+            workbook.createSheet("Other").createRow(0).createCell(0).setCellValue("not this one");
+
+            final XSSFSheet sheet = workbook.createSheet("Items");
+            final Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("amount");
+            header.createCell(2).setCellValue("done");
+            header.createCell(3).setCellValue("due");
+            header.createCell(5).setCellValue("total");
+
+            final Row detail = sheet.createRow(1);
+            detail.createCell(0).setCellValue("Buy milk");
+            detail.createCell(1).setCellValue(2.5);
+            detail.createCell(2).setCellValue(true);
+            detail.createCell(3).setCellValue(date);
+            detail.createCell(4).setBlank();
+            detail.createCell(5).setCellFormula("B2*2");
+
+            // a gap, and then a row with a comment
+            final Row withComment = sheet.createRow(3);
+            final Cell commented = withComment.createCell(0);
+            commented.setCellValue("Referenced");
+            final Drawing<?> drawing = sheet.createDrawingPatriarch();
+            final ClientAnchor anchor = workbook.getCreationHelper().createClientAnchor();
+            anchor.setCol1(0); anchor.setCol2(1); anchor.setRow1(3); anchor.setRow2(6);
+            final Comment comment = drawing.createCellComment(anchor);
+            comment.setString(workbook.getCreationHelper().createRichTextString("demo.Item:42"));
+            commented.setCellComment(comment);
+
+            try(val fos = new FileOutputStream(file)) {
+                workbook.write(fos);
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void reads_rows_and_cells_as_per_the_loaded_workbook() throws IOException {
+
+        // when
+        final List<_SheetReader.SheetRow> rows;
+        try(val sheetReader = _SheetReader.open(file, Arrays.asList("Missing", "Items"))) {
+            rows = sheetReader.streamRows().collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(rows).extracting(_SheetReader.SheetRow::getRowNum).containsExactly(0, 1, 3);
+
+        val header = rows.get(0).getCells();
+        assertThat(header).extracting(_ReadableCell::getColumnIndex).containsExactly(0, 1, 2, 3, 5);
+        assertThat(header).extracting(_ReadableCell::getStringCellValue)
+            .containsExactly("name", "amount", "done", "due", "total");
+
+        val detail = rows.get(1).getCells();
+        assertThat(detail.get(0).getCellType()).isEqualTo(CellType.STRING);
+        assertThat(detail.get(0).getStringCellValue()).isEqualTo("Buy milk");
+        assertThat(detail.get(1).getCellType()).isEqualTo(CellType.NUMERIC);
+        assertThat(detail.get(1).getNumericCellValue()).isEqualTo(2.5);
+        assertThat(detail.get(2).getCellType()).isEqualTo(CellType.BOOLEAN);
+        assertThat(detail.get(2).getBooleanCellValue()).isTrue();
+        assertThat(detail.get(3).getDateCellValue()).isEqualTo(date);
+        assertThat(detail.get(4).getCellType()).isEqualTo(CellType.BLANK);
+        assertThat(detail.get(5).getCellType()).isEqualTo(CellType.FORMULA);
+        assertThat(detail.get(0).getCommentText()).isNull();
+
+        val withComment = rows.get(2).getCells();
+        assertThat(withComment.get(0).getStringCellValue()).isEqualTo("Referenced");
+        assertThat(withComment.get(0).getCommentText()).isEqualTo("demo.Item:42");
+    }
+
+    @Test
+    public void type_mismatch_is_reported_like_the_loaded_workbook() throws IOException {
+        try(val sheetReader = _SheetReader.open(file, Collections.singletonList("Items"))) {
+            val detail = sheetReader.streamRows().skip(1).findFirst().get().getCells();
+
+            assertThatThrownBy(()->detail.get(0).getNumericCellValue())
+                .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(()->detail.get(1).getStringCellValue())
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void fails_when_no_sheet_found() {
+        assertThatThrownBy(()->_SheetReader.open(file, Collections.singletonList("Missing")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Missing");
+    }
+
+}
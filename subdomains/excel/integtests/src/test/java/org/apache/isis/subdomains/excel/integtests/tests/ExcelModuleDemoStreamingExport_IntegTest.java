@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.subdomains.excel.integtests.tests;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.isis.subdomains.excel.applib.dom.ExcelService;
+import org.apache.isis.subdomains.excel.fixtures.demoapp.demomodule.dom.bulkupdate.BulkUpdateLineItemForDemoToDoItem;
+import org.apache.isis.subdomains.excel.fixtures.demoapp.todomodule.dom.Category;
+import org.apache.isis.subdomains.excel.integtests.ExcelModuleIntegTestAbstract;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Benchmarks the streaming export: the heap retained while exporting should not grow with the number of rows.
+ */
+@Log4j2
+public class ExcelModuleDemoStreamingExport_IntegTest extends ExcelModuleIntegTestAbstract {
+
+    private static final int SAMPLE_EVERY_ROWS = 10_000;
+    private static final long SLACK_BYTES = 16L * 1024 * 1024;
+
+    @Inject private ExcelService excelService;
+
+    @Test @Tag("LongRunning")
+    public void heap_stays_flat_as_row_count_grows() {
+
+        // given
+        exportAndMeasure(SAMPLE_EVERY_ROWS); // warm-up, so metamodel and class loading are not measured
+
+        // when
+        val retainedFor20k = exportAndMeasure(20_000);
+        val retainedFor200k = exportAndMeasure(200_000);
+
+        log.info("retained heap exporting 20k rows: {} kB, 200k rows: {} kB",
+                retainedFor20k / 1024, retainedFor200k / 1024);
+
+        // then ... ten times as many rows must not need (anything like) ten times as much heap
+        assertThat(retainedFor200k).isLessThan(2 * retainedFor20k + SLACK_BYTES);
+    }
+
+    // -- HELPER
+
+    /**
+     * Exports the given number of (lazily created) line items, returning the peak heap in use (after GC)
+     * over the baseline, sampled while the rows are being written.
+     */
+    private long exportAndMeasure(final int rowCount) {
+        val baseline = usedHeapAfterGc();
+        val peak = new long[] {0L};
+
+        val lineItems = IntStream.range(0, rowCount)
+                .peek(i->{
+                    if(i % SAMPLE_EVERY_ROWS == 0) {
+                        peak[0] = Math.max(peak[0], usedHeapAfterGc() - baseline);
+                    }
+                })
+                .mapToObj(ExcelModuleDemoStreamingExport_IntegTest::newLineItem);
+
+        excelService.toExcel(lineItems, BulkUpdateLineItemForDemoToDoItem.class, "lineItems",
+                OutputStream.nullOutputStream());
+
+        return peak[0];
+    }
+
+    private static BulkUpdateLineItemForDemoToDoItem newLineItem(final int i) {
+        val lineItem = new BulkUpdateLineItemForDemoToDoItem();
+        lineItem.setDescription("Item #" + i);
+        lineItem.setCategory(Category.values()[i % Category.values().length]);
+        lineItem.setOwnedBy("user" + (i % 100));
+        lineItem.setDueBy(LocalDate.of(2020, 1, 1).plusDays(i % 365));
+        lineItem.setComplete(i % 2 == 0);
+        lineItem.setCost(BigDecimal.valueOf(i, 2));
+        lineItem.setNotes("Notes for item #" + i);
+        return lineItem;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        val runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
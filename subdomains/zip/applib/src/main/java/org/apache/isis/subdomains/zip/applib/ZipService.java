@@ -1,7 +1,14 @@
 package org.apache.isis.subdomains.zip.applib;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.isis.applib.value.Blob;
 
 import lombok.Data;
 
@@ -26,16 +33,93 @@ public interface ZipService {
      */
     byte[] zipNamedBytes(List<BytesAndName> bytesAndNameList);
 
+    /**
+     * Writes a zip of the entries to the output stream, reading the content of each entry only as it is written;
+     * neither the archive nor the entries are held in memory.
+     *
+     * <p>
+     *     Does not close the output stream.
+     * </p>
+     */
+    void zip(Stream<? extends Entry> entries, OutputStream out);
+
+    /**
+     * As per {@link #zip(Stream, OutputStream)}, but with the content of up to <code>parallelism</code> entries
+     * produced concurrently (each buffered to a temporary file) ahead of being added to the archive, in order.
+     *
+     * <p>
+     *     Worthwhile when the entries' content is expensive to produce, for example generated documents.
+     * </p>
+     */
+    void zip(Stream<? extends Entry> entries, OutputStream out, int parallelism);
+
+    /**
+     * As per {@link #zip(Stream, OutputStream)}, but to a temporary file from which the returned {@link Blob} reads
+     * its bytes only on demand (see {@link Blob#ofFile(String, javax.activation.MimeType, File)}); the file is deleted
+     * once the {@link Blob} is no longer referenced.
+     */
+    Blob zipToBlob(String name, Stream<? extends Entry> entries);
+
+    /**
+     * Lazily reads the (non-directory) entries of a zip, as the returned stream is consumed.
+     *
+     * <p>
+     *     The content of each entry can only be read until the stream advances to the next entry.  The returned
+     *     stream should be closed, which also closes the input stream.
+     * </p>
+     */
+    Stream<StreamAndName> unzip(InputStream in);
+
+    /**
+     * An entry to be added to a zip.
+     */
+    public interface Entry {
+
+        /**
+         * The name of the zip entry.
+         */
+        String getName();
+
+        /**
+         * Writes the content of the zip entry; must not close the output stream.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     @Data
-    public static class FileAndName {
+    public static class FileAndName implements Entry {
         private final String name;
         private final File file;
+
+        @Override
+        public void writeTo(final OutputStream out) throws IOException {
+            Files.copy(file.toPath(), out);
+        }
     }
 
     @Data
-    public static class BytesAndName {
+    public static class BytesAndName implements Entry {
         private final String name;
         private final byte[] bytes;
+
+        @Override
+        public void writeTo(final OutputStream out) throws IOException {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * An entry read from a zip, or to be added to a zip, whose content is a stream.
+     */
+    @Data
+    public static class StreamAndName implements Entry {
+        private final String name;
+        private final InputStream stream;
+
+        @Override
+        public void writeTo(final OutputStream out) throws IOException {
+            stream.transferTo(out);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -20,11 +20,33 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 import javax.annotation.Priority;
@@ -35,7 +57,9 @@
 
 import org.apache.isis.applib.annotation.PriorityPrecedence;
 import org.apache.isis.applib.exceptions.UnrecoverableException;
-import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.applib.value.Blob;
+import org.apache.isis.applib.value.LobContentSource;
+import org.apache.isis.applib.value.NamedWithMimeType.CommonMimeType;
 import org.apache.isis.subdomains.zip.applib.ZipService;
 
 import lombok.val;
@@ -46,56 +70,225 @@
 @Qualifier("Default")
 public class ZipServiceDefault implements ZipService {
 
+    // deletes the temporary files backing the blobs created by zipToBlob, once their content source (shared by any
+    // Blob derived from it) is no longer referenced
+    private static final Cleaner TEMP_FILE_CLEANER = Cleaner.create();
+
     @Override
     public byte[] zipNamedFiles(final List<FileAndName> fileAndNameList) {
+        return toBytes(fileAndNameList.stream());
+    }
 
-        try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final ZipOutputStream zos = new ZipOutputStream(baos);
-
-            for (val fileAndName : fileAndNameList) {
-                zos.putNextEntry(new ZipEntry(fileAndName.getName()));
+    @Override
+    public byte[] zipFiles(final List<File> fileList) {
+        return zipNamedFiles(fileList.stream()
+                           .map(file -> new FileAndName(file.getName(), file))
+                           .collect(Collectors.toList())
+                );
+    }
 
-                try(val fis = new FileInputStream(fileAndName.getFile())){
-                    zos.write(_Bytes.of(fis));
-                }
+    @Override
+    public byte[] zipNamedBytes(final List<BytesAndName> bytesAndNameList) {
+        return toBytes(bytesAndNameList.stream());
+    }
 
+    @Override
+    public void zip(final Stream<? extends Entry> entries, final OutputStream out) {
+        // closing completes the archive and releases the deflater, without closing the underlying output stream
+        try(val zos = new ZipOutputStream(nonClosing(out))) {
+            for (final Iterator<? extends Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+                val entry = iterator.next();
+                zos.putNextEntry(new ZipEntry(entry.getName()));
+                entry.writeTo(zos);
                 zos.closeEntry();
             }
-            zos.close();
-            return baos.toByteArray();
         } catch (final IOException ex) {
             throw new UnrecoverableException("Unable to create zip", ex);
         }
     }
 
     @Override
-    public byte[] zipFiles(final List<File> fileList) {
-        return zipNamedFiles(fileList.stream()
-                           .map(file -> new FileAndName(file.getName(), file))
-                           .collect(Collectors.toList())
-                );
+    public void zip(final Stream<? extends Entry> entries, final OutputStream out, final int parallelism) {
+        if(parallelism <= 1) {
+            zip(entries, out);
+            return;
+        }
+
+        val threadCounter = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable->{
+            val thread = new Thread(runnable, "isis-zip-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // entries whose content is being (or has been) produced, in the order they are to be added
+        final Deque<Future<FileAndName>> pending = new ArrayDeque<>();
+        try(val zos = new ZipOutputStream(nonClosing(out))) {
+            for (final Iterator<? extends Entry> iterator = entries.iterator(); iterator.hasNext(); ) {
+                val entry = iterator.next();
+                pending.add(executor.submit(()->bufferToTempFile(entry)));
+                if(pending.size() >= parallelism) {
+                    addBuffered(zos, pending.poll());
+                }
+            }
+            while(!pending.isEmpty()) {
+                addBuffered(zos, pending.poll());
+            }
+        } catch (final IOException ex) {
+            throw new UnrecoverableException("Unable to create zip", ex);
+        } finally {
+            executor.shutdownNow();
+            pending.forEach(ZipServiceDefault::discard);
+        }
     }
 
     @Override
-    public byte[] zipNamedBytes(final List<BytesAndName> bytesAndNameList) {
-
-        final byte[] bytes;
+    public Blob zipToBlob(final String name, final Stream<? extends Entry> entries) {
         try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final ZipOutputStream zos = new ZipOutputStream(baos);
-
-            for (final BytesAndName ban : bytesAndNameList) {
-                zos.putNextEntry(new ZipEntry(ban.getName()));
-                zos.write(ban.getBytes());
-                zos.closeEntry();
+            val tempFile = File.createTempFile(ZipServiceDefault.class.getName(), ".zip");
+            try(val fos = new FileOutputStream(tempFile)) {
+                zip(entries, fos);
+            } catch (final IOException | RuntimeException ex) {
+                tempFile.delete();
+                throw ex;
             }
-            zos.close();
-            bytes = baos.toByteArray();
+            val contentSource = LobContentSource.ofFile(tempFile);
+            TEMP_FILE_CLEANER.register(contentSource, tempFile::delete);
+            return Blob.ofDeferred(name, CommonMimeType.ZIP.getMimeType(), contentSource);
         } catch (final IOException ex) {
             throw new UnrecoverableException("Unable to create zip", ex);
         }
-        return bytes;
+    }
+
+    @Override
+    public Stream<StreamAndName> unzip(final InputStream in) {
+        final ZipInputStream zis = new ZipInputStream(in);
+
+        val iterator = new Iterator<StreamAndName>() {
+
+            private StreamAndName next;
+
+            @Override
+            public boolean hasNext() {
+                if(next == null) {
+                    next = readNextEntry(zis);
+                }
+                return next != null;
+            }
+
+            @Override
+            public StreamAndName next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                val entry = next;
+                next = null;
+                return entry;
+            }
+        };
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(()->{
+                    try {
+                        zis.close();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+    }
+
+    // -- HELPER
+
+    private byte[] toBytes(final Stream<? extends Entry> entries) {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        zip(entries, baos);
+        return baos.toByteArray();
+    }
+
+    private static OutputStream nonClosing(final OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                out.write(b, off, len);
+            }
+            @Override
+            public void close() throws IOException {
+                // the archive's, not the caller's stream
+                flush();
+            }
+        };
+    }
+
+    private static FileAndName bufferToTempFile(final Entry entry) throws IOException {
+        val tempFile = File.createTempFile(ZipServiceDefault.class.getName(), ".entry");
+        try(val fos = new FileOutputStream(tempFile)) {
+            entry.writeTo(fos);
+        } catch (final IOException | RuntimeException ex) {
+            tempFile.delete();
+            throw ex;
+        }
+        if(Thread.currentThread().isInterrupted()) {
+            // the zip was abandoned while this entry was being buffered, so no-one else would delete it
+            tempFile.delete();
+            throw new InterruptedIOException();
+        }
+        return new FileAndName(entry.getName(), tempFile);
+    }
+
+    private static void addBuffered(
+            final ZipOutputStream zos,
+            final Future<FileAndName> buffered) throws IOException {
+        final FileAndName entry;
+        try {
+            entry = buffered.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnrecoverableException("Interrupted while creating zip", ex);
+        } catch (ExecutionException ex) {
+            throw new UnrecoverableException("Unable to create zip", ex.getCause());
+        }
+        try {
+            zos.putNextEntry(new ZipEntry(entry.getName()));
+            entry.writeTo(zos);
+            zos.closeEntry();
+        } finally {
+            Files.deleteIfExists(entry.getFile().toPath());
+        }
+    }
+
+    private static void discard(final Future<FileAndName> buffered) {
+        buffered.cancel(true);
+        if(!buffered.isDone()
+                || buffered.isCancelled()) {
+            return;
+        }
+        try {
+            buffered.get().getFile().delete();
+        } catch (InterruptedException | ExecutionException ex) {
+            // nothing was buffered
+        }
+    }
+
+    private static StreamAndName readNextEntry(final ZipInputStream zis) {
+        try {
+            ZipEntry zipEntry;
+            while((zipEntry = zis.getNextEntry()) != null) {
+                if(!zipEntry.isDirectory()) {
+                    return new StreamAndName(zipEntry.getName(), new FilterInputStream(zis) {
+                        @Override
+                        public void close() throws IOException {
+                            // the entry's content, not the archive
+                            zis.closeEntry();
+                        }
+                    });
+                }
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new UnrecoverableException("Unable to read zip", ex);
+        }
     }
 
 }
@@ -41,7 +41,21 @@ public interface SseChannel {
 
     void close();
 
+    /**
+     * Blocks the calling thread until this channel is closed.
+     *
+     * @see #whenClosed(Runnable)
+     */
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Non-blocking alternative to {@link #awaitClose()}: runs the given callback once this channel is closed
+     * (or immediately, if already closed).
+     *
+     * @return a handle to deregister the callback with, eg. once its subscriber has gone away before this
+     * channel is closed; a no-op if the callback has run already
+     */
+    Runnable whenClosed(Runnable callback);
+
 
 }
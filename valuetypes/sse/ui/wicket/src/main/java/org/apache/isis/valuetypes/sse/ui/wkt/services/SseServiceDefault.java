@@ -24,13 +24,18 @@
 import java.util.Optional;
 import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -42,19 +47,25 @@
 import org.apache.isis.applib.services.iactnlayer.InteractionService;
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
 import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
 import org.apache.isis.valuetypes.sse.applib.service.SseService;
 
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Server-sent events.
  *
+ * <p>
+ *     Tasks are run on a bounded thread pool dedicated to server-sent events (rather than the common
+ *     fork-join pool), and each event stream synchronizes on its own lock only.
+ * </p>
+ *
  * @see <a href="https://www.w3schools.com/html/html5_serversentevents.asp">www.w3schools.com</a>
  *
  * @since 2.0 {@index}
@@ -66,24 +77,38 @@
 @Log4j2
 public class SseServiceDefault implements SseService {
 
-    @Inject private TransactionService transactionService;
-    @Inject private InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final InteractionService interactionService;
+    private final ExecutorService executor;
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    @Inject
+    public SseServiceDefault(
+            final TransactionService transactionService,
+            final InteractionService interactionService,
+            final IsisConfiguration configuration) {
+        this.transactionService = transactionService;
+        this.interactionService = interactionService;
+        this.executor = newExecutor(configuration.getValueTypes().getSse());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     @Override
-    public Optional<SseChannel> lookupByType(Class<?> sourceType) {
+    public Optional<SseChannel> lookupByType(final Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
     }
 
     @Override
-    public void submit(SseSource task, ExecutionBehavior executionBehavior) {
+    public void submit(final SseSource task, final ExecutionBehavior executionBehavior) {
 
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        val executor = ForkJoinPool.commonPool();
-
         switch(executionBehavior) {
         case SIMPLE:
             CompletableFuture.runAsync(()->run(task), executor);
@@ -105,7 +130,23 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
 
     // -- HELPER
 
-    private void run(SseSource task) {
+    private static ExecutorService newExecutor(final IsisConfiguration.ValueTypes.Sse config) {
+        val threadCounter = new AtomicInteger();
+        val executor = new ThreadPoolExecutor(
+                config.getMaxConcurrentTasks(),
+                config.getMaxConcurrentTasks(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getTaskQueueCapacity()),
+                runnable->{
+                    val thread = new Thread(runnable, "isis-sse-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void run(final SseSource task) {
 
         val sourceType = task.getClass();
 
@@ -126,7 +167,7 @@ private void run(SseSource task) {
         } finally {
 
             // 'releases' the EventStreamLifecycle meaning it decrements its running-task-counter
-            eventStreamLifecycle.release();
+            eventStreamPool.releaseLifecycle(eventStreamLifecycle);
 
         }
     }
@@ -135,111 +176,97 @@ private static class EventStreamPool {
 
         private final Map<Class<?>,  EventStreamLifecycle> eventStreamsByType = new ConcurrentHashMap<>();
 
-        public Optional<SseChannel> lookupByType(Class<?> sourceType) {
+        public Optional<SseChannel> lookupByType(final Class<?> sourceType) {
             return Optional.ofNullable(eventStreamsByType.get(sourceType))
                     .map(EventStreamLifecycle::getEventStream);
         }
 
-        public synchronized EventStreamLifecycle acquireLifecycleForType(Class<?> sourceType) {
-            val eventStreamLifecycle = eventStreamsByType.computeIfAbsent(sourceType,
-                    __->EventStreamLifecycle.of(
-                            new EventStreamDefault(UUID.randomUUID(), sourceType),
-                            this));
-            eventStreamLifecycle.acquire();
-            return eventStreamLifecycle;
+        /**
+         * Atomic per source type (the map locks just the entry), so streams of different types never contend.
+         */
+        public EventStreamLifecycle acquireLifecycleForType(final Class<?> sourceType) {
+            return eventStreamsByType.compute(sourceType, (type, eventStreamLifecycle)->{
+                val lifecycle = eventStreamLifecycle!=null
+                        ? eventStreamLifecycle
+                        : EventStreamLifecycle.of(new EventStreamDefault(UUID.randomUUID(), type));
+                lifecycle.runningTasksCounter++;
+                return lifecycle;
+            });
         }
 
+        public void releaseLifecycle(final EventStreamLifecycle eventStreamLifecycle) {
+            val eventStream = eventStreamLifecycle.getEventStream();
+            val remaining = eventStreamsByType.computeIfPresent(eventStream.getSourceType(), (type, lifecycle)->
+                --lifecycle.runningTasksCounter<1
+                    ? null // removes the entry
+                    : lifecycle);
 
+            // to keep the atomic block concise, we run this outside the block,
+            // because it does not require synchronization
+            if(remaining==null) {
+                eventStream.close();
+            }
+        }
 
     }
 
     @RequiredArgsConstructor(staticName="of")
     private static class EventStreamLifecycle {
 
-        private static final Object $LOCK = new Object[0]; //see https://projectlombok.org/features/Synchronized
-
         @Getter private final SseChannel eventStream;
-        private final EventStreamPool eventStreamPool;
 
+        /**
+         * Guarded by the {@link EventStreamPool}'s map entry.
+         */
         private int runningTasksCounter;
 
-        public void acquire() {
-            synchronized ($LOCK) {
-                ++runningTasksCounter;
-            }
-        }
-
-        public void release() {
-            int remaining;
-
-            synchronized ($LOCK) {
-                remaining = --runningTasksCounter;
-                if(remaining<1) {
-                    eventStreamPool.eventStreamsByType.remove(eventStream.getSourceType());
-                }
-            }
-
-            // to keep the synchronized block concise, we run this outside the block,
-            // because it does not require synchronization
-            if(remaining<1) {
-                eventStream.close();
-            }
-        }
-
-
     }
 
 
     // -- EVENT STREAM DEFAULT IMPLEMENTATION
 
-    @Value @Log4j2
-    private static class EventStreamDefault implements SseChannel {
+    @RequiredArgsConstructor @Log4j2
+    static class EventStreamDefault implements SseChannel {
 
-        private static final Object $LOCK = new Object[0]; //see https://projectlombok.org/features/Synchronized
+        private final Object lock = new Object();
 
-        @Getter final UUID id;
-        @Getter final Class<?> sourceType;
+        @Getter final @NonNull UUID id;
+        @Getter final @NonNull Class<?> sourceType;
 
         private final CountDownLatch latch = new CountDownLatch(1);
         private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> closeCallbacks = new ConcurrentLinkedQueue<>();
 
         @Override
-        public void fire(SseSource source) {
-
-            final List<Predicate<SseSource>> defensiveCopyOfListeners;
-
-            synchronized ($LOCK) {
-                if(!isActive()) {
-                    return;
-                }
-                defensiveCopyOfListeners = _Lists.newArrayList(listeners);
+        public void fire(final SseSource source) {
 
+            if(!isActive()) {
+                return;
             }
 
-            log.debug("about to fire events to {} listeners", ()->defensiveCopyOfListeners.size());
-
+            // the queue is safe to iterate while listeners are added or removed concurrently
             final List<Predicate<SseSource>> markedForRemoval = _Lists.newArrayList();
+            int count = 0;
 
-            defensiveCopyOfListeners.forEach(listener->{
+            for(val listener : listeners) {
+                ++count;
                 val retain = listener.test(source);
                 if(!retain) {
                     markedForRemoval.add(listener);
                 }
-            });
+            }
 
-            synchronized ($LOCK) {
-                if(!isActive()) {
-                    return;
-                }
+            log.debug("fired event to {} listeners", count);
+
+            if(!markedForRemoval.isEmpty()) {
                 listeners.removeAll(markedForRemoval);
             }
 
-
         }
 
         @Override
-        public void listenWhile(Predicate<SseSource> listener) {
-            synchronized ($LOCK) {
+        public void listenWhile(final Predicate<SseSource> listener) {
+            synchronized (lock) {
                 if(isActive()) {
                     listeners.add(listener);
                 }
@@ -248,10 +275,17 @@ public void listenWhile(Predicate<SseSource> listener) {
 
         @Override
         public void close() {
-            synchronized ($LOCK) {
+            synchronized (lock) {
+                if(!isActive()) {
+                    return;
+                }
                 listeners.clear();
                 latch.countDown();
             }
+            Runnable callback;
+            while((callback = closeCallbacks.poll())!=null) {
+                runCallback(callback);
+            }
         }
 
         private boolean isActive() {
@@ -263,8 +297,30 @@ public void awaitClose() throws InterruptedException {
             latch.await();
         }
 
-    }
+        @Override
+        public Runnable whenClosed(final @NonNull Runnable callback) {
+            synchronized (lock) {
+                if(isActive()) {
+                    closeCallbacks.add(callback);
+                    return ()->closeCallbacks.remove(callback);
+                }
+            }
+            runCallback(callback);
+            return ()->{};
+        }
+
+        private void runCallback(final Runnable callback) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.warn("close callback failed on stream {}", id, e);
+            }
+        }
 
+        int listenerCount() {
+            return listeners.size();
+        }
 
+    }
 
 }
@@ -21,7 +21,6 @@
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -34,6 +33,9 @@
 import org.apache.isis.applib.value.Markup;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.context._Context;
+import org.apache.isis.commons.internal.functions._Functions.CheckedFunction;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
 import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
 import org.apache.isis.valuetypes.sse.applib.service.SseService;
 
@@ -54,11 +56,13 @@ public class ServerSentEventsServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
 
     @Autowired private SseService sseService;
+    @Autowired private IsisConfiguration isisConfiguration;
 
     @Override
     public void init() throws ServletException {
         super.init();
         Objects.requireNonNull(sseService, "sseService");
+        Objects.requireNonNull(isisConfiguration, "isisConfiguration");
     }
 
     @Override
@@ -87,12 +91,9 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
 
         asyncContext(request)
         .ifPresent(asyncContext->{
-
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
-
+            // the stream rather than a timeout determines when the request completes
+            asyncContext.setTimeout(0L);
+            subscribe(asyncContext, eventStream);
         });
 
     }
@@ -118,54 +119,27 @@ private boolean flushBuffer(final HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
+    /**
+     * Does not block: events are written using non-blocking I/O by whichever thread fires them (or by the
+     * container), and the request is completed once the event stream closes.
+     */
+    private void subscribe(final AsyncContext asyncContext, final SseChannel eventStream) {
 
-        val response = asyncContext.getResponse();
         val marshaller = new Markup.JaxbToStringAdapter();
+        final CheckedFunction<SseSource, String> payloadMarshaller =
+                source->marshaller.marshal(Markup.valueOf(source.getPayload()));
 
-        eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
-            try {
-
-                val writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
-                val payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening
-
-            } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
-                return false; // stop listening
-            }
-
-        });
-
-        // now we wait until the eventStream closes
         try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
+            ServerSentEventsServlet_subscriber.subscribe(
+                    asyncContext,
+                    eventStream,
+                    payloadMarshaller,
+                    isisConfiguration.getValueTypes().getSse().getMaxPendingEventsPerClient());
+        } catch (Exception e) {
+            log.warn("failed to subscribe to event stream {}", eventStream.getId(), e);
+            asyncContext.complete();
         }
 
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext.
-        asyncContext.complete();
-
     }
 
     private Optional<Class<?>> parseEventStreamType(final HttpServletRequest request) {
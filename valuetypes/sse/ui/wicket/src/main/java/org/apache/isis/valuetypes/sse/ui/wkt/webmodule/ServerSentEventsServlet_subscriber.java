@@ -0,0 +1,206 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.apache.isis.commons.internal.functions._Functions.CheckedFunction;
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
+import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A connected client of an {@link SseChannel}, writing events to the client's (asynchronous) connection using
+ * non-blocking I/O, so that no thread is parked per client.
+ *
+ * <p>
+ *     Events are written by the thread that fires them, as far as the connection accepts them without blocking;
+ *     the remainder is buffered and written by the container once the connection is ready again.
+ *     A client falling behind by more than a configured number of events is disconnected.
+ * </p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+final class ServerSentEventsServlet_subscriber
+implements Predicate<SseSource>, WriteListener, AsyncListener {
+
+    private final @NonNull AsyncContext asyncContext;
+    private final @NonNull ServletOutputStream out;
+    private final @NonNull CheckedFunction<SseSource, String> payloadMarshaller;
+    private final int maxPendingEvents;
+
+    private final Queue<byte[]> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private volatile boolean closed;
+    private volatile Runnable deregisterCloseCallback = ()->{};
+
+    /**
+     * Registers a new subscriber with the given (asynchronous) request and event stream.
+     */
+    static ServerSentEventsServlet_subscriber subscribe(
+            final AsyncContext asyncContext,
+            final SseChannel eventStream,
+            final CheckedFunction<SseSource, String> payloadMarshaller,
+            final int maxPendingEvents) throws IOException {
+
+        val subscriber = new ServerSentEventsServlet_subscriber(
+                asyncContext,
+                asyncContext.getResponse().getOutputStream(),
+                payloadMarshaller,
+                maxPendingEvents);
+
+        asyncContext.addListener(subscriber);
+        subscriber.out.setWriteListener(subscriber);
+        eventStream.listenWhile(subscriber);
+        subscriber.deregisterCloseCallback = eventStream.whenClosed(subscriber::close);
+        return subscriber;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // -- EVENT STREAM LISTENER
+
+    /**
+     * @return whether to continue listening
+     */
+    @Override
+    public boolean test(final SseSource source) {
+        if(closed) {
+            return false; // stop listening
+        }
+        try {
+            val event = new StringBuilder()
+                    .append("data: ")
+                    .append(payloadMarshaller.apply(source))
+                    .append("\n\n")
+                    .toString()
+                    .getBytes(StandardCharsets.UTF_8);
+
+            if(pendingCount.incrementAndGet() > maxPendingEvents) {
+                log.warn("client fell behind by more than {} events, disconnecting", maxPendingEvents);
+                close();
+                return false; // stop listening
+            }
+            pendingEvents.add(event);
+            drain();
+            return !closed;
+
+        } catch (Exception e) {
+            log.warn("failed to write event", e);
+            close();
+            return false; // stop listening
+        }
+    }
+
+    // -- WRITE LISTENER
+
+    @Override
+    public void onWritePossible() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        log.debug("write failed, client likely disconnected", t);
+        close();
+    }
+
+    // -- ASYNC LISTENER
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+        closed = true;
+        pendingEvents.clear();
+        deregisterCloseCallback.run();
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+        // no-op
+    }
+
+    // -- HELPER
+
+    /**
+     * Writes pending events for as long as the connection accepts them without blocking;
+     * if it does not, the container calls {@link #onWritePossible()} once it does.
+     */
+    private synchronized void drain() throws IOException {
+        boolean written = false;
+        while(!closed
+                && out.isReady()) {
+            val event = pendingEvents.poll();
+            if(event == null) {
+                break;
+            }
+            pendingCount.decrementAndGet();
+            out.write(event);
+            written = true;
+        }
+        if(written
+                && !closed
+                && out.isReady()) {
+            out.flush();
+        }
+    }
+
+    void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        pendingEvents.clear();
+        deregisterCloseCallback.run();
+        try {
+            // Completes the asynchronous operation that was started on the request
+            // that was used to initialize this AsyncContext.
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // already completed
+        }
+    }
+
+}
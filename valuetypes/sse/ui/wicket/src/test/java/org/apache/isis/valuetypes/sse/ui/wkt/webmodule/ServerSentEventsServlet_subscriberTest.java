@@ -0,0 +1,307 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.iactnlayer.InteractionService;
+import org.apache.isis.applib.services.xactn.TransactionService;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
+import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
+import org.apache.isis.valuetypes.sse.applib.service.SseService.ExecutionBehavior;
+import org.apache.isis.valuetypes.sse.ui.wkt.services.SseServiceDefault;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class ServerSentEventsServlet_subscriberTest {
+
+    private static final int LISTENERS = 1000;
+    private static final int EVENTS = 10;
+
+    private SseServiceDefault sseService;
+
+    @BeforeEach
+    void setUp() {
+        sseService = new SseServiceDefault(
+                Mockito.mock(TransactionService.class),
+                Mockito.mock(InteractionService.class),
+                new IsisConfiguration(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseService.shutdown();
+    }
+
+    @Test
+    void fansOutToThousandConcurrentListeners() throws Exception {
+        val task = new CountingTask(EVENTS);
+        sseService.submit(task, ExecutionBehavior.SIMPLE);
+        val eventStream = task.awaitStarted();
+
+        // subscribe concurrently, as would a container's request threads
+        val clients = new ArrayList<FakeClient>();
+        for (int i = 0; i < LISTENERS; i++) {
+            clients.add(new FakeClient());
+        }
+        val subscribing = Executors.newFixedThreadPool(32);
+        val subscribed = new CountDownLatch(LISTENERS);
+        for (val client : clients) {
+            subscribing.submit(()->{
+                client.subscribe(eventStream, EVENTS);
+                subscribed.countDown();
+            });
+        }
+        assertTrue(subscribed.await(10, TimeUnit.SECONDS));
+        subscribing.shutdown();
+
+        task.fireAll();
+
+        for (val client : clients) {
+            assertEquals(EVENTS, client.eventCount(), "each listener receives every event");
+        }
+
+        task.finish();
+        for (val client : clients) {
+            assertTrue(client.awaitCompleted(), "closing the stream completes each request");
+        }
+    }
+
+    @Test
+    void buffersWhileNotReady_andWritesOnceReady() throws Exception {
+        val task = new CountingTask(3);
+        sseService.submit(task, ExecutionBehavior.SIMPLE);
+        val eventStream = task.awaitStarted();
+
+        val client = new FakeClient();
+        client.out.ready = false;
+        client.subscribe(eventStream, 10);
+
+        task.fireAll();
+        assertEquals(0, client.eventCount());
+
+        client.out.becomeReady();
+        assertEquals(3, client.eventCount());
+
+        task.finish();
+    }
+
+    @Test
+    void disconnectsClientsFallingBehind() throws Exception {
+        val task = new CountingTask(5);
+        sseService.submit(task, ExecutionBehavior.SIMPLE);
+        val eventStream = task.awaitStarted();
+
+        val slowClient = new FakeClient();
+        slowClient.out.ready = false;
+        val subscriber = slowClient.subscribe(eventStream, 2);
+        val client = new FakeClient();
+        client.subscribe(eventStream, 2);
+
+        task.fireAll();
+
+        assertTrue(subscriber.isClosed());
+        assertTrue(slowClient.awaitCompleted());
+        assertEquals(5, client.eventCount(), "other listeners are not affected");
+        assertEquals(1L, client.completed.getCount(), "other requests are not completed");
+
+        task.finish();
+    }
+
+    @Test
+    void deregistersCloseCallback_onceClientHasGone() throws Exception {
+        val eventStream = Mockito.mock(SseChannel.class);
+        val completedClientHandle = Mockito.mock(Runnable.class);
+        val failedClientHandle = Mockito.mock(Runnable.class);
+        Mockito.when(eventStream.whenClosed(Mockito.any()))
+            .thenReturn(completedClientHandle, failedClientHandle);
+
+        val completedClient = new FakeClient().subscribe(eventStream, 10);
+        val failedClient = new FakeClient().subscribe(eventStream, 10);
+
+        completedClient.onComplete(null);
+        failedClient.onError(new IOException("client disconnected"));
+
+        Mockito.verify(completedClientHandle).run();
+        Mockito.verify(failedClientHandle).run();
+    }
+
+    @Test
+    void deregisteredCloseCallback_isNotRun() throws Exception {
+        val task = new CountingTask(0);
+        sseService.submit(task, ExecutionBehavior.SIMPLE);
+        val eventStream = task.awaitStarted();
+
+        val callbackRuns = new AtomicInteger();
+        val deregister = eventStream.whenClosed(callbackRuns::incrementAndGet);
+        val closed = new CountDownLatch(1);
+        eventStream.whenClosed(closed::countDown);
+
+        deregister.run();
+        task.fireAll();
+        task.finish();
+
+        assertTrue(closed.await(10, TimeUnit.SECONDS));
+        assertEquals(0, callbackRuns.get());
+    }
+
+    // -- HELPER
+
+    /**
+     * Fires the given number of events once told to, and keeps the stream open until told to finish.
+     */
+    private static class CountingTask implements SseSource {
+
+        private final int events;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch fire = new CountDownLatch(1);
+        private final CountDownLatch fired = new CountDownLatch(1);
+        private final CountDownLatch finish = new CountDownLatch(1);
+        private volatile SseChannel eventStream;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        CountingTask(final int events) {
+            this.events = events;
+        }
+
+        @SneakyThrows
+        @Override
+        public void run(final SseChannel eventStream) {
+            this.eventStream = eventStream;
+            started.countDown();
+            fire.await();
+            for (int i = 0; i < events; i++) {
+                counter.incrementAndGet();
+                eventStream.fire(this);
+            }
+            fired.countDown();
+            finish.await();
+        }
+
+        @Override
+        public String getPayload() {
+            return "event-" + counter.get();
+        }
+
+        SseChannel awaitStarted() throws InterruptedException {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            return eventStream;
+        }
+
+        void fireAll() throws InterruptedException {
+            fire.countDown();
+            assertTrue(fired.await(30, TimeUnit.SECONDS));
+        }
+
+        void finish() {
+            finish.countDown();
+        }
+    }
+
+    private static class FakeClient {
+
+        final FakeOutputStream out = new FakeOutputStream();
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @SneakyThrows
+        ServerSentEventsServlet_subscriber subscribe(final SseChannel eventStream, final int maxPendingEvents) {
+            val response = Mockito.mock(ServletResponse.class);
+            Mockito.when(response.getOutputStream()).thenReturn(out);
+            val asyncContext = Mockito.mock(AsyncContext.class);
+            Mockito.when(asyncContext.getResponse()).thenReturn(response);
+            Mockito.doAnswer(invocation->{
+                completed.countDown();
+                return null;
+            }).when(asyncContext).complete();
+
+            return ServerSentEventsServlet_subscriber.subscribe(
+                    asyncContext, eventStream, SseSource::getPayload, maxPendingEvents);
+        }
+
+        int eventCount() {
+            val written = out.written();
+            return written.isEmpty()
+                    ? 0
+                    : written.split("\n\n").length;
+        }
+
+        boolean awaitCompleted() throws InterruptedException {
+            return completed.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static class FakeOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private volatile WriteListener writeListener;
+        volatile boolean ready = true;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public synchronized void write(final int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public synchronized void write(final byte[] b, final int off, final int len) {
+            buffer.write(b, off, len);
+        }
+
+        void becomeReady() throws IOException {
+            ready = true;
+            writeListener.onWritePossible(); // as would the container
+        }
+
+        synchronized String written() {
+            return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.viewer.common.model.feature;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.interactions.managed.ActionInteractionHead;
@@ -83,6 +84,11 @@ default Can<ManagedObject> getAutoComplete(final String searchArg) {
         return getMetaModel().getAutoComplete(getParameterNegotiationModel(), searchArg, InteractionInitiatedBy.USER);
     }
 
+    @Override
+    default Can<ManagedObject> getAutoComplete(final String searchArg, final QueryRange range) {
+        return getMetaModel().getAutoComplete(getParameterNegotiationModel(), searchArg, range, InteractionInitiatedBy.USER);
+    }
+
     default ActionInteractionHead getPendingParamHead() {
         return getMetaModel().getAction().interactionHead(getOwner());
     }
@@ -21,6 +21,7 @@
 import java.math.BigDecimal;
 import java.util.Optional;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facets.objectvalue.digits.MaxTotalDigitsFacet;
@@ -81,5 +82,6 @@ default String getFileAccept() {
     ManagedObject getDefault();
     Can<ManagedObject> getChoices();
     Can<ManagedObject> getAutoComplete(final String searchArg);
+    Can<ManagedObject> getAutoComplete(final String searchArg, final QueryRange range);
 
 }
@@ -59,6 +59,11 @@ public interface WicketViewerSettings extends Serializable {
      */
     boolean isUseIndicatorForNoArgAction();
 
+    /**
+     * As per {@link org.apache.isis.core.config.IsisConfiguration.Viewer.Wicket#setTableSearchBox(boolean)}
+     */
+    boolean isTableSearchBox();
+
     /**
      * As per {@link org.apache.isis.core.config.IsisConfiguration.Viewer.Wicket#setPromptStyle(PromptStyle)}
      */
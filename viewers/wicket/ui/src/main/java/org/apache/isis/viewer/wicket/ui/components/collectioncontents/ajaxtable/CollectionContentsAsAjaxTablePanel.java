@@ -21,8 +21,15 @@
 import java.util.List;
 
 import org.apache.wicket.Component;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+import org.apache.wicket.ajax.attributes.ThrottlingSettings;
+import org.apache.wicket.ajax.form.OnChangeAjaxBehavior;
 import org.apache.wicket.extensions.ajax.markup.html.repeater.data.table.AjaxFallbackDefaultDataTable;
+import org.apache.wicket.markup.html.form.TextField;
+import org.apache.wicket.model.LambdaModel;
 import org.apache.wicket.model.Model;
+import org.apache.wicket.util.time.Duration;
 
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.core.metamodel.interactions.managed.nonscalar.DataTableModel;
@@ -37,6 +44,8 @@
 import org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable.columns.GenericTitleColumn;
 import org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable.columns.GenericToggleboxColumn;
 import org.apache.isis.viewer.wicket.ui.panels.PanelAbstract;
+import org.apache.isis.viewer.wicket.ui.util.Components;
+import org.apache.isis.viewer.wicket.ui.util.Wkt;
 
 import lombok.val;
 
@@ -50,6 +59,7 @@
 
     private static final long serialVersionUID = 1L;
     private static final String ID_TABLE = "table";
+    private static final String ID_TABLE_SEARCH = "tableSearch";
 
     public CollectionContentsAsAjaxTablePanel(final String id, final EntityCollectionModel model) {
         super(id, model);
@@ -107,8 +117,44 @@ private void buildGui() {
         val dataTable = new IsisAjaxDataTable(
                 ID_TABLE, columns, dataProvider, collectionModel.getPageSize(), toggleboxColumn);
         addOrReplace(dataTable);
+
+        addSearchBoxIfRequired(dataTable);
     }
 
+    private void addSearchBoxIfRequired(final IsisAjaxDataTable dataTable) {
+
+        if(!getWicketViewerSettings().isTableSearchBox()) {
+            Components.permanentlyHide(this, ID_TABLE_SEARCH);
+            return;
+        }
+
+        // binds to the (server-side) search argument of the DataTableModel, which does the actual filtering
+        val searchArgumentModel = LambdaModel.<String>of(
+                ()->getModel().getDataTableModel().getSearchArgument().getValue(),
+                searchArg->getModel().getDataTableModel().getSearchArgument().setValue(searchArg));
+
+        val searchField = Wkt.add(this, new TextField<String>(ID_TABLE_SEARCH, searchArgumentModel, String.class));
+        searchField.add(new OnChangeAjaxBehavior() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void updateAjaxAttributes(final AjaxRequestAttributes attributes) {
+                super.updateAjaxAttributes(attributes);
+                // don't send a request per keystroke
+                attributes.setThrottlingSettings(
+                        new ThrottlingSettings(searchField.getMarkupId(), SEARCH_THROTTLE_DELAY, true));
+            }
+
+            @Override
+            protected void onUpdate(final AjaxRequestTarget target) {
+                dataTable.setCurrentPage(0);
+                target.add(dataTable);
+            }
+        });
+    }
+
+    private static final Duration SEARCH_THROTTLE_DELAY = Duration.milliseconds(300);
+
     private MultiselectToggleProvider getMultiselectToggleProvider() {
         Component component = this;
         while(component != null) {
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.widgets.select2.providers;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.Session;
+import org.springframework.lang.Nullable;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Session scoped cache of choice titles, keyed by {@link Bookmark},
+ * such that filtering choices by a search term (on every keystroke)
+ * does not require to re-fetch and re-title all the candidates.
+ * <p>
+ * Bounded in size (least recently used entries are evicted first),
+ * while entries expire after a short time-to-live, to not render stale titles for long.
+ *
+ * @since 2.0
+ */
+final class ChoiceTitleCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_ENTRIES = 4096;
+    private static final long TIME_TO_LIVE_MILLIS = 60_000L;
+
+    private static final MetaDataKey<ChoiceTitleCache> KEY = new MetaDataKey<ChoiceTitleCache>() {
+        private static final long serialVersionUID = 1L;
+    };
+
+    /**
+     * The current session's cache, if there is a (Wicket) session.
+     */
+    static Optional<ChoiceTitleCache> current() {
+        if(!Session.exists()) {
+            return Optional.empty();
+        }
+        val session = Session.get();
+        val cache = session.getMetaData(KEY);
+        if(cache!=null) {
+            return Optional.of(cache);
+        }
+        val newCache = new ChoiceTitleCache();
+        session.setMetaData(KEY, newCache);
+        return Optional.of(newCache);
+    }
+
+    /**
+     * Returns the title for given memento, either from cache or as provided by the titleProvider;
+     * mementos that don't support bookmarks (eg. values) are not cached.
+     */
+    static String titleFor(
+            final @Nullable ObjectMemento memento,
+            final @NonNull Supplier<String> titleProvider) {
+        val bookmark = memento!=null
+                ? memento.asBookmarkIfSupported()
+                : null;
+        if(bookmark==null) {
+            return titleProvider.get();
+        }
+        return current()
+                .map(cache->cache.computeIfAbsent(bookmark, titleProvider))
+                .orElseGet(titleProvider);
+    }
+
+    // -- IMPLEMENTATION
+
+    @RequiredArgsConstructor
+    private static class TitleEntry implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final String title;
+        final long createdAt;
+        boolean isExpired(final long now) {
+            return now - createdAt > TIME_TO_LIVE_MILLIS;
+        }
+    }
+
+    private final Map<Bookmark, TitleEntry> titlesByBookmark =
+            new LinkedHashMap<Bookmark, TitleEntry>(64, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Bookmark, TitleEntry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private synchronized String computeIfAbsent(
+            final @NonNull Bookmark bookmark,
+            final @NonNull Supplier<String> titleProvider) {
+        val now = System.currentTimeMillis();
+        val entry = titlesByBookmark.get(bookmark);
+        if(entry!=null
+                && !entry.isExpired(now)) {
+            return entry.title;
+        }
+        val title = titleProvider.get();
+        titlesByBookmark.put(bookmark, new TitleEntry(title, now));
+        return title;
+    }
+
+}
@@ -26,10 +26,12 @@
 import org.springframework.lang.Nullable;
 import org.wicketstuff.select2.ChoiceProvider;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.applib.services.bookmark.Bookmark;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.metamodel.facets.param.autocomplete.QueryRangeUtil;
 import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
 import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
@@ -49,6 +51,11 @@
     protected static final String NULL_PLACEHOLDER = "$$_isis_null_$$";
     private static final String NULL_DISPLAY_TEXT = "";
 
+    /**
+     * Number of choices per page, as requested by the (select2) client.
+     */
+    protected static final int PAGE_SIZE = 25;
+
     @Getter private final ScalarModel scalarModel;
     private transient IsisAppCommonContext commonContext;
     private transient WicketViewerSettings wicketViewerSettings;
@@ -63,11 +70,13 @@ public String getDisplayValue(final ObjectMemento choiceMemento) {
                 || choiceMemento instanceof ObjectMementoForEmpty) {
             return NULL_DISPLAY_TEXT;
         }
-        val choice = getCommonContext().reconstructObject(choiceMemento);
-        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(choice)) {
-            return "Internal error: broken memento " + choiceMemento;
-        }
-        return choice.titleString();
+        return ChoiceTitleCache.titleFor(choiceMemento, ()->{
+            val choice = getCommonContext().reconstructObject(choiceMemento);
+            if(ManagedObjects.isNullOrUnspecifiedOrEmpty(choice)) {
+                return "Internal error: broken memento " + choiceMemento;
+            }
+            return choice.titleString();
+        });
     }
 
     @Override
@@ -95,16 +104,37 @@ public void query(
             final int page,
             final org.wicketstuff.select2.Response<ObjectMemento> response) {
 
-        final List<ObjectMemento> mementos = _Lists.newArrayList(obtainMementos(term));
-        // if not mandatory, and the list doesn't contain null already, then add it in.
-        if(!scalarModel.isRequired() && !mementos.contains(null)) {
+        // request one more than the page size, to detect whether there are more pages
+        val range = QueryRange.of((long)page * PAGE_SIZE, PAGE_SIZE + 1);
+
+        final List<ObjectMemento> mementos = _Lists.newArrayList(obtainMementos(term, range));
+        val hasMore = mementos.size() > PAGE_SIZE;
+        if(hasMore) {
+            mementos.remove(PAGE_SIZE);
+        }
+        // if not mandatory, and the list doesn't contain null already, then add it in (first page only).
+        if(page == 0
+                && !scalarModel.isRequired()
+                && !mementos.contains(null)) {
             mementos.add(0, null);
         }
         response.addAll(mementos);
+        response.setHasMore(hasMore);
     }
 
     protected abstract Can<ObjectMemento> obtainMementos(String term);
 
+    /**
+     * Restricts the result of {@link #obtainMementos(String)} to the given {@link QueryRange},
+     * in support of paging.
+     * <p>
+     * Sub-classes that are able to push the range down (to the repository)
+     * should override.
+     */
+    protected Can<ObjectMemento> obtainMementos(final String term, final QueryRange range) {
+        return QueryRangeUtil.applyRange(obtainMementos(term), range);
+    }
+
     /**
      * Filters all choices against a term by using their
      * {@link ManagedObject#titleString() title string}
@@ -122,11 +152,13 @@ protected final Can<ObjectMemento> obtainMementos(
         }
 
         val commonContext = getCommonContext();
+        val searchTerm = term.toLowerCase();
 
         return choicesMementos.filter((final ObjectMemento candidate)->{
-            val objectAdapter = commonContext.reconstructObject(candidate);
-            val title = objectAdapter.titleString();
-            return title.toLowerCase().contains(term.toLowerCase());
+            // titles are cached per session, such that we don't need to re-fetch the candidate on every keystroke
+            val title = ChoiceTitleCache.titleFor(candidate, ()->
+                commonContext.reconstructObject(candidate).titleString());
+            return title.toLowerCase().contains(searchTerm);
         });
 
     }
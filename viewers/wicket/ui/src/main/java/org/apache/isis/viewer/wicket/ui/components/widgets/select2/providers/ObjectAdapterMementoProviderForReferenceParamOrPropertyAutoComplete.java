@@ -18,6 +18,7 @@
  */
 package org.apache.isis.viewer.wicket.ui.components.widgets.select2.providers;
 
+import org.apache.isis.applib.query.QueryRange;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -43,6 +44,15 @@ public ObjectAdapterMementoProviderForReferenceParamOrPropertyAutoComplete(final
 
     @Override
     protected Can<ObjectMemento> obtainMementos(final String term) {
+        return obtainMementos(term, QueryRange.unconstrained());
+    }
+
+    /**
+     * Pushes the range down to the <tt>autoCompleteXxx(..., String, QueryRange)</tt> supporting method,
+     * if any; otherwise the range is applied in-memory.
+     */
+    @Override
+    protected Can<ObjectMemento> obtainMementos(final String term, final QueryRange range) {
 
         val commonContext = getCommonContext();
         val scalarModel = getScalarModel();
@@ -63,7 +73,7 @@ protected Can<ObjectMemento> obtainMementos(final String term) {
         }
 
         return scalarModel
-                .getAutoComplete(term)
+                .getAutoComplete(term, range)
                 .map(commonContext::mementoFor);
     }
 
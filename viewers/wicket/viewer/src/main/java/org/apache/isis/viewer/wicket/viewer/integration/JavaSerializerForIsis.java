@@ -0,0 +1,285 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.integration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.ThreadContext;
+import org.apache.wicket.core.util.lang.WicketObjects;
+import org.apache.wicket.serialize.java.JavaSerializer;
+import org.apache.wicket.util.io.IOUtils;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMementoCollection;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
+import org.apache.isis.core.runtime.context.IsisAppCommonContext;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Framework aware variant of Wicket's {@link JavaSerializer}, used to serialize pages into the page store.
+ *
+ * <p>
+ *     Any {@link ObjectMemento} that can be recreated from its (hinting) {@link Bookmark} is written as a
+ *     small reference holding just that bookmark, rather than as its whole graph; and equal strings (such as
+ *     logical type names, repeated by every memento of a page) are written only once per page.
+ *     Optionally the resulting bytes are deflated.
+ * </p>
+ *
+ * <p>
+ *     The first byte of the serialized form identifies the format; pages serialized by Wicket's default
+ *     {@link JavaSerializer} (which start with the Java serialization stream magic) are still read.
+ * </p>
+ *
+ * @since 2.0
+ */
+@Log4j2
+public class JavaSerializerForIsis extends JavaSerializer {
+
+    private static final byte FORMAT_COMPACT = 0x01;
+    private static final byte FORMAT_COMPACT_DEFLATED = 0x02;
+    private static final byte FORMAT_JAVA = (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8);
+
+    private final String applicationKey;
+    private final IsisAppCommonContext commonContext;
+    private final boolean compression;
+
+    @Getter private final PageSizeMetrics metrics = new PageSizeMetrics();
+
+    public JavaSerializerForIsis(
+            final @NonNull String applicationKey,
+            final @NonNull IsisAppCommonContext commonContext,
+            final boolean compression) {
+        super(applicationKey);
+        this.applicationKey = applicationKey;
+        this.commonContext = commonContext;
+        this.compression = compression;
+    }
+
+    @Override
+    public byte[] serialize(final Object object) {
+        val bytesOut = new ByteArrayOutputStream();
+        try {
+            bytesOut.write(compression ? FORMAT_COMPACT_DEFLATED : FORMAT_COMPACT);
+            val out = compression
+                    ? new DeflaterOutputStream(bytesOut, new Deflater(Deflater.BEST_SPEED))
+                    : bytesOut;
+            try(val objectOut = new CompactObjectOutputStream(out)) {
+                objectOut.writeObject(applicationKey);
+                objectOut.writeObject(object);
+            }
+        } catch (Exception e) {
+            // falls back to Wicket's own serializer,
+            // which either succeeds or reports the offending field (and returns null)
+            log.debug("compact serialization failed for {}, falling back to Java serialization", object, e);
+            return super.serialize(object);
+        }
+        val bytes = bytesOut.toByteArray();
+        metrics.record(bytes.length);
+        if(log.isDebugEnabled()) {
+            log.debug("serialized {}: {} bytes ({})", object.getClass().getSimpleName(), bytes.length, metrics);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(final byte[] data) {
+        if(data == null
+                || data.length == 0
+                || data[0] == FORMAT_JAVA) {
+            return super.deserialize(data);
+        }
+
+        final boolean deflated;
+        switch (data[0]) {
+        case FORMAT_COMPACT:
+            deflated = false;
+            break;
+        case FORMAT_COMPACT_DEFLATED:
+            deflated = true;
+            break;
+        default:
+            log.error("unknown page serialization format {}", data[0]);
+            return null;
+        }
+
+        final InputStream bytesIn = new ByteArrayInputStream(data, 1, data.length - 1);
+        val in = deflated
+                ? new InflaterInputStream(bytesIn)
+                : bytesIn;
+
+        ObjectInputStream objectIn = null;
+        boolean unsetApplication = false;
+        try {
+            objectIn = new CompactObjectInputStream(in);
+            val applicationName = (String) objectIn.readObject();
+            if (applicationName != null && !Application.exists()) {
+                val app = Application.get(applicationName);
+                if (app != null) {
+                    ThreadContext.setApplication(app);
+                    unsetApplication = true;
+                }
+            }
+            return objectIn.readObject();
+        } catch (ClassNotFoundException | IOException e) {
+            throw new RuntimeException("Could not deserialize object from byte[]", e);
+        } finally {
+            if (unsetApplication) {
+                ThreadContext.setApplication(null);
+            }
+            IOUtils.closeQuietly(objectIn);
+        }
+    }
+
+    // -- PAGE SIZE METRICS
+
+    /**
+     * Running count, total and maximum size of the pages serialized by this application.
+     */
+    public static class PageSizeMetrics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalBytes = new LongAdder();
+        private final AtomicLong maxBytes = new AtomicLong();
+
+        void record(final int bytes) {
+            count.increment();
+            totalBytes.add(bytes);
+            maxBytes.accumulateAndGet(bytes, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalBytes() {
+            return totalBytes.sum();
+        }
+
+        public long getMaxBytes() {
+            return maxBytes.get();
+        }
+
+        public long getAverageBytes() {
+            val count = getCount();
+            return count > 0
+                    ? getTotalBytes() / count
+                    : 0L;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("pages=%d, avg=%d bytes, max=%d bytes",
+                    getCount(), getAverageBytes(), getMaxBytes());
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Stands in for an {@link ObjectMemento} within a serialized page.
+     */
+    @RequiredArgsConstructor
+    private static final class BookmarkRef implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String bookmark;
+        private final String hintId;
+    }
+
+    private static final class CompactObjectOutputStream extends ObjectOutputStream {
+
+        private final Map<String, String> canonicalStrings = new HashMap<>();
+
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            if(obj instanceof String) {
+                // equal strings become back-references to the first occurrence
+                return canonicalStrings.computeIfAbsent((String) obj, s->s);
+            }
+            if(obj instanceof ObjectMemento
+                    && !(obj instanceof ObjectMementoCollection)
+                    && !(obj instanceof ObjectMementoForEmpty)) {
+                val bookmark = ((ObjectMemento) obj).asHintingBookmarkIfSupported();
+                if(bookmark != null) {
+                    return new BookmarkRef(bookmark.stringify(), bookmark.getHintId());
+                }
+            }
+            return obj;
+        }
+    }
+
+    private final class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return super.resolveClass(desc);
+            } catch (ClassNotFoundException e) {
+                val clazz = WicketObjects.resolveClass(desc.getName());
+                if(clazz == null) {
+                    throw e;
+                }
+                return clazz;
+            }
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            if(obj instanceof BookmarkRef) {
+                val ref = (BookmarkRef) obj;
+                val bookmark = Bookmark.parseElseFail(ref.bookmark).withHintId(ref.hintId);
+                return commonContext.mementoForBookmark(bookmark);
+            }
+            return obj;
+        }
+    }
+
+}
@@ -76,6 +76,11 @@ public boolean isUseIndicatorForNoArgAction() {
         return getConfiguration().getViewer().getWicket().isUseIndicatorForNoArgAction();
     }
 
+    @Override
+    public boolean isTableSearchBox() {
+        return getConfiguration().getViewer().getWicket().isTableSearchBox();
+    }
+
     @Override
     public PromptStyle getPromptStyle() {
         return getConfiguration().getViewer().getWicket().getPromptStyle();
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.viewer.wicket.viewer.wicketapp;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
@@ -30,6 +31,7 @@
 
 import org.apache.wicket.Application;
 import org.apache.wicket.ConverterLocator;
+import org.apache.wicket.DefaultPageManagerProvider;
 import org.apache.wicket.IConverterLocator;
 import org.apache.wicket.IPageFactory;
 import org.apache.wicket.Page;
@@ -53,6 +55,9 @@
 import org.apache.wicket.markup.head.filter.JavaScriptFilteredIntoFooterHeaderResponse;
 import org.apache.wicket.markup.html.IHeaderContributor;
 import org.apache.wicket.markup.html.WebPage;
+import org.apache.wicket.pageStore.IDataStore;
+import org.apache.wicket.pageStore.memory.HttpSessionDataStore;
+import org.apache.wicket.pageStore.memory.MemorySizeEvictionStrategy;
 import org.apache.wicket.request.Request;
 import org.apache.wicket.request.Response;
 import org.apache.wicket.request.cycle.IRequestCycleListener;
@@ -62,6 +67,7 @@
 import org.apache.wicket.resource.JQueryResourceReference;
 import org.apache.wicket.settings.RequestCycleSettings;
 import org.apache.wicket.spring.injection.annot.SpringComponentInjector;
+import org.apache.wicket.util.lang.Bytes;
 import org.apache.wicket.util.time.Duration;
 import org.wicketstuff.select2.ApplicationSettings;
 
@@ -94,6 +100,7 @@
 import org.apache.isis.viewer.wicket.viewer.integration.ConverterForObjectAdapter;
 import org.apache.isis.viewer.wicket.viewer.integration.ConverterForObjectAdapterMemento;
 import org.apache.isis.viewer.wicket.viewer.integration.IsisResourceSettings;
+import org.apache.isis.viewer.wicket.viewer.integration.JavaSerializerForIsis;
 import org.apache.isis.viewer.wicket.viewer.integration.WebRequestCycleForIsis;
 
 import lombok.Getter;
@@ -300,6 +307,8 @@ protected void init() {
                 }
             }
 
+            configurePageStore(configuration);
+
             log.debug("storeSettings.inmemoryCacheSize        : {}", getStoreSettings().getInmemoryCacheSize());
             log.debug("storeSettings.asynchronousQueueCapacity: {}", getStoreSettings().getAsynchronousQueueCapacity());
             log.debug("storeSettings.maxSizePerSession        : {}", getStoreSettings().getMaxSizePerSession());
@@ -371,6 +380,40 @@ String defaultEncryptionKey() {
                 : UUID.randomUUID().toString();
     }
 
+    /**
+     * Configures the serializer and the store for (serialized) pages, as per
+     * {@link IsisConfiguration.Viewer.Wicket.PageStore}.
+     */
+    protected void configurePageStore(final IsisConfiguration configuration) {
+        val pageStoreConfig = configuration.getViewer().getWicket().getPageStore();
+
+        if(pageStoreConfig.isCompactSerialization()) {
+            getFrameworkSettings().setSerializer(
+                    new JavaSerializerForIsis(getApplicationKey(), getCommonContext(), pageStoreConfig.isCompression()));
+        }
+
+        val maxSizePerSession = Bytes.kilobytes(pageStoreConfig.getMaxSizePerSessionInKilobytes());
+        getStoreSettings()
+            .setInmemoryCacheSize(pageStoreConfig.getInmemoryCacheSize())
+            .setMaxSizePerSession(maxSizePerSession)
+            .setAsynchronous(pageStoreConfig.isAsynchronous())
+            .setAsynchronousQueueCapacity(pageStoreConfig.getAsynchronousQueueCapacity());
+        pageStoreConfig.getFileStoreFolder()
+            .map(File::new)
+            .ifPresent(getStoreSettings()::setFileStoreFolder);
+
+        if(pageStoreConfig.getMode() == IsisConfiguration.Viewer.Wicket.PageStore.Mode.MEMORY) {
+            setPageManagerProvider(new DefaultPageManagerProvider(this) {
+                @Override
+                protected IDataStore newDataStore() {
+                    return new HttpSessionDataStore(
+                            getPageManagerContext(),
+                            new MemorySizeEvictionStrategy(maxSizePerSession));
+                }
+            });
+        }
+    }
+
     private void configureWicketSelect2() {
         ApplicationSettings select2Settings = ApplicationSettings.get();
         select2Settings.setCssReference(new Select2BootstrapCssReference());
@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.integration;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.wicket.serialize.java.JavaSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.isis.core.runtime.context.IsisAppCommonContext;
+
+import lombok.val;
+
+class JavaSerializerForIsisTest {
+
+    private IsisAppCommonContext commonContext;
+
+    @BeforeEach
+    void setUp() {
+        commonContext = Mockito.mock(IsisAppCommonContext.class);
+    }
+
+    @Test
+    void roundtrip_whenPlain() {
+        assertRoundtrip(new JavaSerializerForIsis("app", commonContext, false));
+    }
+
+    @Test
+    void roundtrip_whenDeflated() {
+        assertRoundtrip(new JavaSerializerForIsis("app", commonContext, true));
+    }
+
+    @Test
+    void readsWicketDefaultFormat() {
+        val bytes = new JavaSerializer("app").serialize(sampleStrings());
+        val serializer = new JavaSerializerForIsis("app", commonContext, false);
+
+        assertEquals(sampleStrings(), serializer.deserialize(bytes));
+    }
+
+    @Test
+    void dedupesEqualStrings() {
+        val serializer = new JavaSerializerForIsis("app", commonContext, false);
+        val compact = serializer.serialize(sampleStrings());
+        val plain = new JavaSerializer("app").serialize(sampleStrings());
+
+        assertTrue(compact.length < plain.length);
+        assertEquals(1L, serializer.getMetrics().getCount());
+        assertEquals(compact.length, serializer.getMetrics().getMaxBytes());
+    }
+
+    @Test
+    void writesMementosAsBookmarks() {
+        val bookmark = Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "123");
+        val memento = Mockito.mock(ObjectMemento.class); // not serializable, so must be replaced
+        Mockito.when(memento.asHintingBookmarkIfSupported()).thenReturn(bookmark);
+        val recreated = Mockito.mock(ObjectMemento.class);
+        Mockito.when(commonContext.mementoForBookmark(bookmark)).thenReturn(recreated);
+
+        val serializer = new JavaSerializerForIsis("app", commonContext, false);
+        val holder = (MementoHolder) serializer.deserialize(serializer.serialize(new MementoHolder(memento)));
+
+        assertSame(recreated, holder.memento);
+    }
+
+    // -- HELPER
+
+    private static void assertRoundtrip(final JavaSerializerForIsis serializer) {
+        val bytes = serializer.serialize(sampleStrings());
+        assertEquals(sampleStrings(), serializer.deserialize(bytes));
+    }
+
+    private static List<String> sampleStrings() {
+        val list = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            // a new (equal) instance each time
+            list.add(new String("org.apache.isis.some.LogicalTypeName"));
+        }
+        return list;
+    }
+
+    private static class MementoHolder implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final ObjectMemento memento;
+        MementoHolder(final ObjectMemento memento) {
+            this.memento = memento;
+        }
+    }
+
+}